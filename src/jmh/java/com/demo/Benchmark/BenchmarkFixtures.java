@@ -0,0 +1,91 @@
+package com.demo.Benchmark;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.LongFunction;
+import com.demo.Entity.Category.Category;
+import com.demo.Entity.Inventory.Inventory;
+import com.demo.Entity.Item.Item;
+import com.demo.Entity.Order.Order;
+import com.demo.Entity.Payment.Payment;
+import com.demo.Entity.Product.Product;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Enum.Payment.PaymentMode;
+import com.demo.Enum.Payment.PaymentStatus;
+import com.demo.Util.Money.Money;
+
+//Sample rows and stand-in collaborators shared by the JMH benchmarks
+final class BenchmarkFixtures
+{
+    private BenchmarkFixtures() {}
+
+    static Product product(long pid)
+    {
+        return new Product(pid, "Product " + pid, Money.ofCents(1999 + pid));
+    }
+
+    static Category category(long categoryId)
+    {
+        return new Category(categoryId, "Category " + categoryId, "Description of category " + categoryId);
+    }
+
+    static Item item(long iid)
+    {
+        return new Item(iid, "Item " + iid, Money.ofCents(499 + iid));
+    }
+
+    static Inventory inventory(long sid)
+    {
+        return new Inventory(sid, (int) (sid % 500));
+    }
+
+    static Order order(long oid)
+    {
+        return new Order(oid, BigDecimal.valueOf(12_550 + oid, 2), OrderStatus.PENDING, LocalDateTime.of(2025, 4, 1, 12, 0).plusMinutes(oid));
+    }
+
+    static Payment payment(long pid)
+    {
+        return new Payment(pid, BigDecimal.valueOf(12_550 + pid, 2), PaymentMode.CREDIT_CARD, PaymentStatus.PAID, LocalDateTime.of(2025, 4, 1, 12, 5).plusMinutes(pid));
+    }
+
+    //Repository whose findById answers from memory, so mappers that look up references are measured without a database
+    //Any other repository call fails, since the mapping benchmarks must not depend on it
+    static <R> R repository(Class<R> type, LongFunction<?> findById)
+    {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) ->
+        {
+            switch (method.getName())
+            {
+                case "findById":
+                    return Optional.ofNullable(findById.apply((Long) args[0]));
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Stub " + type.getSimpleName();
+                default:
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not available in benchmarks");
+            }
+        });
+        return type.cast(stub);
+    }
+
+    //Handle on a service's private mapper, held in a static final field so the JIT inlines the call like a direct one
+    static MethodHandle mapper(Class<?> service, String name, Class<?> returnType, Class<?> parameterType)
+    {
+        try
+        {
+            return MethodHandles.privateLookupIn(service, MethodHandles.lookup()).findVirtual(service, name, MethodType.methodType(returnType, parameterType));
+        }
+        catch (ReflectiveOperationException ex)
+        {
+            throw new IllegalStateException("No mapper " + service.getSimpleName() + "." + name + "(" + parameterType.getSimpleName() + ")", ex);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.demo.Benchmark;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.demo.DTO.Payment.PaymentDTO;
+import com.demo.DTO.Product.ProductDTO;
+import com.demo.Entity.Payment.Payment;
+import com.demo.Entity.Product.Product;
+
+//Lombok @Builder against the @AllArgsConstructor and @NoArgsConstructor + setters that the services mix when mapping entities to DTOs
+//ProductDTO has three fields and PaymentDTO five, to show whether the builder's extra allocation grows with the field count
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderBenchmark
+{
+    private Product product;
+    private Payment payment;
+
+    @Setup
+    public void setUp()
+    {
+        product = BenchmarkFixtures.product(7);
+        payment = BenchmarkFixtures.payment(42);
+    }
+
+    @Benchmark
+    public ProductDTO productBuilder()
+    {
+        return ProductDTO.builder().pid(product.getPid()).productName(product.getProductName()).unitPrice(product.getUnitPrice()).build();
+    }
+
+    @Benchmark
+    public ProductDTO productConstructor()
+    {
+        return new ProductDTO(product.getPid(), product.getProductName(), product.getUnitPrice());
+    }
+
+    @Benchmark
+    public ProductDTO productSetters()
+    {
+        ProductDTO dto = new ProductDTO();
+        dto.setPid(product.getPid());
+        dto.setProductName(product.getProductName());
+        dto.setUnitPrice(product.getUnitPrice());
+        return dto;
+    }
+
+    @Benchmark
+    public PaymentDTO paymentBuilder()
+    {
+        return PaymentDTO.builder().pid(payment.getPid()).amount(payment.getAmount()).paymentMode(payment.getPaymentMode())
+        .paymentStatus(payment.getPaymentStatus()).paymentDateTime(payment.getPaymentDateTime()).build();
+    }
+
+    @Benchmark
+    public PaymentDTO paymentConstructor()
+    {
+        return new PaymentDTO(payment.getPid(), payment.getAmount(), payment.getPaymentMode(), payment.getPaymentStatus(), payment.getPaymentDateTime());
+    }
+
+    @Benchmark
+    public PaymentDTO paymentSetters()
+    {
+        PaymentDTO dto = new PaymentDTO();
+        dto.setPid(payment.getPid());
+        dto.setAmount(payment.getAmount());
+        dto.setPaymentMode(payment.getPaymentMode());
+        dto.setPaymentStatus(payment.getPaymentStatus());
+        dto.setPaymentDateTime(payment.getPaymentDateTime());
+        return dto;
+    }
+}
@@ -0,0 +1,70 @@
+package com.demo.Benchmark;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.demo.DTO.Order.OrderDTO;
+import com.demo.DTO.Product.ProductDTO;
+import com.demo.Entity.Order.Order;
+import com.demo.Entity.Product.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+//Jackson serialization of the DTO lists the list endpoints return, at 1k, 100k and 1M rows
+//Writes to a discarding stream so the numbers cover serialization only, not growing an output buffer
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class JsonSerializationBenchmark
+{
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<ProductDTO> products;
+    private List<OrderDTO> orders;
+
+    @Setup
+    public void setUp()
+    {
+        //Same builder Spring Boot configures the MVC ObjectMapper from, so dates and enums are written as the API writes them
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        products = new ArrayList<>(size);
+        orders = new ArrayList<>(size);
+
+        for (long id = 1; id <= size; id++)
+        {
+            Product product = BenchmarkFixtures.product(id);
+            Order order = BenchmarkFixtures.order(id);
+            products.add(new ProductDTO(product.getPid(), product.getProductName(), product.getUnitPrice()));
+            orders.add(new OrderDTO(order.getOid(), order.getTotalPrice(), order.getOrderStatus(), order.getOrderDateTime()));
+        }
+    }
+
+    @Benchmark
+    public void products() throws IOException
+    {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), products);
+    }
+
+    @Benchmark
+    public void orders() throws IOException
+    {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), orders);
+    }
+}
@@ -0,0 +1,356 @@
+package com.demo.Benchmark;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.demo.DTO.DeletedIdDTO;
+import com.demo.DTO.Category.CategoryDTO;
+import com.demo.DTO.Inventory.InventoryDTO;
+import com.demo.DTO.Item.ItemDTO;
+import com.demo.DTO.Item.ItemInventoryDTO;
+import com.demo.DTO.Order.OrderDTO;
+import com.demo.DTO.Order.OrderItemDTO;
+import com.demo.DTO.Order.OrderPaymentDTO;
+import com.demo.DTO.Order.OrderProductDTO;
+import com.demo.DTO.Payment.PaymentDTO;
+import com.demo.DTO.Product.ProductCategoryDTO;
+import com.demo.DTO.Product.ProductDTO;
+import com.demo.DTO.Product.ProductInventoryDTO;
+import com.demo.Entity.DeletedID;
+import com.demo.Entity.Category.Category;
+import com.demo.Entity.Inventory.Inventory;
+import com.demo.Entity.Item.Item;
+import com.demo.Entity.Item.ItemInventory;
+import com.demo.Entity.Order.Order;
+import com.demo.Entity.Order.OrderItem;
+import com.demo.Entity.Order.OrderPayment;
+import com.demo.Entity.Order.OrderProduct;
+import com.demo.Entity.Payment.Payment;
+import com.demo.Entity.Product.Product;
+import com.demo.Entity.Product.ProductCategory;
+import com.demo.Entity.Product.ProductInventory;
+import com.demo.Repository.DeletedIdRepository;
+import com.demo.Repository.Category.CategoryRepository;
+import com.demo.Repository.Inventory.InventoryRepository;
+import com.demo.Repository.Item.ItemInventoryRepository;
+import com.demo.Repository.Item.ItemRepository;
+import com.demo.Repository.Order.OrderItemRepository;
+import com.demo.Repository.Order.OrderPaymentRepository;
+import com.demo.Repository.Order.OrderProductRepository;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Repository.Payment.PaymentRepository;
+import com.demo.Repository.Product.ProductCategoryRepository;
+import com.demo.Repository.Product.ProductInventoryRepository;
+import com.demo.Repository.Product.ProductRepository;
+import com.demo.Service.DeletedIdServiceImpl;
+import com.demo.Service.Category.CategoryServiceImpl;
+import com.demo.Service.Inventory.InventoryServiceImpl;
+import com.demo.Service.Item.ItemInventoryServiceImpl;
+import com.demo.Service.Item.ItemServiceImpl;
+import com.demo.Service.Order.OrderAggregateServiceImpl;
+import com.demo.Service.Order.OrderItemServiceImpl;
+import com.demo.Service.Order.OrderProductServiceImpl;
+import com.demo.Service.Order.OrderServiceImpl;
+import com.demo.Service.Payment.PaymentServiceImpl;
+import com.demo.Service.Product.ProductCategoryServiceImpl;
+import com.demo.Service.Product.ProductInventoryServiceImpl;
+import com.demo.Service.Product.ProductServiceImpl;
+import static com.demo.Benchmark.BenchmarkFixtures.*;
+
+//Entity <-> DTO mappers of every *ServiceImpl, called through private method handles so the services stay as they are
+//The toEntity mappers of link tables include their findById lookups, answered from memory by stub repositories
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark
+{
+    private static final MethodHandle PRODUCT_TO_DTO = mapper(ProductServiceImpl.class, "convertToDTO", ProductDTO.class, Product.class);
+    private static final MethodHandle PRODUCT_TO_ENTITY = mapper(ProductServiceImpl.class, "convertToEntity", Product.class, ProductDTO.class);
+    private static final MethodHandle CATEGORY_TO_DTO = mapper(CategoryServiceImpl.class, "convertToDTO", CategoryDTO.class, Category.class);
+    private static final MethodHandle CATEGORY_TO_ENTITY = mapper(CategoryServiceImpl.class, "convertToEntity", Category.class, CategoryDTO.class);
+    private static final MethodHandle ITEM_TO_DTO = mapper(ItemServiceImpl.class, "convertToDTO", ItemDTO.class, Item.class);
+    private static final MethodHandle ITEM_TO_ENTITY = mapper(ItemServiceImpl.class, "convertToEntity", Item.class, ItemDTO.class);
+    private static final MethodHandle ORDER_TO_DTO = mapper(OrderServiceImpl.class, "convertToDTO", OrderDTO.class, Order.class);
+    private static final MethodHandle PAYMENT_TO_DTO = mapper(PaymentServiceImpl.class, "convertToDTO", PaymentDTO.class, Payment.class);
+    private static final MethodHandle PAYMENT_TO_ENTITY = mapper(PaymentServiceImpl.class, "convertToEntity", Payment.class, PaymentDTO.class);
+    private static final MethodHandle DELETED_ID_TO_DTO = mapper(DeletedIdServiceImpl.class, "mapToDTO", DeletedIdDTO.class, DeletedID.class);
+    private static final MethodHandle DELETED_ID_TO_ENTITY = mapper(DeletedIdServiceImpl.class, "mapToEntity", DeletedID.class, DeletedIdDTO.class);
+    private static final MethodHandle PRODUCT_CATEGORY_TO_DTO = mapper(ProductCategoryServiceImpl.class, "convertToDTO", ProductCategoryDTO.class, ProductCategory.class);
+    private static final MethodHandle PRODUCT_CATEGORY_TO_ENTITY = mapper(ProductCategoryServiceImpl.class, "convertToEntity", ProductCategory.class, ProductCategoryDTO.class);
+    private static final MethodHandle PRODUCT_INVENTORY_TO_DTO = mapper(ProductInventoryServiceImpl.class, "toDTO", ProductInventoryDTO.class, ProductInventory.class);
+    private static final MethodHandle PRODUCT_INVENTORY_TO_ENTITY = mapper(ProductInventoryServiceImpl.class, "toEntity", ProductInventory.class, ProductInventoryDTO.class);
+    private static final MethodHandle ITEM_INVENTORY_TO_DTO = mapper(ItemInventoryServiceImpl.class, "toDTO", ItemInventoryDTO.class, ItemInventory.class);
+    private static final MethodHandle ITEM_INVENTORY_TO_ENTITY = mapper(ItemInventoryServiceImpl.class, "toEntity", ItemInventory.class, ItemInventoryDTO.class);
+    private static final MethodHandle ORDER_PRODUCT_TO_DTO = mapper(OrderProductServiceImpl.class, "toDTO", OrderProductDTO.class, OrderProduct.class);
+    private static final MethodHandle ORDER_PRODUCT_TO_ENTITY = mapper(OrderProductServiceImpl.class, "toEntity", OrderProduct.class, OrderProductDTO.class);
+    private static final MethodHandle ORDER_ITEM_TO_DTO = mapper(OrderItemServiceImpl.class, "toDTO", OrderItemDTO.class, OrderItem.class);
+    private static final MethodHandle ORDER_ITEM_TO_ENTITY = mapper(OrderItemServiceImpl.class, "toEntity", OrderItem.class, OrderItemDTO.class);
+    private static final MethodHandle AGGREGATE_ORDER_TO_DTO = mapper(OrderAggregateServiceImpl.class, "toDTO", OrderDTO.class, Order.class);
+    private static final MethodHandle AGGREGATE_ORDER_PRODUCT_TO_DTO = mapper(OrderAggregateServiceImpl.class, "toDTO", OrderProductDTO.class, OrderProduct.class);
+    private static final MethodHandle AGGREGATE_ORDER_ITEM_TO_DTO = mapper(OrderAggregateServiceImpl.class, "toDTO", OrderItemDTO.class, OrderItem.class);
+    private static final MethodHandle AGGREGATE_ORDER_PAYMENT_TO_DTO = mapper(OrderAggregateServiceImpl.class, "toDTO", OrderPaymentDTO.class, OrderPayment.class);
+
+    private ProductServiceImpl productService;
+    private CategoryServiceImpl categoryService;
+    private ItemServiceImpl itemService;
+    private InventoryServiceImpl inventoryService;
+    private OrderServiceImpl orderService;
+    private PaymentServiceImpl paymentService;
+    private DeletedIdServiceImpl deletedIdService;
+    private ProductCategoryServiceImpl productCategoryService;
+    private ProductInventoryServiceImpl productInventoryService;
+    private ItemInventoryServiceImpl itemInventoryService;
+    private OrderProductServiceImpl orderProductService;
+    private OrderItemServiceImpl orderItemService;
+    private OrderAggregateServiceImpl orderAggregateService;
+
+    private Product product;
+    private ProductDTO productDTO;
+    private Category category;
+    private CategoryDTO categoryDTO;
+    private Item item;
+    private ItemDTO itemDTO;
+    private Inventory inventory;
+    private InventoryDTO inventoryDTO;
+    private Order order;
+    private Payment payment;
+    private PaymentDTO paymentDTO;
+    private DeletedID deletedId;
+    private DeletedIdDTO deletedIdDTO;
+    private ProductCategory productCategory;
+    private ProductCategoryDTO productCategoryDTO;
+    private ProductInventory productInventory;
+    private ProductInventoryDTO productInventoryDTO;
+    private ItemInventory itemInventory;
+    private ItemInventoryDTO itemInventoryDTO;
+    private OrderProduct orderProduct;
+    private OrderProductDTO orderProductDTO;
+    private OrderItem orderItem;
+    private OrderItemDTO orderItemDTO;
+    private OrderPayment orderPayment;
+
+    @Setup
+    public void setUp()
+    {
+        ProductRepository productRepository = repository(ProductRepository.class, BenchmarkFixtures::product);
+        CategoryRepository categoryRepository = repository(CategoryRepository.class, BenchmarkFixtures::category);
+        ItemRepository itemRepository = repository(ItemRepository.class, BenchmarkFixtures::item);
+        InventoryRepository inventoryRepository = repository(InventoryRepository.class, BenchmarkFixtures::inventory);
+        OrderRepository orderRepository = repository(OrderRepository.class, BenchmarkFixtures::order);
+        PaymentRepository paymentRepository = repository(PaymentRepository.class, BenchmarkFixtures::payment);
+
+        //Mappers never reach the ledger, catalog read model, version stamps, NDJSON writer or task executor, so those are left out
+        productService = new ProductServiceImpl(productRepository, null, null, null);
+        categoryService = new CategoryServiceImpl(categoryRepository, null, null);
+        itemService = new ItemServiceImpl(itemRepository, null, null);
+        inventoryService = new InventoryServiceImpl(inventoryRepository, null, null, null);
+        orderService = new OrderServiceImpl(orderRepository, null, null, null, null);
+        paymentService = new PaymentServiceImpl(paymentRepository, null, null);
+        deletedIdService = new DeletedIdServiceImpl(repository(DeletedIdRepository.class, id -> null), null);
+        productCategoryService = new ProductCategoryServiceImpl(repository(ProductCategoryRepository.class, id -> null), productRepository, categoryRepository, null);
+        productInventoryService = new ProductInventoryServiceImpl(repository(ProductInventoryRepository.class, id -> null), productRepository, inventoryRepository, null, null);
+        itemInventoryService = new ItemInventoryServiceImpl(repository(ItemInventoryRepository.class, id -> null), itemRepository, inventoryRepository, null);
+        orderProductService = new OrderProductServiceImpl(repository(OrderProductRepository.class, id -> null), productRepository, orderRepository, null);
+        orderItemService = new OrderItemServiceImpl(repository(OrderItemRepository.class, id -> null), itemRepository, orderRepository, null);
+        orderAggregateService = new OrderAggregateServiceImpl(orderRepository, repository(OrderProductRepository.class, id -> null), repository(OrderItemRepository.class, id -> null),
+        repository(OrderPaymentRepository.class, id -> null), 1);
+
+        product = product(7);
+        productDTO = new ProductDTO(7L, "Product 7", product.getUnitPrice());
+        category = category(3);
+        categoryDTO = new CategoryDTO(3L, "Category 3", "Description of category 3");
+        item = item(11);
+        itemDTO = new ItemDTO(11L, "Item 11", item.getUnitPrice());
+        inventory = inventory(5);
+        inventoryDTO = new InventoryDTO(5L, 5);
+        order = order(42);
+        payment = payment(42);
+        paymentDTO = new PaymentDTO(42L, payment.getAmount(), payment.getPaymentMode(), payment.getPaymentStatus(), payment.getPaymentDateTime());
+        deletedId = new DeletedID(1L, 99L, "Order");
+        deletedIdDTO = new DeletedIdDTO(null, 99L, "Order");
+        productCategory = new ProductCategory(1L, 7L, 3L);
+        productCategoryDTO = new ProductCategoryDTO(1L, 7L, 3L);
+        productInventory = new ProductInventory(1L, product, inventory);
+        productInventoryDTO = new ProductInventoryDTO(1L, 7L, 5L);
+        itemInventory = new ItemInventory(1L, item, inventory);
+        itemInventoryDTO = new ItemInventoryDTO(1L, 11L, 5L);
+        orderProduct = new OrderProduct(1L, order, product);
+        orderProductDTO = new OrderProductDTO(1L, 42L, 7L);
+        orderItem = new OrderItem(1L, order, item);
+        orderItemDTO = new OrderItemDTO(1L, 42L, 11L);
+        orderPayment = new OrderPayment(1L, payment, order);
+    }
+
+    @Benchmark
+    public ProductDTO productToDTO() throws Throwable
+    {
+        return (ProductDTO) PRODUCT_TO_DTO.invokeExact(productService, product);
+    }
+
+    @Benchmark
+    public Product productToEntity() throws Throwable
+    {
+        return (Product) PRODUCT_TO_ENTITY.invokeExact(productService, productDTO);
+    }
+
+    @Benchmark
+    public CategoryDTO categoryToDTO() throws Throwable
+    {
+        return (CategoryDTO) CATEGORY_TO_DTO.invokeExact(categoryService, category);
+    }
+
+    @Benchmark
+    public Category categoryToEntity() throws Throwable
+    {
+        return (Category) CATEGORY_TO_ENTITY.invokeExact(categoryService, categoryDTO);
+    }
+
+    @Benchmark
+    public ItemDTO itemToDTO() throws Throwable
+    {
+        return (ItemDTO) ITEM_TO_DTO.invokeExact(itemService, item);
+    }
+
+    @Benchmark
+    public Item itemToEntity() throws Throwable
+    {
+        return (Item) ITEM_TO_ENTITY.invokeExact(itemService, itemDTO);
+    }
+
+    @Benchmark
+    public InventoryDTO inventoryToDTO()
+    {
+        return inventoryService.convertToDTO(inventory);
+    }
+
+    @Benchmark
+    public Inventory inventoryToEntity()
+    {
+        return inventoryService.convertToEntity(inventoryDTO);
+    }
+
+    @Benchmark
+    public OrderDTO orderToDTO() throws Throwable
+    {
+        return (OrderDTO) ORDER_TO_DTO.invokeExact(orderService, order);
+    }
+
+    @Benchmark
+    public PaymentDTO paymentToDTO() throws Throwable
+    {
+        return (PaymentDTO) PAYMENT_TO_DTO.invokeExact(paymentService, payment);
+    }
+
+    @Benchmark
+    public Payment paymentToEntity() throws Throwable
+    {
+        return (Payment) PAYMENT_TO_ENTITY.invokeExact(paymentService, paymentDTO);
+    }
+
+    @Benchmark
+    public DeletedIdDTO deletedIdToDTO() throws Throwable
+    {
+        return (DeletedIdDTO) DELETED_ID_TO_DTO.invokeExact(deletedIdService, deletedId);
+    }
+
+    @Benchmark
+    public DeletedID deletedIdToEntity() throws Throwable
+    {
+        return (DeletedID) DELETED_ID_TO_ENTITY.invokeExact(deletedIdService, deletedIdDTO);
+    }
+
+    @Benchmark
+    public ProductCategoryDTO productCategoryToDTO() throws Throwable
+    {
+        return (ProductCategoryDTO) PRODUCT_CATEGORY_TO_DTO.invokeExact(productCategoryService, productCategory);
+    }
+
+    @Benchmark
+    public ProductCategory productCategoryToEntity() throws Throwable
+    {
+        return (ProductCategory) PRODUCT_CATEGORY_TO_ENTITY.invokeExact(productCategoryService, productCategoryDTO);
+    }
+
+    @Benchmark
+    public ProductInventoryDTO productInventoryToDTO() throws Throwable
+    {
+        return (ProductInventoryDTO) PRODUCT_INVENTORY_TO_DTO.invokeExact(productInventoryService, productInventory);
+    }
+
+    @Benchmark
+    public ProductInventory productInventoryToEntity() throws Throwable
+    {
+        return (ProductInventory) PRODUCT_INVENTORY_TO_ENTITY.invokeExact(productInventoryService, productInventoryDTO);
+    }
+
+    @Benchmark
+    public ItemInventoryDTO itemInventoryToDTO() throws Throwable
+    {
+        return (ItemInventoryDTO) ITEM_INVENTORY_TO_DTO.invokeExact(itemInventoryService, itemInventory);
+    }
+
+    @Benchmark
+    public ItemInventory itemInventoryToEntity() throws Throwable
+    {
+        return (ItemInventory) ITEM_INVENTORY_TO_ENTITY.invokeExact(itemInventoryService, itemInventoryDTO);
+    }
+
+    @Benchmark
+    public OrderProductDTO orderProductToDTO() throws Throwable
+    {
+        return (OrderProductDTO) ORDER_PRODUCT_TO_DTO.invokeExact(orderProductService, orderProduct);
+    }
+
+    @Benchmark
+    public OrderProduct orderProductToEntity() throws Throwable
+    {
+        return (OrderProduct) ORDER_PRODUCT_TO_ENTITY.invokeExact(orderProductService, orderProductDTO);
+    }
+
+    @Benchmark
+    public OrderItemDTO orderItemToDTO() throws Throwable
+    {
+        return (OrderItemDTO) ORDER_ITEM_TO_DTO.invokeExact(orderItemService, orderItem);
+    }
+
+    @Benchmark
+    public OrderItem orderItemToEntity() throws Throwable
+    {
+        return (OrderItem) ORDER_ITEM_TO_ENTITY.invokeExact(orderItemService, orderItemDTO);
+    }
+
+    @Benchmark
+    public OrderDTO aggregateOrderToDTO() throws Throwable
+    {
+        return (OrderDTO) AGGREGATE_ORDER_TO_DTO.invokeExact(orderAggregateService, order);
+    }
+
+    @Benchmark
+    public OrderProductDTO aggregateOrderProductToDTO() throws Throwable
+    {
+        return (OrderProductDTO) AGGREGATE_ORDER_PRODUCT_TO_DTO.invokeExact(orderAggregateService, orderProduct);
+    }
+
+    @Benchmark
+    public OrderItemDTO aggregateOrderItemToDTO() throws Throwable
+    {
+        return (OrderItemDTO) AGGREGATE_ORDER_ITEM_TO_DTO.invokeExact(orderAggregateService, orderItem);
+    }
+
+    @Benchmark
+    public OrderPaymentDTO aggregateOrderPaymentToDTO() throws Throwable
+    {
+        return (OrderPaymentDTO) AGGREGATE_ORDER_PAYMENT_TO_DTO.invokeExact(orderAggregateService, orderPayment);
+    }
+}
@@ -0,0 +1,118 @@
+package com.demo.Benchmark;
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.demo.Util.Money.Money;
+
+//Summing and comparing prices as BigDecimal, as Money objects and as the long cents behind Money, at 1k and 1M prices
+//Prices are 1.99 to 999.99 with 2 decimals, like the generated catalog; run with -prof gc to see the allocation per sum
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MoneyBenchmark
+{
+    @Param({ "1000", "1000000" })
+    private int size;
+
+    private BigDecimal[] decimals;
+    private Money[] monies;
+    private long[] cents;
+
+    @Setup
+    public void setUp()
+    {
+        SplittableRandom random = new SplittableRandom(42);
+        decimals = new BigDecimal[size];
+        monies = new Money[size];
+        cents = new long[size];
+
+        for (int i = 0; i < size; i++)
+        {
+            cents[i] = 199 + random.nextInt(99_800);
+            decimals[i] = BigDecimal.valueOf(cents[i], 2);
+            monies[i] = Money.ofCents(cents[i]);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimal()
+    {
+        BigDecimal total = BigDecimal.ZERO;
+
+        for (BigDecimal price : decimals)
+            total = total.add(price);
+
+        return total;
+    }
+
+    @Benchmark
+    public Money sumMoney()
+    {
+        Money total = Money.ZERO;
+
+        for (Money price : monies)
+            total = total.plus(price);
+
+        return total;
+    }
+
+    @Benchmark
+    public long sumCents()
+    {
+        return Money.sumCents(cents);
+    }
+
+    @Benchmark
+    public BigDecimal maxBigDecimal()
+    {
+        BigDecimal max = decimals[0];
+
+        for (BigDecimal price : decimals)
+        {
+            if (price.compareTo(max) > 0)
+                max = price;
+        }
+
+        return max;
+    }
+
+    @Benchmark
+    public Money maxMoney()
+    {
+        Money max = monies[0];
+
+        for (Money price : monies)
+        {
+            if (price.compareTo(max) > 0)
+                max = price;
+        }
+
+        return max;
+    }
+
+    //Conversion cost paid once per row read from the database
+    @Benchmark
+    public Money[] fromBigDecimal()
+    {
+        Money[] converted = new Money[size];
+
+        for (int i = 0; i < size; i++)
+            converted[i] = Money.of(decimals[i]);
+
+        return converted;
+    }
+}
@@ -0,0 +1,119 @@
+package com.demo.Benchmark;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.demo.DemoApplication;
+import com.demo.Entity.Order.Order;
+import com.demo.Entity.Product.Product;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Repository.Product.ProductRepository;
+
+//Spring Data repositories of the running application against its embedded H2 database
+//Product is a cached catalog entity, so productFindById measures the second-level cache path, while Order always goes to H2
+//Warm-up is long because the Hibernate and Spring Data call paths take several seconds to be fully compiled
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 4)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark
+{
+    @Param({ "1000" })
+    private int rows;   //Products and orders added on top of the sample data before measuring
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private OrderRepository orderRepository;
+    private List<Long> productIds;
+    private List<Long> orderIds;
+
+    @Setup
+    public void setUp()
+    {
+        //Same context the application runs, minus the web server, SQL logging and the devtools restarter
+        //Passed as arguments because they have to win over application.properties
+        context = new SpringApplicationBuilder(DemoApplication.class).web(WebApplicationType.NONE).logStartupInfo(false)
+        .run("--spring.jpa.show-sql=false", "--spring.devtools.restart.enabled=false", "--logging.level.root=WARN");
+        productRepository = context.getBean(ProductRepository.class);
+        orderRepository = context.getBean(OrderRepository.class);
+
+        List<Product> products = new ArrayList<>(rows);
+        List<Order> orders = new ArrayList<>(rows);
+
+        for (long i = 1; i <= rows; i++)
+        {
+            Product product = BenchmarkFixtures.product(i);
+            Order order = BenchmarkFixtures.order(i);
+            product.setPid(null);
+            order.setOid(null);
+            products.add(product);
+            orders.add(order);
+        }
+
+        productIds = productRepository.saveAll(products).stream().map(Product::getPid).toList();
+        orderIds = orderRepository.saveAll(orders).stream().map(Order::getOid).toList();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        context.close();
+    }
+
+    @Benchmark
+    public Product productFindById()
+    {
+        return productRepository.findById(productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()))).orElseThrow();
+    }
+
+    @Benchmark
+    public List<Product> productFindAll()
+    {
+        return productRepository.findAll();
+    }
+
+    @Benchmark
+    public Product productSave()
+    {
+        Product product = BenchmarkFixtures.product(0);
+        product.setPid(null);
+        return productRepository.save(product);
+    }
+
+    @Benchmark
+    public Order orderFindById()
+    {
+        return orderRepository.findById(orderIds.get(ThreadLocalRandom.current().nextInt(orderIds.size()))).orElseThrow();
+    }
+
+    @Benchmark
+    public List<Order> orderFindAll()
+    {
+        return orderRepository.findAll();
+    }
+
+    @Benchmark
+    public Order orderSave()
+    {
+        Order order = BenchmarkFixtures.order(0);
+        order.setOid(null);
+        return orderRepository.save(order);
+    }
+}
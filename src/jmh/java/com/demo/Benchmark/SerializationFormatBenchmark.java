@@ -0,0 +1,135 @@
+package com.demo.Benchmark;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.demo.DTO.Order.OrderDTO;
+import com.demo.DTO.Payment.PaymentDTO;
+import com.demo.Entity.Order.Order;
+import com.demo.Entity.Payment.Payment;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Serialization.ProtobufSchemas;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+//Encode and decode time of a page of payments and a page of orders in each body format the API negotiates, with the mappers configured
+//as BinaryFormatsConfig and ProtobufSchemas configure them. The payload size of each page is printed once per trial, before the warmup
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SerializationFormatBenchmark
+{
+    @Param({ "json", "cbor", "smile", "protobuf" })
+    private String format;
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    private CursorPage<PaymentDTO> payments;
+    private CursorPage<OrderDTO> orders;
+    private ObjectWriter paymentWriter;
+    private ObjectWriter orderWriter;
+    private ObjectReader paymentReader;
+    private ObjectReader orderReader;
+    private byte[] paymentBytes;
+    private byte[] orderBytes;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        List<PaymentDTO> paymentRows = new ArrayList<>(size);
+        List<OrderDTO> orderRows = new ArrayList<>(size);
+
+        for (long id = 1; id <= size; id++)
+        {
+            Payment payment = BenchmarkFixtures.payment(id);
+            Order order = BenchmarkFixtures.order(id);
+            paymentRows.add(new PaymentDTO(payment.getPid(), payment.getAmount(), payment.getPaymentMode(), payment.getPaymentStatus(), payment.getPaymentDateTime()));
+            orderRows.add(new OrderDTO(order.getOid(), order.getTotalPrice(), order.getOrderStatus(), order.getOrderDateTime(), 0L));
+        }
+
+        payments = new CursorPage<>(paymentRows, String.valueOf(size));
+        orders = new CursorPage<>(orderRows, String.valueOf(size));
+
+        if (format.equals("protobuf"))
+        {
+            ProtobufSchemas schemas = new ProtobufSchemas(builder());
+            ObjectMapper mapper = schemas.objectMapper();
+            JavaType paymentPage = mapper.getTypeFactory().constructParametricType(CursorPage.class, PaymentDTO.class);
+            JavaType orderPage = mapper.getTypeFactory().constructParametricType(CursorPage.class, OrderDTO.class);
+            paymentWriter = mapper.writerFor(paymentPage).with(schemas.schemaFor(paymentPage).orElseThrow());
+            orderWriter = mapper.writerFor(orderPage).with(schemas.schemaFor(orderPage).orElseThrow());
+            paymentReader = mapper.readerFor(paymentPage).with(schemas.schemaFor(paymentPage).orElseThrow());
+            orderReader = mapper.readerFor(orderPage).with(schemas.schemaFor(orderPage).orElseThrow());
+        }
+
+        else
+        {
+            ObjectMapper mapper = switch (format)
+            {
+                case "cbor" -> builder().factory(new CBORFactory()).build();
+                case "smile" -> builder().factory(new SmileFactory()).build();
+                default -> builder().build();
+            };
+            paymentWriter = mapper.writerFor(mapper.getTypeFactory().constructParametricType(CursorPage.class, PaymentDTO.class));
+            orderWriter = mapper.writerFor(mapper.getTypeFactory().constructParametricType(CursorPage.class, OrderDTO.class));
+            paymentReader = mapper.readerFor(mapper.getTypeFactory().constructParametricType(CursorPage.class, PaymentDTO.class));
+            orderReader = mapper.readerFor(mapper.getTypeFactory().constructParametricType(CursorPage.class, OrderDTO.class));
+        }
+
+        paymentBytes = paymentWriter.writeValueAsBytes(payments);
+        orderBytes = orderWriter.writeValueAsBytes(orders);
+        System.out.printf("%n%s, %d rows: payments page %d bytes, orders page %d bytes%n", format, size, paymentBytes.length, orderBytes.length);
+    }
+
+    @Benchmark
+    public void encodePayments() throws IOException
+    {
+        paymentWriter.writeValue(OutputStream.nullOutputStream(), payments);
+    }
+
+    @Benchmark
+    public Object decodePayments() throws IOException
+    {
+        return paymentReader.readValue(paymentBytes);
+    }
+
+    @Benchmark
+    public void encodeOrders() throws IOException
+    {
+        orderWriter.writeValue(OutputStream.nullOutputStream(), orders);
+    }
+
+    @Benchmark
+    public Object decodeOrders() throws IOException
+    {
+        return orderReader.readValue(orderBytes);
+    }
+
+    //Spring Boot's defaults for the MVC mapper that matter to the body: dates as ISO strings
+    private static Jackson2ObjectMapperBuilder builder()
+    {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,44 @@
+package com.demo.Controller.Analytics;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import com.demo.DTO.Analytics.OrderAnalyticsDTO;
+import com.demo.DTO.Analytics.PaymentAnalyticsDTO;
+import com.demo.Interface.Analytics.AnalyticsService;
+
+@RestController                                         //This annotation marks the class as a controller for RESTful web services
+@RequestMapping("/analytics")                           //Defines the base URI for all the API endpoints in this controller
+public class AnalyticsController 
+{
+    private final AnalyticsService analyticsService;    //This is a service dependency for the aggregated payment and order figures
+
+    //Constructor to inject the AnalyticsService dependency
+    public AnalyticsController(AnalyticsService analyticsService) 
+    {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/payments") //Maps GET requests to /analytics/payments?from=&to=&bucket=hour|day&groupBy=mode,status
+    public ResponseEntity<List<PaymentAnalyticsDTO>> getPaymentAnalytics(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(defaultValue = "day") String bucket,
+        @RequestParam(required = false) List<String> groupBy) 
+    {
+        //Returns the payment count and amount of every bucket and group with HTTP status 200 (OK), an unknown bucket or group or an invalid range is a 400
+        return ResponseEntity.ok(analyticsService.getPaymentAnalytics(from, to, bucket, groupBy));
+    }
+
+    @GetMapping("/orders") //Maps GET requests to /analytics/orders?from=&to=&bucket=hour|day&groupBy=status
+    public ResponseEntity<List<OrderAnalyticsDTO>> getOrderAnalytics(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(defaultValue = "day") String bucket,
+        @RequestParam(required = false) List<String> groupBy) 
+    {
+        //Returns the order count and total of every bucket and group with HTTP status 200 (OK), an unknown bucket or group or an invalid range is a 400
+        return ResponseEntity.ok(analyticsService.getOrderAnalytics(from, to, bucket, groupBy));
+    }
+}
@@ -0,0 +1,26 @@
+package com.demo.Controller;
+import com.demo.DTO.CacheStatsDTO;
+import com.demo.Interface.CacheStatsService;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController                                         //This annotation marks the class as a controller for RESTful web services
+@RequestMapping("/cache")                               //Defines the base URI for all the API endpoints in this controller
+public class CacheStatsController 
+{
+    private final CacheStatsService cacheStatsService;  //This is a service dependency for reading the cache counters
+
+    //Constructor to inject the CacheStatsService dependency
+    public CacheStatsController(CacheStatsService cacheStatsService) 
+    {
+        this.cacheStatsService = cacheStatsService;
+    }
+
+    @GetMapping("/stats") //Maps GET requests to /cache/stats
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() 
+    {
+        //Returns the hit ratio, size and evictions of every second-level cache region with HTTP status 200 (OK)
+        return ResponseEntity.ok(cacheStatsService.getCacheStats());
+    }
+}
@@ -6,8 +6,9 @@ import com.demo.Interface.Category.CategoryService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/categories")
@@ -33,10 +34,12 @@ public class CategoryController {
         return ResponseEntity.ok(category);
     }
 
-    // Get all categories
+    // Get one page of categories (?after=&limit=&sort=)
     @GetMapping
-    public ResponseEntity<List<CategoryDTO>> getAllCategories() {
-        List<CategoryDTO> categories = categoryService.getCategories();
+    public ResponseEntity<CursorPage<CategoryDTO>> getAllCategories(@RequestParam(required = false) String after,
+                                                                    @RequestParam(required = false) Integer limit,
+                                                                    @RequestParam(required = false) String sort) {
+        CursorPage<CategoryDTO> categories = categoryService.getCategories(CursorRequest.of(after, limit, sort));
         return ResponseEntity.ok(categories);
     }
 
@@ -5,6 +5,8 @@ import com.demo.Interface.DeletedIdService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,11 +48,38 @@ public class DeletedIdController
         return deletedIdDTO.map(dto -> new ResponseEntity<>(dto, HttpStatus.OK)).orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
-    @GetMapping //Maps GET requests to /api/deletedIds
-    public ResponseEntity<List<DeletedIdDTO>> getDeletedIds() 
+    @GetMapping //Maps GET requests to /api/deletedIds?after=&limit=&sort=
+    public ResponseEntity<CursorPage<DeletedIdDTO>> getDeletedIds(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) 
     {
-        List<DeletedIdDTO> deletedIdDTOs = deletedIdService.getDeletedIds();    //Fetches all DeletedIdDTOs from the service
-        return new ResponseEntity<>(deletedIdDTOs, HttpStatus.OK);              //Returns the list with HTTP status 200 (OK)
+        CursorPage<DeletedIdDTO> deletedIdDTOs = deletedIdService.getDeletedIds(CursorRequest.of(after, limit, sort)); //Fetches one page of DeletedIdDTOs from the service
+        return new ResponseEntity<>(deletedIdDTOs, HttpStatus.OK);                                                      //Returns the page with HTTP status 200 (OK)
+    }
+
+    @GetMapping("/types/{entityType}/{id}") //Maps GET requests to /api/deletedIds/types/{entityType}/{id}
+    public ResponseEntity<Boolean> isDeleted(@PathVariable String entityType, @PathVariable Long id) 
+    {
+        try 
+        {
+            return new ResponseEntity<>(deletedIdService.isDeleted(entityType, id), HttpStatus.OK);    //Returns whether the ID has a tombstone with HTTP status 200 (OK)
+        } 
+        
+        catch (IllegalArgumentException e) 
+        {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);  //Handles an invalid ID, returns HTTP 400 (Bad Request)
+        }
+    }
+
+    @PostMapping("/types/{entityType}/check") //Maps POST requests to /api/deletedIds/types/{entityType}/check
+    public ResponseEntity<List<Long>> findDeleted(@PathVariable String entityType, @RequestBody List<Long> ids) 
+    {
+        return new ResponseEntity<>(deletedIdService.findDeleted(entityType, ids), HttpStatus.OK);  //Returns the given IDs that have a tombstone with HTTP status 200 (OK)
+    }
+
+    @GetMapping("/types/{entityType}") //Maps GET requests to /api/deletedIds/types/{entityType}?after=&limit=
+    public ResponseEntity<CursorPage<Long>> getDeletedIdsOfType(@PathVariable String entityType, @RequestParam(required = false) String after, @RequestParam(required = false) Integer limit) 
+    {
+        CursorPage<Long> deletedIds = deletedIdService.getDeletedIdsOfType(entityType, CursorRequest.of(after, limit, null));   //Fetches one page of the type's deleted IDs
+        return new ResponseEntity<>(deletedIds, HttpStatus.OK);                                                                //Returns the page with HTTP status 200 (OK)
     }
 
     @PutMapping("/{id}") //Maps PUT requests to /api/deletedIds/{id}
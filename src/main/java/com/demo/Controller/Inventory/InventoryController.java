@@ -1,11 +1,16 @@
 package com.demo.Controller.Inventory;
 import jakarta.validation.Valid;  
+import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.DTO.Inventory.InventoryAdjustmentDTO;
+import com.demo.DTO.Inventory.InventoryAdjustmentResultDTO;
 import com.demo.DTO.Inventory.InventoryDTO;
+import com.demo.DTO.Inventory.StockReservationDTO;
 import com.demo.Interface.Inventory.InventoryService;
-import java.util.List;
 
 @RestController                                         //Marks this class as a REST controller, allowing it to handle HTTP requests
 @RequestMapping("/inventories")                         //Base URL path for all endpoints in this controller
@@ -40,12 +45,44 @@ public class InventoryController
         return (inventoryDTO != null) ? ResponseEntity.ok(inventoryDTO) : ResponseEntity.notFound().build();
     }
 
-    //GET method for retrieving all inventories
-    @GetMapping  //Marks this method as handling GET requests to /inventories
-    public ResponseEntity<List<InventoryDTO>> getInventories() 
+    //GET method for retrieving one page of inventories
+    @GetMapping  //Marks this method as handling GET requests to /inventories?after=&limit=&sort=
+    public ResponseEntity<CursorPage<InventoryDTO>> getInventories(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) 
+    {
+        CursorPage<InventoryDTO> inventories = inventoryService.getInventories(CursorRequest.of(after, limit, sort));  //Retrieve one page of inventories
+        return ResponseEntity.ok(inventories);  //Return the page with HTTP status 200 (OK)
+    }
+
+    //POST method for applying a batch of stock deltas atomically per row, e.g. [{"sid": 1, "delta": -2}]
+    @PostMapping("/adjustments")  //Marks this method as handling POST requests to /inventories/adjustments
+    public ResponseEntity<List<InventoryAdjustmentResultDTO>> adjustInventories(@RequestBody List<@Valid InventoryAdjustmentDTO> adjustments) 
+    {
+        //Apply the batch in one transaction and return 200 (OK) with one applied/rejected result per adjustment
+        return ResponseEntity.ok(inventoryService.adjustInventories(adjustments));
+    }
+
+    //POST method for holding stock of an inventory without locking its row, e.g. /inventories/1/reservations?quantity=2
+    @PostMapping("/{sid}/reservations")  //Marks this method as handling POST requests to /inventories/{sid}/reservations
+    public ResponseEntity<StockReservationDTO> reserveStock(@PathVariable Long sid, @RequestParam int quantity) 
+    {
+        //Return the reservation token with HTTP status 201 (CREATED)
+        return new ResponseEntity<>(inventoryService.reserveStock(sid, quantity), HttpStatus.CREATED);
+    }
+
+    //POST method for confirming a reservation, the stock leaves the inventory on the next write-behind flush
+    @PostMapping("/reservations/{token}/confirm")  //Marks this method as handling POST requests to /inventories/reservations/{token}/confirm
+    public ResponseEntity<Void> confirmReservation(@PathVariable String token) 
+    {
+        inventoryService.confirmReservation(token);
+        return ResponseEntity.noContent().build();  //Return 204 No Content once confirmed
+    }
+
+    //DELETE method for releasing a reservation and returning its stock
+    @DeleteMapping("/reservations/{token}")  //Marks this method as handling DELETE requests to /inventories/reservations/{token}
+    public ResponseEntity<Void> releaseReservation(@PathVariable String token) 
     {
-        List<InventoryDTO> inventories = inventoryService.getInventories(); //Retrieve the list of inventories
-        return ResponseEntity.ok(inventories);  //Return the list with HTTP status 200 (OK)
+        inventoryService.releaseReservation(token);
+        return ResponseEntity.noContent().build();  //Return 204 No Content once released
     }
 
     //PUT method for updating an existing inventory by its sid
@@ -4,8 +4,9 @@ import com.demo.Exception.Item.ItemNotFoundException;
 import com.demo.Interface.Item.ItemService;
 import org.springframework.http.HttpStatus; 
 import org.springframework.http.ResponseEntity; 
-import org.springframework.web.bind.annotation.*; 
-import java.util.List; 
+import org.springframework.web.bind.annotation.*;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest; 
 
 @RestController
 @RequestMapping("/items")   //Maps HTTP requests to the "/items" endpoint
@@ -53,12 +54,12 @@ public class ItemController
         }
     }
 
-    //Get all items
-    @GetMapping //Maps GET requests to fetch all items
-    public ResponseEntity<List<ItemDTO>> getItems() 
+    //Get one page of items
+    @GetMapping //Maps GET requests to fetch a page of items (?after=&limit=&sort=)
+    public ResponseEntity<CursorPage<ItemDTO>> getItems(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) 
     {
-        List<ItemDTO> items = itemService.getItems();   //Calls service layer to retrieve all items
-        return ResponseEntity.ok(items);                //Responds with a list of items and 200 OK status
+        CursorPage<ItemDTO> items = itemService.getItems(CursorRequest.of(after, limit, sort)); //Calls service layer to retrieve one page of items
+        return ResponseEntity.ok(items);                                                        //Responds with the page of items and 200 OK status
     }
 
     //Partially update an item
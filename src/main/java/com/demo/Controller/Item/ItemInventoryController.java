@@ -5,8 +5,9 @@ import com.demo.Interface.Item.ItemInventoryService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import lombok.extern.slf4j.Slf4j;
-import java.util.List;
 
 @RestController
 @RequestMapping("/item-inventory")
@@ -26,8 +27,8 @@ public class ItemInventoryController
     {
         try 
         {
-            //Log the request details for creating an ItemInventory
-            log.info("Creating ItemInventory with details: {}", itemInventoryDTO);
+            //Log the IDs being linked, not the whole DTO
+            log.atInfo().setMessage("Creating ItemInventory").addKeyValue("iid", itemInventoryDTO.getIid()).addKeyValue("sid", itemInventoryDTO.getSid()).log();
             
             //Call service to create the item inventory and return the created DTO
             ItemInventoryDTO createdItemInventory = itemInventoryService.createItemInventory(itemInventoryDTO);
@@ -37,7 +38,7 @@ public class ItemInventoryController
         catch(ItemInventoryNotFoundException e) 
         {
             //Log error if the item inventory could not be created
-            log.error("Error creating ItemInventory: {}", e.getMessage());
+            log.atError().setMessage("Error creating ItemInventory").addKeyValue("error", e.getMessage()).log();
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);  //Return NOT_FOUND if exception is thrown
         }
     }
@@ -48,7 +49,7 @@ public class ItemInventoryController
         try 
         {
             //Log the request details for retrieving an ItemInventory
-            log.info("Retrieving ItemInventory with siid: {}", siid);
+            log.atInfo().setMessage("Retrieving ItemInventory").addKeyValue("siid", siid).log();
             
             //Call service to get the item inventory by its siid
             ItemInventoryDTO itemInventoryDTO = itemInventoryService.getItemInventory(siid);
@@ -58,20 +59,20 @@ public class ItemInventoryController
         catch(ItemInventoryNotFoundException e) 
         {
             //Log error if item inventory is not found
-            log.error("ItemInventory with siid {} not found: {}", siid, e.getMessage());
+            log.atError().setMessage("ItemInventory not found").addKeyValue("siid", siid).addKeyValue("error", e.getMessage()).log();
             return ResponseEntity.notFound().build();   //Return NOT_FOUND if item inventory doesn't exist
         }
     }
 
-    @GetMapping //Endpoint to retrieve all ItemInventories
-    public ResponseEntity<List<ItemInventoryDTO>> getAllItemInventories() 
+    @GetMapping //Endpoint to retrieve one page of ItemInventories (?after=&limit=&sort=)
+    public ResponseEntity<CursorPage<ItemInventoryDTO>> getAllItemInventories(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) 
     {
-        //Log the request to retrieve all item inventories
-        log.info("Request to retrieve all ItemInventories");
+        //Log the request to retrieve a page of item inventories
+        log.atInfo().setMessage("Retrieving ItemInventories").addKeyValue("after", after).addKeyValue("limit", limit).log();
 
-        //Call service to get all item inventories
-        List<ItemInventoryDTO> itemInventoryDTOList = itemInventoryService.getItemInventories();
-        return new ResponseEntity<>(itemInventoryDTOList, HttpStatus.OK);   //Return OK status with the list of inventories
+        //Call service to get one page of item inventories
+        CursorPage<ItemInventoryDTO> itemInventoryDTOPage = itemInventoryService.getItemInventories(CursorRequest.of(after, limit, sort));
+        return new ResponseEntity<>(itemInventoryDTOPage, HttpStatus.OK);   //Return OK status with the page of inventories
     }
 
     @PutMapping("/{siid}")  //Endpoint to update an existing ItemInventory
@@ -80,7 +81,7 @@ public class ItemInventoryController
         try 
         {
             //Log the request details for updating an ItemInventory
-            log.info("Updating ItemInventory with siid: {} and new details: {}", siid, itemInventoryDTO);
+            log.atInfo().setMessage("Updating ItemInventory").addKeyValue("siid", siid).addKeyValue("iid", itemInventoryDTO.getIid()).addKeyValue("sid", itemInventoryDTO.getSid()).log();
             
             //Call service to update the item inventory and return the updated DTO
             ItemInventoryDTO updatedItemInventory = itemInventoryService.updateItemInventory(siid, itemInventoryDTO);
@@ -90,7 +91,7 @@ public class ItemInventoryController
         catch(ItemInventoryNotFoundException e) 
         {
             //Log error if item inventory is not found for update
-            log.error("ItemInventory with siid {} not found for update: {}", siid, e.getMessage());
+            log.atError().setMessage("ItemInventory not found for update").addKeyValue("siid", siid).addKeyValue("error", e.getMessage()).log();
             return ResponseEntity.notFound().build();   //Return NOT_FOUND if item inventory doesn't exist
         }
     }
@@ -100,7 +101,7 @@ public class ItemInventoryController
     {
         try 
         {
-            log.info("Deleting ItemInventory with siid: {}", siid); //Log the request to delete an ItemInventory  
+            log.atInfo().setMessage("Deleting ItemInventory").addKeyValue("siid", siid).log();   //Log the request to delete an ItemInventory
             itemInventoryService.deleteItemInventory(siid);                 //Call service to delete the item inventory by its siid
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);             //Return NO_CONTENT status on successful deletion
         } 
@@ -108,7 +109,7 @@ public class ItemInventoryController
         catch(ItemInventoryNotFoundException e) 
         {
             //Log error if item inventory is not found for deletion
-            log.error("ItemInventory with siid {} not found for deletion: {}", siid, e.getMessage());
+            log.atError().setMessage("ItemInventory not found for deletion").addKeyValue("siid", siid).addKeyValue("error", e.getMessage()).log();
             return ResponseEntity.notFound().build();   //Return NOT_FOUND if item inventory doesn't exist
         }
     }
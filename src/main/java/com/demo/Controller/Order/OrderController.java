@@ -1,6 +1,10 @@
 package com.demo.Controller.Order;
+import com.demo.DTO.Order.OrderAggregateDTO;
 import com.demo.DTO.Order.OrderDTO;
+import com.demo.DTO.Order.OrderRepriceDTO;
+import com.demo.Enum.Order.OrderStatus;
 import com.demo.Exception.Order.OrderNotFoundException;
+import com.demo.Interface.Order.OrderAggregateService;
 import com.demo.Interface.Order.OrderService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,8 +12,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import jakarta.validation.Valid;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
+import java.util.Map;
+import com.demo.Util.Export.NdjsonWriter;
+import com.demo.Util.Idempotency.IdempotentRequests;
+import com.demo.Util.Idempotency.IdempotentRequests.Outcome;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import jakarta.validation.Valid;
 
 @RestController             //Marks this class as a RESTful controller
 @RequestMapping("/orders")  //Specifies the base URL for this controller
@@ -18,20 +30,32 @@ public class OrderController
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);  //Logger instance for logging events
 
     private final OrderService orderService;                                                    //Instance of OrderService to handle business logic
+    private final OrderAggregateService orderAggregateService;                                  //Instance of OrderAggregateService to load an order with its links
+    private final IdempotentRequests idempotentRequests;                                        //Replays the first response to retried creates
 
-    @Autowired  //Constructor-based dependency injection for OrderService
-    public OrderController(OrderService orderService) 
+    @Autowired  //Constructor-based dependency injection for OrderService, OrderAggregateService and IdempotentRequests
+    public OrderController(OrderService orderService, OrderAggregateService orderAggregateService, IdempotentRequests idempotentRequests) 
     {
-        this.orderService = orderService;   //Initializes the order service to interact with the service layer
+        this.orderService = orderService;                       //Initializes the order service to interact with the service layer
+        this.orderAggregateService = orderAggregateService;     //Initializes the aggregate service used by the order detail endpoint
+        this.idempotentRequests = idempotentRequests;           //Initializes the idempotency store used by the create endpoint
     }
 
     //Create a new order
     @PostMapping  //Maps POST requests to this method to create a new order
-    public ResponseEntity<OrderDTO> createOrder(@Valid @RequestBody OrderDTO orderDTO) 
+    public ResponseEntity<OrderDTO> createOrder(@Valid @RequestBody OrderDTO orderDTO, @RequestHeader(value = IdempotentRequests.HEADER, required = false) String idempotencyKey) 
     {
-        logger.info("Creating order: {}", orderDTO);            //Log the incoming order request
-        OrderDTO createdOrder = orderService.createOrder(orderDTO);     //Call service method to create the order
-        return new ResponseEntity<>(createdOrder, HttpStatus.CREATED);  //Return the created order with HTTP 201 Created
+        logger.atInfo().setMessage("Creating order").addKeyValue("totalPrice", orderDTO.getTotalPrice()).addKeyValue("orderStatus", orderDTO.getOrderStatus()).log();   //Log the incoming order request
+
+        if (idempotencyKey == null)
+        {
+            OrderDTO createdOrder = orderService.createOrder(orderDTO);     //Call service method to create the order
+            return new ResponseEntity<>(createdOrder, HttpStatus.CREATED);  //Return the created order with HTTP 201 Created
+        }
+
+        //A retry with the same key gets the order created by the first request instead of a second one
+        Outcome<OrderDTO> outcome = idempotentRequests.execute("orders", idempotencyKey, orderDTO, OrderDTO.class, () -> orderService.createOrder(orderDTO));
+        return ResponseEntity.status(HttpStatus.CREATED).header(IdempotentRequests.REPLAYED_HEADER, String.valueOf(outcome.replayed())).body(outcome.body());
     }
 
     @GetMapping("/{oid}")  //Maps GET requests with an order ID to this method
@@ -45,16 +69,55 @@ public class OrderController
         
         catch (OrderNotFoundException ex) 
         { 
-            logger.error("Order not found: {}", oid);       //Log the error
+            logger.atError().setMessage("Order not found").addKeyValue("oid", oid).log();      //Log the error
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);      //Return HTTP 404 Not Found
+        }
+    }
+
+    @GetMapping("/{oid}/full")  //Maps GET requests with an order ID to return the order with its products, items and payments in one call
+    public ResponseEntity<OrderAggregateDTO> getOrderAggregate(@PathVariable Long oid) 
+    {
+        try 
+        {
+            OrderAggregateDTO orderAggregateDTO = orderAggregateService.getOrderAggregate(oid); //Fetch the order and its links from the service layer
+            return new ResponseEntity<>(orderAggregateDTO, HttpStatus.OK);                      //Return the aggregate with HTTP 200 OK
+        } 
+        
+        catch (OrderNotFoundException ex) 
+        { 
+            logger.atError().setMessage("Order not found").addKeyValue("oid", oid).log();      //Log the error
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);      //Return HTTP 404 Not Found
         }
     }
 
-    @GetMapping  //Maps GET requests to this method for fetching all orders
-    public ResponseEntity<List<OrderDTO>> getOrders() 
+    @GetMapping  //Maps GET requests to this method for fetching one page of orders (?after=&limit=&sort=)
+    public ResponseEntity<CursorPage<OrderDTO>> getOrders(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) 
+    {
+        CursorPage<OrderDTO> orderDTOs = orderService.getOrders(CursorRequest.of(after, limit, sort));  //Fetch one page of orders from the service layer
+        return new ResponseEntity<>(orderDTOs, HttpStatus.OK);                                          //Return the page of orders with HTTP 200 OK
+    }
+
+    @GetMapping("/export")  //Maps GET requests to stream every order as newline-delimited JSON, resumable from the last oid received (?after=)
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(required = false) Long after, WebRequest request) 
+    {
+        long from = NdjsonWriter.resumeFrom(after);   //Validate the resume point before the response is committed
+        NdjsonWriter.disableTimeout(request);           //The stream runs as long as the extraction takes
+        return ResponseEntity.ok().contentType(NdjsonWriter.APPLICATION_NDJSON).body(out -> orderService.exportOrders(from, out));
+    }
+
+    @GetMapping("/stats/status")  //Maps GET requests for the number of orders in each status, answered from in-memory counters
+    public ResponseEntity<Map<OrderStatus, Long>> getOrderStatusCounts() 
+    {
+        return new ResponseEntity<>(orderService.getOrderStatusCounts(), HttpStatus.OK);  //Return the counts with HTTP 200 OK
+    }
+
+    @PostMapping("/reprice")  //Maps POST requests with a list of order IDs to recompute their totals from their lines
+    public ResponseEntity<OrderRepriceDTO> repriceOrders(@RequestBody List<Long> oids) 
     {
-        List<OrderDTO> orderDTOs = orderService.getOrders();    //Fetch the list of orders from the service layer
-        return new ResponseEntity<>(orderDTOs, HttpStatus.OK);  //Return the list of orders with HTTP 200 OK
+        OrderRepriceDTO result = orderService.repriceOrders(oids);    //Reprice the orders in the service layer
+        logger.atInfo().setMessage("Repriced orders").addKeyValue("requested", result.getRequested()).addKeyValue("repriced", result.getRepriced())
+        .addKeyValue("elapsedMillis", result.getElapsedMillis()).log();
+        return new ResponseEntity<>(result, HttpStatus.OK);            //Return the counts with HTTP 200 OK
     }
 
     @PatchMapping("/{oid}")  //Maps PATCH requests with an order ID to this method for partial updates
@@ -62,14 +125,14 @@ public class OrderController
     { 
         try 
         {
-            logger.info("Updating order with ID {}: {}", oid, orderDTO);    //Log the update request
+            logger.atInfo().setMessage("Updating order").addKeyValue("oid", oid).addKeyValue("orderStatus", orderDTO.getOrderStatus()).log();   //Log the update request
             OrderDTO updatedOrder = orderService.partialUpdateOrder(oid, orderDTO); //Call the service method to update the order
             return new ResponseEntity<>(updatedOrder, HttpStatus.OK);               //Return the updated order with HTTP 200 OK
         } 
         
         catch (OrderNotFoundException ex) 
         { 
-            logger.error("Order not found for update: {}", oid);    //Log the error
+            logger.atError().setMessage("Order not found for update").addKeyValue("oid", oid).log();  //Log the error
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);              //Return HTTP 404 Not Found
         }
     }
@@ -79,14 +142,14 @@ public class OrderController
     {
         try 
         {
-            logger.info("Deleting order with ID: {}", oid); //Log the delete request
+            logger.atInfo().setMessage("Deleting order").addKeyValue("oid", oid).log();    //Log the delete request
             orderService.deleteOrder(oid);                          //Call the service method to delete the order
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);     //Return HTTP 204 No Content after successful deletion
         } 
         
         catch (OrderNotFoundException ex)
         {  
-            logger.error("Order not found for deletion: {}", oid);  //Log the error
+            logger.atError().setMessage("Order not found for deletion").addKeyValue("oid", oid).log();    //Log the error
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);      //Return HTTP 404 Not Found
         }
     }
@@ -3,7 +3,8 @@ import com.demo.DTO.Order.OrderItemDTO;
 import com.demo.Interface.Order.OrderItemService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 @RestController
 @RequestMapping("/order_item")  //Base URL for OrderItem related endpoints
@@ -36,11 +37,11 @@ public class OrderItemController
         return ResponseEntity.ok(found);                //If found, return HTTP status 200 OK with the order item
     }
 
-    @GetMapping //Endpoint to retrieve all OrderItems
-    public ResponseEntity<List<OrderItemDTO>> getAllOrderItems() 
+    @GetMapping //Endpoint to retrieve one page of OrderItems (?after=&limit=&sort=)
+    public ResponseEntity<CursorPage<OrderItemDTO>> getAllOrderItems(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) 
     {
-        List<OrderItemDTO> list = orderItemService.getOrderItems(); //Retrieve all order items from the service
-        return ResponseEntity.ok(list);                             //Return the list of order items with HTTP status 200 OK
+        CursorPage<OrderItemDTO> page = orderItemService.getOrderItems(CursorRequest.of(after, limit, sort));  //Retrieve one page of order items from the service
+        return ResponseEntity.ok(page);                                                                         //Return the page of order items with HTTP status 200 OK
     }
 
     @PutMapping("/{oiid}")  //Endpoint to update an existing OrderItem by its ID
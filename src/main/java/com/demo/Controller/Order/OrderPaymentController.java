@@ -4,7 +4,8 @@ import com.demo.Interface.Order.OrderPaymentService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 @RestController                     //Specifies this class as a REST controller
 @RequestMapping("/order_payment")   //Sets the base URL for the controller
@@ -32,11 +33,11 @@ public class OrderPaymentController
         return new ResponseEntity<>(orderPayment, HttpStatus.OK);                   //Returns the found order payment with HTTP status 200 (OK)
     }
 
-    @GetMapping  //Maps GET requests to retrieve all order payments
-    public ResponseEntity<List<OrderPaymentDTO>> getAllOrderPayments() 
+    @GetMapping  //Maps GET requests to retrieve one page of order payments (?after=&limit=&sort=)
+    public ResponseEntity<CursorPage<OrderPaymentDTO>> getAllOrderPayments(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) 
     {
-        List<OrderPaymentDTO> orderPayments = orderPaymentService.getOrderPayments();   //Fetches the list of all order payments using the service
-        return new ResponseEntity<>(orderPayments, HttpStatus.OK);                      //Returns the list of order payments with HTTP status 200 (OK)
+        CursorPage<OrderPaymentDTO> orderPayments = orderPaymentService.getOrderPayments(CursorRequest.of(after, limit, sort)); //Fetches one page of order payments using the service
+        return new ResponseEntity<>(orderPayments, HttpStatus.OK);                                                              //Returns the page of order payments with HTTP status 200 (OK)
     }
 
     @PutMapping("/{poid}")  //Maps PUT requests to update an order payment with a specific POID
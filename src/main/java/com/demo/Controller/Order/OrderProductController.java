@@ -7,8 +7,9 @@ import com.demo.Interface.Order.OrderProductService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import jakarta.validation.Valid;
-import java.util.List;
 
 @RestController
 @RequestMapping("/order_product")
@@ -50,12 +51,14 @@ public class OrderProductController {
     }
 
     /**
-     * Get all OrderProducts
+     * Get one page of OrderProducts (?after=&limit=&sort=)
      */
     @GetMapping
-    public ResponseEntity<List<OrderProductDTO>> getAllOrderProducts() {
-        List<OrderProductDTO> list = orderProductService.getOrderProducts();
-        return ResponseEntity.ok(list);
+    public ResponseEntity<CursorPage<OrderProductDTO>> getAllOrderProducts(@RequestParam(required = false) String after,
+                                                                           @RequestParam(required = false) Integer limit,
+                                                                           @RequestParam(required = false) String sort) {
+        CursorPage<OrderProductDTO> page = orderProductService.getOrderProducts(CursorRequest.of(after, limit, sort));
+        return ResponseEntity.ok(page);
     }
 
     /**
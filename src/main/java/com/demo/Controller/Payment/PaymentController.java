@@ -3,26 +3,39 @@ import com.demo.DTO.Payment.PaymentDTO;
 import com.demo.Service.Payment.PaymentServiceImpl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.demo.Util.Export.NdjsonWriter;
+import com.demo.Util.Idempotency.IdempotentRequests;
+import com.demo.Util.Idempotency.IdempotentRequests.Outcome;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 @RestController
 @RequestMapping("/payments")  //Base URL for payment-related API endpoints
 public class PaymentController 
 {
     private final PaymentServiceImpl paymentService;
+    private final IdempotentRequests idempotentRequests;    //Replays the first response to retried creates
 
-    //Constructor injection of the PaymentServiceImpl to handle business logic
-    public PaymentController(PaymentServiceImpl paymentService) 
+    //Constructor injection of the PaymentServiceImpl to handle business logic, and of the idempotency store
+    public PaymentController(PaymentServiceImpl paymentService, IdempotentRequests idempotentRequests) 
     {
         this.paymentService = paymentService;
+        this.idempotentRequests = idempotentRequests;
     }
 
     //Endpoint to create a new payment
     @PostMapping  //Maps HTTP POST requests to this method
-    public ResponseEntity<PaymentDTO> createPayment(@RequestBody PaymentDTO paymentDTO) 
+    public ResponseEntity<PaymentDTO> createPayment(@RequestBody PaymentDTO paymentDTO, @RequestHeader(value = IdempotentRequests.HEADER, required = false) String idempotencyKey) 
     {
         //Call service layer to create the payment and return the created PaymentDTO
-        return ResponseEntity.ok(paymentService.createPayment(paymentDTO));  
+        if (idempotencyKey == null)
+            return ResponseEntity.ok(paymentService.createPayment(paymentDTO));  
+
+        //A retry with the same key gets the payment created by the first request instead of charging twice
+        Outcome<PaymentDTO> outcome = idempotentRequests.execute("payments", idempotencyKey, paymentDTO, PaymentDTO.class, () -> paymentService.createPayment(paymentDTO));
+        return ResponseEntity.ok().header(IdempotentRequests.REPLAYED_HEADER, String.valueOf(outcome.replayed())).body(outcome.body());
     }
 
     //Endpoint to retrieve a payment by its ID
@@ -33,12 +46,21 @@ public class PaymentController
         return ResponseEntity.ok(paymentService.getPayment(pid));  
     }
 
-    //Endpoint to retrieve all payments
-    @GetMapping //Maps HTTP GET requests to retrieve a list of all payments
-    public ResponseEntity<List<PaymentDTO>> getPayments() 
+    //Endpoint to retrieve one page of payments
+    @GetMapping //Maps HTTP GET requests to retrieve a page of payments (?after=&limit=&sort=)
+    public ResponseEntity<CursorPage<PaymentDTO>> getPayments(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) 
+    {
+        //Call service layer to fetch one page of payments after the cursor and return it with the next cursor
+        return ResponseEntity.ok(paymentService.getPayments(CursorRequest.of(after, limit, sort)));  
+    }
+
+    //Endpoint to export every payment as newline-delimited JSON, resumable from the last pid received (?after=)
+    @GetMapping("/export")  //Maps HTTP GET requests to stream all payments without materialising them in memory
+    public ResponseEntity<StreamingResponseBody> exportPayments(@RequestParam(required = false) Long after, WebRequest request) 
     {
-        //Call service layer to fetch all payments and return as a list of PaymentDTOs
-        return ResponseEntity.ok(paymentService.getPayments());  
+        long from = NdjsonWriter.resumeFrom(after);   //Validate the resume point before the response is committed
+        NdjsonWriter.disableTimeout(request);           //The stream runs as long as the extraction takes
+        return ResponseEntity.ok().contentType(NdjsonWriter.APPLICATION_NDJSON).body(out -> paymentService.exportPayments(from, out));
     }
 
     //Endpoint to partially update a payment (e.g., update payment status)
@@ -0,0 +1,38 @@
+package com.demo.Controller.Product;
+
+import com.demo.DTO.Product.ProductViewDTO;
+import com.demo.Exception.Product.ProductNotFoundException;
+import com.demo.Interface.Product.CatalogService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+
+@RestController
+@RequestMapping("/catalog")
+public class CatalogController {
+
+    private final CatalogService catalogService;
+
+    public CatalogController(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPage<ProductViewDTO>> getCatalog(@RequestParam(required = false) Long categoryId,
+                                                                @RequestParam(required = false) String after,
+                                                                @RequestParam(required = false) Integer limit,
+                                                                @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(catalogService.getCatalog(categoryId, CursorRequest.of(after, limit, sort)));
+    }
+
+    @GetMapping("/{pid}")
+    public ResponseEntity<ProductViewDTO> getCatalogProduct(@PathVariable Long pid) {
+        try {
+            return ResponseEntity.ok(catalogService.getCatalogProduct(pid));
+        } catch (ProductNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
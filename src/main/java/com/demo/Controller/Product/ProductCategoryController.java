@@ -11,8 +11,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/product-categories")
@@ -48,9 +49,11 @@ public class ProductCategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductCategoryDTO>> getProductCategories() {
-        List<ProductCategoryDTO> categories = productCategoryService.getProductCategories();
-        if (categories.isEmpty()) {
+    public ResponseEntity<CursorPage<ProductCategoryDTO>> getProductCategories(@RequestParam(required = false) String after,
+                                                                               @RequestParam(required = false) Integer limit,
+                                                                               @RequestParam(required = false) String sort) {
+        CursorPage<ProductCategoryDTO> categories = productCategoryService.getProductCategories(CursorRequest.of(after, limit, sort));
+        if (categories.getItems().isEmpty()) {
             logger.warn("No product categories found.");
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
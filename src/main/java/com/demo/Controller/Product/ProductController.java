@@ -7,7 +7,8 @@ import com.demo.Interface.Product.ProductService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 @RestController
 @RequestMapping("/products")
@@ -40,8 +41,10 @@ public class ProductController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductDTO>> getProducts() {
-        List<ProductDTO> products = productService.getProducts();
+    public ResponseEntity<CursorPage<ProductDTO>> getProducts(@RequestParam(required = false) String after,
+                                                              @RequestParam(required = false) Integer limit,
+                                                              @RequestParam(required = false) String sort) {
+        CursorPage<ProductDTO> products = productService.getProducts(CursorRequest.of(after, limit, sort));
         return ResponseEntity.ok(products);
     }
 
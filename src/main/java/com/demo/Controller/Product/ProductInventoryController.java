@@ -2,13 +2,14 @@ package com.demo.Controller.Product;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 import com.demo.DTO.Product.ProductInventoryDTO;
 import com.demo.Exception.Product.ProductInventoryNotFoundException;
 import com.demo.Interface.Product.ProductInventoryService;
 
 import lombok.extern.slf4j.Slf4j;
-import java.util.List;
 
 @RestController
 @RequestMapping("/product-inventories")
@@ -27,13 +28,13 @@ public class ProductInventoryController
     {
         try 
         {
-            log.info("Creating ProductInventory with details: {}", productInventoryDTO);
+            log.atInfo().setMessage("Creating ProductInventory").addKeyValue("pid", productInventoryDTO.getPid()).addKeyValue("sid", productInventoryDTO.getSid()).log();
             ProductInventoryDTO createdProductInventory = productInventoryService.createProductInventory(productInventoryDTO);
             return new ResponseEntity<>(createdProductInventory, HttpStatus.CREATED);
         } 
         catch(ProductInventoryNotFoundException e) 
         {
-            log.error("Error creating ProductInventory: {}", e.getMessage());
+            log.atError().setMessage("Error creating ProductInventory").addKeyValue("error", e.getMessage()).log();
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
@@ -43,23 +44,23 @@ public class ProductInventoryController
     {
         try 
         {
-            log.info("Retrieving ProductInventory with psid: {}", psid);
+            log.atInfo().setMessage("Retrieving ProductInventory").addKeyValue("psid", psid).log();
             ProductInventoryDTO productInventoryDTO = productInventoryService.getProductInventory(psid);
             return new ResponseEntity<>(productInventoryDTO, HttpStatus.OK);
         } 
         catch(ProductInventoryNotFoundException e) 
         {
-            log.error("ProductInventory with psid {} not found: {}", psid, e.getMessage());
+            log.atError().setMessage("ProductInventory not found").addKeyValue("psid", psid).addKeyValue("error", e.getMessage()).log();
             return ResponseEntity.notFound().build();
         }
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductInventoryDTO>> getAllProductInventories() 
+    public ResponseEntity<CursorPage<ProductInventoryDTO>> getAllProductInventories(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) 
     {
-        log.info("Request to retrieve all ProductInventories");
-        List<ProductInventoryDTO> productInventoryDTOList = productInventoryService.getProductInventories();
-        return new ResponseEntity<>(productInventoryDTOList, HttpStatus.OK);
+        log.atInfo().setMessage("Retrieving ProductInventories").addKeyValue("after", after).addKeyValue("limit", limit).log();
+        CursorPage<ProductInventoryDTO> productInventoryDTOPage = productInventoryService.getProductInventories(CursorRequest.of(after, limit, sort));
+        return new ResponseEntity<>(productInventoryDTOPage, HttpStatus.OK);
     }
 
     @PutMapping("/{psid}")
@@ -67,13 +68,13 @@ public class ProductInventoryController
     {
         try 
         {
-            log.info("Updating ProductInventory with psid: {} and new details: {}", psid, productInventoryDTO);
+            log.atInfo().setMessage("Updating ProductInventory").addKeyValue("psid", psid).addKeyValue("pid", productInventoryDTO.getPid()).addKeyValue("sid", productInventoryDTO.getSid()).log();
             ProductInventoryDTO updatedProductInventory = productInventoryService.updateProductInventory(psid, productInventoryDTO);
             return new ResponseEntity<>(updatedProductInventory, HttpStatus.OK);
         } 
         catch(ProductInventoryNotFoundException e) 
         {
-            log.error("ProductInventory with psid {} not found for update: {}", psid, e.getMessage());
+            log.atError().setMessage("ProductInventory not found for update").addKeyValue("psid", psid).addKeyValue("error", e.getMessage()).log();
             return ResponseEntity.notFound().build();
         }
     }
@@ -83,13 +84,13 @@ public class ProductInventoryController
     {
         try 
         {
-            log.info("Deleting ProductInventory with psid: {}", psid);
+            log.atInfo().setMessage("Deleting ProductInventory").addKeyValue("psid", psid).log();
             productInventoryService.deleteProductInventory(psid);
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         } 
         catch(ProductInventoryNotFoundException e) 
         {
-            log.error("ProductInventory with psid {} not found for deletion: {}", psid, e.getMessage());
+            log.atError().setMessage("ProductInventory not found for deletion").addKeyValue("psid", psid).addKeyValue("error", e.getMessage()).log();
             return ResponseEntity.notFound().build();
         }
     }
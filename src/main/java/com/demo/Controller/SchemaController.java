@@ -0,0 +1,25 @@
+package com.demo.Controller;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import com.demo.Util.Serialization.ProtobufSchemas;
+
+@RestController                                         //This annotation marks the class as a controller for RESTful web services
+@RequestMapping("/schemas")                             //Defines the base URI for all the API endpoints in this controller
+public class SchemaController
+{
+    private final ProtobufSchemas protobufSchemas;      //Protobuf schemas generated from the DTOs
+
+    //Constructor to inject the ProtobufSchemas dependency
+    public SchemaController(ProtobufSchemas protobufSchemas)
+    {
+        this.protobufSchemas = protobufSchemas;
+    }
+
+    @GetMapping(value = "/protobuf/{dto}", produces = MediaType.TEXT_PLAIN_VALUE) //Maps GET requests to /schemas/protobuf/{dto}, e.g. /schemas/protobuf/PaymentDTO?page=true
+    public ResponseEntity<String> getProtobufSchema(@PathVariable String dto, @RequestParam(defaultValue = "false") boolean page)
+    {
+        //Returns the .proto source an application/x-protobuf body of that DTO (or of a page of them, as the list endpoints return) is written with
+        return protobufSchemas.schemaForDto(dto, page).map(schema -> ResponseEntity.ok(schema.getSource().toString())).orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,20 @@
+package com.demo.DTO.Analytics;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import com.demo.Enum.Order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter              //Automatically generates getter methods for all fields
+@NoArgsConstructor   //Automatically generates a no-argument constructor for the class
+@AllArgsConstructor  //Automatically generates a constructor with arguments for all fields
+@Builder             //Enables the Builder pattern for this class, making it easier to instantiate
+public class OrderAnalyticsDTO 
+{
+    private LocalDateTime bucketStart;  //Start of the hour or day the orders were placed in
+    private OrderStatus orderStatus;    //Status of the orders, null when not grouped by status
+    private long count;                 //Number of orders in the group
+    private BigDecimal total;           //Sum of their total prices
+}
@@ -0,0 +1,22 @@
+package com.demo.DTO.Analytics;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import com.demo.Enum.Payment.PaymentMode;
+import com.demo.Enum.Payment.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter              //Automatically generates getter methods for all fields
+@NoArgsConstructor   //Automatically generates a no-argument constructor for the class
+@AllArgsConstructor  //Automatically generates a constructor with arguments for all fields
+@Builder             //Enables the Builder pattern for this class, making it easier to instantiate
+public class PaymentAnalyticsDTO 
+{
+    private LocalDateTime bucketStart;      //Start of the hour or day the payments were made in
+    private PaymentMode paymentMode;        //Mode of the payments, null when not grouped by mode
+    private PaymentStatus paymentStatus;    //Status of the payments, null when not grouped by status
+    private long count;                     //Number of payments in the group
+    private BigDecimal total;               //Sum of their amounts
+}
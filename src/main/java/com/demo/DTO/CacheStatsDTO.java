@@ -0,0 +1,19 @@
+package com.demo.DTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter              //Automatically generates getter methods for all fields
+@NoArgsConstructor   //Automatically generates a no-argument constructor for the class
+@AllArgsConstructor  //Automatically generates a constructor with arguments for all fields
+@Builder             //Enables the Builder pattern for this class, making it easier to instantiate
+public class CacheStatsDTO 
+{
+    private String region;      //Name of the second-level cache region (e.g. catalog-product)
+    private long size;          //Approximate number of entries currently cached
+    private long hitCount;      //Lookups answered from the cache
+    private long missCount;     //Lookups that had to go to the database
+    private double hitRatio;    //hitCount / (hitCount + missCount), 1.0 when there were no lookups yet
+    private long evictionCount; //Entries removed because the region was full or the entry expired
+}
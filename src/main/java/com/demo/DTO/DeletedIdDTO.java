@@ -12,6 +12,7 @@ import lombok.Setter;
 @Builder             //Enables the Builder pattern for this class, making it easier to instantiate
 public class DeletedIdDTO 
 {
+    private Long id;            //Represents the ID of the tombstone record itself, the one GET, PUT and DELETE /deleted-ids/{id} take
     private Long deletedId;     //Represents the ID of the deleted entity (e.g., Order, Customer)
     private String entityType;  //Represents the type of the entity that was deleted (e.g., Order, Customer)
 }
\ No newline at end of file
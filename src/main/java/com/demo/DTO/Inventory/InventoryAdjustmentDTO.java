@@ -0,0 +1,24 @@
+package com.demo.DTO.Inventory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter             //Automatically generates getter methods for all fields
+@Setter             //Automatically generates setter methods for all fields
+@NoArgsConstructor  //Generates a no-argument constructor (required for JSON deserialization)
+@AllArgsConstructor //Generates a constructor with arguments for all fields
+@Builder            //Enables the builder pattern for constructing instances of the class
+public class InventoryAdjustmentDTO 
+{
+    public static final int MAX_DELTA = 1_000_000;  //Largest change in one adjustment; the UPDATE itself refuses a new stock outside the int range
+
+    private Long sid;       //Inventory to adjust
+
+    @Min(-MAX_DELTA)
+    @Max(MAX_DELTA)
+    private Integer delta;  //Change in stock quantity, negative to take stock out and positive to put it back
+}
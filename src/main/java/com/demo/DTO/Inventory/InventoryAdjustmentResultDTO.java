@@ -0,0 +1,18 @@
+package com.demo.DTO.Inventory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter             //Automatically generates getter methods for all fields
+@NoArgsConstructor  //Generates a no-argument constructor
+@AllArgsConstructor //Generates a constructor with arguments for all fields
+@Builder            //Enables the builder pattern for constructing instances of the class
+public class InventoryAdjustmentResultDTO 
+{
+    private Long sid;           //Inventory the adjustment was for
+    private Integer delta;      //Requested change in stock quantity
+    private boolean applied;    //True when the stock quantity was changed
+    private Integer stockQty;   //Units still available (not reserved) when the adjustment was rejected for insufficient stock (null otherwise)
+    private String reason;      //Why the adjustment was rejected (null when applied)
+}
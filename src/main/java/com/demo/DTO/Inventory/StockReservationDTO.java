@@ -0,0 +1,18 @@
+package com.demo.DTO.Inventory;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter             //Automatically generates getter methods for all fields
+@NoArgsConstructor  //Generates a no-argument constructor
+@AllArgsConstructor //Generates a constructor with arguments for all fields
+@Builder            //Enables the builder pattern for constructing instances of the class
+public class StockReservationDTO 
+{
+    private String token;       //Reservation token to confirm or release the held stock with
+    private Long sid;           //Inventory the stock is held from
+    private Integer quantity;   //Number of units held
+    private Instant expiresAt;  //Moment the hold lapses and the units return to available stock
+}
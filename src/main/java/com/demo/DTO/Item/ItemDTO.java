@@ -1,5 +1,5 @@
 package com.demo.DTO.Item;
-import java.math.BigDecimal;
+import com.demo.Util.Money.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,5 +15,5 @@ public class ItemDTO
 {
     private Long iid;               //Unique identifier for the item, typically auto-generated by the database
     private String itemName;        //Name of item
-    private BigDecimal unitPrice;   //Unit price of each item, using BigDecimal for accurate monetary calculations, avoiding floating-point precision issues
+    private Money unitPrice;        //Unit price of each item in exact cents, a JSON number with 2 decimals; more decimals are rejected
 }
\ No newline at end of file
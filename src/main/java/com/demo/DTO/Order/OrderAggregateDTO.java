@@ -0,0 +1,24 @@
+package com.demo.DTO.Order;
+import java.util.List;
+import com.demo.DTO.Item.ItemDTO;
+import com.demo.DTO.Payment.PaymentDTO;
+import com.demo.DTO.Product.ProductDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter             //Generates getters for all fields
+@NoArgsConstructor  //Generates a no-argument constructor
+@AllArgsConstructor //Generates a constructor with all arguments
+@Builder            //Generates a builder pattern for creating instances
+public class OrderAggregateDTO 
+{
+    private OrderDTO order;                         //The order itself
+    private List<OrderProductDTO> orderProducts;    //Order-product links of the order
+    private List<ProductDTO> products;              //Products referenced by the order-product links
+    private List<OrderItemDTO> orderItems;          //Order-item links of the order
+    private List<ItemDTO> items;                    //Items referenced by the order-item links
+    private List<OrderPaymentDTO> orderPayments;    //Order-payment links of the order
+    private List<PaymentDTO> payments;              //Payments referenced by the order-payment links
+}
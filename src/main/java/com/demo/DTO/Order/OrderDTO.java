@@ -23,4 +23,12 @@ public class OrderDTO
     private OrderStatus orderStatus;                                                //The status of the order (e.g., PENDING, COMPLETED)
 
     private LocalDateTime orderDateTime;                                            //The date and time the order was created
+
+    private Long version;                                                           //Version of the order read; sent back on a PATCH, the update only applies to that version
+
+    //Constructor for an order without a version, as when it is created
+    public OrderDTO(Long oid, BigDecimal totalPrice, OrderStatus orderStatus, LocalDateTime orderDateTime)
+    {
+        this(oid, totalPrice, orderStatus, orderDateTime, null);
+    }
 }
\ No newline at end of file
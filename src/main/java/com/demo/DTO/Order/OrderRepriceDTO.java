@@ -0,0 +1,18 @@
+package com.demo.DTO.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter              //Automatically generates getter methods for all fields
+@NoArgsConstructor   //Automatically generates a no-argument constructor for the class
+@AllArgsConstructor  //Automatically generates a constructor with arguments for all fields
+@Builder             //Enables the Builder pattern for this class, making it easier to instantiate
+public class OrderRepriceDTO 
+{
+    private int requested;      //Distinct order IDs asked to be repriced
+    private int repriced;       //Orders whose total changed to the sum of their lines
+    private int unchanged;      //Orders whose total already matched their lines
+    private int skipped;        //Orders without lines (or unknown IDs), their total is left as it is
+    private long elapsedMillis; //Time taken by the whole run
+}
@@ -1,7 +1,7 @@
 package com.demo.DTO.Product;
 
 import lombok.*;
-import java.math.BigDecimal;
+import com.demo.Util.Money.Money;
 
 @Getter
 @Setter
@@ -11,5 +11,5 @@ import java.math.BigDecimal;
 public class ProductDTO {
     private Long pid;
     private String productName;
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 }
\ No newline at end of file
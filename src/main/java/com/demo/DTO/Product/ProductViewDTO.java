@@ -0,0 +1,18 @@
+package com.demo.DTO.Product;
+
+import lombok.*;
+import com.demo.Util.Money.Money;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductViewDTO {
+    private Long pid;
+    private String productName;
+    private Money unitPrice;
+    private List<Long> categoryIds;
+    private List<String> categoryNames;
+    private long totalStock;
+}
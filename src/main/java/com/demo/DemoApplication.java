@@ -1,8 +1,10 @@
 package com.demo;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication  //This annotation already includes @ComponentScan, so no need to explicitly define it
+@EnableScheduling       //Runs the stock reservation ledger's write-behind flush
 public class DemoApplication 
 {
     //Main method to start the Spring Boot application
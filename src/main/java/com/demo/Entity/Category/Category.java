@@ -1,10 +1,13 @@
 package com.demo.Entity.Category;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -12,9 +15,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity                         //Marks the class as a JPA entity, meaning it will be mapped to a database table
-@Table(name = "categories")    //Specifies the table name in the database, if it's different from the class name (optional)
+@Table(name = "categories", indexes = @Index(name = "idx_categories_category_name_category_id", columnList = "categoryName, categoryId"))  //Table name, plus the index backing keyset pagination sorted by categoryName
+@Cacheable                      //Keeps loaded categories in the second-level cache, catalog reads far outnumber writes
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog-category")  //Updates and deletes invalidate the cached entry when they commit
 @Getter                         //Automatically generates getter methods for all fields
 @Setter                         //Automatically generates setter methods for all fields
 @NoArgsConstructor              //Generates a no-argument constructor (required for frameworks like JPA and Hibernate)
@@ -23,7 +30,8 @@ import lombok.Setter;
 public class Category 
 {
     @Id //Marks this field as the primary key in the database
-    @GeneratedValue(strategy = GenerationType.IDENTITY)         //Automatically generates unique values for the primary key (usually for auto-incremented IDs)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")                 //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "categories_seq", sequenceName = "categories_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     @Column(name = "categoryId")                                //Specifies the column name in the database
     private Long categoryId;                                    //Unique identifier for the inventory, typically auto-generated by the database
 
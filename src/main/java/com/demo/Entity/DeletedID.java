@@ -1,10 +1,14 @@
 package com.demo.Entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 @Entity                         //This marks the class as a JPA entity (mapped to a database table)
-@Table(name = "deleted_ids")    //Specifies the table name in the database that this entity maps to        
+@Table(name = "deleted_ids", indexes = {
+    @Index(name = "idx_deleted_ids_entity_type_id", columnList = "entity_type, id"),                  //Backs keyset pagination sorted by entity_type
+    @Index(name = "idx_deleted_ids_entity_type_deleted_id", columnList = "entity_type, deleted_id", unique = true)    //Backs the per-type listing, and keeps one tombstone per ID and type
+})
 @Getter                         //Automatically generates getter methods for all fields
 @Setter                         //Automatically generates setter methods for all fields
 @NoArgsConstructor              //Generates a no-argument constructor
@@ -13,12 +17,13 @@ import lombok.*;
 public class DeletedID 
 {  
     @Id //Marks the field as the primary key for the entity and uses an auto-generated value strategy for it
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //Automatically generate the primary key (if necessary)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "deleted_ids_seq")                  //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "deleted_ids_seq", sequenceName = "deleted_ids_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     private Long id;                                    //Unique identifier for the deleted ID entry
 
     //Marks this field as a column in the database with a not-null constraint and validation on input
     @Column(name = "deleted_id", nullable = false)
-    @NotBlank(message = "Deleted ID cannot be blank")   //Ensures that deletedId is not blank
+    @NotNull(message = "Deleted ID cannot be null")     //Ensures that deletedId is set (@NotBlank only applies to text, on a Long it rejected every insert)
     private Long deletedId;                             //The actual ID from the main entity (e.g., Order, Customer)
 
     //Marks this field as a column in the database with a not-null constraint and validation on input
@@ -0,0 +1,28 @@
+package com.demo.Entity;
+import java.time.Instant;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity                         //This marks the class as a JPA entity (mapped to a database table)
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))  //Backs the purge of expired keys
+@Getter                         //Automatically generates getter methods for all fields
+@Setter                         //Automatically generates setter methods for all fields
+@NoArgsConstructor              //Generates a no-argument constructor
+@AllArgsConstructor             //Generates a constructor with arguments for all fields
+@Builder                        //Enables the builder pattern to create instances of this class easily
+public class IdempotencyRecord 
+{
+    @Id                                                     //The key is chosen by the client, so it is assigned rather than generated
+    @Column(name = "id", length = 300)
+    private String id;                                      //Scope and Idempotency-Key header, e.g. orders:3f2a...
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;                             //SHA-256 of the request body, a key reused with another body is rejected
+
+    @Lob                                                    //Responses can outgrow a VARCHAR
+    @Column(name = "response_body", nullable = false)
+    private String responseBody;                            //JSON of the first response, replayed to every duplicate
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;                              //After this the key may be used for a new request
+}
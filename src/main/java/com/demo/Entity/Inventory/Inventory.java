@@ -4,7 +4,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*; 
 
 @Entity                         //Marks the class as a JPA entity, meaning it will be mapped to a database table
-@Table(name = "Inventories")    //Specifies the table name in the database, if it's different from the class name (optional)
+@Table(name = "Inventories", indexes = @Index(name = "idx_inventories_stock_qty_sid", columnList = "stockQty, sid"))  //Table name, plus the index backing keyset pagination sorted by stockQty
 @Getter                         //Automatically generates getter methods for all fields
 @Setter                         //Automatically generates setter methods for all fields
 @NoArgsConstructor              //Generates a no-argument constructor (required for frameworks like JPA and Hibernate)
@@ -13,7 +13,8 @@ import lombok.*;
 public class Inventory 
 {
     @Id //Marks this field as the primary key in the database
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //Automatically generates unique values for the primary key (usually for auto-incremented IDs)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventories_seq")                  //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "inventories_seq", sequenceName = "inventories_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     @Column(name = "sid")                               //Specifies the column name in the database
     private Long sid;                                   //Unique identifier for the inventory, typically auto-generated by the database
 
@@ -3,10 +3,15 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank; 
 import jakarta.validation.constraints.NotNull; 
 import lombok.*; 
-import java.math.BigDecimal; 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import com.demo.Util.Money.Money;
+import com.demo.Util.Money.MoneyConverter;
 
 @Entity                 //Marks the class as a JPA entity, meaning it will be mapped to a database table
-@Table(name = "items") //Specifies the table name in the database, if it's different from the class name (optional)
+@Table(name = "items", indexes = @Index(name = "idx_items_item_name_iid", columnList = "itemName, iid"))  //Table name, plus the index backing keyset pagination sorted by itemName
+@Cacheable              //Keeps loaded items in the second-level cache, catalog reads far outnumber writes
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog-item")  //Updates and deletes invalidate the cached entry when they commit
 @Getter                 //Automatically generates getter methods for all fields
 @Setter                 //Automatically generates setter methods for all fields
 @NoArgsConstructor      //Generates a no-argument constructor (required for frameworks like JPA and Hibernate)
@@ -15,7 +20,8 @@ import java.math.BigDecimal;
 public class Item 
 {
     @Id //Marks this field as the primary key in the database
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //Automatically generates unique values for the primary key (usually for auto-incremented IDs)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")            //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     @Column(name = "iid")                               //Specifies the column name in the database
     private Long iid;                                   //Unique identifier for the item, typically auto-generated by the database
 
@@ -24,6 +30,7 @@ public class Item
     private String itemName;                            //The name of the item, must not be blank
 
     @Column(name = "unitPrice")                         //Specifies the column name in the database
+    @Convert(converter = MoneyConverter.class)          //Stored in the same DECIMAL column, read as a long of cents
     @NotNull(message = "Unit price is mandatory")       //Validates that the unitPrice field cannot be null, provides a custom validation message
-    private BigDecimal unitPrice;                       //Unit price of each item, using BigDecimal for accurate monetary calculations, avoiding floating-point precision issues
+    private Money unitPrice;                            //Unit price of each item, exact cents, so pricing sums it without BigDecimal arithmetic
 }
\ No newline at end of file
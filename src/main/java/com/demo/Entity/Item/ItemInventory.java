@@ -17,7 +17,8 @@ import lombok.*;
 public class ItemInventory 
 {
     @Id                                                 //Marks this field as the primary key for the entity
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //Auto-increment the value of the primary key
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_inventory_seq")                     //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "item_inventory_seq", sequenceName = "item_inventory_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     @Column(name = "siid")                              //Maps the field to the corresponding column in the table
     private Long siid;                                  //The unique identifier for the item-inventory association
 
@@ -9,8 +9,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -20,7 +23,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity                 //Marks this class as a JPA entity
-@Table(name = "orders") //Specifies the table name in the database
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_order_date_time_oid", columnList = "orderDateTime, oid"),     //Backs keyset pagination sorted by orderDateTime
+    @Index(name = "idx_orders_order_date_time_status_total", columnList = "orderDateTime, orderStatus, totalPrice")   //Covers the hourly analytics GROUP BY
+})
 @Getter                 //Generates getters for all fields
 @Setter                 //Generates setters for all fields
 @NoArgsConstructor      //Generates a no-arguments constructor
@@ -29,7 +35,8 @@ import lombok.Setter;
 public class Order 
 {
     @Id                                                 //Marks this field as the primary key
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //Automatically generates the primary key value
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")             //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     @Column(name = "oid")                               //Specifies the column name in the table
     private Long oid;                                   //Order ID
 
@@ -46,6 +53,16 @@ public class Order
     @Column(name = "orderDateTime", nullable = false, updatable = false)    //Maps to the orderDateTime column
     private LocalDateTime orderDateTime;                                    //Date and time when the order was created
 
+    @Version                                        //Optimistic lock: every update of the order increments it
+    @Column(name = "version", nullable = false)     //Maps to the version column in the table
+    private long version;                           //Number of updates the order has been through
+
+    //Constructor for an order without a version yet, Hibernate starts it at 0 on insert
+    public Order(Long oid, BigDecimal totalPrice, OrderStatus orderStatus, LocalDateTime orderDateTime)
+    {
+        this(oid, totalPrice, orderStatus, orderDateTime, 0L);
+    }
+
     @PrePersist //This method is automatically called before the entity is persisted to the database
     protected void onCreate() 
     {
@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity                     //Marks the class as a JPA entity
-@Table(name = "order_item") //Specifies the table name in the database
+@Table(name = "order_item", indexes = @Index(name = "idx_order_item_oid", columnList = "oid"))  //Table name, plus the index used to look up the items of one order
 @Getter                     //Generates getter methods for all fields
 @Setter                     //Generates setter methods for all fields
 @NoArgsConstructor          //Generates a no-argument constructor
@@ -13,15 +13,16 @@ import lombok.*;
 public class OrderItem 
 {
     @Id                                                                 //Marks this field as the primary key for the entity
-    @GeneratedValue(strategy = GenerationType.IDENTITY)                 //Auto-increment the value of the primary key
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")                 //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     @Column(name = "oiid")                                              //Maps the field to the corresponding column in the table
     private Long oiid;                                                  //The unique identifier for the order-item association
 
-    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)    //Defines a many-to-one relationship with Item
+    @ManyToOne(fetch = FetchType.LAZY)                                  //Defines a many-to-one relationship with Order, removing the link leaves the order
     @JoinColumn(name = "oid", nullable = false)                         //Specifies the foreign key column to join on
-    private Item oid;                                                   //The order associated with this item record
+    private Order oid;                                                  //The order associated with this item record
 
-    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)    //Defines a many-to-one relationship with Item
+    @ManyToOne(fetch = FetchType.LAZY)                                  //Defines a many-to-one relationship with Item, removing the link leaves the item
     @JoinColumn(name = "iid", nullable = false)                         //Specifies the foreign key column to join on
     private Item iid;                                                   //The item associated with this order record
 }
\ No newline at end of file
@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity                         //Marks the class as a JPA entity
-@Table(name = "order_payment")  //Specifies the table name in the database
+@Table(name = "order_payment", indexes = @Index(name = "idx_order_payment_oid", columnList = "oid"))  //Table name, plus the index used to look up the payments of one order
 @Getter                         //Generates getter methods for all fields
 @Setter                         //Generates setter methods for all fields
 @NoArgsConstructor              //Generates a no-argument constructor
@@ -13,15 +13,16 @@ import lombok.*;
 public class OrderPayment 
 {
     @Id                                                                 //Marks this field as the primary key for the entity
-    @GeneratedValue(strategy = GenerationType.IDENTITY)                 //Auto-increment the value of the primary key
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_payment_seq")                    //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "order_payment_seq", sequenceName = "order_payment_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     @Column(name = "poid")                                              //Maps the field to the corresponding column in the table
     private Long poid;                                                  //The unique identifier for the order-payment association
 
-    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)    //Defines a many-to-one relationship with Order
+    @ManyToOne(fetch = FetchType.LAZY)                                  //Defines a many-to-one relationship with Payment, removing the link leaves the payment
     @JoinColumn(name = "pid", nullable = false)                         //Specifies the foreign key column to join on
     private Payment pid;                                                //The order associated with this order record
 
-    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)    //Defines a many-to-one relationship with Payment
+    @ManyToOne(fetch = FetchType.LAZY)                                  //Defines a many-to-one relationship with Order, removing the link leaves the order
     @JoinColumn(name = "oid", nullable = false)                         //Specifies the foreign key column to join on
     private Order oid;                                                  //The order associated with this payment record
 }
\ No newline at end of file
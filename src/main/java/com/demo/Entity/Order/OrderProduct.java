@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity                     //Marks the class as a JPA entity
-@Table(name = "order_product") //Specifies the table name in the database
+@Table(name = "order_product", indexes = @Index(name = "idx_order_product_oid", columnList = "oid"))  //Table name, plus the index used to look up the products of one order
 @Getter                     //Generates getter methods for all fields
 @Setter                     //Generates setter methods for all fields
 @NoArgsConstructor          //Generates a no-argument constructor
@@ -13,15 +13,16 @@ import lombok.*;
 public class OrderProduct 
 {
     @Id                                                                 //Marks this field as the primary key for the entity
-    @GeneratedValue(strategy = GenerationType.IDENTITY)                 //Auto-increment the value of the primary key
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_product_seq")                    //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "order_product_seq", sequenceName = "order_product_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     @Column(name = "opid")                                              //Maps the field to the corresponding column in the table
     private Long opid;                                                  //The unique identifier for the order-product association
 
-    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)    //Defines a many-to-one relationship with Product
+    @ManyToOne(fetch = FetchType.LAZY)                                  //Defines a many-to-one relationship with Order, removing the link leaves the order
     @JoinColumn(name = "oid", nullable = false)                         //Specifies the foreign key column to join on
     private Order oid;                                                  //The order associated with this product record
 
-    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)    //Defines a many-to-one relationship with Product
+    @ManyToOne(fetch = FetchType.LAZY)                                  //Defines a many-to-one relationship with Product, removing the link leaves the product
     @JoinColumn(name = "pid", nullable = false)                         //Specifies the foreign key column to join on
     private Product pid;                                                //The product associated with this order record
 }
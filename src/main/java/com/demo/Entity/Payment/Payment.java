@@ -8,7 +8,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity                     //Marks the class as a JPA entity, meaning it will be mapped to a database table
-@Table(name = "payments")   //Specifies the table name in the database
+@Table(name = "payments", indexes = {
+    @Index(name = "idx_payments_payment_date_time_pid", columnList = "paymentDateTime, pid"),   //Backs keyset pagination sorted by paymentDateTime
+    @Index(name = "idx_payments_payment_date_time_mode_status_amount", columnList = "paymentDateTime, payment_mode, payment_status, amount")   //Covers the hourly analytics GROUP BY
+})
 @Getter                     //Automatically generates getter methods for all fields
 @Setter                     //Automatically generates setter methods for all fields
 @NoArgsConstructor          //Generates a no-argument constructor (required for frameworks like JPA and Hibernate)
@@ -17,7 +20,8 @@ import java.time.LocalDateTime;
 public class Payment 
 {
     @Id                                                     //Marks this field as the primary key in the database
-    @GeneratedValue(strategy = GenerationType.IDENTITY)     //Auto-incrementing ID generation
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")               //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     @Column(name = "pid")                                   //Specifies the column name in the database
     private Long pid;                                       //Unique identifier for the payment
 
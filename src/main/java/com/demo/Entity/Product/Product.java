@@ -3,10 +3,15 @@ package com.demo.Entity.Product;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
-import java.math.BigDecimal;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import com.demo.Util.Money.Money;
+import com.demo.Util.Money.MoneyConverter;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = @Index(name = "idx_products_product_name_pid", columnList = "productName, pid"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog-product")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,7 +19,8 @@ import java.math.BigDecimal;
 @Builder
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     @Column(name = "pid")
     private Long pid;
 
@@ -23,6 +29,7 @@ public class Product {
     private String productName;
 
     @Column(name = "unitPrice")
+    @Convert(converter = MoneyConverter.class)
     @NotNull(message = "Unit price is mandatory")
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -21,7 +22,8 @@ import lombok.Setter;
 @Builder                        //Enables the builder pattern for constructing instances of the class in a more readable way
 public class ProductCategory {
     @Id //Marks this field as the primary key in the database
-    @GeneratedValue(strategy = GenerationType.IDENTITY)         //Automatically generates unique values for the primary key (usually for auto-incremented IDs)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_categories_seq")                         //Sequence-generated key, so Hibernate can batch the inserts
+    @SequenceGenerator(name = "product_categories_seq", sequenceName = "product_categories_seq", allocationSize = 50) //Pooled sequence, one round trip reserves the next 50 IDs
     @Column(name = "pcid")                                //Specifies the column name in the database
     private Long pcid;                                    //Unique identifier for the inventory, typically auto-generated by the database
 
@@ -14,7 +14,8 @@ import lombok.*;
 public class ProductInventory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_inventory_seq")
+    @SequenceGenerator(name = "product_inventory_seq", sequenceName = "product_inventory_seq", allocationSize = 50)
     @Column(name = "psid")
     private Long psid;
 
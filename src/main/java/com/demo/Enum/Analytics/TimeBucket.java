@@ -0,0 +1,48 @@
+package com.demo.Enum.Analytics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+public enum TimeBucket 
+{
+    HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    TimeBucket(ChronoUnit unit)
+    {
+        this.unit = unit;
+    }
+
+    //Start of the bucket holding the given time
+    public LocalDateTime start(LocalDateTime time)
+    {
+        return time.truncatedTo(unit);
+    }
+
+    //Start of the bucket after the one starting at the given time
+    public LocalDateTime next(LocalDateTime start)
+    {
+        return start.plus(1, unit);
+    }
+
+    public Duration length()
+    {
+        return unit.getDuration();
+    }
+
+    //Case-insensitive lookup for request parameters, unknown names are a client error
+    public static TimeBucket of(String name)
+    {
+        try
+        {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+
+        catch (IllegalArgumentException ex)
+        {
+            throw new IllegalArgumentException("Unknown bucket " + name + ", expected hour or day");
+        }
+    }
+}
@@ -1,6 +1,52 @@
 package com.demo.Enum.Order;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 
 public enum OrderStatus 
 {
-    NEW, PENDING, PROCESSING, PACKING, PACKED, SHIPPED, ARRIVED, CLEARED_CUSTOMS, DELIVERING, DELIVERED, COMPLETED, CANCELLED, REFUNDED
-}
\ No newline at end of file
+    NEW, PENDING, PROCESSING, PACKING, PACKED, SHIPPED, ARRIVED, CLEARED_CUSTOMS, DELIVERING, DELIVERED, COMPLETED, CANCELLED, REFUNDED;
+
+    //Transition table: the statuses an order may move to from each status. An order can be cancelled until it ships,
+    //and refunded once it is cancelled, delivered or completed; REFUNDED is final
+    private static final Map<OrderStatus, Set<OrderStatus>> NEXT = new EnumMap<>(OrderStatus.class);
+    private static final Map<OrderStatus, Set<OrderStatus>> PREVIOUS = new EnumMap<>(OrderStatus.class);
+
+    static
+    {
+        allow(NEW, PENDING, PROCESSING, CANCELLED);
+        allow(PENDING, PROCESSING, CANCELLED);
+        allow(PROCESSING, PACKING, CANCELLED);
+        allow(PACKING, PACKED, CANCELLED);
+        allow(PACKED, SHIPPED, CANCELLED);
+        allow(SHIPPED, ARRIVED, CLEARED_CUSTOMS, DELIVERING);
+        allow(ARRIVED, CLEARED_CUSTOMS, DELIVERING);
+        allow(CLEARED_CUSTOMS, DELIVERING);
+        allow(DELIVERING, DELIVERED);
+        allow(DELIVERED, COMPLETED, REFUNDED);
+        allow(COMPLETED, REFUNDED);
+        allow(CANCELLED, REFUNDED);
+        allow(REFUNDED);
+    }
+
+    //True when an order in this status may move to the given one, staying in the same status is always allowed
+    public boolean canMoveTo(OrderStatus next)
+    {
+        return NEXT.get(this).contains(next);
+    }
+
+    //The statuses an order may be in to move to this one, this one included
+    public Set<OrderStatus> predecessors()
+    {
+        return Collections.unmodifiableSet(PREVIOUS.get(this));
+    }
+
+    private static void allow(OrderStatus from, OrderStatus... to)
+    {
+        Set<OrderStatus> next = EnumSet.of(from, to);
+        NEXT.put(from, Collections.unmodifiableSet(next));
+        next.forEach(status -> PREVIOUS.computeIfAbsent(status, key -> EnumSet.noneOf(OrderStatus.class)).add(from));
+    }
+}
@@ -1,15 +1,20 @@
 package com.demo.Exception;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import jakarta.persistence.EntityNotFoundException;
+import com.demo.Exception.Inventory.ReservationNotFoundException;
 import com.demo.Exception.Item.ItemInventoryNotFoundException;
 import com.demo.Exception.Item.ItemNotFoundException;
+import com.demo.Exception.Order.InvalidOrderStatusTransitionException;
 import com.demo.Exception.Order.OrderNotFoundException;
+import com.demo.Exception.Order.OrderUpdateConflictException;
 
 //Global exception handler for all REST controllers in the application
 @RestControllerAdvice
@@ -24,6 +29,24 @@ public class GlobalExceptionHandler
         return buildErrorResponse(ex, HttpStatus.NOT_FOUND);    //Builds a response with 404 status and the exception message
     }
 
+    @ExceptionHandler({InvalidOrderStatusTransitionException.class, OrderUpdateConflictException.class, OptimisticLockingFailureException.class})  //Handles a status the order cannot move to, or a concurrent update that won
+    public ResponseEntity<String> handleOrderConflict(RuntimeException ex) 
+    {
+        return buildErrorResponse(ex, HttpStatus.CONFLICT);     //Builds a response with 409 status and the exception message
+    }
+
+    @ExceptionHandler(IdempotencyConflictException.class)   //Handles a retry that gave up waiting for the request it repeats
+    public ResponseEntity<String> handleIdempotencyConflictException(IdempotencyConflictException ex) 
+    {
+        return buildErrorResponse(ex, HttpStatus.CONFLICT);     //Builds a response with 409 status and the exception message
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)  //Handles an Idempotency-Key sent again with a different request
+    public ResponseEntity<String> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException ex) 
+    {
+        return buildErrorResponse(ex, HttpStatus.UNPROCESSABLE_ENTITY); //Builds a response with 422 status and the exception message
+    }
+
     @ExceptionHandler(ItemNotFoundException.class)  //Handles ItemNotFoundException and returns a custom error response
     public ResponseEntity<String> handleItemNotFoundException(ItemNotFoundException ex) 
     {
@@ -47,6 +70,13 @@ public class GlobalExceptionHandler
         return buildErrorResponse("Unsupported Media Type: " + ex.getMessage(), HttpStatus.UNSUPPORTED_MEDIA_TYPE);
     }
     
+    @ExceptionHandler(HandlerMethodValidationException.class) //Handles constraint violations on the elements of a request body list, e.g. an out-of-range delta
+    public ResponseEntity<String> handleHandlerMethodValidation(HandlerMethodValidationException ex) 
+    {
+        //Builds a response with 400 status indicating validation error
+        return buildErrorResponse("Validation Error: " + ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(CustomValidationException.class)  //Handles CustomValidationException and returns a custom error response
     public ResponseEntity<String> handleCustomValidationException(CustomValidationException ex) 
     {
@@ -61,6 +91,13 @@ public class GlobalExceptionHandler
         return buildErrorResponse("ItemInventory not found: " + ex.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ReservationNotFoundException.class)   //Handles ReservationNotFoundException and returns a custom error response
+    public ResponseEntity<String> handleReservationNotFound(ReservationNotFoundException ex) 
+    {
+        //Builds a response with 404 status indicating that the stock reservation is unknown or has lapsed
+        return buildErrorResponse(ex, HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)    //Handles EntityNotFoundException and returns a custom error response
     public ResponseEntity<String> handleEntityNotFound(EntityNotFoundException ex) {
         //Builds a response with 404 status indicating that the entity was not found
@@ -0,0 +1,10 @@
+package com.demo.Exception;
+
+public class IdempotencyConflictException extends RuntimeException 
+{
+    //Constructor that takes the Idempotency-Key header as a parameter
+    public IdempotencyConflictException(String key) 
+    {
+        super("A request with idempotency key " + key + " is still in progress, retry later");
+    }
+}
@@ -0,0 +1,10 @@
+package com.demo.Exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException 
+{
+    //Constructor that takes the Idempotency-Key header as a parameter
+    public IdempotencyKeyReusedException(String key) 
+    {
+        super("Idempotency key " + key + " was already used for a different request");
+    }
+}
@@ -0,0 +1,9 @@
+package com.demo.Exception.Inventory;
+
+public class ReservationNotFoundException extends RuntimeException
+{
+    public ReservationNotFoundException(String token)
+    {
+        super("Reservation " +token+ " not found or expired");
+    }
+}
@@ -0,0 +1,12 @@
+package com.demo.Exception.Order;
+import com.demo.Enum.Order.OrderStatus;
+
+public class InvalidOrderStatusTransitionException extends RuntimeException 
+{
+    //Constructor that takes the order ID and the requested move as parameters
+    public InvalidOrderStatusTransitionException(Long oid, OrderStatus from, OrderStatus to) 
+    {
+        //Calls the constructor of RuntimeException with a custom error message
+        super("Order with ID " + oid + " cannot move from " + from + " to " + to);
+    }
+}
@@ -0,0 +1,11 @@
+package com.demo.Exception.Order;
+
+public class OrderUpdateConflictException extends RuntimeException 
+{
+    //Constructor that takes the order ID as a parameter
+    public OrderUpdateConflictException(Long oid) 
+    {
+        //Calls the constructor of RuntimeException with a custom error message
+        super("Order with ID " + oid + " was changed by another request, read it again and retry");
+    }
+}
@@ -0,0 +1,11 @@
+package com.demo.Interface.Analytics;
+import java.time.LocalDateTime;
+import java.util.List;
+import com.demo.DTO.Analytics.OrderAnalyticsDTO;
+import com.demo.DTO.Analytics.PaymentAnalyticsDTO;
+
+public interface AnalyticsService 
+{
+    List<PaymentAnalyticsDTO> getPaymentAnalytics(LocalDateTime from, LocalDateTime to, String bucket, List<String> groupBy);  //Payment counts and amounts per hour or day, by mode and/or status
+    List<OrderAnalyticsDTO> getOrderAnalytics(LocalDateTime from, LocalDateTime to, String bucket, List<String> groupBy);      //Order counts and totals per hour or day, by status
+}
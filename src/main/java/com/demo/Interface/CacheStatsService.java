@@ -0,0 +1,8 @@
+package com.demo.Interface;
+import java.util.List;
+import com.demo.DTO.CacheStatsDTO;
+
+public interface CacheStatsService 
+{
+    List<CacheStatsDTO> getCacheStats();   //Method to retrieve the hit, miss and eviction counters of every second-level cache region.
+}
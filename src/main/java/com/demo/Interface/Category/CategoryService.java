@@ -1,13 +1,14 @@
 package com.demo.Interface.Category;
 
-import java.util.List;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 import com.demo.DTO.Category.CategoryDTO;
 
 public interface CategoryService {
     CategoryDTO createCategory(CategoryDTO categoryDTO);
     CategoryDTO getCategory(Long categoryId);
-    List<CategoryDTO> getCategories();
+    CursorPage<CategoryDTO> getCategories(CursorRequest request);
     CategoryDTO updateCategory(Long categoryId, CategoryDTO categoryDTO);
     void deleteCategory(Long categoryId);
 }
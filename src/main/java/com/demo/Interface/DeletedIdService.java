@@ -1,4 +1,6 @@
 package com.demo.Interface;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import java.util.List;
 import java.util.Optional;
 import com.demo.DTO.DeletedIdDTO;
@@ -7,7 +9,10 @@ public interface DeletedIdService
 {
     DeletedIdDTO createDeletedId(DeletedIdDTO deletedIdDTO);            //Method to create a new Deleted ID entry.
     Optional<DeletedIdDTO> getDeletedId(Long id);                       //Method to retrieve a Deleted ID by its ID.
-    List<DeletedIdDTO> getDeletedIds();                                 //Method to retrieve all Deleted IDs.
+    CursorPage<DeletedIdDTO> getDeletedIds(CursorRequest request);  //Method to retrieve one page of Deleted IDs after the cursor.
+    boolean isDeleted(String entityType, Long id);                      //Method to check whether an ID of an entity type was deleted.
+    List<Long> findDeleted(String entityType, List<Long> ids);          //Method to find which of the given IDs of an entity type were deleted.
+    CursorPage<Long> getDeletedIdsOfType(String entityType, CursorRequest request); //Method to retrieve one page of the deleted IDs of an entity type.
     DeletedIdDTO updateDeletedId(Long id, DeletedIdDTO deletedIdDTO);   //Method to update an existing Deleted ID.
     void deleteDeletedId(Long id);                                      //Method to delete a Deleted ID by its ID.
 }
\ No newline at end of file
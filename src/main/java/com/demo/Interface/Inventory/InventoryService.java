@@ -1,13 +1,22 @@
 package com.demo.Interface.Inventory;
-import java.util.List;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.DTO.Inventory.InventoryAdjustmentDTO;
+import com.demo.DTO.Inventory.InventoryAdjustmentResultDTO;
 import com.demo.DTO.Inventory.InventoryDTO;
+import com.demo.DTO.Inventory.StockReservationDTO;
+import java.util.List;
 
 public interface InventoryService 
 {
     //Methods that create inventory, retrieve inventory by ID, retrieve all inventory, update existing inventory, and delete inventory by ID
     InventoryDTO createInventory(InventoryDTO inventoryDTO);                //Takes an InventoryDTO object and returns the created InventoryDTO
     InventoryDTO getInventory(Long sid);                                    //Takes an InventoryDTO (sid) and returns the corresponding InventoryDTO
-    List<InventoryDTO> getInventories();                                    //Returns a list of all InventoryDTO objects
+    CursorPage<InventoryDTO> getInventories(CursorRequest request);  //Returns one page of InventoryDTO objects after the cursor
     InventoryDTO updateInventory(Long sid, InventoryDTO inventoryDTO);      //Takes the sid and an InventoryDTO with updated information and returns the updated InventoryDTO
     void deleteInventory(Long sid);                                         //Takes the inventory ID (inventory) and performs the deletion, no return value
+    List<InventoryAdjustmentResultDTO> adjustInventories(List<InventoryAdjustmentDTO> adjustments);  //Applies a batch of stock deltas in one transaction and returns one result per adjustment
+    StockReservationDTO reserveStock(Long sid, int quantity);              //Holds stock from the in-memory ledger and returns the reservation token
+    void confirmReservation(String token);                                 //Commits the held stock, written to the table by the next write-behind flush
+    void releaseReservation(String token);                                 //Returns the held stock to the inventory
 }
@@ -1,12 +1,13 @@
 package com.demo.Interface.Item;
-import java.util.List;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import com.demo.DTO.Item.ItemInventoryDTO;
 
 public interface ItemInventoryService 
 {
     ItemInventoryDTO createItemInventory(ItemInventoryDTO itemInventoryDTO);            //Method to create a new ItemInventory entry from the provided DTO.
     ItemInventoryDTO getItemInventory(Long siid);                                       //Method to get a specific ItemInventory by its ID (siid).
-    List<ItemInventoryDTO> getItemInventories();                                        //Method to get a list of all ItemInventory entries.
+    CursorPage<ItemInventoryDTO> getItemInventories(CursorRequest request);  //Method to get one page of ItemInventory entries after the cursor.
     ItemInventoryDTO updateItemInventory(Long siid, ItemInventoryDTO itemInventoryDTO); //Method to update an existing ItemInventory entry using the provided DTO.
     void deleteItemInventory(Long siid);                                                //Method to delete an ItemInventory entry by its ID (siid).
 }
\ No newline at end of file
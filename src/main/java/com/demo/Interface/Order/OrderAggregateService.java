@@ -0,0 +1,7 @@
+package com.demo.Interface.Order;
+import com.demo.DTO.Order.OrderAggregateDTO;
+
+public interface OrderAggregateService 
+{
+    OrderAggregateDTO getOrderAggregate(Long oid);  //Retrieve an order together with its products, items and payments
+}
@@ -1,5 +1,6 @@
 package com.demo.Interface.Order;
-import java.util.List;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import com.demo.DTO.Order.OrderPaymentDTO;  
 
 //Interface defining the contract for OrderPaymentService
@@ -7,7 +8,7 @@ public interface OrderPaymentService
 {
     OrderPaymentDTO createOrderPayment(OrderPaymentDTO dto);            //Method to create a new OrderPayment.
     OrderPaymentDTO getOrderPayment(Long poid);                         //Method to fetch a single OrderPayment by its POID. 
-    List<OrderPaymentDTO> getOrderPayments();                           //Method to fetch all OrderPayments.
+    CursorPage<OrderPaymentDTO> getOrderPayments(CursorRequest request);  //Method to fetch one page of OrderPayments after the cursor.
     OrderPaymentDTO updateOrderPayment(Long poid, OrderPaymentDTO dto); //Method to update an existing OrderPayment by POID.
     void deleteOrderPayment(Long poid);                                 //Method to delete an OrderPayment by its POID.
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.demo.Interface.Order;
-import java.util.List;              
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 import com.demo.DTO.Order.OrderProductDTO;
 
@@ -8,7 +9,7 @@ public interface OrderProductService
 {
     OrderProductDTO createOrderProduct(OrderProductDTO dto);             //Method to create a new OrderProduct
     OrderProductDTO getOrderProduct(Long opid);                           //Method to retrieve a specific OrderProduct by its ID
-    List<OrderProductDTO> getOrderProducts();                             //Method to retrieve a list of all OrderProducts
+    CursorPage<OrderProductDTO> getOrderProducts(CursorRequest request);  //Method to retrieve one page of OrderProducts after the cursor
     OrderProductDTO updateOrderProduct(Long opid, OrderProductDTO dto);  //Method to update an existing OrderProduct
     void deleteOrderProduct(Long opid);                                  //Method to delete an OrderProduct by its ID
 }
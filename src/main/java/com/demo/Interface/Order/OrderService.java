@@ -1,12 +1,22 @@
 package com.demo.Interface.Order;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import com.demo.DTO.Order.OrderDTO;
+import com.demo.DTO.Order.OrderRepriceDTO;
+import com.demo.Enum.Order.OrderStatus;
 
 public interface OrderService 
 {
     OrderDTO createOrder(OrderDTO orderDTO);                         //Create a new order
     OrderDTO getOrder(Long oid);                                     //Retrieve an order by its ID
-    List<OrderDTO> getOrders();                                      //Retrieve all orders
+    CursorPage<OrderDTO> getOrders(CursorRequest request);  //Retrieve one page of orders after the cursor
+    long exportOrders(long after, OutputStream out) throws IOException;  //Stream every order after the given ID as NDJSON
     OrderDTO partialUpdateOrder(Long oid, OrderDTO orderDTO);        //Partially update an order (accepts an OrderDTO)
     void deleteOrder(Long oid);                                      //Delete an order by its ID
+    OrderRepriceDTO repriceOrders(List<Long> oids);                  //Recompute the totals of the given orders from their lines
+    Map<OrderStatus, Long> getOrderStatusCounts();                   //Live number of orders in each status
 }
\ No newline at end of file
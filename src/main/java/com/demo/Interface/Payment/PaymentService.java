@@ -1,12 +1,16 @@
 package com.demo.Interface.Payment;
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import com.demo.DTO.Payment.PaymentDTO;
 
 public interface PaymentService 
 {
     PaymentDTO createPayment(PaymentDTO paymentDTO);                    //Method to create a new payment.
     PaymentDTO getPayment(Long pid);                                    //Method to get a specific payment by its ID (pid). 
-    List<PaymentDTO> getPayments();                                     //Method to get all payments. 
+    CursorPage<PaymentDTO> getPayments(CursorRequest request);  //Method to get one page of payments after the cursor.
+    long exportPayments(long after, OutputStream out) throws IOException;   //Method to stream every payment after the given ID (pid) as NDJSON.
     PaymentDTO partialUpdatePayment(Long pid, PaymentDTO paymentDTO);   //Method to partially update an existing payment. 
     void deletePayment(Long pid);                                       //Method to delete a payment by its ID (pid).
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.demo.Interface.Product;
+
+import com.demo.DTO.Product.ProductViewDTO;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+
+public interface CatalogService {
+    ProductViewDTO getCatalogProduct(Long pid);
+    CursorPage<ProductViewDTO> getCatalog(Long categoryId, CursorRequest request);
+}
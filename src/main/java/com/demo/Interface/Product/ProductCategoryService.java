@@ -1,13 +1,14 @@
 package com.demo.Interface.Product;
 
-import java.util.List;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 import com.demo.DTO.Product.ProductCategoryDTO;
 
 public interface ProductCategoryService {
     ProductCategoryDTO createProductCategory(ProductCategoryDTO dto);
     ProductCategoryDTO getProductCategory(Long pcid);
-    List<ProductCategoryDTO> getProductCategories();
+    CursorPage<ProductCategoryDTO> getProductCategories(CursorRequest request);
     ProductCategoryDTO updateProductCategory(Long pcid, ProductCategoryDTO dto);
     void deleteProductCategory(Long pcid);
 }
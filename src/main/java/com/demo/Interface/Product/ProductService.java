@@ -1,12 +1,13 @@
 package com.demo.Interface.Product;
 
 import com.demo.DTO.Product.ProductDTO;
-import java.util.List;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 public interface ProductService {
     ProductDTO createProduct(ProductDTO productDTO);
     ProductDTO getProduct(Long pid);
-    List<ProductDTO> getProducts();
+    CursorPage<ProductDTO> getProducts(CursorRequest request);
     ProductDTO partialUpdateProduct(Long pid, ProductDTO productDTO);
     void deleteProduct(Long pid);
 }
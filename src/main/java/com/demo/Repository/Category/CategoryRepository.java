@@ -1,11 +1,22 @@
 package com.demo.Repository.Category;
 
 import java.util.Optional;
+import java.util.function.Function;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.FluentQuery;
+import jakarta.persistence.QueryHint;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.demo.Repository.KeysetRepository;
 
 import com.demo.Entity.Category.Category;
 
-public interface CategoryRepository extends JpaRepository<Category, Long>{
+public interface CategoryRepository extends KeysetRepository<Category>{
     Optional<Category> findById(Long categoryId);
+
+    //Keyset pages of the catalog come from the query cache until a write to the table invalidates them
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    <S extends Category, R> R findBy(Specification<Category> spec, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction);
 }
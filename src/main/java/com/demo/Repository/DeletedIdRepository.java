@@ -1,11 +1,18 @@
 package com.demo.Repository;
 import com.demo.Entity.DeletedID;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository // Marks this interface as a Spring Data repository
-public interface DeletedIdRepository extends JpaRepository<DeletedID, Long> 
+public interface DeletedIdRepository extends KeysetRepository<DeletedID> 
 {
     Optional<DeletedID> findByEntityType(String entityType);    //Custom query method to find a DeletedID by its entity type
-}
\ No newline at end of file
+
+    //Tombstones with a row ID greater than the cursor, in ascending row ID order, to load TombstoneIndex in batches
+    List<DeletedID> findByIdGreaterThanOrderById(Long after, Limit limit);
+
+    //Deleted IDs of one entity type after the cursor in ascending order, served by the (entity_type, deleted_id) index
+    List<DeletedID> findByEntityTypeAndDeletedIdGreaterThanOrderByDeletedId(String entityType, Long after, Limit limit);
+}
@@ -0,0 +1,25 @@
+package com.demo.Repository;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import com.demo.Entity.IdempotencyRecord;
+
+@Repository //Marks this interface as a Spring Data repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> 
+{
+    //Deletes every expired key, returns how many went
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+
+    //Deletes one key if it has expired, so it can be stored again for a new request
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.expiresAt <= :now")
+    int deleteExpired(@Param("id") String id, @Param("now") Instant now);
+}
@@ -1,10 +1,33 @@
 package com.demo.Repository.Inventory;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import com.demo.DTO.Inventory.InventoryDTO;
+import com.demo.Repository.KeysetRepository;
 import com.demo.Entity.Inventory.Inventory;
 
-public interface InventoryRepository extends JpaRepository<Inventory, Long> 
+public interface InventoryRepository extends KeysetRepository<Inventory> 
 {
     //Custom method to find an item by its ID
     Optional<Inventory> findById(Long sid);  //Returns an Optional of Inventory to handle the case where the inventory might not be found
-}
\ No newline at end of file
+
+    //Adds delta to the stock quantity in a single conditional UPDATE, so concurrent adjustments cannot overwrite each other or drive stock below zero
+    //or past the int column's maximum; the new quantity is checked in long arithmetic, which cannot overflow near either bound
+    @Modifying
+    @Query("UPDATE Inventory i SET i.stockQty = i.stockQty + :delta WHERE i.sid = :sid AND cast(i.stockQty as Long) + :delta BETWEEN 0 AND " + Integer.MAX_VALUE)
+    int applyDelta(@Param("sid") Long sid, @Param("delta") int delta);  //Returns 1 when applied, 0 when the inventory is missing, has too little stock or would overflow
+
+    //Reads only the stock quantity of an inventory, used to explain a rejected adjustment
+    @Query("SELECT i.stockQty FROM Inventory i WHERE i.sid = :sid")
+    Optional<Integer> findStockQtyBySid(@Param("sid") Long sid);
+
+    //Streams the stock quantity of every inventory, used to rebuild the reservation ledger on startup without loading the whole table
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.demo.DTO.Inventory.InventoryDTO(i.sid, i.stockQty) FROM Inventory i")
+    Stream<InventoryDTO> streamStock();  //Must be consumed inside a transaction and closed once done
+}
@@ -1,8 +1,24 @@
 package com.demo.Repository.Item;
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.demo.DTO.Item.ItemInventoryDTO;
+import com.demo.Repository.KeysetRepository;
 import com.demo.Entity.Item.ItemInventory;
 
-public interface ItemInventoryRepository extends JpaRepository<ItemInventory, Long>
+public interface ItemInventoryRepository extends KeysetRepository<ItemInventory> 
 {
-    
+    //Reads one link straight into its DTO, selecting only the key columns (no managed entity, no proxies)
+    @Query("SELECT new com.demo.DTO.Item.ItemInventoryDTO(ii.siid, ii.iid.iid, ii.sid.sid) FROM ItemInventory ii WHERE ii.siid = :siid")
+    Optional<ItemInventoryDTO> findDTOById(@Param("siid") Long siid);
+
+    //Reads the item-inventory links with an ID greater than the cursor straight into DTOs, in ascending ID order
+    @Query("SELECT new com.demo.DTO.Item.ItemInventoryDTO(ii.siid, ii.iid.iid, ii.sid.sid) FROM ItemInventory ii WHERE ii.siid > :after ORDER BY ii.siid")
+    List<ItemInventoryDTO> findDTOsAfter(@Param("after") Long after, Limit limit);
+
+    //Reads the item-inventory links with an ID lower than the cursor straight into DTOs, in descending ID order
+    @Query("SELECT new com.demo.DTO.Item.ItemInventoryDTO(ii.siid, ii.iid.iid, ii.sid.sid) FROM ItemInventory ii WHERE ii.siid < :before ORDER BY ii.siid DESC")
+    List<ItemInventoryDTO> findDTOsBefore(@Param("before") Long before, Limit limit);
 }
\ No newline at end of file
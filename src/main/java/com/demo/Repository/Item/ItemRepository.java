@@ -1,10 +1,21 @@
 package com.demo.Repository.Item;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.function.Function;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.FluentQuery;
+import jakarta.persistence.QueryHint;
+import com.demo.Repository.KeysetRepository;
 import com.demo.Entity.Item.Item;
 
-public interface ItemRepository extends JpaRepository<Item, Long> 
+public interface ItemRepository extends KeysetRepository<Item> 
 {
     //Custom method to find an item by its ID
     Optional<Item> findById(Long iid);  //Returns an Optional of Item to handle the case where the item might not be found
+
+    //Keyset pages of the catalog come from the query cache until a write to the table invalidates them
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    <S extends Item, R> R findBy(Specification<Item> spec, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction);
 }
\ No newline at end of file
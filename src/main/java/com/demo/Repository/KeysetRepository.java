@@ -0,0 +1,12 @@
+package com.demo.Repository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+//Base repository for entities that are listed page by page through KeysetPaginator
+//Adds Specification support on top of the usual CRUD operations so cursor predicates can be pushed down to the database
+@NoRepositoryBean   //Tells Spring Data not to create a bean for this intermediate interface
+public interface KeysetRepository<T> extends JpaRepository<T, Long>, JpaSpecificationExecutor<T> 
+{
+
+}
@@ -1,9 +1,38 @@
 package com.demo.Repository.Order;
-import org.springframework.data.jpa.repository.JpaRepository;   //Importing the JpaRepository interface from Spring Data JPA
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.demo.DTO.Order.OrderItemDTO;
+import com.demo.Repository.KeysetRepository;
 import com.demo.Entity.Order.OrderItem;
 
-//Interface for the OrderItem repository, extending JpaRepository
-public interface OrderItemRepository extends JpaRepository<OrderItem, Long> 
+//Interface for the OrderItem repository, extending KeysetRepository
+public interface OrderItemRepository extends KeysetRepository<OrderItem> 
 {
+    //Finds the order-item links of one order, fetching the referenced items in the same query 
+    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.iid WHERE oi.oid.oid = :oid ORDER BY oi.oiid")
+    List<OrderItem> findWithItemsByOrderId(@Param("oid") Long oid);
 
+    //Reads one link straight into its DTO, selecting only the key columns (no managed entity, no proxies)
+    @Query("SELECT new com.demo.DTO.Order.OrderItemDTO(oi.oiid, oi.oid.oid, oi.iid.iid) FROM OrderItem oi WHERE oi.oiid = :oiid")
+    Optional<OrderItemDTO> findDTOById(@Param("oiid") Long oiid);
+
+    //Reads the order-item links with an ID greater than the cursor straight into DTOs, in ascending ID order
+    @Query("SELECT new com.demo.DTO.Order.OrderItemDTO(oi.oiid, oi.oid.oid, oi.iid.iid) FROM OrderItem oi WHERE oi.oiid > :after ORDER BY oi.oiid")
+    List<OrderItemDTO> findDTOsAfter(@Param("after") Long after, Limit limit);
+
+    //Reads the order-item links with an ID lower than the cursor straight into DTOs, in descending ID order
+    @Query("SELECT new com.demo.DTO.Order.OrderItemDTO(oi.oiid, oi.oid.oid, oi.iid.iid) FROM OrderItem oi WHERE oi.oiid < :before ORDER BY oi.oiid DESC")
+    List<OrderItemDTO> findDTOsBefore(@Param("before") Long before, Limit limit);
+
+    //Counts the item lines of one order
+    @Query("SELECT COUNT(oi) FROM OrderItem oi WHERE oi.oid.oid = :oid")
+    long countByOrderId(@Param("oid") Long oid);
+
+    //Reads the links of several orders straight into DTOs in one IN query, for pricing them together
+    @Query("SELECT new com.demo.DTO.Order.OrderItemDTO(oi.oiid, oi.oid.oid, oi.iid.iid) FROM OrderItem oi WHERE oi.oid.oid IN :oids")
+    List<OrderItemDTO> findDTOsByOrderIds(@Param("oids") Collection<Long> oids);
 }
\ No newline at end of file
@@ -1,9 +1,29 @@
 package com.demo.Repository.Order;
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.demo.DTO.Order.OrderPaymentDTO;
+import com.demo.Repository.KeysetRepository;
 import com.demo.Entity.Order.OrderPayment;  
 
-//OrderPaymentRepository interface extends JpaRepository for easy database operations
-public interface OrderPaymentRepository extends JpaRepository<OrderPayment, Long> 
+//OrderPaymentRepository interface extends KeysetRepository for easy database operations
+public interface OrderPaymentRepository extends KeysetRepository<OrderPayment> 
 {
+    //Finds the order-payment links of one order, fetching the referenced payments in the same query
+    @Query("SELECT op FROM OrderPayment op JOIN FETCH op.pid WHERE op.oid.oid = :oid ORDER BY op.poid")
+    List<OrderPayment> findWithPaymentsByOrderId(@Param("oid") Long oid);
 
+    //Reads one link straight into its DTO, selecting only the key columns (no managed entity, no proxies)
+    @Query("SELECT new com.demo.DTO.Order.OrderPaymentDTO(op.poid, op.oid.oid, op.pid.pid) FROM OrderPayment op WHERE op.poid = :poid")
+    Optional<OrderPaymentDTO> findDTOById(@Param("poid") Long poid);
+
+    //Reads the order-payment links with an ID greater than the cursor straight into DTOs, in ascending ID order
+    @Query("SELECT new com.demo.DTO.Order.OrderPaymentDTO(op.poid, op.oid.oid, op.pid.pid) FROM OrderPayment op WHERE op.poid > :after ORDER BY op.poid")
+    List<OrderPaymentDTO> findDTOsAfter(@Param("after") Long after, Limit limit);
+
+    //Reads the order-payment links with an ID lower than the cursor straight into DTOs, in descending ID order
+    @Query("SELECT new com.demo.DTO.Order.OrderPaymentDTO(op.poid, op.oid.oid, op.pid.pid) FROM OrderPayment op WHERE op.poid < :before ORDER BY op.poid DESC")
+    List<OrderPaymentDTO> findDTOsBefore(@Param("before") Long before, Limit limit);
 }
\ No newline at end of file
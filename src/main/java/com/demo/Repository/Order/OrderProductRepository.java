@@ -1,9 +1,38 @@
 package com.demo.Repository.Order;
-import org.springframework.data.jpa.repository.JpaRepository;   //Importing the JpaRepository interface from Spring Data JPA
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.demo.DTO.Order.OrderProductDTO;
+import com.demo.Repository.KeysetRepository;
 import com.demo.Entity.Order.OrderProduct;
 
-//Interface for the OrderProduct repository, extending JpaRepository
-public interface OrderProductRepository extends JpaRepository<OrderProduct, Long> 
+//Interface for the OrderProduct repository, extending KeysetRepository
+public interface OrderProductRepository extends KeysetRepository<OrderProduct> 
 {
+    //Finds the order-product links of one order, fetching the referenced products in the same query
+    @Query("SELECT op FROM OrderProduct op JOIN FETCH op.pid WHERE op.oid.oid = :oid ORDER BY op.opid")
+    List<OrderProduct> findWithProductsByOrderId(@Param("oid") Long oid);
 
-}
+    //Reads one link straight into its DTO, selecting only the key columns (no managed entity, no proxies)
+    @Query("SELECT new com.demo.DTO.Order.OrderProductDTO(op.opid, op.oid.oid, op.pid.pid) FROM OrderProduct op WHERE op.opid = :opid")
+    Optional<OrderProductDTO> findDTOById(@Param("opid") Long opid);
+
+    //Reads the order-product links with an ID greater than the cursor straight into DTOs, in ascending ID order
+    @Query("SELECT new com.demo.DTO.Order.OrderProductDTO(op.opid, op.oid.oid, op.pid.pid) FROM OrderProduct op WHERE op.opid > :after ORDER BY op.opid")
+    List<OrderProductDTO> findDTOsAfter(@Param("after") Long after, Limit limit);
+
+    //Reads the order-product links with an ID lower than the cursor straight into DTOs, in descending ID order
+    @Query("SELECT new com.demo.DTO.Order.OrderProductDTO(op.opid, op.oid.oid, op.pid.pid) FROM OrderProduct op WHERE op.opid < :before ORDER BY op.opid DESC")
+    List<OrderProductDTO> findDTOsBefore(@Param("before") Long before, Limit limit);
+
+    //Counts the product lines of one order
+    @Query("SELECT COUNT(op) FROM OrderProduct op WHERE op.oid.oid = :oid")
+    long countByOrderId(@Param("oid") Long oid);
+
+    //Reads the links of several orders straight into DTOs in one IN query, for pricing them together
+    @Query("SELECT new com.demo.DTO.Order.OrderProductDTO(op.opid, op.oid.oid, op.pid.pid) FROM OrderProduct op WHERE op.oid.oid IN :oids")
+    List<OrderProductDTO> findDTOsByOrderIds(@Param("oids") Collection<Long> oids);
+}
\ No newline at end of file
@@ -1,12 +1,59 @@
 package com.demo.Repository.Order;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import com.demo.Repository.KeysetRepository;
 import com.demo.Entity.Order.Order;
+import com.demo.Enum.Order.OrderStatus;
+import jakarta.persistence.QueryHint;
 
 //Repository interface for interacting with the 'Order' entity in the database
-//Extends JpaRepository to provide CRUD operations for the 'Order' entity
-public interface OrderRepository extends JpaRepository<Order, Long> 
+//Extends KeysetRepository to provide CRUD and keyset pagination operations for the 'Order' entity
+public interface OrderRepository extends KeysetRepository<Order> 
 {
     //Custom method to find an order by its ID
     Optional<Order> findById(Long oid);  //Returns an Optional of Order to handle the case where the order might not be found
-}
\ No newline at end of file
+
+    //Streams every order after the given ID in primary key order, reading rows from the JDBC cursor in batches instead of loading the whole table
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT o FROM Order o WHERE o.oid > :after ORDER BY o.oid")
+    Stream<Order> streamAfter(@Param("after") Long after);  //Must be consumed inside a transaction and closed once done
+
+    //Takes the row lock of one order for the rest of the transaction by counting a change in its version, so concurrent changes to its lines
+    //price it one after the other
+    @Modifying
+    @Query("UPDATE Order o SET o.version = o.version + 1 WHERE o.oid = :oid")
+    int lockForPricing(@Param("oid") Long oid);     //Returns 1 when locked, 0 when the order is missing
+
+    //Replaces the total of one order
+    @Modifying
+    @Query("UPDATE Order o SET o.totalPrice = :totalPrice, o.version = o.version + 1 WHERE o.oid = :oid")
+    int updateTotalPrice(@Param("oid") Long oid, @Param("totalPrice") BigDecimal totalPrice);
+
+    //Compare-and-set update of a PATCH: applies only while the order is still at the version read and in one of the statuses the new status
+    //may follow, so concurrent writers never overwrite each other. A null status or total leaves that column as it is
+    //Clears the persistence context afterwards: open-in-view shares it across the request, and a retry must read the version again, not the cached one
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = COALESCE(:status, o.orderStatus), o.totalPrice = COALESCE(:totalPrice, o.totalPrice), o.version = o.version + 1 "
+    + "WHERE o.oid = :oid AND o.version = :version AND o.orderStatus IN :from")
+    int compareAndSet(@Param("oid") Long oid, @Param("version") long version, @Param("from") Collection<OrderStatus> from, @Param("status") OrderStatus status,
+    @Param("totalPrice") BigDecimal totalPrice);  //Returns 1 when applied, 0 when the order moved on or was deleted
+
+    //Number of orders per status, one row of {OrderStatus, Long} for every status in use
+    @Query("SELECT o.orderStatus, COUNT(o) FROM Order o GROUP BY o.orderStatus")
+    List<Object[]> countByOrderStatus();
+
+    //Only the time of one order, without loading the entity
+    @Query("SELECT o.orderDateTime FROM Order o WHERE o.oid = :oid")
+    Optional<LocalDateTime> findOrderDateTime(@Param("oid") Long oid);
+}
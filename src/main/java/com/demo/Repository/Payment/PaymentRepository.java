@@ -1,10 +1,21 @@
 package com.demo.Repository.Payment;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import com.demo.Repository.KeysetRepository;
 import com.demo.Entity.Payment.Payment;
+import jakarta.persistence.QueryHint;
 
-public interface PaymentRepository extends JpaRepository<Payment, Long> 
+public interface PaymentRepository extends KeysetRepository<Payment> 
 {
     //Custom method to find an payment by its ID
     Optional<Payment> findById(Long pid);  //Returns an Optional of pAYMENT to handle the case where the payment might not be found
-}
\ No newline at end of file
+
+    //Streams every payment after the given ID in primary key order, reading rows from the JDBC cursor in batches instead of loading the whole table
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM Payment p WHERE p.pid > :after ORDER BY p.pid")
+    Stream<Payment> streamAfter(@Param("after") Long after);  //Must be consumed inside a transaction and closed once done
+}
@@ -1,6 +1,24 @@
 package com.demo.Repository.Product;
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.demo.DTO.Product.ProductCategoryDTO;
+import com.demo.Repository.KeysetRepository;
 import com.demo.Entity.Product.ProductCategory;
 
-public interface ProductCategoryRepository extends JpaRepository<ProductCategory, Long> {
-}
+public interface ProductCategoryRepository extends KeysetRepository<ProductCategory> 
+{
+    //Reads one link straight into its DTO, selecting only the key columns (no managed entity, no proxies)
+    @Query("SELECT new com.demo.DTO.Product.ProductCategoryDTO(pc.pcid, pc.pid, pc.categoryId) FROM ProductCategory pc WHERE pc.pcid = :pcid")
+    Optional<ProductCategoryDTO> findDTOById(@Param("pcid") Long pcid);
+
+    //Reads the product-category links with an ID greater than the cursor straight into DTOs, in ascending ID order
+    @Query("SELECT new com.demo.DTO.Product.ProductCategoryDTO(pc.pcid, pc.pid, pc.categoryId) FROM ProductCategory pc WHERE pc.pcid > :after ORDER BY pc.pcid")
+    List<ProductCategoryDTO> findDTOsAfter(@Param("after") Long after, Limit limit);
+
+    //Reads the product-category links with an ID lower than the cursor straight into DTOs, in descending ID order
+    @Query("SELECT new com.demo.DTO.Product.ProductCategoryDTO(pc.pcid, pc.pid, pc.categoryId) FROM ProductCategory pc WHERE pc.pcid < :before ORDER BY pc.pcid DESC")
+    List<ProductCategoryDTO> findDTOsBefore(@Param("before") Long before, Limit limit);
+}
\ No newline at end of file
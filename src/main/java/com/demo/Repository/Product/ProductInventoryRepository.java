@@ -1,9 +1,24 @@
 package com.demo.Repository.Product;
-
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.demo.DTO.Product.ProductInventoryDTO;
+import com.demo.Repository.KeysetRepository;
 import com.demo.Entity.Product.ProductInventory;
 
-public interface ProductInventoryRepository extends JpaRepository<ProductInventory, Long>
+public interface ProductInventoryRepository extends KeysetRepository<ProductInventory> 
 {
-    
-}
+    //Reads one link straight into its DTO, selecting only the key columns (no managed entity, no proxies)
+    @Query("SELECT new com.demo.DTO.Product.ProductInventoryDTO(pi.psid, pi.pid.pid, pi.sid.sid) FROM ProductInventory pi WHERE pi.psid = :psid")
+    Optional<ProductInventoryDTO> findDTOById(@Param("psid") Long psid);
+
+    //Reads the product-inventory links with an ID greater than the cursor straight into DTOs, in ascending ID order
+    @Query("SELECT new com.demo.DTO.Product.ProductInventoryDTO(pi.psid, pi.pid.pid, pi.sid.sid) FROM ProductInventory pi WHERE pi.psid > :after ORDER BY pi.psid")
+    List<ProductInventoryDTO> findDTOsAfter(@Param("after") Long after, Limit limit);
+
+    //Reads the product-inventory links with an ID lower than the cursor straight into DTOs, in descending ID order
+    @Query("SELECT new com.demo.DTO.Product.ProductInventoryDTO(pi.psid, pi.pid.pid, pi.sid.sid) FROM ProductInventory pi WHERE pi.psid < :before ORDER BY pi.psid DESC")
+    List<ProductInventoryDTO> findDTOsBefore(@Param("before") Long before, Limit limit);
+}
\ No newline at end of file
@@ -1,9 +1,20 @@
 package com.demo.Repository.Product;
 
 import com.demo.Entity.Product.Product;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.demo.Repository.KeysetRepository;
 import java.util.Optional;
+import java.util.function.Function;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.FluentQuery;
+import jakarta.persistence.QueryHint;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends KeysetRepository<Product> {
     Optional<Product> findById(Long pid);
+
+    //Keyset pages of the catalog come from the query cache until a write to the table invalidates them
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    <S extends Product, R> R findBy(Specification<Product> spec, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction);
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.demo.Service.Analytics;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import com.demo.Enum.Analytics.TimeBucket;
+import com.demo.Util.Money.Money;
+import com.demo.Util.Transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+//Hourly counts and sums of payments and orders, computed by the database with one GROUP BY over the time range and its covering index.
+//An hour is cached once it has closed and is only read again after a payment or order in it is written through the services, which evict
+//it when their transaction commits. Days are rolled up from the cached hours, so a range is read from the database once and then served
+//from memory; only the current hour and the hours not cached yet are queried
+@Component
+public class AnalyticsAggregator
+{
+    //The tables aggregated: the time column bucketed, the column summed and the columns grouped by
+    public enum Source
+    {
+        PAYMENTS("payments", "payment_date_time", "amount", "payment_mode", "payment_status"),
+        ORDERS("orders", "order_date_time", "total_price", "order_status");
+
+        private final String sql;
+        private final int groupColumns;
+
+        Source(String table, String timeColumn, String sumColumn, String... groupColumns)
+        {
+            String hour = "date_trunc('HOUR', " + timeColumn + ")";
+            String groups = String.join(", ", groupColumns);
+            this.sql = "select " + hour + ", " + groups + ", count(*), sum(" + sumColumn + ") from " + table
+            + " where " + timeColumn + " >= ? and " + timeColumn + " < ? group by " + hour + ", " + groups;
+            this.groupColumns = groupColumns.length;
+        }
+    }
+
+    //One group of one hour: the values of the grouped columns in the source's order, the number of rows and the sum
+    public record HourlyTotal(LocalDateTime hour, List<String> groups, long count, Money total) {}
+
+    private record HourKey(Source source, LocalDateTime hour) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<HourKey, List<HourlyTotal>> closedHours = Caffeine.newBuilder().maximumSize(200_000).build();   //Empty hours are cached too
+    private final AtomicLong evictions = new AtomicLong();   //A query result is cached only when no eviction ran while it was read
+
+    public AnalyticsAggregator(DataSource dataSource)
+    {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    //Totals of every hour in [from, to), both on hour boundaries: the closed hours from the cache, the missing ones with one query
+    //over the span between the first and the last of them, and the hours from the current one on with a query every time
+    public List<HourlyTotal> hourlyTotals(Source source, LocalDateTime from, LocalDateTime to)
+    {
+        LocalDateTime current = TimeBucket.HOUR.start(LocalDateTime.now());
+        LocalDateTime closedUntil = to.isBefore(current) ? to : current;
+        Map<LocalDateTime, List<HourlyTotal>> hours = new HashMap<>();
+        LocalDateTime firstMissing = null, lastMissing = null;
+
+        for (LocalDateTime hour = from; hour.isBefore(closedUntil); hour = hour.plusHours(1))
+        {
+            List<HourlyTotal> cached = closedHours.getIfPresent(new HourKey(source, hour));
+
+            if (cached != null)
+                hours.put(hour, cached);
+
+            else
+            {
+                firstMissing = firstMissing == null ? hour : firstMissing;
+                lastMissing = hour;
+            }
+        }
+
+        if (firstMissing != null)
+            load(source, firstMissing, lastMissing.plusHours(1), hours);
+
+        List<HourlyTotal> totals = new ArrayList<>();
+        hours.values().forEach(totals::addAll);
+
+        if (closedUntil.isBefore(to))
+            totals.addAll(query(source, from.isAfter(closedUntil) ? from : closedUntil, to));
+
+        return totals;
+    }
+
+    //Number of closed hours held in memory
+    public long cachedHours()
+    {
+        return closedHours.estimatedSize();
+    }
+
+    //A payment at that time was created, changed or deleted
+    public void paymentsChanged(LocalDateTime at)
+    {
+        AfterCommit.run(() -> evict(Source.PAYMENTS, at));
+    }
+
+    //An order at that time was created, changed or deleted
+    public void ordersChanged(LocalDateTime at)
+    {
+        AfterCommit.run(() -> evict(Source.ORDERS, at));
+    }
+
+    //Orders were changed without knowing their times, as by a bulk reprice
+    public void ordersChanged()
+    {
+        AfterCommit.run(() -> evictAll(Source.ORDERS));
+    }
+
+    //Rows were written around the services, as by the dataset generator
+    public synchronized void clear()
+    {
+        evictions.incrementAndGet();
+        closedHours.invalidateAll();
+    }
+
+    //Queries the closed hours in [from, to) and caches each of them, the hours already cached keep their entry
+    private void load(Source source, LocalDateTime from, LocalDateTime to, Map<LocalDateTime, List<HourlyTotal>> hours)
+    {
+        long seen = evictions.get();
+        Map<LocalDateTime, List<HourlyTotal>> loaded = query(source, from, to).stream().collect(Collectors.groupingBy(HourlyTotal::hour));
+
+        synchronized (this)
+        {
+            boolean current = evictions.get() == seen;
+
+            for (LocalDateTime hour = from; hour.isBefore(to); hour = hour.plusHours(1))
+            {
+                if (hours.containsKey(hour))
+                    continue;
+
+                List<HourlyTotal> totals = loaded.getOrDefault(hour, List.of());
+                hours.put(hour, totals);
+
+                if (current)
+                    closedHours.put(new HourKey(source, hour), totals);
+            }
+        }
+    }
+
+    private List<HourlyTotal> query(Source source, LocalDateTime from, LocalDateTime to)
+    {
+        return jdbcTemplate.query(source.sql, (rs, row) ->
+        {
+            List<String> groups = new ArrayList<>(source.groupColumns);
+
+            for (int column = 2; column < 2 + source.groupColumns; column++)
+                groups.add(rs.getString(column));
+
+            return new HourlyTotal(rs.getObject(1, LocalDateTime.class), groups, rs.getLong(source.groupColumns + 2),
+            Money.of(rs.getBigDecimal(source.groupColumns + 3)));
+        }, from, to);
+    }
+
+    private synchronized void evict(Source source, LocalDateTime at)
+    {
+        evictions.incrementAndGet();
+
+        if (at != null)
+            closedHours.invalidate(new HourKey(source, TimeBucket.HOUR.start(at)));
+    }
+
+    private synchronized void evictAll(Source source)
+    {
+        evictions.incrementAndGet();
+        closedHours.asMap().keySet().removeIf(key -> key.source() == source);
+    }
+}
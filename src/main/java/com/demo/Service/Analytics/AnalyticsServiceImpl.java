@@ -0,0 +1,132 @@
+package com.demo.Service.Analytics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.stereotype.Service;
+import com.demo.DTO.Analytics.OrderAnalyticsDTO;
+import com.demo.DTO.Analytics.PaymentAnalyticsDTO;
+import com.demo.Enum.Analytics.TimeBucket;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Enum.Payment.PaymentMode;
+import com.demo.Enum.Payment.PaymentStatus;
+import com.demo.Interface.Analytics.AnalyticsService;
+import com.demo.Service.Analytics.AnalyticsAggregator.HourlyTotal;
+import com.demo.Service.Analytics.AnalyticsAggregator.Source;
+import com.demo.Util.Money.Money;
+
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService 
+{
+    private static final Duration MAX_RANGE = Duration.ofDays(731);             //Two years of history, the span the dataset generator spreads orders over
+    private static final List<String> PAYMENT_GROUPS = List.of("mode", "status");   //In the order of the payment columns grouped by the aggregator
+    private static final List<String> ORDER_GROUPS = List.of("status");
+
+    private final AnalyticsAggregator analyticsAggregator;  //Hourly totals from the database, closed hours from memory
+
+    //Constructor to inject the aggregator
+    public AnalyticsServiceImpl(AnalyticsAggregator analyticsAggregator) 
+    {
+        this.analyticsAggregator = analyticsAggregator;
+    }
+
+    @Override   //Rolls the hourly payment totals of the range up into the requested buckets and groups
+    public List<PaymentAnalyticsDTO> getPaymentAnalytics(LocalDateTime from, LocalDateTime to, String bucket, List<String> groupBy) 
+    {
+        return rollUp(Source.PAYMENTS, PAYMENT_GROUPS, from, to, bucket, groupBy, (group, tally) -> PaymentAnalyticsDTO.builder().bucketStart(group.start())
+        .paymentMode(group.value(0, PaymentMode::valueOf)).paymentStatus(group.value(1, PaymentStatus::valueOf)).count(tally.count())
+        .total(tally.total().toBigDecimal()).build());
+    }
+
+    @Override   //Rolls the hourly order totals of the range up into the requested buckets and groups
+    public List<OrderAnalyticsDTO> getOrderAnalytics(LocalDateTime from, LocalDateTime to, String bucket, List<String> groupBy) 
+    {
+        return rollUp(Source.ORDERS, ORDER_GROUPS, from, to, bucket, groupBy, (group, tally) -> OrderAnalyticsDTO.builder().bucketStart(group.start())
+        .orderStatus(group.value(0, OrderStatus::valueOf)).count(tally.count()).total(tally.total().toBigDecimal()).build());
+    }
+
+    //One output row: the bucket and the grouped values, null where that column is not grouped by
+    private record Group(LocalDateTime start, List<String> values)
+    {
+        <E> E value(int index, Function<String, E> parse)
+        {
+            String value = values.get(index);
+            return value == null ? null : parse.apply(value);
+        }
+    }
+
+    private record Tally(long count, Money total)
+    {
+        Tally plus(Tally other)
+        {
+            return new Tally(count + other.count, total.plus(other.total));
+        }
+    }
+
+    private <T> List<T> rollUp(Source source, List<String> groupNames, LocalDateTime from, LocalDateTime to, String bucketName, List<String> groupBy,
+    BiFunction<Group, Tally, T> toDTO)
+    {
+        TimeBucket bucket = TimeBucket.of(bucketName == null ? "day" : bucketName);
+        boolean[] grouped = grouped(groupNames, groupBy);
+
+        //Default to the last week of days or the last day of hours, and widen the range to whole buckets
+        LocalDateTime end = to == null ? LocalDateTime.now() : to;
+        LocalDateTime start = bucket.start(from == null ? end.minus(bucket.length().multipliedBy(bucket == TimeBucket.DAY ? 7 : 24)) : from);
+        end = bucket.start(end).equals(end) ? end : bucket.next(bucket.start(end));
+
+        if (!start.isBefore(end))
+            throw new IllegalArgumentException("from must be before to");
+
+        if (Duration.between(start, end).compareTo(MAX_RANGE) > 0)
+            throw new IllegalArgumentException("The range can span at most " + MAX_RANGE.toDays() + " days");
+
+        Map<Group, Tally> tallies = new HashMap<>();
+
+        for (HourlyTotal hour : analyticsAggregator.hourlyTotals(source, start, end))
+        {
+            List<String> values = new ArrayList<>(groupNames.size());
+
+            for (int index = 0; index < groupNames.size(); index++)
+                values.add(grouped[index] ? hour.groups().get(index) : null);
+
+            tallies.merge(new Group(bucket.start(hour.hour()), values), new Tally(hour.count(), hour.total()), Tally::plus);
+        }
+
+        return tallies.entrySet().stream().sorted(Map.Entry.comparingByKey(Comparator.comparing(Group::start).thenComparing(group -> group.values().toString())))
+        .map(entry -> toDTO.apply(entry.getKey(), entry.getValue())).toList();
+    }
+
+    //Which of the source's columns to group by, all of them when the request names none; a blank groupBy totals each bucket
+    private static boolean[] grouped(List<String> groupNames, List<String> groupBy)
+    {
+        boolean[] grouped = new boolean[groupNames.size()];
+
+        if (groupBy == null)
+        {
+            Arrays.fill(grouped, true);
+            return grouped;
+        }
+
+        for (String name : groupBy)
+        {
+            if (name == null || name.isBlank())
+                continue;
+
+            int index = groupNames.indexOf(name.trim().toLowerCase(Locale.ROOT));
+
+            if (index < 0)
+                throw new IllegalArgumentException("Cannot group by " + name + ", expected one of " + groupNames);
+
+            grouped[index] = true;
+        }
+
+        return grouped;
+    }
+}
@@ -0,0 +1,37 @@
+package com.demo.Service;
+import com.demo.DTO.CacheStatsDTO;
+import com.demo.Interface.CacheStatsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.List;
+import java.util.stream.StreamSupport;
+import javax.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@Service //Marks this class as a Spring service component
+public class CacheStatsServiceImpl implements CacheStatsService 
+{
+    private final CacheManager cacheManager;    //JCache manager holding the Hibernate second-level cache regions
+
+    //Constructor to inject the CacheManager built by CatalogCacheConfig
+    public CacheStatsServiceImpl(CacheManager cacheManager) 
+    {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public List<CacheStatsDTO> getCacheStats() 
+    {
+        //Read Caffeine's own counters behind each JCache region, sorted by region name
+        return StreamSupport.stream(cacheManager.getCacheNames().spliterator(), false).sorted().map(this::toDTO).toList();
+    }
+
+    //Converts the native statistics of one region to a DTO
+    private CacheStatsDTO toDTO(String region) 
+    {
+        Cache<?, ?> cache = cacheManager.getCache(region).unwrap(Cache.class);
+        CacheStats stats = cache.stats();
+        return CacheStatsDTO.builder().region(region).size(cache.estimatedSize()).hitCount(stats.hitCount()).missCount(stats.missCount())
+        .hitRatio(stats.hitRate()).evictionCount(stats.evictionCount()).build();
+    }
+}
@@ -8,19 +8,32 @@ import com.demo.Entity.Category.Category;
 import com.demo.Exception.Category.CategoryNotFoundException;
 import com.demo.Interface.Category.CategoryService;
 import com.demo.Repository.Category.CategoryRepository;
+import com.demo.Service.Product.CatalogReadModel;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.KeysetPaginator;
+import com.demo.Util.Pagination.KeysetPaginator.SortKey;
+import com.demo.Util.Versioning.ResourceVersions;
+import com.demo.Util.Versioning.VersionedResource;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class CategoryServiceImpl implements CategoryService 
 {
     private static final Logger logger = LoggerFactory.getLogger(CategoryServiceImpl.class);
     private final CategoryRepository categoryRepository;
+    private final KeysetPaginator<Category> categoryPaginator;
+    private final CatalogReadModel catalogReadModel;
+    private final ResourceVersions resourceVersions;
 
-    public CategoryServiceImpl(CategoryRepository categoryRepository) 
+    public CategoryServiceImpl(CategoryRepository categoryRepository, CatalogReadModel catalogReadModel, ResourceVersions resourceVersions) 
     {
         this.categoryRepository = categoryRepository;
+        this.catalogReadModel = catalogReadModel;
+        this.resourceVersions = resourceVersions;
+        this.categoryPaginator = new KeysetPaginator<>(categoryRepository, "categoryId", Category::getCategoryId,
+                Map.of("categoryName", new SortKey<>(Category::getCategoryName, name -> name)));
     }
 
     @Override
@@ -29,6 +42,8 @@ public class CategoryServiceImpl implements CategoryService
         Category newCategory = convertToEntity(categoryDTO);
         Category savedCategory = categoryRepository.save(newCategory);
         logger.info("Created new category with ID: {}", savedCategory.getCategoryId());
+        catalogReadModel.categorySaved(savedCategory.getCategoryId(), savedCategory.getCategoryName());
+        resourceVersions.changed(VersionedResource.CATEGORIES, savedCategory.getCategoryId());
         return convertToDTO(savedCategory);
     }
 
@@ -40,12 +55,9 @@ public class CategoryServiceImpl implements CategoryService
     }
 
     @Override
-    public List<CategoryDTO> getCategories() 
+    public CursorPage<CategoryDTO> getCategories(CursorRequest request) 
     {
-        return categoryRepository.findAll()
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return categoryPaginator.fetch(request, this::convertToDTO);
     }
 
     @Override
@@ -55,6 +67,8 @@ public class CategoryServiceImpl implements CategoryService
         updateCategoryFields(existingCategory, categoryDTO);
         Category updatedCategory = categoryRepository.save(existingCategory);
         logger.info("Updated category with ID: {}", categoryId);
+        catalogReadModel.categorySaved(categoryId, updatedCategory.getCategoryName());
+        resourceVersions.changed(VersionedResource.CATEGORIES, categoryId);
         return convertToDTO(updatedCategory);
     }
 
@@ -64,6 +78,8 @@ public class CategoryServiceImpl implements CategoryService
         Category category = findById(categoryId);
         categoryRepository.delete(category);
         logger.info("Deleted category with ID: {}", categoryId);
+        catalogReadModel.categoryDeleted(categoryId);
+        resourceVersions.changed(VersionedResource.CATEGORIES, categoryId);
     }
 
     private Category findById(Long categoryId) 
@@ -1,4 +1,5 @@
 package com.demo.Service;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import com.demo.DTO.DeletedIdDTO;
@@ -6,20 +7,31 @@ import com.demo.Entity.DeletedID;
 import com.demo.Exception.DeletedIdNotFoundException;
 import com.demo.Interface.DeletedIdService;
 import com.demo.Repository.DeletedIdRepository;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.KeysetPaginator;
+import com.demo.Util.Pagination.KeysetPaginator.SortKey;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import org.springframework.data.domain.Limit;
 
 @Service    //Marks this class as a Spring Service component
 public class DeletedIdServiceImpl implements DeletedIdService 
 {
     //Injecting the DeletedIdRepository via constructor
     private final DeletedIdRepository deletedIdRepository;
+    private final KeysetPaginator<DeletedID> deletedIdPaginator; //Cursor pagination over deleted IDs, sortable by id or entityType
+    private final TombstoneIndex tombstoneIndex;                 //In-memory bitmaps of the deleted IDs per entity type
 
-    //Constructor to initialize the service with the repository
-    public DeletedIdServiceImpl(DeletedIdRepository deletedIdRepository) 
+    //Constructor to initialize the service with the repository and the tombstone index it keeps up to date
+    public DeletedIdServiceImpl(DeletedIdRepository deletedIdRepository, TombstoneIndex tombstoneIndex) 
     {
         this.deletedIdRepository = deletedIdRepository;
+        this.tombstoneIndex = tombstoneIndex;
+        this.deletedIdPaginator = new KeysetPaginator<>(deletedIdRepository, "id", DeletedID::getId, Map.of("entityType", new SortKey<>(DeletedID::getEntityType, type -> type)));
     }
 
     @Override   //Method to create a new Deleted ID entry
@@ -28,12 +40,13 @@ public class DeletedIdServiceImpl implements DeletedIdService
         //Validating the DTO before creating
         validateDeletedIdDTO(deletedIdDTO, false);
 
-        //Check if a Deleted ID with the same ID already exists
-        if (deletedIdDTO.getDeletedId() != null && deletedIdRepository.existsById(deletedIdDTO.getDeletedId())) 
-            throw new IllegalArgumentException("Deleted ID with ID " + deletedIdDTO.getDeletedId() + " already exists.");
+        //Check if the ID already has a tombstone of this type, in memory; the same ID may well be tombstoned for another type
+        if (deletedIdDTO.getDeletedId() != null && tombstoneIndex.isDeleted(deletedIdDTO.getEntityType(), deletedIdDTO.getDeletedId()))
+            throw new IllegalArgumentException(deletedIdDTO.getEntityType() + " " + deletedIdDTO.getDeletedId() + " is already deleted.");
 
-        //Save the entity and map it to DTO before returning
-        DeletedID saved = deletedIdRepository.save(mapToEntity(deletedIdDTO));
+        //Save the entity, add it to the tombstone index once committed and map it to DTO before returning
+        DeletedID saved = save(mapToEntity(deletedIdDTO));
+        tombstoneIndex.tombstoneSaved(saved.getEntityType(), saved.getDeletedId());
         
         return mapToDTO(saved);
     }
@@ -48,11 +61,43 @@ public class DeletedIdServiceImpl implements DeletedIdService
     }
 
     
-    @Override   //Method to retrieve all Deleted IDs
-    public List<DeletedIdDTO> getDeletedIds() 
+    @Override   //Method to retrieve one page of Deleted IDs after the cursor
+    public CursorPage<DeletedIdDTO> getDeletedIds(CursorRequest request) 
     {
-        //Fetch all entities from the repository, map to DTOs and return as a list
-        return deletedIdRepository.findAll().stream().map(this::mapToDTO).collect(Collectors.toList());
+        //Fetch one page of entities from the repository and map them to DTOs
+        return deletedIdPaginator.fetch(request, this::mapToDTO);
+    }
+
+    @Override   //Method to check whether an ID of an entity type has a tombstone, answered from memory
+    public boolean isDeleted(String entityType, Long id) 
+    {
+        validateEntityType(entityType);
+        validateId(id);
+
+        return tombstoneIndex.isDeleted(entityType, id);
+    }
+
+    @Override   //Method to find which of the given IDs of an entity type have a tombstone, answered from memory
+    public List<Long> findDeleted(String entityType, List<Long> ids) 
+    {
+        validateEntityType(entityType);
+
+        if (ids == null || ids.stream().anyMatch(Objects::isNull))
+            throw new IllegalArgumentException("IDs must not be null.");
+
+        return Arrays.stream(tombstoneIndex.deletedAmong(entityType, ids)).boxed().toList();
+    }
+
+    @Override   //Method to retrieve one page of the deleted IDs of an entity type after the cursor
+    public CursorPage<Long> getDeletedIdsOfType(String entityType, CursorRequest request) 
+    {
+        validateEntityType(entityType);
+
+        //Read one row more than the page to know whether there is a next page
+        List<Long> ids = deletedIdRepository.findByEntityTypeAndDeletedIdGreaterThanOrderByDeletedId(entityType, request.afterId() == null ? 0L : request.afterId(),
+        Limit.of(request.getLimit() + 1)).stream().map(DeletedID::getDeletedId).toList();
+
+        return CursorPage.of(ids, request.getLimit(), id -> id);
     }
 
     @Override   //Method to update an existing Deleted ID
@@ -65,9 +110,16 @@ public class DeletedIdServiceImpl implements DeletedIdService
         //Fetch the existing entity, or throw an exception if not found
         DeletedID existing = deletedIdRepository.findById(id).orElseThrow(() -> new DeletedIdNotFoundException(id));
 
-        //Update the entity with new data from the DTO
+        //Update the entity with new data from the DTO, moving its tombstone to the new entity type
+        String previousType = existing.getEntityType();
         existing.setEntityType(updatedDTO.getEntityType());
-        DeletedID updated = deletedIdRepository.save(existing);
+        DeletedID updated = save(existing);
+
+        if (!updated.getEntityType().equals(previousType))
+        {
+            tombstoneIndex.tombstoneRemoved(previousType, updated.getDeletedId());
+            tombstoneIndex.tombstoneSaved(updated.getEntityType(), updated.getDeletedId());
+        }
 
         return mapToDTO(updated);   //Return the updated entity as a DTO
     }
@@ -81,7 +133,24 @@ public class DeletedIdServiceImpl implements DeletedIdService
         if (!deletedIdRepository.existsById(id))
             throw new DeletedIdNotFoundException(id);
 
-        deletedIdRepository.deleteById(id); //Perform the deletion
+        //Perform the deletion, and drop the tombstone from the index once committed
+        Optional<DeletedID> existing = deletedIdRepository.findById(id);
+        deletedIdRepository.deleteById(id);
+        existing.ifPresent(tombstone -> tombstoneIndex.tombstoneRemoved(tombstone.getEntityType(), tombstone.getDeletedId()));
+    }
+
+    //Method to save a Deleted ID, a concurrent tombstone of the same ID and type is turned away by the unique (entity_type, deleted_id) index
+    private DeletedID save(DeletedID deletedId) 
+    {
+        try
+        {
+            return deletedIdRepository.save(deletedId);
+        }
+
+        catch (DataIntegrityViolationException ex)
+        {
+            throw new IllegalArgumentException(deletedId.getEntityType() + " " + deletedId.getDeletedId() + " is already deleted.", ex);
+        }
     }
 
     //Method to validate the DeletedIdDTO before creation or update
@@ -100,6 +169,13 @@ public class DeletedIdServiceImpl implements DeletedIdService
             throw new IllegalArgumentException("Invalid deleted ID.");
     }
 
+    //Method to validate the entity type of a tombstone lookup
+    private void validateEntityType(String entityType) 
+    {
+        if (!StringUtils.hasText(entityType))
+            throw new IllegalArgumentException("EntityType must not be null or empty.");
+    }
+
     //Method to validate that the ID is a positive number
     private void validateId(Long id) 
     {
@@ -110,12 +186,12 @@ public class DeletedIdServiceImpl implements DeletedIdService
     //Method to map the DeletedID entity to a DeletedIdDTO
     private DeletedIdDTO mapToDTO(DeletedID entity) 
     {
-        return DeletedIdDTO.builder().deletedId(entity.getId()).entityType(entity.getEntityType()).build();
+        return DeletedIdDTO.builder().id(entity.getId()).deletedId(entity.getDeletedId()).entityType(entity.getEntityType()).build();
     }
 
     //Method to map the DeletedIdDTO to a DeletedID entity
     private DeletedID mapToEntity(DeletedIdDTO dto) 
     {
-        return DeletedID.builder().id(dto.getDeletedId()).entityType(dto.getEntityType()).build();
+        return DeletedID.builder().deletedId(dto.getDeletedId()).entityType(dto.getEntityType()).build();
     }
 }
\ No newline at end of file
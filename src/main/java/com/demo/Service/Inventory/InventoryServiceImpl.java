@@ -1,28 +1,55 @@
 package com.demo.Service.Inventory;
+import com.demo.DTO.Inventory.InventoryAdjustmentDTO;
+import com.demo.DTO.Inventory.InventoryAdjustmentResultDTO;
 import com.demo.DTO.Inventory.InventoryDTO;
+import com.demo.DTO.Inventory.StockReservationDTO;
 import com.demo.Entity.Inventory.Inventory;
+import com.demo.Exception.Inventory.InventoryNotFoundException;
 import com.demo.Interface.Inventory.InventoryService;
 import com.demo.Repository.Inventory.InventoryRepository;
+import com.demo.Service.Product.CatalogReadModel;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.KeysetPaginator;
+import com.demo.Util.Pagination.KeysetPaginator.SortKey;
+import com.demo.Util.Versioning.ResourceVersions;
+import com.demo.Util.Versioning.VersionedResource;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.stream.IntStream;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service //Marks this class as a Spring service component
 public class InventoryServiceImpl implements InventoryService 
 {
+    public static final int MAX_ADJUSTMENTS = 1000;                 //Upper bound on the size of one adjustment batch, keeps the transaction short
     private final InventoryRepository inventoryRepository;
+    private final KeysetPaginator<Inventory> inventoryPaginator;   //Cursor pagination over inventories, sortable by sid or stockQty
+    private final StockReservationLedger reservationLedger;         //In-memory stock counters that reservations are taken from
+    private final CatalogReadModel catalogReadModel;                //Catalog views whose total stock follows every inventory change
+    private final ResourceVersions resourceVersions;                //Version stamps behind the ETags of GET /inventories
 
-    //Constructor-based dependency injection for InventoryRepository
-    public InventoryServiceImpl(InventoryRepository inventoryRepository) 
+    //Constructor-based dependency injection for InventoryRepository, the reservation ledger, the catalog read model and the version stamps
+    public InventoryServiceImpl(InventoryRepository inventoryRepository, StockReservationLedger reservationLedger, CatalogReadModel catalogReadModel, ResourceVersions resourceVersions) 
     {
         this.inventoryRepository = inventoryRepository;
+        this.reservationLedger = reservationLedger;
+        this.catalogReadModel = catalogReadModel;
+        this.resourceVersions = resourceVersions;
+        this.inventoryPaginator = new KeysetPaginator<>(inventoryRepository, "sid", Inventory::getSid, Map.of("stockQty", new SortKey<>(Inventory::getStockQty, Integer::valueOf)));
     }
 
     @Override
     public InventoryDTO createInventory(InventoryDTO inventoryDTO) 
     {
         //Converts DTO to entity, saves it in the repository, then converts it back to DTO
-        return convertToDTO(inventoryRepository.save(convertToEntity(inventoryDTO)));
+        InventoryDTO created = convertToDTO(inventoryRepository.save(convertToEntity(inventoryDTO)));
+        catalogReadModel.stockSaved(created.getSid(), created.getStockQty());
+        resourceVersions.changed(VersionedResource.INVENTORIES, created.getSid());
+        return created;
     }
 
     @Override
@@ -34,19 +61,24 @@ public class InventoryServiceImpl implements InventoryService
     }
 
     @Override
-    public List<InventoryDTO> getInventories() 
+    public CursorPage<InventoryDTO> getInventories(CursorRequest request) 
     {
-        //Retrieves all inventory records, converts them to DTOs, and returns as a list
-        return inventoryRepository.findAll().stream().map(this::convertToDTO).collect(Collectors.toList());
+        //Retrieves one page of inventory records after the cursor and converts them to DTOs
+        return inventoryPaginator.fetch(request, this::convertToDTO);
     }
 
     @Override
+    @Transactional  //The reservation ledger holds off its flush until the new quantity has committed
     public InventoryDTO updateInventory(Long sid, InventoryDTO inventoryDTO) 
     {
         //Finds inventory by ID, updates stock quantity, saves, and returns updated DTO
         Inventory inventory = findById(sid);
         inventory.setStockQty(inventoryDTO.getStockQty());
-        return convertToDTO(inventoryRepository.save(inventory));
+        InventoryDTO updated = convertToDTO(inventoryRepository.save(inventory));
+        reservationLedger.reset(sid, updated.getStockQty());   //Keep the reservation counters in line with the new quantity
+        catalogReadModel.stockSaved(sid, updated.getStockQty());
+        resourceVersions.changed(VersionedResource.INVENTORIES, sid);
+        return updated;
     }
 
     @Override
@@ -55,6 +87,86 @@ public class InventoryServiceImpl implements InventoryService
         //Finds inventory by ID and deletes it from the repository
         Inventory inventory = findById(sid);
         inventoryRepository.delete(inventory);
+        reservationLedger.evict(sid);
+        catalogReadModel.stockDeleted(sid);
+        resourceVersions.changed(VersionedResource.INVENTORIES, sid);
+    }
+
+    @Override
+    public StockReservationDTO reserveStock(Long sid, int quantity) 
+    {
+        //Taken from the in-memory counters, so concurrent reservations never queue on the inventory row
+        return reservationLedger.reserve(sid, quantity);
+    }
+
+    @Override
+    public void confirmReservation(String token) 
+    {
+        reservationLedger.confirm(token);
+    }
+
+    @Override
+    public void releaseReservation(String token) 
+    {
+        reservationLedger.release(token);
+    }
+
+    @Override
+    @Transactional
+    public List<InventoryAdjustmentResultDTO> adjustInventories(List<InventoryAdjustmentDTO> adjustments) 
+    {
+        if (adjustments == null || adjustments.isEmpty() || adjustments.size() > MAX_ADJUSTMENTS)
+            throw new IllegalArgumentException("Adjustments must contain between 1 and " + MAX_ADJUSTMENTS + " entries");
+
+        //Apply the updates in sid order so two concurrent batches lock rows in the same order and cannot deadlock,
+        //but report the results in the order the adjustments were sent
+        InventoryAdjustmentResultDTO[] results = new InventoryAdjustmentResultDTO[adjustments.size()];
+        List<Integer> bySid = IntStream.range(0, adjustments.size()).boxed()
+        .sorted(Comparator.comparing(i -> adjustments.get(i).getSid(), Comparator.nullsFirst(Comparator.naturalOrder()))).toList();
+
+        for (int i : bySid)
+            results[i] = adjust(adjustments.get(i));
+
+        return Arrays.asList(results);
+    }
+
+    //Applies one delta through the reservation ledger and a conditional UPDATE, only looking at the row again when it was rejected
+    private InventoryAdjustmentResultDTO adjust(InventoryAdjustmentDTO adjustment) 
+    {
+        Long sid = adjustment.getSid();
+        Integer delta = adjustment.getDelta();
+
+        if (sid == null || delta == null)
+            return rejected(sid, delta, null, "Both sid and delta are mandatory");
+
+        boolean applied;
+
+        //The ledger checks a decrease against the units it has not handed out, the table row alone lags behind confirmed reservations
+        try
+        {
+            applied = reservationLedger.adjust(sid, delta, () -> inventoryRepository.applyDelta(sid, delta) == 1);
+        }
+        catch (InventoryNotFoundException ex)
+        {
+            return rejected(sid, delta, null, "Inventory not found");
+        }
+
+        if (applied)
+        {
+            catalogReadModel.stockShifted(sid, delta);
+            resourceVersions.changed(VersionedResource.INVENTORIES, sid);
+            return InventoryAdjustmentResultDTO.builder().sid(sid).delta(delta).applied(true).build();
+        }
+
+        //Not applied: the inventory does not exist, the delta would take more units than are available, or it would overflow the stock
+        return inventoryRepository.findStockQtyBySid(sid).map(stockQty -> rejected(sid, delta, reservationLedger.available(sid), delta > 0 ? "Stock limit exceeded" : "Insufficient stock"))
+        .orElseGet(() -> rejected(sid, delta, null, "Inventory not found"));
+    }
+
+    //Builds the result of an adjustment that was not applied
+    private InventoryAdjustmentResultDTO rejected(Long sid, Integer delta, Integer stockQty, String reason) 
+    {
+        return InventoryAdjustmentResultDTO.builder().sid(sid).delta(delta).applied(false).stockQty(stockQty).reason(reason).build();
     }
 
     //Helper method to retrieve an inventory entity by ID, throwing an exception if not found
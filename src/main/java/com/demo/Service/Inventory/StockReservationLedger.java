@@ -0,0 +1,415 @@
+package com.demo.Service.Inventory;
+import com.demo.DTO.Inventory.InventoryDTO;
+import com.demo.DTO.Inventory.StockReservationDTO;
+import com.demo.Exception.Inventory.InventoryNotFoundException;
+import com.demo.Exception.Inventory.ReservationNotFoundException;
+import com.demo.Repository.Inventory.InventoryRepository;
+import com.demo.Service.Product.CatalogReadModel;
+import com.demo.Util.Transaction.AfterCommit;
+import com.demo.Util.Versioning.ResourceVersions;
+import com.demo.Util.Versioning.VersionedResource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.annotation.PreDestroy;
+
+//In-memory stock counters per inventory that hand out reservations without touching the Inventories rows,
+//writing the net effect of confirmed reservations back to the table in batched write-behind transactions.
+//For every loaded sid: database stockQty + unflushed = available + reserved
+@Component
+public class StockReservationLedger
+{
+    private static final Logger logger = LoggerFactory.getLogger(StockReservationLedger.class);
+
+    private final InventoryRepository inventoryRepository;
+    private final CatalogReadModel catalogReadModel;                                //Catalog views whose total stock follows each flush
+    private final ResourceVersions resourceVersions;                                //A flushed stock change gives GET /inventories a new ETag
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;                                                     //How long a reservation holds stock before it lapses
+    private final Clock clock;
+    private final Map<Long, StockCounter> counters = new ConcurrentHashMap<>();     //Stock counters keyed by inventory sid, loaded on startup or on first use
+    private final Map<String, Reservation> reservations = new ConcurrentHashMap<>(); //Outstanding reservations keyed by token
+    private final ReentrantLock flushLock = new ReentrantLock();                    //Held by a flush, and by an absolute stock write until its transaction ends
+
+    @Autowired
+    public StockReservationLedger(InventoryRepository inventoryRepository, CatalogReadModel catalogReadModel, ResourceVersions resourceVersions, PlatformTransactionManager transactionManager,
+    @Value("${inventory.reservation.ttl:PT5M}") Duration ttl)
+    {
+        this(inventoryRepository, catalogReadModel, resourceVersions, transactionManager, ttl, Clock.systemUTC());
+    }
+
+    //Constructor with an explicit clock so expiry can be tested without waiting
+    StockReservationLedger(InventoryRepository inventoryRepository, CatalogReadModel catalogReadModel, ResourceVersions resourceVersions, PlatformTransactionManager transactionManager,
+    Duration ttl, Clock clock)
+    {
+        this.inventoryRepository = inventoryRepository;
+        this.catalogReadModel = catalogReadModel;
+        this.resourceVersions = resourceVersions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    //Holds quantity units of an inventory's stock, failing without waiting on any lock when too little is available
+    public StockReservationDTO reserve(Long sid, int quantity)
+    {
+        if (quantity <= 0)
+            throw new IllegalArgumentException("Reservation quantity must be positive");
+
+        StockCounter counter = counterFor(sid);
+
+        if (!take(counter, quantity))
+            throw new IllegalArgumentException("Insufficient stock for inventory " + sid + ": " + counter.available.get() + " available");
+
+        counter.reserved.addAndGet(quantity);
+        String token = UUID.randomUUID().toString();
+        Instant expiresAt = clock.instant().plus(ttl);
+        reservations.put(token, new Reservation(sid, quantity, expiresAt));
+        return StockReservationDTO.builder().token(token).sid(sid).quantity(quantity).expiresAt(expiresAt).build();
+    }
+
+    //Turns a reservation into a stock decrement that the next flush writes to the Inventories table
+    public void confirm(String token)
+    {
+        Reservation reservation = take(token);
+        StockCounter counter = counters.get(reservation.sid());
+
+        if (counter == null)    //Inventory was deleted while the stock was held
+            throw new InventoryNotFoundException(reservation.sid());
+
+        counter.reserved.addAndGet(-reservation.quantity());
+        counter.unflushed.addAndGet(-reservation.quantity());
+    }
+
+    //Gives the held units back to available stock
+    public void release(String token)
+    {
+        giveBack(take(token));
+    }
+
+    //Keeps the counters in line with an absolute stock quantity written straight to the table, once the write commits
+    //No flush runs from here until the caller's transaction ends: a delta flushed in between would land before or after the written
+    //value, and the counters could not tell whether the table kept it
+    public void reset(Long sid, int stockQty)
+    {
+        flushLock.lock();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            try
+            {
+                overwrite(sid, stockQty);
+            }
+
+            finally
+            {
+                flushLock.unlock();
+            }
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+        {
+            @Override
+            public void afterCommit()
+            {
+                overwrite(sid, stockQty);
+            }
+
+            @Override
+            public void afterCompletion(int status)
+            {
+                flushLock.unlock();     //Runs on the thread that took the lock, after a commit or a rollback
+            }
+        });
+    }
+
+    //Runs a relative stock change through the counters, write applying it to the table and returning whether the table took it.
+    //A decrease takes its units from the available count first, with the same compare-and-set as a reservation, so it can never remove
+    //units already reserved or confirmed but not yet flushed; the units go back if the write or its transaction fails.
+    //An increase is added once the write commits. Returns false when too few units are available or the table refused the change
+    public boolean adjust(Long sid, int delta, BooleanSupplier write)
+    {
+        StockCounter counter = counterFor(sid);
+
+        if (delta < 0 && !take(counter, -delta))
+            return false;
+
+        boolean written = false;
+
+        try
+        {
+            written = write.getAsBoolean();
+        }
+
+        finally
+        {
+            if (delta < 0 && !written)
+                counter.available.addAndGet(-delta);
+        }
+
+        if (!written)
+            return false;
+
+        if (delta > 0)
+            AfterCommit.run(() -> counter.available.addAndGet(delta));
+
+        else if (delta < 0 && TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+            {
+                @Override
+                public void afterCompletion(int status)
+                {
+                    if (status == STATUS_ROLLED_BACK)
+                        counter.available.addAndGet(-delta);
+                }
+            });
+        }
+
+        return true;
+    }
+
+    //Forgets a deleted inventory, reservations against it can then only be released
+    public void evict(Long sid)
+    {
+        counters.remove(sid);
+    }
+
+    //Rebuilds the counters from the Inventories table once the sample data is in, since reservations do not survive a restart
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover()
+    {
+        transactionTemplate.executeWithoutResult(status ->
+        {
+            try (Stream<InventoryDTO> stock = inventoryRepository.streamStock())
+            {
+                stock.forEach(inventory -> counters.putIfAbsent(inventory.getSid(), new StockCounter(inventory.getStockQty())));
+            }
+        });
+
+        logger.info("Stock reservation ledger recovered {} inventories", counters.size());
+    }
+
+    //Returns lapsed reservations to stock and writes the net confirmed deltas to the table in one transaction, in sid order so flushes lock rows consistently
+    @Scheduled(fixedDelayString = "${inventory.reservation.flush-interval-ms:1000}")
+    public void flush()
+    {
+        flushLock.lock();
+
+        try
+        {
+            expire();
+            writeBehind();
+        }
+
+        finally
+        {
+            flushLock.unlock();
+        }
+    }
+
+    //Writes the deltas taken from the counters, called with the flush lock held so no absolute write commits in between
+    private void writeBehind()
+    {
+        Map<Long, Integer> deltas = new TreeMap<>();
+
+        counters.forEach((sid, counter) ->
+        {
+            int delta = counter.unflushed.getAndSet(0);
+
+            if (delta != 0)
+                deltas.put(sid, delta);
+        });
+
+        if (deltas.isEmpty())
+            return;
+
+        List<Long> rejected = new ArrayList<>();
+
+        try
+        {
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach((sid, delta) ->
+            {
+                if (inventoryRepository.applyDelta(sid, delta) == 0)
+                    rejected.add(sid);
+            }));
+        }
+        catch (RuntimeException ex)
+        {
+            //Nothing was written, so put the deltas back for the next flush
+            logger.error("Stock write-behind flush failed, retrying {} inventories later: {}", deltas.size(), ex.getMessage(), ex);
+            deltas.forEach((sid, delta) ->
+            {
+                StockCounter counter = counters.get(sid);
+
+                if (counter != null)
+                    counter.unflushed.addAndGet(delta);
+            });
+            return;
+        }
+
+        deltas.forEach((sid, delta) ->
+        {
+            if (!rejected.contains(sid))
+            {
+                catalogReadModel.stockShifted(sid, delta);
+                resourceVersions.changed(VersionedResource.INVENTORIES, sid);
+            }
+        });
+
+        //A deleted row takes its delta with it. Any other rejection means the table was changed underneath the ledger: the confirmed
+        //decrement is still owed, so it stays pending and is retried by every flush until someone repairs the row
+        for (Long sid : rejected)
+        {
+            StockCounter counter = counters.get(sid);
+
+            if (counter == null)
+                continue;
+
+            if (inventoryRepository.findStockQtyBySid(sid).isEmpty())
+                evict(sid);
+
+            else
+            {
+                counter.unflushed.addAndGet(deltas.get(sid));
+                logger.error("Stock delta {} for inventory {} was rejected by the table, keeping it pending for the next flush", deltas.get(sid), sid);
+            }
+        }
+    }
+
+    //Writes out confirmed reservations before the application stops
+    @PreDestroy
+    public void shutdown()
+    {
+        flush();
+    }
+
+    //Current available (not reserved) units of an inventory, loading its counter if needed
+    public int available(Long sid)
+    {
+        return counterFor(sid).available.get();
+    }
+
+    //Releases every reservation whose hold has lapsed
+    void expire()
+    {
+        Instant now = clock.instant();
+        reservations.forEach((token, reservation) ->
+        {
+            //Conditional remove so a reservation confirmed at the same moment is not also given back
+            if (!reservation.expiresAt().isAfter(now) && reservations.remove(token, reservation))
+                giveBack(reservation);
+        });
+    }
+
+    //Removes an outstanding reservation, treating a lapsed one as gone
+    private Reservation take(String token)
+    {
+        Reservation reservation = token == null ? null : reservations.remove(token);
+
+        if (reservation == null)
+            throw new ReservationNotFoundException(token);
+
+        if (!reservation.expiresAt().isAfter(clock.instant()))
+        {
+            giveBack(reservation);
+            throw new ReservationNotFoundException(token);
+        }
+
+        return reservation;
+    }
+
+    //Moves a reservation's units from reserved back to available
+    private void giveBack(Reservation reservation)
+    {
+        StockCounter counter = counters.get(reservation.sid());
+
+        if (counter != null)
+        {
+            counter.reserved.addAndGet(-reservation.quantity());
+            counter.available.addAndGet(reservation.quantity());
+        }
+    }
+
+    //Takes quantity units from the available count, only if they are still there when the compare-and-set lands
+    private static boolean take(StockCounter counter, int quantity)
+    {
+        int current;
+
+        do
+        {
+            current = counter.available.get();
+
+            if (current < quantity)
+                return false;
+        }
+        while (!counter.available.compareAndSet(current, current - quantity));
+
+        return true;
+    }
+
+    //Looks up the counter of an inventory, reading its stock from the table the first time it is used
+    private StockCounter counterFor(Long sid)
+    {
+        StockCounter counter = counters.get(sid);
+
+        if (counter != null)
+            return counter;
+
+        int stockQty = inventoryRepository.findStockQtyBySid(sid).orElseThrow(() -> new InventoryNotFoundException(sid));
+        counter = counters.putIfAbsent(sid, new StockCounter(stockQty));
+        return counter != null ? counter : counters.get(sid);
+    }
+
+    //Sets the counters from an absolute stock quantity the table now holds
+    private void overwrite(Long sid, int stockQty)
+    {
+        StockCounter counter = counters.get(sid);
+
+        if (counter != null)
+        {
+            counter.unflushed.set(0);   //The written value supersedes confirmed reservations not yet flushed
+            counter.available.set(stockQty - counter.reserved.get());
+        }
+    }
+
+    //Lock-free counters for one inventory
+    private static final class StockCounter
+    {
+        private final AtomicInteger available;                          //Units that can still be reserved
+        private final AtomicInteger reserved = new AtomicInteger();     //Units held by outstanding reservations
+        private final AtomicInteger unflushed = new AtomicInteger();    //Net change from confirmed reservations not yet written to the table
+
+        private StockCounter(int stockQty)
+        {
+            this.available = new AtomicInteger(stockQty);
+        }
+    }
+
+    //Stock held by one token until it is confirmed, released or lapses
+    private record Reservation(Long sid, int quantity, Instant expiresAt) {}
+}
@@ -8,10 +8,13 @@ import com.demo.Interface.Item.ItemInventoryService;
 import com.demo.Repository.Inventory.InventoryRepository;
 import com.demo.Repository.Item.ItemInventoryRepository;
 import com.demo.Repository.Item.ItemRepository;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.ProjectionPaginator;
+import com.demo.Util.Versioning.ResourceVersions;
+import com.demo.Util.Versioning.VersionedResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional //Ensures the service method runs within a transaction context
@@ -20,13 +23,17 @@ public class ItemInventoryServiceImpl implements ItemInventoryService
     private final ItemInventoryRepository itemInventoryRepository;
     private final ItemRepository itemRepository;
     private final InventoryRepository inventoryRepository;
+    private final ProjectionPaginator<ItemInventoryDTO> itemInventoryPaginator;
+    private final ResourceVersions resourceVersions;
 
-    //Constructor for dependency injection of repositories
-    public ItemInventoryServiceImpl(ItemInventoryRepository itemInventoryRepository, ItemRepository itemRepository,InventoryRepository inventoryRepository) 
+    //Constructor for dependency injection of repositories and the version stamps
+    public ItemInventoryServiceImpl(ItemInventoryRepository itemInventoryRepository, ItemRepository itemRepository,InventoryRepository inventoryRepository, ResourceVersions resourceVersions) 
     {
         this.itemInventoryRepository = itemInventoryRepository;
         this.itemRepository = itemRepository;
         this.inventoryRepository = inventoryRepository;
+        this.resourceVersions = resourceVersions;
+        this.itemInventoryPaginator = new ProjectionPaginator<>("siid", ItemInventoryDTO::getSiid, itemInventoryRepository::findDTOsAfter, itemInventoryRepository::findDTOsBefore);
     }
 
     //Converts an ItemInventory entity to a DTO (Data Transfer Object)
@@ -60,16 +67,15 @@ public class ItemInventoryServiceImpl implements ItemInventoryService
     @Override
     public ItemInventoryDTO getItemInventory(Long siid) 
     {
-        //Retrieve the item inventory by siid from the repository or throw exception if not found
-        ItemInventory itemInventory = itemInventoryRepository.findById(siid).orElseThrow(() -> new ItemInventoryNotFoundException(siid));
-        return toDTO(itemInventory);    //Convert the entity to DTO and return it
+        //Retrieve the item inventory's key columns by siid straight into a DTO or throw exception if not found
+        return itemInventoryRepository.findDTOById(siid).orElseThrow(() -> new ItemInventoryNotFoundException(siid));
     }
 
     @Override
-    public List<ItemInventoryDTO> getItemInventories() 
+    public CursorPage<ItemInventoryDTO> getItemInventories(CursorRequest request) 
     {
-        //Retrieve all item inventories from the repository
-        return itemInventoryRepository.findAll().stream().map(this::toDTO).collect(Collectors.toList()); 
+        //Retrieve one page of item inventories after the cursor from the repository, projected straight into DTOs
+        return itemInventoryPaginator.fetch(request); 
     }
 
     @Override
@@ -94,5 +100,9 @@ public class ItemInventoryServiceImpl implements ItemInventoryService
         
         //Delete the item inventory from the repository
         itemInventoryRepository.delete(itemInventory);
+
+        //The link cascades its removal to the item and the inventory, so both get a new ETag once committed
+        resourceVersions.changed(VersionedResource.ITEMS, itemInventory.getIid().getIid());
+        resourceVersions.changed(VersionedResource.INVENTORIES, itemInventory.getSid().getSid());
     }
 }
\ No newline at end of file
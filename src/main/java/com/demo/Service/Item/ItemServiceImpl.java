@@ -7,20 +7,31 @@ import com.demo.Entity.Item.Item;
 import com.demo.Exception.Item.ItemNotFoundException;
 import com.demo.Interface.Item.ItemService;
 import com.demo.Repository.Item.ItemRepository;
-import java.math.BigDecimal;
-import java.util.List;
-import java.util.stream.Collectors;
+import com.demo.Service.Order.OrderPricingEngine;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.KeysetPaginator;
+import com.demo.Util.Pagination.KeysetPaginator.SortKey;
+import com.demo.Util.Versioning.ResourceVersions;
+import com.demo.Util.Versioning.VersionedResource;
+import java.util.Map;
 
 @Service //Marks this class as a service that contains business logic for item management
 public class ItemServiceImpl implements ItemService 
 {
     private static final Logger logger = LoggerFactory.getLogger(ItemServiceImpl.class);    //Logger for logging information
     private final ItemRepository itemRepository;                                                //Repository to handle database interactions for Item entity
+    private final KeysetPaginator<Item> itemPaginator;                                          //Cursor pagination over items, sortable by iid or itemName
+    private final OrderPricingEngine orderPricingEngine;                                        //Caches the unit prices used to price orders
+    private final ResourceVersions resourceVersions;                                            //Version stamps behind the ETags of GET /items
 
-    //Constructor injection for the ItemRepository, a common Spring approach for dependency injection
-    public ItemServiceImpl(ItemRepository itemRepository) 
+    //Constructor injection for the ItemRepository, the pricing engine and the version stamps, a common Spring approach for dependency injection
+    public ItemServiceImpl(ItemRepository itemRepository, OrderPricingEngine orderPricingEngine, ResourceVersions resourceVersions) 
     {
         this.itemRepository = itemRepository;
+        this.orderPricingEngine = orderPricingEngine;
+        this.resourceVersions = resourceVersions;
+        this.itemPaginator = new KeysetPaginator<>(itemRepository, "iid", Item::getIid, Map.of("itemName", new SortKey<>(Item::getItemName, name -> name)));
     }
 
     @Override   //Creates a new item using the provided DTO and saves it to the database
@@ -28,6 +39,7 @@ public class ItemServiceImpl implements ItemService
     {
         Item newItem = convertToEntity(itemDTO);                                    //Convert DTO to Entity
         Item savedItem = itemRepository.save(newItem);                              //Save the new item to the database
+        resourceVersions.changed(VersionedResource.ITEMS, savedItem.getIid());      //Give GET /items a new ETag
         logger.info("Created new item with ID: {}", savedItem.getIid());    //Log item creation
         return convertToDTO(savedItem);                                             //Return the saved item as a DTO
     }
@@ -39,11 +51,11 @@ public class ItemServiceImpl implements ItemService
         return convertToDTO(item);  //Convert the entity to DTO and return
     }
 
-    @Override   //Retrieves a list of all items from the database
-    public List<ItemDTO> getItems() 
+    @Override   //Retrieves one page of items after the cursor from the database
+    public CursorPage<ItemDTO> getItems(CursorRequest request) 
     {
-        //Convert the list of items from the database to DTOs and return
-        return itemRepository.findAll().stream().map(this::convertToDTO).collect(Collectors.toList()); //Conert each item to a DTO and collect into a list
+        //Read one page of items from the database and convert each item to a DTO
+        return itemPaginator.fetch(request, this::convertToDTO);
     }
 
     @Override   //Partially updates an item by its ID using the provided DTO
@@ -52,6 +64,8 @@ public class ItemServiceImpl implements ItemService
         Item existingItem = findById(iid);                      //Fetch the existing item by ID
         updateItemFields(existingItem, itemDTO);                //Update fields based on the provided DTO
         Item updatedItem = itemRepository.save(existingItem);   //Save the updated item
+        orderPricingEngine.evictItemPrice(iid);                 //Price the next order lines at the new unit price
+        resourceVersions.changed(VersionedResource.ITEMS, iid); //Give the item and GET /items a new ETag
         logger.info("Updated item with ID: {}", iid);   //Log the update
         return convertToDTO(updatedItem);                       //Return the updated item as a DTO
     }
@@ -61,6 +75,8 @@ public class ItemServiceImpl implements ItemService
     {
         Item item = findById(iid);                              //Find the item by ID
         itemRepository.delete(item);                            //Delete the item from the database
+        orderPricingEngine.evictItemPrice(iid);                 //Drop its cached unit price
+        resourceVersions.changed(VersionedResource.ITEMS, iid); //Give the item and GET /items a new ETag
         logger.info("Deleted item with ID: {}", iid);   //Log the deletion
     }
 
@@ -82,7 +98,7 @@ public class ItemServiceImpl implements ItemService
         if (itemDTO.getItemName() != null)
             existingItem.setItemName(itemDTO.getItemName());    //Update item name
         
-        if (itemDTO.getUnitPrice() != null && itemDTO.getUnitPrice().compareTo(BigDecimal.ZERO) > 0) 
+        if (itemDTO.getUnitPrice() != null && itemDTO.getUnitPrice().isPositive()) 
             existingItem.setUnitPrice(itemDTO.getUnitPrice());  //Update unit price
     }
 
@@ -0,0 +1,149 @@
+package com.demo.Service.Order;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import com.demo.DTO.Item.ItemDTO;
+import com.demo.DTO.Order.OrderAggregateDTO;
+import com.demo.DTO.Order.OrderDTO;
+import com.demo.DTO.Order.OrderItemDTO;
+import com.demo.DTO.Order.OrderPaymentDTO;
+import com.demo.DTO.Order.OrderProductDTO;
+import com.demo.DTO.Payment.PaymentDTO;
+import com.demo.DTO.Product.ProductDTO;
+import com.demo.Entity.Item.Item;
+import com.demo.Entity.Order.Order;
+import com.demo.Entity.Order.OrderItem;
+import com.demo.Entity.Order.OrderPayment;
+import com.demo.Entity.Order.OrderProduct;
+import com.demo.Entity.Payment.Payment;
+import com.demo.Entity.Product.Product;
+import com.demo.Exception.Order.OrderNotFoundException;
+import com.demo.Interface.Order.OrderAggregateService;
+import com.demo.Repository.Order.OrderItemRepository;
+import com.demo.Repository.Order.OrderPaymentRepository;
+import com.demo.Repository.Order.OrderProductRepository;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Util.Concurrency.BoundedExecutors;
+import jakarta.annotation.PreDestroy;
+
+@Service  //Marks this class as a Spring service for dependency injection
+public class OrderAggregateServiceImpl implements OrderAggregateService 
+{
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderPaymentRepository orderPaymentRepository;
+    private final ThreadPoolTaskExecutor taskExecutor;  //Runs the independent branches side by side, on threads no export stream can hold
+
+    //Constructor injection of the order repositories; the branches get their own bounded pool of the given size
+    public OrderAggregateServiceImpl(OrderRepository orderRepository, OrderProductRepository orderProductRepository, OrderItemRepository orderItemRepository, 
+    OrderPaymentRepository orderPaymentRepository, @Value("${order.aggregate.threads:8}") int threads) 
+    {
+        this.orderRepository = orderRepository;
+        this.orderProductRepository = orderProductRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.orderPaymentRepository = orderPaymentRepository;
+        this.taskExecutor = BoundedExecutors.create("order-aggregate", threads, threads * 25);  //Beyond that the request thread loads its branches itself
+    }
+
+    @Override   //Loads the order and its three link tables in parallel, one indexed fetch-join query per branch
+    public OrderAggregateDTO getOrderAggregate(Long oid) 
+    {
+        CompletableFuture<Order> order = supply(() -> orderRepository.findById(oid).orElseThrow(() -> new OrderNotFoundException(oid)));
+        CompletableFuture<List<OrderProduct>> orderProducts = supply(() -> orderProductRepository.findWithProductsByOrderId(oid));
+        CompletableFuture<List<OrderItem>> orderItems = supply(() -> orderItemRepository.findWithItemsByOrderId(oid));
+        CompletableFuture<List<OrderPayment>> orderPayments = supply(() -> orderPaymentRepository.findWithPaymentsByOrderId(oid));
+
+        try 
+        {
+            CompletableFuture.allOf(order, orderProducts, orderItems, orderPayments).join();    //Wait for every branch, failing fast on the first error
+        } 
+        
+        catch (CompletionException ex) 
+        {
+            //Rethrow the branch's own exception (e.g. OrderNotFoundException) so the usual error mapping applies
+            if (ex.getCause() instanceof RuntimeException cause)
+                throw cause;
+            
+            throw ex;
+        }
+
+        return OrderAggregateDTO.builder().order(toDTO(order.join()))
+        .orderProducts(orderProducts.join().stream().map(this::toDTO).toList()).products(distinct(orderProducts.join(), OrderProduct::getPid, Product::getPid, this::toDTO))
+        .orderItems(orderItems.join().stream().map(this::toDTO).toList()).items(distinct(orderItems.join(), OrderItem::getIid, Item::getIid, this::toDTO))
+        .orderPayments(orderPayments.join().stream().map(this::toDTO).toList()).payments(distinct(orderPayments.join(), OrderPayment::getPid, Payment::getPid, this::toDTO))
+        .build();
+    }
+
+    //Runs one branch of the aggregate on the task executor
+    private <T> CompletableFuture<T> supply(Supplier<T> branch) 
+    {
+        return CompletableFuture.supplyAsync(branch, taskExecutor);
+    }
+
+    //Stops the branch threads with the application
+    @PreDestroy
+    public void shutdown() 
+    {
+        taskExecutor.shutdown();
+    }
+
+    //Collects the rows referenced by the links once each, keeping the order of first appearance
+    private <L, E, D> List<D> distinct(List<L> links, Function<L, E> target, Function<E, Long> idOf, Function<E, D> mapper) 
+    {
+        Map<Long, D> rows = new LinkedHashMap<>();
+
+        for (L link : links) 
+        {
+            E row = target.apply(link);
+            rows.computeIfAbsent(idOf.apply(row), id -> mapper.apply(row));
+        }
+
+        return List.copyOf(rows.values());
+    }
+
+    //Helper methods to convert the fetched entities to DTOs
+    private OrderDTO toDTO(Order order) 
+    {
+        return OrderDTO.builder().oid(order.getOid()).totalPrice(order.getTotalPrice()).orderStatus(order.getOrderStatus()).orderDateTime(order.getOrderDateTime())
+        .version(order.getVersion()).build();   //The version a PATCH of the order compares against
+    }
+
+    private OrderProductDTO toDTO(OrderProduct orderProduct) 
+    {
+        return OrderProductDTO.builder().opid(orderProduct.getOpid()).oid(orderProduct.getOid().getOid()).pid(orderProduct.getPid().getPid()).build();
+    }
+
+    private OrderItemDTO toDTO(OrderItem orderItem) 
+    {
+        return OrderItemDTO.builder().oiid(orderItem.getOiid()).oid(orderItem.getOid().getOid()).iid(orderItem.getIid().getIid()).build();
+    }
+
+    private OrderPaymentDTO toDTO(OrderPayment orderPayment) 
+    {
+        return new OrderPaymentDTO(orderPayment.getPoid(), orderPayment.getOid().getOid(), orderPayment.getPid().getPid());
+    }
+
+    private ProductDTO toDTO(Product product) 
+    {
+        return ProductDTO.builder().pid(product.getPid()).productName(product.getProductName()).unitPrice(product.getUnitPrice()).build();
+    }
+
+    private ItemDTO toDTO(Item item) 
+    {
+        return new ItemDTO(item.getIid(), item.getItemName(), item.getUnitPrice());
+    }
+
+    private PaymentDTO toDTO(Payment payment) 
+    {
+        return PaymentDTO.builder().pid(payment.getPid()).amount(payment.getAmount()).paymentMode(payment.getPaymentMode())
+        .paymentStatus(payment.getPaymentStatus()).paymentDateTime(payment.getPaymentDateTime()).build();
+    }
+}
@@ -1,15 +1,18 @@
 package com.demo.Service.Order;
 import com.demo.DTO.Order.OrderItemDTO;
 import com.demo.Entity.Item.Item;
+import com.demo.Entity.Order.Order;
 import com.demo.Entity.Order.OrderItem;
 import com.demo.Exception.Order.OrderItemNotFoundException;
 import com.demo.Interface.Order.OrderItemService;
 import com.demo.Repository.Item.ItemRepository;
 import com.demo.Repository.Order.OrderItemRepository;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.ProjectionPaginator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service        //Marks this class as a service component in Spring, enabling automatic bean creation
 @Transactional  //Ensures that all methods within the class are executed in a transactional context, so changes are rolled back if something fails
@@ -17,33 +20,39 @@ public class OrderItemServiceImpl implements OrderItemService
 {
     private final OrderItemRepository orderItemRepository;  //Repository to interact with the OrderItem entity
     private final ItemRepository itemRepository;            //Repository to interact with the Item entity
+    private final OrderRepository orderRepository;          //Repository to interact with the Order entity
+    private final ProjectionPaginator<OrderItemDTO> orderItemPaginator; //Cursor pagination over OrderItem DTO projections in oiid order
+    private final OrderPricingEngine orderPricingEngine;    //Keeps the order total in step with its lines
 
-    //Constructor-based dependency injection. Spring automatically injects the repositories here.
-    public OrderItemServiceImpl(OrderItemRepository orderItemRepository, ItemRepository itemRepository) 
+    //Constructor-based dependency injection. Spring automatically injects the repositories and the pricing engine here.
+    public OrderItemServiceImpl(OrderItemRepository orderItemRepository, ItemRepository itemRepository, OrderRepository orderRepository, OrderPricingEngine orderPricingEngine) 
     {
         this.orderItemRepository = orderItemRepository; //Initializes orderItemRepository
         this.itemRepository = itemRepository;           //Initializes itemRepository
+        this.orderRepository = orderRepository;         //Initializes orderRepository
+        this.orderPricingEngine = orderPricingEngine;   //Initializes the pricing engine
+        this.orderItemPaginator = new ProjectionPaginator<>("oiid", OrderItemDTO::getOiid, orderItemRepository::findDTOsAfter, orderItemRepository::findDTOsBefore);
     }
 
     //Helper method to convert OrderItem entity to OrderItemDTO for returning data
     private OrderItemDTO toDTO(OrderItem orderItem) 
     {
         //Builds an OrderItemDTO object using the builder pattern, Maps OrderItem to DTO
-        //Maps related Item's iid as oid for DTTO and for DTO and retuns created DTO
-        return OrderItemDTO.builder().oiid(orderItem.getOiid()).oid(orderItem.getOid().getIid()) .iid(orderItem.getIid().getIid()).build();  
+        //Maps the related Order's oid and Item's iid into the DTO and returns it
+        return OrderItemDTO.builder().oiid(orderItem.getOiid()).oid(orderItem.getOid().getOid()).iid(orderItem.getIid().getIid()).build();  
     }
 
     //Helper method to convert OrderItemDTO to OrderItem entity for saving/updating
     private OrderItem toEntity(OrderItemDTO dto) 
     {
-        //Lookup Item for 'oid' (which is an order reference) and throw exception if not found
-        Item orderItem = itemRepository.findById(dto.getOid()).orElseThrow(() -> new OrderItemNotFoundException(dto.getOid()));
+        //Lookup Order for 'oid' (which is an order reference) and throw exception if not found
+        Order order = orderRepository.findById(dto.getOid()).orElseThrow(() -> new OrderItemNotFoundException(dto.getOid()));
 
         //Lookup Item for 'iid' (which is an item reference) and throw exception if not found
         Item item = itemRepository.findById(dto.getIid()).orElseThrow(() -> new OrderItemNotFoundException(dto.getIid()));
 
         //Converts the OrderItemDTO to an OrderItem entity using the builder pattern
-        return OrderItem.builder().oiid(dto.getOiid()).oid(orderItem).iid(item).build(); 
+        return OrderItem.builder().oiid(dto.getOiid()).oid(order).iid(item).build(); 
     }
 
     @Override   //Creates a new OrderItem using the provided DTO and saves it in the repository
@@ -51,29 +60,30 @@ public class OrderItemServiceImpl implements OrderItemService
     {
         OrderItem entity = toEntity(dto);                   //Converts the DTO to an OrderItem entity
         OrderItem saved = orderItemRepository.save(entity); //Saves the entity into the database
+        orderPricingEngine.linesChanged(saved.getOid().getOid());   //Prices the order again with the new line
         return toDTO(saved);                                //Converts the saved OrderItem entity back to DTO and returns it
     }
 
-    @Override   //Fetches an OrderItem by its ID and converts it into a DTO
+    @Override   //Fetches an OrderItem by its ID as a DTO projection
     public OrderItemDTO getOrderItem(Long oiid) 
     {
-        //Looks for the OrderItem in the repository by oiid, throws an exception if not found
-        OrderItem orderItem = orderItemRepository.findById(oiid).orElseThrow(() -> new OrderItemNotFoundException(oiid));
-        return toDTO(orderItem);    //Converts the found OrderItem to DTO and returns it
+        //Reads the OrderItem's key columns straight into a DTO by oiid, throws an exception if not found
+        return orderItemRepository.findDTOById(oiid).orElseThrow(() -> new OrderItemNotFoundException(oiid));
     }
 
-    @Override   //Fetches all OrderItems and converts them into DTOs
-    public List<OrderItemDTO> getOrderItems() {
-        //Finds all OrderItems from repository, converts the list into a stream for processing, convert seach order item enttiy to DTO
-        //Collect results itno a list and returns it
-        return orderItemRepository.findAll().stream().map(this::toDTO).collect(Collectors.toList());
+    @Override   //Fetches one page of OrderItems after the cursor as DTO projections
+    public CursorPage<OrderItemDTO> getOrderItems(CursorRequest request) 
+    {
+        //Reads at most request.getLimit() OrderItems in oiid order, projected straight into DTOs
+        return orderItemPaginator.fetch(request);
     }
 
     @Override   //Updates an existing OrderItem with the provided DTO and saves the updated entity
     public OrderItemDTO updateOrderItem(Long oiid, OrderItemDTO dto) 
     {
         //Checks if the OrderItem exists by oiid, throws an exception if not found
-        orderItemRepository.findById(oiid).orElseThrow(() -> new OrderItemNotFoundException(oiid));
+        OrderItem existing = orderItemRepository.findById(oiid).orElseThrow(() -> new OrderItemNotFoundException(oiid));
+        Long previousOid = existing.getOid().getOid();
 
         //Updates the DTO with the existing oiid value (to avoid overriding the ID)
         dto = OrderItemDTO.builder().oiid(oiid).oid(dto.getOid()).iid(dto.getIid()).build();
@@ -81,6 +91,10 @@ public class OrderItemServiceImpl implements OrderItemService
         //Converts the updated DTO back to an entity for saving
         OrderItem updated = toEntity(dto);                      //Converts DTO to OrderItem entity
         OrderItem saved = orderItemRepository.save(updated);    //Saves the updated entity to the repository
+
+        //Prices the order the line left and the one it now belongs to
+        orderPricingEngine.linesChanged(previousOid, saved.getOid().getOid());
+
         return toDTO(saved);                                    //Converts the saved entity back to a DTO and returns it
     }
 
@@ -90,5 +104,6 @@ public class OrderItemServiceImpl implements OrderItemService
         //Looks for the OrderItem by oiid, throws an exception if not found
         OrderItem orderItem = orderItemRepository.findById(oiid).orElseThrow(() -> new OrderItemNotFoundException(oiid));
         orderItemRepository.delete(orderItem);  //Deletes the found OrderItem from the repository
+        orderPricingEngine.linesChanged(orderItem.getOid().getOid());    //Prices the order again without the line
     }
 }
\ No newline at end of file
@@ -8,22 +8,25 @@ import com.demo.Repository.Order.OrderPaymentRepository;
 import com.demo.Repository.Payment.PaymentRepository;  
 import com.demo.DTO.Order.OrderPaymentDTO;  
 import com.demo.Interface.Order.OrderPaymentService;  
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.ProjectionPaginator;
 import org.springframework.beans.factory.annotation.Autowired; 
 import org.springframework.stereotype.Service;  
-import java.util.List;  
-import java.util.stream.Collectors; 
 
 @Service  //Indicate that this class is a Spring service
 public class OrderPaymentServiceImpl implements OrderPaymentService 
 {
     private final OrderPaymentRepository orderPaymentRepository;    //Repository to manage OrderPayment entities
     private final PaymentRepository paymentRepository;              //Repository to manage Payment entities
+    private final ProjectionPaginator<OrderPaymentDTO> orderPaymentPaginator;  //Cursor pagination over OrderPayment DTO projections in poid order
 
     @Autowired  //Automatically inject dependencies via constructor
     public OrderPaymentServiceImpl(OrderPaymentRepository orderPaymentRepository, PaymentRepository paymentRepository) 
     {
         this.orderPaymentRepository = orderPaymentRepository;
         this.paymentRepository = paymentRepository;
+        this.orderPaymentPaginator = new ProjectionPaginator<>("poid", OrderPaymentDTO::getPoid, orderPaymentRepository::findDTOsAfter, orderPaymentRepository::findDTOsBefore);
     }
 
     @Override
@@ -56,26 +59,16 @@ public class OrderPaymentServiceImpl implements OrderPaymentService
         if (poid == null)
             throw new IllegalArgumentException("POID cannot be null");
 
-        //Retrieve the OrderPayment by POID, throw exception if not found
-        OrderPayment orderPayment = orderPaymentRepository.findById(poid).orElseThrow(() -> new OrderPaymentNotFoundException(poid));
-
-        //Retrieve the associated Payment entity using its Payment ID
-        Payment payment = paymentRepository.findById(orderPayment.getPid().getPid()).orElseThrow(() -> 
-        new PaymentNotFoundException(orderPayment.getPid().getPid()));
-
-        //Return a DTO containing both Order and Payment details
-        return new OrderPaymentDTO(orderPayment.getPoid(), orderPayment.getOid().getOid(), payment.getPid());
+        //Read the OrderPayment's key columns straight into a DTO by POID, throw exception if not found
+        //The payment ID comes from the foreign key column, so the Payment row does not need to be loaded
+        return orderPaymentRepository.findDTOById(poid).orElseThrow(() -> new OrderPaymentNotFoundException(poid));
     }
 
     @Override
-    public List<OrderPaymentDTO> getOrderPayments() 
+    public CursorPage<OrderPaymentDTO> getOrderPayments(CursorRequest request) 
     {
-        //Retrieve all OrderPayments from the repository
-        List<OrderPayment> orderPayments = (List<OrderPayment>) orderPaymentRepository.findAll();
-
-        //Map each OrderPayment entity to a DTO and return the list
-        return orderPayments.stream().map(orderPayment -> new OrderPaymentDTO(orderPayment.getPoid(), orderPayment.getOid().getOid(), 
-        orderPayment.getPid().getPid())).collect(Collectors.toList());
+        //Retrieve one page of OrderPayments after the cursor, projected straight into DTOs
+        return orderPaymentPaginator.fetch(request);
     }
 
     @Override
@@ -0,0 +1,205 @@
+package com.demo.Service.Order;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import com.demo.DTO.Order.OrderItemDTO;
+import com.demo.DTO.Order.OrderProductDTO;
+import com.demo.DTO.Order.OrderRepriceDTO;
+import com.demo.Entity.Item.Item;
+import com.demo.Entity.Product.Product;
+import com.demo.Repository.Item.ItemRepository;
+import com.demo.Repository.Order.OrderItemRepository;
+import com.demo.Repository.Order.OrderProductRepository;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Repository.Product.ProductRepository;
+import com.demo.Service.Analytics.AnalyticsAggregator;
+import com.demo.Util.Concurrency.BoundedExecutors;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.demo.Util.Money.Money;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+
+//Prices orders on the server from their lines: the total of an order with lines is the sum of the unit prices of its linked products and items
+//(each link is one unit). Prices come from a small in-memory cache per entity type; the misses of a batch are read with one IN query per type.
+//Prices and totals are Money (a long of cents), so summing the lines of thousands of orders is long arithmetic, not BigDecimal allocations.
+//An order is created with a provisional total; once it has lines, every change to them locks the order row and prices all of its lines again,
+//so a removed line never takes off a price other than the one it is priced at now, and two lines linked at once both end up in the total
+@Component
+public class OrderPricingEngine
+{
+    private static final int REPRICE_CHUNK = 500;   //Orders priced and written together by one task of a bulk reprice
+
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ProductRepository productRepository;
+    private final ItemRepository itemRepository;
+    private final JdbcTemplate jdbcTemplate;        //Writes the new totals of a reprice chunk as one JDBC batch
+    private final ThreadPoolTaskExecutor taskExecutor;  //Reprices the chunks side by side on a pool of its own, half the connection pool wide
+    private final AnalyticsAggregator analyticsAggregator;  //A changed total changes the order totals of its hour
+
+    //Unit prices by ID, bounded and expiring like the catalog cache regions; updates and deletes in the catalog evict their entry
+    private final Cache<Long, Money> productPrices = Caffeine.newBuilder().maximumSize(50_000).expireAfterWrite(Duration.ofMinutes(10)).build();
+    private final Cache<Long, Money> itemPrices = Caffeine.newBuilder().maximumSize(50_000).expireAfterWrite(Duration.ofMinutes(10)).build();
+
+    public OrderPricingEngine(OrderRepository orderRepository, OrderProductRepository orderProductRepository, OrderItemRepository orderItemRepository,
+    ProductRepository productRepository, ItemRepository itemRepository, DataSource dataSource, AnalyticsAggregator analyticsAggregator,
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize)
+    {
+        this.orderRepository = orderRepository;
+        this.orderProductRepository = orderProductRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.productRepository = productRepository;
+        this.itemRepository = itemRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        //Each chunk holds a connection while it runs, so a reprice leaves the other half of the pool to requests;
+        //chunks beyond the threads and their short queue run on the calling thread
+        int threads = Math.max(1, connectionPoolSize / 2);
+        this.taskExecutor = BoundedExecutors.create("order-reprice", threads, threads);
+        this.analyticsAggregator = analyticsAggregator;
+    }
+
+    //Unit prices of the given products, reading only the ones not cached yet, in one IN query
+    public Map<Long, Money> productPrices(Collection<Long> pids)
+    {
+        return productPrices.getAll(pids, missing -> load(productRepository.findAllById(List.copyOf(missing)), Product::getPid, Product::getUnitPrice));
+    }
+
+    //Unit prices of the given items, reading only the ones not cached yet, in one IN query
+    public Map<Long, Money> itemPrices(Collection<Long> iids)
+    {
+        return itemPrices.getAll(iids, missing -> load(itemRepository.findAllById(List.copyOf(missing)), Item::getIid, Item::getUnitPrice));
+    }
+
+    public void evictProductPrice(Long pid)
+    {
+        productPrices.invalidate(pid);
+    }
+
+    public void evictItemPrice(Long iid)
+    {
+        itemPrices.invalidate(iid);
+    }
+
+    //True once the order has at least one product or item line, its total is then owned by this engine
+    public boolean hasLines(Long oid)
+    {
+        return orderProductRepository.countByOrderId(oid) + orderItemRepository.countByOrderId(oid) > 0;
+    }
+
+    //Totals of the given orders from their lines: one IN query per link table, then one per price table for the uncached prices
+    //Orders without lines are left out of the result
+    public Map<Long, Money> computeTotals(Collection<Long> oids)
+    {
+        List<OrderProductDTO> productLines = orderProductRepository.findDTOsByOrderIds(oids);
+        List<OrderItemDTO> itemLines = orderItemRepository.findDTOsByOrderIds(oids);
+        Map<Long, Money> unitPrices = productPrices(productLines.stream().map(OrderProductDTO::getPid).collect(Collectors.toSet()));
+        Map<Long, Money> itemUnitPrices = itemPrices(itemLines.stream().map(OrderItemDTO::getIid).collect(Collectors.toSet()));
+        Map<Long, Money> totals = new HashMap<>();
+
+        productLines.forEach(line -> totals.merge(line.getOid(), unitPrices.getOrDefault(line.getPid(), Money.ZERO), Money::plus));
+        itemLines.forEach(line -> totals.merge(line.getOid(), itemUnitPrices.getOrDefault(line.getIid(), Money.ZERO), Money::plus));
+
+        return totals;
+    }
+
+    //Called inside the transaction that saved, moved or removed a line, with every order it touched: the orders are locked in ID order,
+    //so two transactions never wait on each other, and priced from their lines once the lock is held, so a concurrent change of the same
+    //order waits and then sees the lines this one committed. An order left without lines keeps its last total
+    public void linesChanged(Long... oids)
+    {
+        SortedSet<Long> orders = new TreeSet<>(Arrays.asList(oids));
+        orders.forEach(orderRepository::lockForPricing);
+
+        computeTotals(orders).forEach((oid, total) -> orderRepository.updateTotalPrice(oid, total.toBigDecimal()));
+        orders.forEach(oid -> orderRepository.findOrderDateTime(oid).ifPresent(analyticsAggregator::ordersChanged));
+    }
+
+    //Sets the total of every given order to the sum of its lines at the current prices, in chunks of REPRICE_CHUNK orders priced and
+    //written in parallel, each chunk with its own queries and one JDBC batch. Orders without lines keep their total
+    public OrderRepriceDTO reprice(Collection<Long> oids)
+    {
+        long started = System.nanoTime();
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(oids));
+        List<CompletableFuture<int[]>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < distinct.size(); from += REPRICE_CHUNK)
+        {
+            List<Long> chunk = distinct.subList(from, Math.min(from + REPRICE_CHUNK, distinct.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> repriceChunk(chunk), taskExecutor));
+        }
+
+        try
+        {
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        }
+
+        catch (CompletionException ex)
+        {
+            //Rethrow the chunk's own exception so the usual error mapping applies
+            if (ex.getCause() instanceof RuntimeException cause)
+                throw cause;
+
+            throw ex;
+        }
+
+        int priced = 0, repriced = 0;
+
+        for (CompletableFuture<int[]> chunk : chunks)
+        {
+            priced += chunk.join()[0];
+            repriced += chunk.join()[1];
+        }
+
+        //The batches do not say which orders changed, so every cached order hour goes
+        if (repriced > 0)
+            analyticsAggregator.ordersChanged();
+
+        return OrderRepriceDTO.builder().requested(distinct.size()).repriced(repriced).unchanged(priced - repriced).skipped(distinct.size() - priced)
+        .elapsedMillis((System.nanoTime() - started) / 1_000_000).build();
+    }
+
+    //Stops the reprice threads with the application
+    @PreDestroy
+    public void shutdown()
+    {
+        taskExecutor.shutdown();
+    }
+
+    //Returns {orders with lines, orders whose total changed}
+    private int[] repriceChunk(List<Long> oids)
+    {
+        Map<Long, Money> totals = computeTotals(oids);
+        List<Object[]> rows = totals.entrySet().stream().map(total -> new Object[] {total.getValue().toBigDecimal(), total.getKey(), total.getValue().toBigDecimal()}).toList();
+        int changed = 0;
+
+        //The last condition skips the rows already at the right total, so the update counts only the changed ones
+        for (int count : jdbcTemplate.batchUpdate("update orders set total_price = ?, version = version + 1 where oid = ? and total_price <> ?", rows))
+            changed += Math.max(count, 0);
+
+        return new int[] {totals.size(), changed};
+    }
+
+    private static <E> Map<Long, Money> load(List<E> rows, Function<E, Long> idOf, Function<E, Money> priceOf)
+    {
+        Map<Long, Money> prices = new HashMap<>();
+        rows.forEach(row -> prices.put(idOf.apply(row), priceOf.apply(row)));
+        return prices;
+    }
+}
@@ -9,12 +9,12 @@ import com.demo.Interface.Order.OrderProductService;
 import com.demo.Repository.Product.ProductRepository;
 import com.demo.Repository.Order.OrderProductRepository;
 import com.demo.Repository.Order.OrderRepository;  // Import OrderRepository
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.ProjectionPaginator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 @Transactional
 public class OrderProductServiceImpl implements OrderProductService {
@@ -22,14 +22,19 @@ public class OrderProductServiceImpl implements OrderProductService {
     private final OrderProductRepository orderProductRepository;
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;  // Inject OrderRepository
+    private final ProjectionPaginator<OrderProductDTO> orderProductPaginator;  // Pages of DTO projections in opid order
+    private final OrderPricingEngine orderPricingEngine;  // Keeps the order total in step with its lines
 
     // Constructor-based injection of repositories
     public OrderProductServiceImpl(OrderProductRepository orderProductRepository,
                                     ProductRepository productRepository,
-                                    OrderRepository orderRepository) {  // Include OrderRepository in constructor
+                                    OrderRepository orderRepository,  // Include OrderRepository in constructor
+                                    OrderPricingEngine orderPricingEngine) {
         this.orderProductRepository = orderProductRepository;
+        this.orderPricingEngine = orderPricingEngine;
         this.productRepository = productRepository;
         this.orderRepository = orderRepository;  // Initialize the orderRepository
+        this.orderProductPaginator = new ProjectionPaginator<>("opid", OrderProductDTO::getOpid, orderProductRepository::findDTOsAfter, orderProductRepository::findDTOsBefore);
     }
 
     // Helper method to convert OrderProduct entity to OrderProductDTO
@@ -61,30 +66,34 @@ public class OrderProductServiceImpl implements OrderProductService {
     public OrderProductDTO createOrderProduct(OrderProductDTO dto) {
         OrderProduct entity = toEntity(dto);
         OrderProduct saved = orderProductRepository.save(entity);
+        orderPricingEngine.linesChanged(saved.getOid().getOid());
         return toDTO(saved);
     }
 
     @Override
     public OrderProductDTO getOrderProduct(Long opid) {
-        OrderProduct orderProduct = orderProductRepository.findById(opid).orElseThrow(() -> new OrderProductNotFoundException(opid));
-        return toDTO(orderProduct);
+        // Read only the key columns, straight into the DTO
+        return orderProductRepository.findDTOById(opid).orElseThrow(() -> new OrderProductNotFoundException(opid));
     }
 
     @Override
-    public List<OrderProductDTO> getOrderProducts() {
-        return orderProductRepository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    public CursorPage<OrderProductDTO> getOrderProducts(CursorRequest request) {
+        return orderProductPaginator.fetch(request);
     }
 
     @Override
     public OrderProductDTO updateOrderProduct(Long opid, OrderProductDTO dto) {
-        orderProductRepository.findById(opid).orElseThrow(() -> new OrderProductNotFoundException(opid));
+        OrderProduct existing = orderProductRepository.findById(opid).orElseThrow(() -> new OrderProductNotFoundException(opid));
+        Long previousOid = existing.getOid().getOid();
 
         dto = OrderProductDTO.builder().opid(opid).oid(dto.getOid()).pid(dto.getPid()).build();
 
         OrderProduct updated = toEntity(dto);
         OrderProduct saved = orderProductRepository.save(updated);
+
+        // Price the order the line left and the one it now belongs to
+        orderPricingEngine.linesChanged(previousOid, saved.getOid().getOid());
+
         return toDTO(saved);
     }
 
@@ -92,5 +101,6 @@ public class OrderProductServiceImpl implements OrderProductService {
     public void deleteOrderProduct(Long opid) {
         OrderProduct orderProduct = orderProductRepository.findById(opid).orElseThrow(() -> new OrderProductNotFoundException(opid));
         orderProductRepository.delete(orderProduct);
+        orderPricingEngine.linesChanged(orderProduct.getOid().getOid());
     }
 }
@@ -1,28 +1,60 @@
 package com.demo.Service.Order;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional; 
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.demo.DTO.Order.OrderDTO;
+import com.demo.DTO.Order.OrderRepriceDTO;
 import com.demo.Entity.Order.Order;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Exception.Order.InvalidOrderStatusTransitionException;
 import com.demo.Exception.Order.OrderNotFoundException;
+import com.demo.Exception.Order.OrderUpdateConflictException;
 import com.demo.Interface.Order.OrderService;
 import com.demo.Repository.Order.OrderRepository;
+import com.demo.Service.Analytics.AnalyticsAggregator;
+import com.demo.Util.Export.NdjsonWriter;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.KeysetPaginator;
+import com.demo.Util.Pagination.KeysetPaginator.SortKey;
 import jakarta.validation.Valid;
 
 @Service  //Marks this class as a Spring service for dependency injection
 public class OrderServiceImpl implements OrderService 
 {
-    private final OrderRepository orderRepository;
+    private static final int MAX_REPRICE = 100_000;         //Upper bound on the orders of one reprice request
+    private static final int MAX_UPDATE_ATTEMPTS = 3;       //Reads and compare-and-sets of one PATCH before it gives up with a conflict
 
-    @Autowired  //Constructor injection of the OrderRepository
-    public OrderServiceImpl(OrderRepository orderRepository) 
+    private final OrderRepository orderRepository;
+    private final KeysetPaginator<Order> orderPaginator;   //Cursor pagination over orders, sortable by oid or orderDateTime
+    private final NdjsonWriter ndjsonWriter;                //Writes the NDJSON export one order at a time
+    private final OrderPricingEngine orderPricingEngine;    //Owns the total of every order that has lines
+    private final AnalyticsAggregator analyticsAggregator;  //Drops the cached analytics hour of every order written
+    private final OrderStatusCounters orderStatusCounters;  //Live order count per status
+
+    @Autowired  //Constructor injection of the OrderRepository, the NDJSON writer, the pricing engine, the analytics aggregator and the status counters
+    public OrderServiceImpl(OrderRepository orderRepository, NdjsonWriter ndjsonWriter, OrderPricingEngine orderPricingEngine, AnalyticsAggregator analyticsAggregator,
+    OrderStatusCounters orderStatusCounters) 
     {
         this.orderRepository = orderRepository;  //Initialize the repository to interact with the database
+        this.ndjsonWriter = ndjsonWriter;        //Initialize the writer used by the export
+        this.orderPricingEngine = orderPricingEngine;   //Initialize the engine that prices orders from their lines
+        this.analyticsAggregator = analyticsAggregator;
+        this.orderStatusCounters = orderStatusCounters;
+        this.orderPaginator = new KeysetPaginator<>(orderRepository, "oid", Order::getOid, Map.of("orderDateTime", new SortKey<>(Order::getOrderDateTime, LocalDateTime::parse)));
     }
 
-    @Override  //Method to create a new order
+    @Override  //Method to create a new order, its total is provisional until the first product or item line is linked
     public OrderDTO createOrder(@Valid OrderDTO orderDTO) 
     {
         //Map OrderDTO to Order entity
@@ -30,6 +62,8 @@ public class OrderServiceImpl implements OrderService
 
         //Save the order entity to the database
         order = orderRepository.save(order);
+        analyticsAggregator.ordersChanged(order.getOrderDateTime());
+        orderStatusCounters.orderCreated(order.getOrderStatus());
 
         //Convert the saved Order entity to OrderDTO and return it
         return convertToDTO(order);  //Return the DTO version of the created order
@@ -48,39 +82,59 @@ public class OrderServiceImpl implements OrderService
         return convertToDTO(order.get());                       //Return the DTO of the fetched order
     }
 
-    @Override  //Method to retrieve all orders in the system
-    public List<OrderDTO> getOrders() 
+    @Override  //Method to retrieve one page of orders after the cursor
+    public CursorPage<OrderDTO> getOrders(CursorRequest request) 
     {
-        List<Order> orders = orderRepository.findAll();                                 //Fetch all orders from the repository
+        //Fetch at most request.getLimit() orders after the cursor and convert them to OrderDTOs
+        return orderPaginator.fetch(request, this::convertToDTO);
+    }
 
-        //Convert the list of Order entities to a list of OrderDTOs and return it
-        return orders.stream().map(this::convertToDTO).collect(Collectors.toList());    //Collect the results into a list and return it
+    @Override  //Method to stream every order after the given ID as NDJSON, ordered by oid so an interrupted export can resume from the last oid received
+    @Transactional(readOnly = true)
+    public long exportOrders(long after, OutputStream out) throws IOException 
+    {
+        //The stream holds an open JDBC cursor, so it is closed as soon as the last row has been written
+        try (Stream<Order> orders = orderRepository.streamAfter(after)) 
+        {
+            return ndjsonWriter.write(orders, this::convertToDTO, out);
+        }
     }
 
-    @Override  //Method to partially update an existing order
+    @Override  //Method to partially update an existing order: the status may only follow the transition table, and the update is a
+               //compare-and-set on the version read, tried again from a fresh read when another request changed the order in between
     public OrderDTO partialUpdateOrder(Long oid, OrderDTO orderDTO) 
     {
-        Optional<Order> existingOrder = orderRepository.findById(oid);  //Fetch the existing order by its ID
-
-        //If order is not found, throw an OrderNotFoundException
-        if(existingOrder.isEmpty()) 
-            throw new OrderNotFoundException(oid);                      //Throw exception if the order to update is not found
-
-        //Get the existing order entity
-        Order order = existingOrder.get();                      
-
-        //Update fields from the OrderDTO if they are not null
-        if(orderDTO.getTotalPrice() != null) 
-            order.setTotalPrice(orderDTO.getTotalPrice());              //Update totalPrice if provided
-
-        if(orderDTO.getOrderStatus() != null)
-            order.setOrderStatus(orderDTO.getOrderStatus());            //Update orderStatus if provided
-
-        //Save the updated order entity
-        order = orderRepository.save(order);
-
-        //Convert the updated Order entity to OrderDTO and return it
-        return convertToDTO(order); //Return the DTO of the updated order
+        for (int attempt = 1; ; attempt++)
+        {
+            //Fetch the existing order by its ID, or throw an OrderNotFoundException if it is not found
+            Order order = orderRepository.findById(oid).orElseThrow(() -> new OrderNotFoundException(oid));
+
+            //A client sending the version it read gets its update applied to that version only, otherwise the version just read is used
+            long version = orderDTO.getVersion() != null ? orderDTO.getVersion() : order.getVersion();
+            OrderStatus previousStatus = order.getOrderStatus();
+            OrderStatus status = orderDTO.getOrderStatus();
+
+            if(status != null && !previousStatus.canMoveTo(status))
+                throw new InvalidOrderStatusTransitionException(oid, previousStatus, status);
+
+            //The total of an order with lines is computed from them and never taken from the client
+            BigDecimal totalPrice = orderDTO.getTotalPrice() != null && !orderPricingEngine.hasLines(oid) ? orderDTO.getTotalPrice() : null;
+            Set<OrderStatus> from = status == null ? EnumSet.allOf(OrderStatus.class) : status.predecessors();
+
+            if(orderRepository.compareAndSet(oid, version, from, status, totalPrice) == 1)
+            {
+                OrderStatus newStatus = status != null ? status : previousStatus;
+                analyticsAggregator.ordersChanged(order.getOrderDateTime());
+                orderStatusCounters.statusChanged(previousStatus, newStatus);
+
+                return OrderDTO.builder().oid(oid).totalPrice(totalPrice != null ? totalPrice : order.getTotalPrice()).orderStatus(newStatus)
+                .orderDateTime(order.getOrderDateTime()).version(version + 1).build();
+            }
+
+            //The order moved on since it was read: a stale client version, or the last attempt, is a conflict for the client to resolve
+            if(orderDTO.getVersion() != null || attempt == MAX_UPDATE_ATTEMPTS)
+                throw new OrderUpdateConflictException(oid);
+        }
     }
 
     @Override   //Method to delete an existing order by its ID
@@ -94,6 +148,23 @@ public class OrderServiceImpl implements OrderService
             throw new OrderNotFoundException(oid);  //Throw exception if the order to delete is not found
 
         orderRepository.delete(order.get());        //Proceed to delete the found order
+        analyticsAggregator.ordersChanged(order.get().getOrderDateTime());
+        orderStatusCounters.orderDeleted(order.get().getOrderStatus());
+    }
+
+    @Override   //Method to recompute the totals of many orders from their lines at the current prices, in parallel chunks
+    public OrderRepriceDTO repriceOrders(List<Long> oids) 
+    {
+        if(oids == null || oids.size() > MAX_REPRICE)
+            throw new IllegalArgumentException("Between 0 and " + MAX_REPRICE + " order IDs can be repriced at once");
+
+        return orderPricingEngine.reprice(oids);
+    }
+
+    @Override   //Method to read the live number of orders in each status, kept in memory rather than counted per request
+    public Map<OrderStatus, Long> getOrderStatusCounts() 
+    {
+        return orderStatusCounters.counts();
     }
 
     //Helper method to convert an Order entity to OrderDTO
@@ -101,6 +172,6 @@ public class OrderServiceImpl implements OrderService
     {
         //Map fields from Order entity to OrderDTO and return a new OrderDTO object
         return OrderDTO.builder().oid(order.getOid()).totalPrice(order.getTotalPrice()).orderStatus(order.getOrderStatus())
-        .orderDateTime(order.getOrderDateTime()).build();  //Return the newly created OrderDTO
+        .orderDateTime(order.getOrderDateTime()).version(order.getVersion()).build();  //Return the newly created OrderDTO
     }
 }
\ No newline at end of file
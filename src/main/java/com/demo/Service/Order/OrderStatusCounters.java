@@ -0,0 +1,154 @@
+package com.demo.Service.Order;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Repository.Order.OrderRepository;
+
+//Live number of orders in each OrderStatus, so the dashboards polling them read a few counters instead of scanning the orders table.
+//Seeded from one GROUP BY once the application is ready; OrderServiceImpl moves an order between the counters after its transaction commits.
+//Rows written around the service (data loaders, the dataset generator, SQL) are caught by a periodic reconciliation against the same GROUP BY
+@Component
+public class OrderStatusCounters
+{
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatusCounters.class);
+
+    private final OrderRepository orderRepository;
+    private final Map<OrderStatus, LongAdder> counters = new EnumMap<>(OrderStatus.class);   //Filled once here and never restructured, so reads need no lock
+    private final AtomicInteger inFlight = new AtomicInteger();    //Changes registered in a transaction that has not completed yet
+    private final AtomicLong applied = new AtomicLong();           //Changes applied to the counters so far, to notice one landing mid-count
+
+    public OrderStatusCounters(OrderRepository orderRepository)
+    {
+        this.orderRepository = orderRepository;
+
+        for (OrderStatus status : OrderStatus.values())
+            counters.put(status, new LongAdder());
+    }
+
+    //Current count of every status, zero included
+    public Map<OrderStatus, Long> counts()
+    {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        counters.forEach((status, counter) -> counts.put(status, counter.sum()));
+        return counts;
+    }
+
+    public void orderCreated(OrderStatus status)
+    {
+        afterCommit(() -> add(status, 1));
+    }
+
+    public void orderDeleted(OrderStatus status)
+    {
+        afterCommit(() -> add(status, -1));
+    }
+
+    public void statusChanged(OrderStatus from, OrderStatus to)
+    {
+        if (from == to)
+            return;
+
+        afterCommit(() ->
+        {
+            add(from, -1);
+            add(to, 1);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed()
+    {
+        reconcile();
+        logger.info("Order status counters seeded: {}", counts());
+    }
+
+    //Counts the orders per status in the database and adds the difference to the counters. The round is skipped, and the next one
+    //corrects the counters, when they and the database might not describe the same moment: a change was applied while the table was
+    //being counted, or a transaction with a change is still completing (it may have committed, so the GROUP BY already sees its row,
+    //without its callback having moved the counters yet)
+    @Scheduled(initialDelayString = "${orders.status-counters.reconcile-interval-ms:60000}", fixedDelayString = "${orders.status-counters.reconcile-interval-ms:60000}")
+    public void reconcile()
+    {
+        long appliedBefore = applied.get();
+        Map<OrderStatus, Long> actual = new EnumMap<>(OrderStatus.class);
+
+        for (Object[] row : orderRepository.countByOrderStatus())
+            actual.put((OrderStatus) row[0], (Long) row[1]);
+
+        int pending = inFlight.get();     //Read before the counters: a callback decrements it only after applying its change
+        Map<OrderStatus, Long> counted = counts();
+
+        if (pending != 0 || applied.get() != appliedBefore)
+        {
+            logger.debug("Order status changes in flight during reconciliation, retrying next round");
+            return;
+        }
+
+        Map<OrderStatus, Long> drift = new EnumMap<>(OrderStatus.class);
+
+        counted.forEach((status, count) ->
+        {
+            long difference = actual.getOrDefault(status, 0L) - count;
+
+            if (difference != 0)
+            {
+                counters.get(status).add(difference);
+                drift.put(status, difference);
+            }
+        });
+
+        if (!drift.isEmpty())
+            logger.info("Order status counters corrected by {}", drift);
+    }
+
+    //Runs the change once the surrounding transaction commits, or at once when there is none, counting it as in flight until the
+    //transaction has completed either way
+    private void afterCommit(Runnable change)
+    {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            apply(change);
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+        {
+            @Override
+            public void afterCommit()
+            {
+                apply(change);
+            }
+
+            @Override
+            public void afterCompletion(int status)
+            {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private void apply(Runnable change)
+    {
+        change.run();
+        applied.incrementAndGet();
+    }
+
+    private void add(OrderStatus status, long delta)
+    {
+        if (status != null)
+            counters.get(status).add(delta);
+    }
+}
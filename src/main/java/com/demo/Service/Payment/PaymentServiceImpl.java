@@ -1,9 +1,11 @@
 package com.demo.Service.Payment;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.stereotype.Service;
 import com.demo.DTO.Payment.PaymentDTO;
 import com.demo.Entity.Payment.Payment;
@@ -11,25 +13,38 @@ import com.demo.Exception.CustomValidationException;
 import com.demo.Exception.Payment.PaymentNotFoundException;
 import com.demo.Interface.Payment.PaymentService;
 import com.demo.Repository.Payment.PaymentRepository;
-import jakarta.transaction.Transactional;
+import com.demo.Service.Analytics.AnalyticsAggregator;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.KeysetPaginator;
+import com.demo.Util.Pagination.KeysetPaginator.SortKey;
+import com.demo.Util.Export.NdjsonWriter;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class PaymentServiceImpl implements PaymentService 
 {
     private final PaymentRepository paymentRepository;
+    private final KeysetPaginator<Payment> paymentPaginator;   //Cursor pagination over payments, sortable by pid or paymentDateTime
+    private final NdjsonWriter ndjsonWriter;                    //Writes the NDJSON export one payment at a time
+    private final AnalyticsAggregator analyticsAggregator;      //Drops the cached analytics hour of every payment written
 
-    //Constructor to inject PaymentRepository
-    public PaymentServiceImpl(PaymentRepository paymentRepository) 
+    //Constructor to inject PaymentRepository, the NDJSON writer and the analytics aggregator
+    public PaymentServiceImpl(PaymentRepository paymentRepository, NdjsonWriter ndjsonWriter, AnalyticsAggregator analyticsAggregator) 
     {
         this.paymentRepository = paymentRepository;
+        this.ndjsonWriter = ndjsonWriter;
+        this.analyticsAggregator = analyticsAggregator;
+        this.paymentPaginator = new KeysetPaginator<>(paymentRepository, "pid", Payment::getPid, Map.of("paymentDateTime", new SortKey<>(Payment::getPaymentDateTime, LocalDateTime::parse)));
     }
 
     @Override   //Creates a new payment by validating the input DTO, converting it to an entity, and saving it
     public PaymentDTO createPayment(PaymentDTO paymentDTO) 
     {
         validatePaymentDTO(paymentDTO);                         //Validate payment data
-        Payment payment = convertToEntity(paymentDTO);          //Convert DTO to entity
-        return convertToDTO(paymentRepository.save(payment));   //Save the payment and convert it back to DTO
+        Payment payment = paymentRepository.save(convertToEntity(paymentDTO));  //Convert DTO to entity and save it
+        analyticsAggregator.paymentsChanged(payment.getPaymentDateTime());      //A payment dated in the past changes a closed hour
+        return convertToDTO(payment);                                           //Convert the saved payment back to DTO
     }
     
     @Override   //Retrieves a payment by its ID, converting it to DTO format
@@ -38,11 +53,22 @@ public class PaymentServiceImpl implements PaymentService
         return convertToDTO(findPaymentById(pid));  //Convert the payment entity to DTO
     }
 
-    @Override   //Retrieves all payments and converts them into a list of DTOs
-    public List<PaymentDTO> getPayments() 
+    @Override   //Retrieves one page of payments after the cursor and converts them into DTOs
+    public CursorPage<PaymentDTO> getPayments(CursorRequest request) 
     {
-        //Retreive all payment from repositiory, convert list to a stream for processing and each payment entity to DTO and collect converted DTO into a list
-        return paymentRepository.findAll().stream().map(this::convertToDTO).collect(Collectors.toList()); 
+        //Read at most request.getLimit() payments after the cursor, in index order, and convert each payment entity to DTO
+        return paymentPaginator.fetch(request, this::convertToDTO); 
+    }
+
+    @Override   //Streams every payment after the given ID to the output as NDJSON, ordered by pid so an interrupted export can resume from the last pid received
+    @Transactional(readOnly = true)
+    public long exportPayments(long after, OutputStream out) throws IOException 
+    {
+        //The stream holds an open JDBC cursor, so it is closed as soon as the last row has been written
+        try (Stream<Payment> payments = paymentRepository.streamAfter(after)) 
+        {
+            return ndjsonWriter.write(payments, this::convertToDTO, out);
+        }
     }
 
     @Override   //Partially updates an existing payment by its ID with the provided data in DTO
@@ -69,6 +95,7 @@ public class PaymentServiceImpl implements PaymentService
             existingPayment.setPaymentStatus(paymentDTO.getPaymentStatus());    //Update payment status if provided
         
         existingPayment = paymentRepository.save(existingPayment);              //Save the updated payment entity
+        analyticsAggregator.paymentsChanged(existingPayment.getPaymentDateTime());
         
         return convertToDTO(existingPayment);                                   //Convert the updated Payment entity to PaymentDTO and return
     }
@@ -78,6 +105,7 @@ public class PaymentServiceImpl implements PaymentService
     {
         Payment payment = findPaymentById(pid); //Fetch the payment to be deleted
         paymentRepository.delete(payment);      //Delete the payment from the repository
+        analyticsAggregator.paymentsChanged(payment.getPaymentDateTime());
     }
 
     //Validates the PaymentDTO object before creating or updating
@@ -0,0 +1,348 @@
+package com.demo.Service.Product;
+
+import com.demo.DTO.Inventory.InventoryDTO;
+import com.demo.DTO.Product.ProductCategoryDTO;
+import com.demo.DTO.Product.ProductInventoryDTO;
+import com.demo.DTO.Product.ProductViewDTO;
+import com.demo.Repository.Category.CategoryRepository;
+import com.demo.Repository.Inventory.InventoryRepository;
+import com.demo.Repository.Product.ProductCategoryRepository;
+import com.demo.Repository.Product.ProductInventoryRepository;
+import com.demo.Repository.Product.ProductRepository;
+import com.demo.Util.Money.Money;
+import com.demo.Util.Pagination.ProjectionPaginator.SliceQuery;
+import com.demo.Util.Transaction.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Denormalized catalog: one precomputed ProductViewDTO per product (name, price, category names, total stock),
+// kept in memory and patched by the Product, Category, ProductCategory, ProductInventory and Inventory services
+// after their transactions commit, so GET /catalog never joins the four tables.
+// Writers are serialized on one lock; readers only touch the concurrent view maps and never block.
+@Component
+public class CatalogReadModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogReadModel.class);
+    private static final int LOAD_BATCH = 1000;
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductCategoryRepository productCategoryRepository;
+    private final ProductInventoryRepository productInventoryRepository;
+    private final InventoryRepository inventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    // ReentrantLock rather than synchronized: rebuild() reads the tables while holding it, which would pin a virtual thread's carrier
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // Read side: views by pid, and the pids of each category for filtering
+    private final NavigableMap<Long, ProductViewDTO> views = new ConcurrentSkipListMap<>();
+    private final Map<Long, NavigableSet<Long>> pidsByCategory = new ConcurrentHashMap<>();
+
+    // Write side: normalized copies of the source rows, only touched while holding the lock
+    private final Map<Long, ProductRow> products = new HashMap<>();
+    private final Map<Long, String> categoryNames = new HashMap<>();
+    private final Map<Long, ProductCategoryDTO> categoryLinks = new HashMap<>();
+    private final Map<Long, ProductInventoryDTO> inventoryLinks = new HashMap<>();
+    private final Map<Long, Integer> stock = new HashMap<>();
+    private final Map<Long, Set<Long>> categoryLinksByPid = new HashMap<>();
+    private final Map<Long, Set<Long>> categoryLinksByCategory = new HashMap<>();
+    private final Map<Long, Set<Long>> inventoryLinksByPid = new HashMap<>();
+    private final Map<Long, Set<Long>> inventoryLinksBySid = new HashMap<>();
+
+    public CatalogReadModel(ProductRepository productRepository, CategoryRepository categoryRepository,
+                            ProductCategoryRepository productCategoryRepository, ProductInventoryRepository productInventoryRepository,
+                            InventoryRepository inventoryRepository, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.productCategoryRepository = productCategoryRepository;
+        this.productInventoryRepository = productInventoryRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public Optional<ProductViewDTO> find(Long pid) {
+        return Optional.ofNullable(views.get(pid));
+    }
+
+    // Up to limit views strictly after (or before, when descending) the given pid, optionally within one category
+    public List<ProductViewDTO> slice(Long categoryId, Long from, int limit, boolean descending) {
+        List<ProductViewDTO> rows = new ArrayList<>(Math.min(limit, 64));
+
+        if (categoryId == null) {
+            NavigableMap<Long, ProductViewDTO> tail = descending ? views.headMap(from, false).descendingMap() : views.tailMap(from, false);
+            for (ProductViewDTO view : tail.values()) {
+                if (rows.size() == limit) break;
+                rows.add(view);
+            }
+            return rows;
+        }
+
+        NavigableSet<Long> pids = pidsByCategory.getOrDefault(categoryId, Collections.emptyNavigableSet());
+        NavigableSet<Long> tail = descending ? pids.headSet(from, false).descendingSet() : pids.tailSet(from, false);
+        for (Long pid : tail) {
+            if (rows.size() == limit) break;
+            ProductViewDTO view = views.get(pid);
+            if (view != null) rows.add(view);
+        }
+        return rows;
+    }
+
+    // Loads every source row once the sample data is in; later changes arrive through the methods below
+    // With background seeding the data is still coming in on ready, so DeferredSeeding builds it once the loaders are done instead
+    @EventListener(value = ApplicationReadyEvent.class, condition = "@environment.getProperty('dataset.seeding', 'inline') != 'background'")
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> {
+            writeLock.lock();
+            try {
+                clear();
+                productRepository.findAll().forEach(p -> products.put(p.getPid(), new ProductRow(p.getProductName(), p.getUnitPrice())));
+                categoryRepository.findAll().forEach(c -> categoryNames.put(c.getCategoryId(), c.getCategoryName()));
+                loadInBatches(productCategoryRepository::findDTOsAfter, ProductCategoryDTO::getPcid, this::indexCategoryLink);
+                loadInBatches(productInventoryRepository::findDTOsAfter, ProductInventoryDTO::getPsid, this::indexInventoryLink);
+                try (Stream<InventoryDTO> inventories = inventoryRepository.streamStock()) {
+                    inventories.forEach(i -> stock.put(i.getSid(), i.getStockQty()));
+                }
+                products.keySet().forEach(this::refresh);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+        logger.info("Catalog read model built with {} products", views.size());
+    }
+
+    public void productSaved(Long pid, String productName, Money unitPrice) {
+        afterCommit(() -> {
+            products.put(pid, new ProductRow(productName, unitPrice));
+            refresh(pid);
+        });
+    }
+
+    public void productDeleted(Long pid) {
+        afterCommit(() -> {
+            products.remove(pid);
+            refresh(pid);
+        });
+    }
+
+    public void categorySaved(Long categoryId, String categoryName) {
+        afterCommit(() -> {
+            categoryNames.put(categoryId, categoryName);
+            refreshAll(pidsOf(categoryLinksByCategory.get(categoryId), categoryLinks, ProductCategoryDTO::getPid));
+        });
+    }
+
+    public void categoryDeleted(Long categoryId) {
+        afterCommit(() -> {
+            categoryNames.remove(categoryId);
+            refreshAll(pidsOf(categoryLinksByCategory.get(categoryId), categoryLinks, ProductCategoryDTO::getPid));
+        });
+    }
+
+    public void productCategorySaved(ProductCategoryDTO link) {
+        afterCommit(() -> {
+            ProductCategoryDTO previous = unindexCategoryLink(link.getPcid());
+            indexCategoryLink(link);
+            if (previous != null) refresh(previous.getPid());
+            refresh(link.getPid());
+        });
+    }
+
+    public void productCategoryDeleted(Long pcid) {
+        afterCommit(() -> {
+            ProductCategoryDTO previous = unindexCategoryLink(pcid);
+            if (previous != null) refresh(previous.getPid());
+        });
+    }
+
+    public void productInventorySaved(ProductInventoryDTO link) {
+        afterCommit(() -> {
+            ProductInventoryDTO previous = unindexInventoryLink(link.getPsid());
+            indexInventoryLink(link);
+            if (previous != null) refresh(previous.getPid());
+            refresh(link.getPid());
+        });
+    }
+
+    public void productInventoryDeleted(Long psid) {
+        afterCommit(() -> {
+            ProductInventoryDTO previous = unindexInventoryLink(psid);
+            if (previous != null) refresh(previous.getPid());
+        });
+    }
+
+    public void stockSaved(Long sid, int stockQty) {
+        afterCommit(() -> {
+            stock.put(sid, stockQty);
+            refreshAll(pidsOf(inventoryLinksBySid.get(sid), inventoryLinks, ProductInventoryDTO::getPid));
+        });
+    }
+
+    public void stockShifted(Long sid, int delta) {
+        afterCommit(() -> {
+            stock.computeIfPresent(sid, (key, qty) -> qty + delta);
+            refreshAll(pidsOf(inventoryLinksBySid.get(sid), inventoryLinks, ProductInventoryDTO::getPid));
+        });
+    }
+
+    public void stockDeleted(Long sid) {
+        afterCommit(() -> {
+            stock.remove(sid);
+            refreshAll(pidsOf(inventoryLinksBySid.get(sid), inventoryLinks, ProductInventoryDTO::getPid));
+        });
+    }
+
+    // Applies a change once the caller's transaction has committed, so rolled back writes never reach the catalog
+    private void afterCommit(Runnable change) {
+        Runnable locked = () -> {
+            writeLock.lock();
+            try {
+                change.run();
+            } finally {
+                writeLock.unlock();
+            }
+        };
+
+        AfterCommit.run(locked);
+    }
+
+    // Recomputes the view of one product from the normalized rows and moves it between category sets
+    private void refresh(Long pid) {
+        ProductViewDTO previous = views.get(pid);
+        ProductRow product = products.get(pid);
+        Set<Long> oldCategories = previous == null ? Set.of() : new HashSet<>(previous.getCategoryIds());
+
+        if (product == null) {
+            views.remove(pid);
+            oldCategories.forEach(categoryId -> removeFromCategory(categoryId, pid));
+            return;
+        }
+
+        TreeSet<Long> categoryIds = new TreeSet<>();
+        for (Long pcid : categoryLinksByPid.getOrDefault(pid, Set.of())) {
+            Long categoryId = categoryLinks.get(pcid).getCategoryId();
+            if (categoryNames.containsKey(categoryId)) categoryIds.add(categoryId);
+        }
+
+        Set<Long> sids = new HashSet<>();
+        for (Long psid : inventoryLinksByPid.getOrDefault(pid, Set.of())) {
+            sids.add(inventoryLinks.get(psid).getSid());
+        }
+        long totalStock = sids.stream().mapToLong(sid -> stock.getOrDefault(sid, 0)).sum();
+
+        List<Long> ids = List.copyOf(categoryIds);
+        List<String> names = ids.stream().map(categoryNames::get).toList();
+        views.put(pid, ProductViewDTO.builder().pid(pid).productName(product.productName()).unitPrice(product.unitPrice())
+                .categoryIds(ids).categoryNames(names).totalStock(totalStock).build());
+
+        oldCategories.stream().filter(categoryId -> !categoryIds.contains(categoryId)).forEach(categoryId -> removeFromCategory(categoryId, pid));
+        categoryIds.forEach(categoryId -> pidsByCategory.computeIfAbsent(categoryId, key -> new ConcurrentSkipListSet<>()).add(pid));
+    }
+
+    private void refreshAll(Set<Long> pids) {
+        pids.forEach(this::refresh);
+    }
+
+    private void removeFromCategory(Long categoryId, Long pid) {
+        pidsByCategory.computeIfPresent(categoryId, (key, pids) -> {
+            pids.remove(pid);
+            return pids.isEmpty() ? null : pids;
+        });
+    }
+
+    private void indexCategoryLink(ProductCategoryDTO link) {
+        categoryLinks.put(link.getPcid(), link);
+        categoryLinksByPid.computeIfAbsent(link.getPid(), key -> new HashSet<>()).add(link.getPcid());
+        categoryLinksByCategory.computeIfAbsent(link.getCategoryId(), key -> new HashSet<>()).add(link.getPcid());
+    }
+
+    private ProductCategoryDTO unindexCategoryLink(Long pcid) {
+        ProductCategoryDTO link = categoryLinks.remove(pcid);
+        if (link != null) {
+            removeIndex(categoryLinksByPid, link.getPid(), pcid);
+            removeIndex(categoryLinksByCategory, link.getCategoryId(), pcid);
+        }
+        return link;
+    }
+
+    private void indexInventoryLink(ProductInventoryDTO link) {
+        inventoryLinks.put(link.getPsid(), link);
+        inventoryLinksByPid.computeIfAbsent(link.getPid(), key -> new HashSet<>()).add(link.getPsid());
+        inventoryLinksBySid.computeIfAbsent(link.getSid(), key -> new HashSet<>()).add(link.getPsid());
+    }
+
+    private ProductInventoryDTO unindexInventoryLink(Long psid) {
+        ProductInventoryDTO link = inventoryLinks.remove(psid);
+        if (link != null) {
+            removeIndex(inventoryLinksByPid, link.getPid(), psid);
+            removeIndex(inventoryLinksBySid, link.getSid(), psid);
+        }
+        return link;
+    }
+
+    private static void removeIndex(Map<Long, Set<Long>> index, Long key, Long value) {
+        index.computeIfPresent(key, (k, values) -> {
+            values.remove(value);
+            return values.isEmpty() ? null : values;
+        });
+    }
+
+    // Products referenced by a set of link IDs, copied so refreshing can change the indexes
+    private static <L> Set<Long> pidsOf(Set<Long> linkIds, Map<Long, L> links, Function<L, Long> pidOf) {
+        Set<Long> pids = new HashSet<>();
+        if (linkIds != null) linkIds.forEach(linkId -> pids.add(pidOf.apply(links.get(linkId))));
+        return pids;
+    }
+
+    // Reads a junction table in primary key batches, like the keyset list endpoints do
+    private <D> void loadInBatches(SliceQuery<D> query, Function<D, Long> idOf, Consumer<D> sink) {
+        long after = 0L;
+        List<D> batch;
+        do {
+            batch = query.find(after, Limit.of(LOAD_BATCH));
+            batch.forEach(sink);
+            if (!batch.isEmpty()) after = idOf.apply(batch.get(batch.size() - 1));
+        } while (batch.size() == LOAD_BATCH);
+    }
+
+    private void clear() {
+        views.clear();
+        pidsByCategory.clear();
+        products.clear();
+        categoryNames.clear();
+        categoryLinks.clear();
+        inventoryLinks.clear();
+        stock.clear();
+        categoryLinksByPid.clear();
+        categoryLinksByCategory.clear();
+        inventoryLinksByPid.clear();
+        inventoryLinksBySid.clear();
+    }
+
+    private record ProductRow(String productName, Money unitPrice) {}
+}
@@ -0,0 +1,33 @@
+package com.demo.Service.Product;
+
+import com.demo.DTO.Product.ProductViewDTO;
+import com.demo.Exception.Product.ProductNotFoundException;
+import com.demo.Interface.Product.CatalogService;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.ProjectionPaginator;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CatalogServiceImpl implements CatalogService {
+
+    private final CatalogReadModel catalogReadModel;
+
+    public CatalogServiceImpl(CatalogReadModel catalogReadModel) {
+        this.catalogReadModel = catalogReadModel;
+    }
+
+    @Override
+    public ProductViewDTO getCatalogProduct(Long pid) {
+        return catalogReadModel.find(pid).orElseThrow(() -> new ProductNotFoundException(pid));
+    }
+
+    @Override
+    public CursorPage<ProductViewDTO> getCatalog(Long categoryId, CursorRequest request) {
+        // Pages are cut from the in-memory views in pid order, the same cursor contract as the database-backed lists
+        ProjectionPaginator<ProductViewDTO> paginator = new ProjectionPaginator<>("pid", ProductViewDTO::getPid,
+                (after, limit) -> catalogReadModel.slice(categoryId, after, limit.max(), false),
+                (before, limit) -> catalogReadModel.slice(categoryId, before, limit.max(), true));
+        return paginator.fetch(request);
+    }
+}
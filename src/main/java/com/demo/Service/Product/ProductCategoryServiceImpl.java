@@ -9,14 +9,14 @@ import com.demo.Interface.Product.ProductCategoryService;
 import com.demo.Repository.Product.ProductCategoryRepository;
 import com.demo.Repository.Product.ProductRepository;
 import com.demo.Repository.Category.CategoryRepository;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.ProjectionPaginator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class ProductCategoryServiceImpl implements ProductCategoryService {
 
@@ -24,13 +24,18 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
     private final ProductCategoryRepository productCategoryRepository;
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ProjectionPaginator<ProductCategoryDTO> productCategoryPaginator;
+    private final CatalogReadModel catalogReadModel;
 
     public ProductCategoryServiceImpl(ProductCategoryRepository productCategoryRepository,
                                       ProductRepository productRepository,
-                                      CategoryRepository categoryRepository) {
+                                      CategoryRepository categoryRepository,
+                                      CatalogReadModel catalogReadModel) {
         this.productCategoryRepository = productCategoryRepository;
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
+        this.catalogReadModel = catalogReadModel;
+        this.productCategoryPaginator = new ProjectionPaginator<>("pcid", ProductCategoryDTO::getPcid, productCategoryRepository::findDTOsAfter, productCategoryRepository::findDTOsBefore);
     }
 
     @Override
@@ -41,24 +46,28 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
         ProductCategory entity = convertToEntity(dto);
         ProductCategory saved = productCategoryRepository.save(entity);
         logger.info("Created ProductCategory with ID: {}", saved.getPcid());
-        return convertToDTO(saved);
+        ProductCategoryDTO created = convertToDTO(saved);
+        catalogReadModel.productCategorySaved(created);
+        return created;
     }
 
     @Override
     public ProductCategoryDTO getProductCategory(Long pcid) {
-        ProductCategory entity = findById(pcid);
-        return convertToDTO(entity);
+        // Read only the link columns, straight into the DTO
+        return productCategoryRepository.findDTOById(pcid)
+                .orElseThrow(() -> {
+                    logger.error("ProductCategory with ID {} not found", pcid);
+                    return new ProductCategoryNotFoundException(pcid);
+                });
     }
 
     @Override
-    public List<ProductCategoryDTO> getProductCategories() {
-        List<ProductCategory> categories = productCategoryRepository.findAll();
-        if (categories.isEmpty()) {
+    public CursorPage<ProductCategoryDTO> getProductCategories(CursorRequest request) {
+        CursorPage<ProductCategoryDTO> page = productCategoryPaginator.fetch(request);
+        if (page.getItems().isEmpty()) {
             logger.warn("No product categories found.");
         }
-        return categories.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return page;
     }
 
     @Override
@@ -78,7 +87,9 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
 
         ProductCategory updated = productCategoryRepository.save(existing);
         logger.info("Updated ProductCategory with ID: {}", pcid);
-        return convertToDTO(updated);
+        ProductCategoryDTO result = convertToDTO(updated);
+        catalogReadModel.productCategorySaved(result);
+        return result;
     }
 
     @Override
@@ -86,6 +97,7 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
         ProductCategory entity = findById(pcid);
         productCategoryRepository.delete(entity);
         logger.info("Deleted ProductCategory with ID: {}", pcid);
+        catalogReadModel.productCategoryDeleted(pcid);
     }
 
     private ProductCategory findById(Long pcid) {
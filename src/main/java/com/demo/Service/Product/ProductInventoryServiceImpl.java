@@ -9,10 +9,13 @@ import com.demo.Interface.Product.ProductInventoryService;
 import com.demo.Repository.Inventory.InventoryRepository;
 import com.demo.Repository.Product.ProductInventoryRepository;
 import com.demo.Repository.Product.ProductRepository;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.ProjectionPaginator;
+import com.demo.Util.Versioning.ResourceVersions;
+import com.demo.Util.Versioning.VersionedResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional //Ensures the service method runs within a transaction context
@@ -21,13 +24,19 @@ public class ProductInventoryServiceImpl implements ProductInventoryService
     private final ProductInventoryRepository productInventoryRepository;
     private final ProductRepository productRepository;
     private final InventoryRepository inventoryRepository;
+    private final ProjectionPaginator<ProductInventoryDTO> productInventoryPaginator;
+    private final CatalogReadModel catalogReadModel;
+    private final ResourceVersions resourceVersions;
 
-    //Constructor for dependency injection of repositories
-    public ProductInventoryServiceImpl(ProductInventoryRepository productInventoryRepository, ProductRepository productRepository, InventoryRepository inventoryRepository) 
+    //Constructor for dependency injection of repositories, the catalog read model and the version stamps
+    public ProductInventoryServiceImpl(ProductInventoryRepository productInventoryRepository, ProductRepository productRepository, InventoryRepository inventoryRepository, CatalogReadModel catalogReadModel, ResourceVersions resourceVersions) 
     {
         this.productInventoryRepository = productInventoryRepository;
         this.productRepository = productRepository;
         this.inventoryRepository = inventoryRepository;
+        this.catalogReadModel = catalogReadModel;
+        this.resourceVersions = resourceVersions;
+        this.productInventoryPaginator = new ProjectionPaginator<>("psid", ProductInventoryDTO::getPsid, productInventoryRepository::findDTOsAfter, productInventoryRepository::findDTOsBefore);
     }
 
     //Converts a ProductInventory entity to a DTO (Data Transfer Object)
@@ -55,22 +64,23 @@ public class ProductInventoryServiceImpl implements ProductInventoryService
     {
         ProductInventory entity = toEntity(dto);                           //Convert DTO to entity for saving
         ProductInventory saved = productInventoryRepository.save(entity);     //Save the entity using the repository
-        return toDTO(saved);                                            //Convert the saved entity back to DTO and return it
+        ProductInventoryDTO created = toDTO(saved);                     //Convert the saved entity back to DTO
+        catalogReadModel.productInventorySaved(created);                //Add the inventory's stock to the product's catalog view once committed
+        return created;
     }
 
     @Override
     public ProductInventoryDTO getProductInventory(Long psid) 
     {
-        //Retrieve the product inventory by psid from the repository or throw exception if not found
-        ProductInventory productInventory = productInventoryRepository.findById(psid).orElseThrow(() -> new ProductInventoryNotFoundException(psid));
-        return toDTO(productInventory);    //Convert the entity to DTO and return it
+        //Retrieve the product inventory's key columns by psid straight into a DTO or throw exception if not found
+        return productInventoryRepository.findDTOById(psid).orElseThrow(() -> new ProductInventoryNotFoundException(psid));
     }
 
     @Override
-    public List<ProductInventoryDTO> getProductInventories() 
+    public CursorPage<ProductInventoryDTO> getProductInventories(CursorRequest request) 
     {
-        //Retrieve all product inventories from the repository
-        return productInventoryRepository.findAll().stream().map(this::toDTO).collect(Collectors.toList()); 
+        //Retrieve one page of product inventories after the cursor from the repository, projected straight into DTOs
+        return productInventoryPaginator.fetch(request); 
     }
 
     @Override
@@ -84,7 +94,9 @@ public class ProductInventoryServiceImpl implements ProductInventoryService
 
         ProductInventory updated = toEntity(dto);                          //Convert the updated DTO back to an entity for saving
         ProductInventory saved = productInventoryRepository.save(updated);    //Save the updated entity using the repository
-        return toDTO(saved);                                            //Convert the saved entity back to DTO and return it
+        ProductInventoryDTO result = toDTO(saved);                      //Convert the saved entity back to DTO
+        catalogReadModel.productInventorySaved(result);                 //Move the stock between catalog views once committed
+        return result;
     }
 
     @Override
@@ -95,5 +107,12 @@ public class ProductInventoryServiceImpl implements ProductInventoryService
         
         //Delete the product inventory from the repository
         productInventoryRepository.delete(productInventory);
+
+        //The link cascades its removal to the product and the inventory, so the catalog drops all three once committed
+        catalogReadModel.productInventoryDeleted(psid);
+        catalogReadModel.productDeleted(productInventory.getPid().getPid());
+        catalogReadModel.stockDeleted(productInventory.getSid().getSid());
+        resourceVersions.changed(VersionedResource.PRODUCTS, productInventory.getPid().getPid());
+        resourceVersions.changed(VersionedResource.INVENTORIES, productInventory.getSid().getSid());
     }
 }
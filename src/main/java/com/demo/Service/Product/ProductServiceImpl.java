@@ -5,20 +5,35 @@ import com.demo.Entity.Product.Product;
 import com.demo.Exception.Product.ProductNotFoundException;
 import com.demo.Interface.Product.ProductService;
 import com.demo.Repository.Product.ProductRepository;
+import com.demo.Service.Order.OrderPricingEngine;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Pagination.KeysetPaginator;
+import com.demo.Util.Pagination.KeysetPaginator.SortKey;
+import com.demo.Util.Versioning.ResourceVersions;
+import com.demo.Util.Versioning.VersionedResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class ProductServiceImpl implements ProductService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductServiceImpl.class);
     private final ProductRepository productRepository;
+    private final KeysetPaginator<Product> productPaginator;
+    private final CatalogReadModel catalogReadModel;
+    private final OrderPricingEngine orderPricingEngine;
+    private final ResourceVersions resourceVersions;
 
-    public ProductServiceImpl(ProductRepository productRepository) {
+    public ProductServiceImpl(ProductRepository productRepository, CatalogReadModel catalogReadModel, OrderPricingEngine orderPricingEngine, ResourceVersions resourceVersions) {
         this.productRepository = productRepository;
+        this.catalogReadModel = catalogReadModel;
+        this.orderPricingEngine = orderPricingEngine;
+        this.resourceVersions = resourceVersions;
+        this.productPaginator = new KeysetPaginator<>(productRepository, "pid", Product::getPid,
+                Map.of("productName", new SortKey<>(Product::getProductName, name -> name)));
     }
 
     @Override
@@ -26,6 +41,8 @@ public class ProductServiceImpl implements ProductService {
         Product newProduct = convertToEntity(productDTO);
         Product savedProduct = productRepository.save(newProduct);
         logger.info("Created product with ID: {}", savedProduct.getPid());
+        catalogReadModel.productSaved(savedProduct.getPid(), savedProduct.getProductName(), savedProduct.getUnitPrice());
+        resourceVersions.changed(VersionedResource.PRODUCTS, savedProduct.getPid());
         return convertToDTO(savedProduct);
     }
 
@@ -35,8 +52,8 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public List<ProductDTO> getProducts() {
-        return productRepository.findAll().stream().map(this::convertToDTO).collect(Collectors.toList());
+    public CursorPage<ProductDTO> getProducts(CursorRequest request) {
+        return productPaginator.fetch(request, this::convertToDTO);
     }
 
     @Override
@@ -45,6 +62,9 @@ public class ProductServiceImpl implements ProductService {
         updateProductFields(existingProduct, productDTO);
         Product updatedProduct = productRepository.save(existingProduct);
         logger.info("Updated product with ID: {}", pid);
+        catalogReadModel.productSaved(pid, updatedProduct.getProductName(), updatedProduct.getUnitPrice());
+        orderPricingEngine.evictProductPrice(pid);
+        resourceVersions.changed(VersionedResource.PRODUCTS, pid);
         return convertToDTO(updatedProduct);
     }
 
@@ -52,6 +72,9 @@ public class ProductServiceImpl implements ProductService {
     public void deleteProduct(Long pid) {
         Product product = findById(pid);
         productRepository.delete(product);
+        catalogReadModel.productDeleted(pid);
+        orderPricingEngine.evictProductPrice(pid);
+        resourceVersions.changed(VersionedResource.PRODUCTS, pid);
     }
 
     private Product findById(Long pid) {
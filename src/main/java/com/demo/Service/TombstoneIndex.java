@@ -0,0 +1,190 @@
+package com.demo.Service;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import com.demo.Entity.DeletedID;
+import com.demo.Repository.DeletedIdRepository;
+import com.demo.Util.Transaction.AfterCommit;
+
+//In-memory tombstones: one compressed Roaring bitmap of deleted IDs per entity type, loaded from deleted_ids once the application is ready
+//and patched by DeletedIdServiceImpl after its writes commit, so checking whether an ID was deleted never queries the database
+//A dense run of deleted IDs takes a few bits each; isDeleted is a lookup in the bitmap, and a batch of candidate IDs is checked in one pass
+//Readers share the lock, writers (rare: one tombstone at a time, or a rebuild) take it alone
+@Component
+public class TombstoneIndex
+{
+    private static final Logger logger = LoggerFactory.getLogger(TombstoneIndex.class);
+    private static final int LOAD_BATCH = 10_000;
+
+    private final DeletedIdRepository deletedIdRepository;
+    private final Map<String, Roaring64NavigableMap> deletedByType = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TombstoneIndex(DeletedIdRepository deletedIdRepository)
+    {
+        this.deletedIdRepository = deletedIdRepository;
+    }
+
+    //True when the ID of that entity type has a tombstone
+    public boolean isDeleted(String entityType, long id)
+    {
+        lock.readLock().lock();
+
+        try
+        {
+            Roaring64NavigableMap deleted = deletedByType.get(entityType);
+            return deleted != null && deleted.contains(id);
+        }
+
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    //The candidate IDs that have a tombstone, in ascending order, by intersecting them with the type's bitmap
+    public long[] deletedAmong(String entityType, Collection<Long> ids)
+    {
+        Roaring64NavigableMap candidates = new Roaring64NavigableMap();
+        ids.forEach(candidates::addLong);
+
+        lock.readLock().lock();
+
+        try
+        {
+            Roaring64NavigableMap deleted = deletedByType.get(entityType);
+
+            if (deleted == null)
+                return new long[0];
+
+            candidates.and(deleted);
+        }
+
+        finally
+        {
+            lock.readLock().unlock();
+        }
+
+        return candidates.toArray();
+    }
+
+    //Number of tombstones per entity type
+    public Map<String, Long> counts()
+    {
+        Map<String, Long> counts = new TreeMap<>();
+
+        lock.readLock().lock();
+
+        try
+        {
+            deletedByType.forEach((type, deleted) -> counts.put(type, deleted.getLongCardinality()));
+        }
+
+        finally
+        {
+            lock.readLock().unlock();
+        }
+
+        return counts;
+    }
+
+    public void tombstoneSaved(String entityType, Long id)
+    {
+        AfterCommit.run(() -> add(entityType, id));
+    }
+
+    public void tombstoneRemoved(String entityType, Long id)
+    {
+        AfterCommit.run(() -> remove(entityType, id));
+    }
+
+    //Reads every tombstone in batches of LOAD_BATCH rows in primary key order and swaps in the new bitmaps
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild()
+    {
+        Map<String, Roaring64NavigableMap> loaded = new ConcurrentHashMap<>();
+        long after = 0L;
+        List<DeletedID> batch;
+
+        do
+        {
+            batch = deletedIdRepository.findByIdGreaterThanOrderById(after, Limit.of(LOAD_BATCH));
+
+            for (DeletedID tombstone : batch)
+            {
+                if (tombstone.getEntityType() != null && tombstone.getDeletedId() != null)
+                    loaded.computeIfAbsent(tombstone.getEntityType(), type -> new Roaring64NavigableMap()).addLong(tombstone.getDeletedId());
+            }
+
+            if (!batch.isEmpty())
+                after = batch.get(batch.size() - 1).getId();
+        }
+        while (batch.size() == LOAD_BATCH);
+
+        loaded.values().forEach(Roaring64NavigableMap::runOptimize);   //Run-length encode the dense ranges
+        lock.writeLock().lock();
+
+        try
+        {
+            deletedByType.clear();
+            deletedByType.putAll(loaded);
+        }
+
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("Tombstone index built: {}", counts());
+    }
+
+    private void add(String entityType, Long id)
+    {
+        if (entityType == null || id == null)
+            return;
+
+        lock.writeLock().lock();
+
+        try
+        {
+            deletedByType.computeIfAbsent(entityType, type -> new Roaring64NavigableMap()).addLong(id);
+        }
+
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String entityType, Long id)
+    {
+        if (entityType == null || id == null)
+            return;
+
+        lock.writeLock().lock();
+
+        try
+        {
+            Roaring64NavigableMap deleted = deletedByType.get(entityType);
+
+            if (deleted != null)
+                deleted.removeLong(id);
+        }
+
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+}
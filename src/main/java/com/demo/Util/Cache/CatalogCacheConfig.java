@@ -0,0 +1,29 @@
+package com.demo.Util.Cache;
+import java.net.URI;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+//Builds the Caffeine JCache manager behind the Hibernate second-level cache and hands it to Hibernate,
+//so the regions, sizes and TTLs come from one config file whether the app runs from an IDE, the tests or the packaged jar
+@Configuration
+public class CatalogCacheConfig 
+{
+    //Caffeine resolves the classpath: URI itself, Hibernate's own lookup only finds it on some class loaders
+    @Bean
+    public CacheManager catalogCacheManager(@Value("${catalog.cache.config:classpath:catalog-cache.conf}") URI config) 
+    {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager(config, getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer catalogCacheCustomizer(CacheManager catalogCacheManager) 
+    {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, catalogCacheManager);
+    }
+}
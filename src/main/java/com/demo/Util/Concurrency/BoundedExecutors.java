@@ -0,0 +1,34 @@
+package com.demo.Util.Concurrency;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+//Fixed-size worker pools with a bounded queue, for fan-outs that must not share Spring Boot's application task executor:
+//its queue is unbounded and the streaming exports hold its threads for as long as a download runs.
+//They are plain objects rather than beans, since any Executor bean would replace the application task executor itself
+public final class BoundedExecutors
+{
+    private BoundedExecutors()
+    {
+
+    }
+
+    //Once every thread is busy and the queue is full, the submitting thread runs the task itself, slowing its caller down instead of queueing
+    //without limit. After shutdown a task is rejected rather than silently dropped, so a caller joining on it fails instead of waiting forever
+    public static ThreadPoolTaskExecutor create(String name, int threads, int queueCapacity)
+    {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) ->
+        {
+            if (pool.isShutdown())
+                throw new RejectedExecutionException("The " + name + " executor is shut down");
+
+            task.run();
+        });
+        executor.initialize();
+        return executor;
+    }
+}
@@ -2,6 +2,7 @@ package com.demo.Util.DataLoader.Category;
 
 import com.demo.DTO.Category.CategoryDTO;
 import com.demo.Interface.Category.CategoryService;
+import com.demo.Util.Pagination.CursorRequest;
 
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -21,7 +22,7 @@ public class CategoryDataLoader implements CommandLineRunner {
     }
 
     private void loadCategoryData() {
-        if (categoryService.getCategories().isEmpty()) {
+        if (categoryService.getCategories(CursorRequest.firstPage()).getItems().isEmpty()) {
             categoryService.createCategory(CategoryDTO.builder()
                     .categoryName("Electronics")
                     .description("Devices and gadgets")
@@ -0,0 +1,498 @@
+package com.demo.Util.DataLoader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Enum.Payment.PaymentMode;
+import com.demo.Enum.Payment.PaymentStatus;
+import com.demo.Service.Analytics.AnalyticsAggregator;
+import com.demo.Service.Inventory.StockReservationLedger;
+import com.demo.Service.Order.OrderStatusCounters;
+import com.demo.Service.Product.CatalogReadModel;
+import com.demo.Util.Money.Money;
+import com.demo.Util.Versioning.ResourceVersions;
+import jakarta.persistence.EntityManagerFactory;
+
+//Synthetic dataset for performance testing, sized by a scale factor like TPC benchmarks (Volumes.of)
+//SF=1 writes 1k categories, 100k products, 50k items, 150k inventories, 1M orders and 2M payments, plus their links:
+//1-3 categories per product, one inventory per product and item, 1-10 products and 0-3 items per order, 2 payments per order
+//Order lines pick products and items with a power-law skew, so a few best sellers take most of the traffic like a real store
+//Tables are written with batched JDBC inserts, one table per thread: parent tables first, then the link tables that reference them
+//Every row is derived from the seed and its own ID, so the same seed and scale factor always give the same data
+//Callable from tests and benchmarks, and from the command line through --dataset.scale-factor (DatasetGeneratorRunner)
+@Component
+public class DatasetGenerator
+{
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+    private static final int BATCH_SIZE = 1_000;           //Rows per JDBC batch
+    private static final int COMMIT_INTERVAL = 50_000;     //Rows per transaction
+    private static final double PRODUCT_SKEW = 3.0;       //Rank = n * u^skew: the top 10% of products take about 46% of the order lines
+    private static final double ITEM_SKEW = 2.0;          //The top 10% of items take about 32% of the order lines
+    private static final double CATEGORY_SKEW = 1.5;      //A few broad categories hold most products
+    private static final int ORDER_HISTORY_DAYS = 730;     //Orders are spread over the last two years
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CatalogReadModel catalogReadModel;
+    private final StockReservationLedger reservationLedger;
+    private final AnalyticsAggregator analyticsAggregator;
+    private final OrderStatusCounters orderStatusCounters;
+    private final ResourceVersions resourceVersions;
+
+    public DatasetGenerator(DataSource dataSource, EntityManagerFactory entityManagerFactory, CatalogReadModel catalogReadModel, StockReservationLedger reservationLedger,
+    AnalyticsAggregator analyticsAggregator, OrderStatusCounters orderStatusCounters, ResourceVersions resourceVersions)
+    {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.entityManagerFactory = entityManagerFactory;
+        this.catalogReadModel = catalogReadModel;
+        this.reservationLedger = reservationLedger;
+        this.analyticsAggregator = analyticsAggregator;
+        this.orderStatusCounters = orderStatusCounters;
+        this.resourceVersions = resourceVersions;
+    }
+
+    //Row counts of the parent tables at one scale factor
+    public record Volumes(int categories, int products, int items, int orders)
+    {
+        public static Volumes of(double scaleFactor)
+        {
+            if (!(scaleFactor > 0))
+                throw new IllegalArgumentException("Scale factor must be positive, got " + scaleFactor);
+
+            return new Volumes(rows(1_000 * scaleFactor), rows(100_000 * scaleFactor), rows(50_000 * scaleFactor), rows(1_000_000 * scaleFactor));
+        }
+
+        public int inventories()
+        {
+            return products + items;
+        }
+
+        public int payments()
+        {
+            return orders * 2;
+        }
+
+        private static int rows(double rows)
+        {
+            return (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.round(rows)));
+        }
+    }
+
+    //Consecutive IDs written to one table
+    public record IdRange(long first, long count)
+    {
+        public long last()
+        {
+            return first + count - 1;
+        }
+
+        public long get(long index)
+        {
+            return first + index;
+        }
+
+        //Uniformly random ID of the range, for benchmarks that spread their requests
+        public long pick(SplittableRandom random)
+        {
+            return first + random.nextLong(count);
+        }
+    }
+
+    //IDs of everything one run wrote, inventories hold the products' stock first and then the items'
+    public record Dataset(IdRange categories, IdRange products, IdRange items, IdRange inventories, IdRange orders, IdRange payments,
+    IdRange productCategories, IdRange productInventories, IdRange itemInventories, IdRange orderProducts, IdRange orderItems, IdRange orderPayments)
+    {
+        public long rows()
+        {
+            return List.of(categories, products, items, inventories, orders, payments, productCategories, productInventories, itemInventories,
+            orderProducts, orderItems, orderPayments).stream().mapToLong(IdRange::count).sum();
+        }
+    }
+
+    public Dataset generate(double scaleFactor, long seed)
+    {
+        return generate(Volumes.of(scaleFactor), seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    //Appends the dataset to the tables already there, taking its IDs from the entity sequences so Hibernate keeps handing out free ones
+    public Dataset generate(Volumes volumes, long seed, int threads)
+    {
+        long started = System.nanoTime();
+        Plan plan = new Plan(volumes, seed, LocalDateTime.now().withNano(0));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+
+        try
+        {
+            List<Future<IdRange>> parents = executor.invokeAll(List.of(
+                () -> write("categories", "categories_seq", "insert into categories (category_id, category_name, description) values (?, ?, ?)", plan::categories),
+                () -> write("products", "products_seq", "insert into products (pid, product_name, unit_price) values (?, ?, ?)", plan::products),
+                () -> write("items", "items_seq", "insert into items (iid, item_name, unit_price) values (?, ?, ?)", plan::items),
+                () -> write("inventories", "inventories_seq", "insert into inventories (sid, stock_qty) values (?, ?)", plan::inventories),
+                () -> write("orders", "orders_seq", "insert into orders (oid, total_price, order_status, order_date_time, version) values (?, ?, ?, ?, 0)", plan::orders),
+                () -> write("payments", "payments_seq", "insert into payments (pid, amount, payment_mode, payment_status, payment_date_time) values (?, ?, ?, ?, ?)", plan::payments)));
+            plan.parents(get(parents.get(0)), get(parents.get(1)), get(parents.get(2)), get(parents.get(3)), get(parents.get(4)), get(parents.get(5)));
+
+            List<Future<IdRange>> links = executor.invokeAll(List.of(
+                () -> write("product_categories", "product_categories_seq", "insert into product_categories (pcid, pid, category_id) values (?, ?, ?)", plan::productCategories),
+                () -> write("product_inventory", "product_inventory_seq", "insert into product_inventory (psid, pid, sid) values (?, ?, ?)", plan::productInventories),
+                () -> write("item_inventory", "item_inventory_seq", "insert into item_inventory (siid, iid, sid) values (?, ?, ?)", plan::itemInventories),
+                () -> write("order_product", "order_product_seq", "insert into order_product (opid, oid, pid) values (?, ?, ?)", plan::orderProducts),
+                () -> write("order_item", "order_item_seq", "insert into order_item (oiid, oid, iid) values (?, ?, ?)", plan::orderItems),
+                () -> write("order_payment", "order_payment_seq", "insert into order_payment (poid, oid, pid) values (?, ?, ?)", plan::orderPayments)));
+
+            Dataset dataset = new Dataset(plan.categories, plan.products, plan.items, plan.inventories, plan.orders, plan.payments,
+            get(links.get(0)), get(links.get(1)), get(links.get(2)), get(links.get(3)), get(links.get(4)), get(links.get(5)));
+
+            reload();  //The rows bypassed Hibernate
+
+            logger.info("Generated {} rows in {} ms: {}", dataset.rows(), (System.nanoTime() - started) / 1_000_000, volumes);
+            return dataset;
+        }
+
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dataset generation interrupted", ex);
+        }
+
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    //Drops cached entities and query results and reloads every in-memory view from the tables, bumping every resource version
+    //For rows written without going through the services: the generator's JDBC inserts, and the loaders of background seeding (DeferredSeeding)
+    public void reload()
+    {
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().evictQueryRegions();
+        catalogReadModel.rebuild();
+        reservationLedger.recover();
+        analyticsAggregator.clear();
+        orderStatusCounters.reconcile();
+        resourceVersions.reset();
+    }
+
+    private static IdRange get(Future<IdRange> table)
+    {
+        try
+        {
+            return table.get();
+        }
+
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dataset generation interrupted", ex);
+        }
+
+        catch (ExecutionException ex)
+        {
+            throw new IllegalStateException("Dataset generation failed", ex.getCause());
+        }
+    }
+
+    //Writes the rows of one table on its own connection, its IDs continuing from the table's sequence,
+    //then moves the sequence past them so the next ID Hibernate reserves is free
+    private IdRange write(String table, String sequence, String sql, TableRows rows) throws SQLException
+    {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        long first = jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+
+        try (Connection connection = dataSource.getConnection(); PreparedStatement statement = connection.prepareStatement(sql))
+        {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            Batch batch = new Batch(connection, statement, first);
+
+            try
+            {
+                rows.write(batch);
+                batch.finish();
+            }
+
+            finally
+            {
+                connection.setAutoCommit(autoCommit);
+            }
+
+            jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (first + Math.max(batch.written, 1)));
+            logger.debug("Wrote {} rows to {}", batch.written, table);
+            return new IdRange(first, batch.written);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TableRows
+    {
+        void write(Batch batch) throws SQLException;
+    }
+
+    //Batched inserts of one table, the ID column is always the first parameter and is numbered here
+    private static final class Batch
+    {
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final long first;
+        private long written;
+
+        private Batch(Connection connection, PreparedStatement statement, long first)
+        {
+            this.connection = connection;
+            this.statement = statement;
+            this.first = first;
+        }
+
+        void row(Object... values) throws SQLException
+        {
+            statement.setLong(1, first + written);
+
+            for (int i = 0; i < values.length; i++)
+                statement.setObject(i + 2, values[i]);
+
+            statement.addBatch();
+            written++;
+
+            if (written % BATCH_SIZE == 0)
+                statement.executeBatch();
+
+            if (written % COMMIT_INTERVAL == 0)
+                connection.commit();
+        }
+
+        void finish() throws SQLException
+        {
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    //The rows of every table, each derived from the seed and the row's index so the tables can be written independently
+    private static final class Plan
+    {
+        private final Volumes volumes;
+        private final long seed;
+        private final LocalDateTime now;
+        private IdRange categories, products, items, inventories, orders, payments;
+
+        private Plan(Volumes volumes, long seed, LocalDateTime now)
+        {
+            this.volumes = volumes;
+            this.seed = seed;
+            this.now = now;
+        }
+
+        private void parents(IdRange categories, IdRange products, IdRange items, IdRange inventories, IdRange orders, IdRange payments)
+        {
+            this.categories = categories;
+            this.products = products;
+            this.items = items;
+            this.inventories = inventories;
+            this.orders = orders;
+            this.payments = payments;
+        }
+
+        private void categories(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.categories(); i++)
+                batch.row(String.format("Category %06d", i + 1), "Generated category " + (i + 1));
+        }
+
+        private void products(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.products(); i++)
+                batch.row(String.format("Product %07d", i + 1), productPrice(i).toBigDecimal());
+        }
+
+        private void items(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.items(); i++)
+                batch.row(String.format("Item %07d", i + 1), itemPrice(i).toBigDecimal());
+        }
+
+        //Best sellers (low indexes) keep deeper stock, a few long-tail entries are sold out
+        private void inventories(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.inventories(); i++)
+            {
+                SplittableRandom random = random(4, i);
+                int rank = i < volumes.products() ? i : i - volumes.products();
+                batch.row(random.nextInt(50) == 0 ? 0 : 10 + random.nextInt(Math.max(1, 1_000_000 / (rank + 1_000))));
+            }
+        }
+
+        //Older orders are mostly completed, the most recent ones are still moving through fulfilment
+        private void orders(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.orders(); i++)
+            {
+                SplittableRandom random = random(5, i);
+                batch.row(orderTotal(i).toBigDecimal(), orderStatus(i, random).name(), orderDateTime(i, random));
+            }
+        }
+
+        //Two payments per order: a deposit and the balance, paid after the order was placed
+        private void payments(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.orders(); i++)
+            {
+                SplittableRandom random = random(5, i);
+                OrderStatus status = orderStatus(i, random);
+                LocalDateTime placed = orderDateTime(i, random);
+                Money total = orderTotal(i);
+                Money deposit = Money.ofCents((Math.multiplyExact(total.cents(), 30 + random.nextInt(41)) + 50) / 100);    //30% to 70% of the total, rounded half up
+                PaymentMode mode = PaymentMode.values()[random.nextInt(PaymentMode.values().length)];
+                PaymentStatus paid = status == OrderStatus.NEW || status == OrderStatus.PENDING ? PaymentStatus.PENDING : PaymentStatus.PAID;
+
+                batch.row(deposit.toBigDecimal(), mode.name(), paid.name(), placed.plusMinutes(1 + random.nextInt(30)));
+                batch.row(total.minus(deposit).toBigDecimal(), mode.name(), paid == PaymentStatus.PAID ? PaymentStatus.PAID.name() : PaymentStatus.UNPAID.name(), placed.plusHours(1 + random.nextInt(72)));
+            }
+        }
+
+        private void productCategories(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.products(); i++)
+            {
+                SplittableRandom random = random(6, i);
+                int links = 1 + (random.nextInt(10) < 4 ? 1 : 0) + (random.nextInt(10) == 0 ? 1 : 0);
+
+                for (int link = 0; link < links; link++)
+                    batch.row(products.get(i), categories.get(skewed(random, volumes.categories(), CATEGORY_SKEW)));
+            }
+        }
+
+        private void productInventories(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.products(); i++)
+                batch.row(products.get(i), inventories.get(i));
+        }
+
+        private void itemInventories(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.items(); i++)
+                batch.row(items.get(i), inventories.get(volumes.products() + i));
+        }
+
+        private void orderProducts(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.orders(); i++)
+            {
+                for (int product : orderProducts(i))
+                    batch.row(orders.get(i), products.get(product));
+            }
+        }
+
+        private void orderItems(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.orders(); i++)
+            {
+                for (int item : orderItems(i))
+                    batch.row(orders.get(i), items.get(item));
+            }
+        }
+
+        private void orderPayments(Batch batch) throws SQLException
+        {
+            for (int i = 0; i < volumes.orders(); i++)
+            {
+                batch.row(orders.get(i), payments.get(2L * i));
+                batch.row(orders.get(i), payments.get(2L * i + 1));
+            }
+        }
+
+        //1 to 10 product lines per order, about 3 on average
+        private int[] orderProducts(int order)
+        {
+            SplittableRandom random = random(7, order);
+            int[] lines = new int[1 + Math.min(9, (int) (-Math.log(1 - random.nextDouble()) * 2))];
+
+            for (int line = 0; line < lines.length; line++)
+                lines[line] = skewed(random, volumes.products(), PRODUCT_SKEW);
+
+            return lines;
+        }
+
+        //0 to 3 item lines per order, about 1 on average
+        private int[] orderItems(int order)
+        {
+            SplittableRandom random = random(8, order);
+            int[] lines = new int[random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(2) * random.nextInt(3)];
+
+            for (int line = 0; line < lines.length; line++)
+                lines[line] = skewed(random, volumes.items(), ITEM_SKEW);
+
+            return lines;
+        }
+
+        //One of each product and item line, so the total is what OrderPricingEngine computes for the order
+        //Computed twice per order (orders and payments), so it is summed in cents
+        private Money orderTotal(int order)
+        {
+            Money total = Money.ZERO;
+
+            for (int product : orderProducts(order))
+                total = total.plus(productPrice(product));
+
+            for (int item : orderItems(order))
+                total = total.plus(itemPrice(item));
+
+            return total;
+        }
+
+        private OrderStatus orderStatus(int order, SplittableRandom random)
+        {
+            int roll = random.nextInt(100);
+
+            if (order >= volumes.orders() - Math.max(1, volumes.orders() / 50))
+                return OrderStatus.values()[random.nextInt(OrderStatus.DELIVERED.ordinal())];   //The newest 2% anywhere from NEW to DELIVERING
+
+            return roll < 3 ? OrderStatus.CANCELLED : roll < 4 ? OrderStatus.REFUNDED : OrderStatus.COMPLETED;
+        }
+
+        //Spread evenly over the history in ID order, so order date and ID grow together like real inserts
+        private LocalDateTime orderDateTime(int order, SplittableRandom random)
+        {
+            long minutes = ORDER_HISTORY_DAYS * 24L * 60;
+            return now.minusMinutes(minutes - minutes * order / volumes.orders()).plusSeconds(random.nextInt(60));
+        }
+
+        private Money productPrice(int product)
+        {
+            return Money.ofCents(199 + random(2, product).nextInt(99_800));
+        }
+
+        private Money itemPrice(int item)
+        {
+            return Money.ofCents(99 + random(3, item).nextInt(19_900));
+        }
+
+        //Index in [0, n) where low indexes are far more likely, skew 1 is uniform
+        private static int skewed(SplittableRandom random, int n, double skew)
+        {
+            return (int) Math.min(n - 1, (long) (n * Math.pow(random.nextDouble(), skew)));
+        }
+
+        //Independent random stream per table and row
+        private SplittableRandom random(int stream, long row)
+        {
+            return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + stream * 0xBF58476D1CE4E5B9L + row);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.demo.Util.DataLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+//Fills the database with a generated dataset at startup, after the sample data loaders, when a scale factor is given:
+//mvn spring-boot:run -Dspring-boot.run.arguments="--dataset.scale-factor=0.1 --dataset.seed=42"
+//SF=1 writes about 10M rows, give the JVM a few GB of heap when the database is the in-memory H2
+@Component
+@ConditionalOnProperty("dataset.scale-factor")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class DatasetGeneratorRunner implements CommandLineRunner
+{
+    private final DatasetGenerator datasetGenerator;
+    private final double scaleFactor;
+    private final long seed;
+    private final int threads;
+
+    public DatasetGeneratorRunner(DatasetGenerator datasetGenerator, @Value("${dataset.scale-factor}") double scaleFactor, @Value("${dataset.seed:42}") long seed,
+    @Value("${dataset.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads)
+    {
+        this.datasetGenerator = datasetGenerator;
+        this.scaleFactor = scaleFactor;
+        this.seed = seed;
+        this.threads = threads;
+    }
+
+    @Override
+    public void run(String... args)
+    {
+        datasetGenerator.generate(DatasetGenerator.Volumes.of(scaleFactor), seed, threads);
+    }
+}
@@ -0,0 +1,134 @@
+package com.demo.Util.DataLoader;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+
+//Takes the data loaders of this package (sample data and the dataset generator) off the startup path, set by dataset.seeding:
+//inline      runs them on the main thread before the application is ready, the default
+//background  hands them, in their usual order, to one background thread so the application takes requests at once;
+//            the in-memory views are reloaded and every resource version bumped once they are done (DatasetGenerator.reload),
+//            the catalog read model is built then instead of on ready; until then requests see the tables as they fill
+//skip        does not run them when the database already holds data, for instances joining a seeded database, and runs them inline on an empty one
+@Component
+public class DeferredSeeding implements BeanPostProcessor, ApplicationListener<ApplicationReadyEvent>
+{
+    private static final Logger logger = LoggerFactory.getLogger(DeferredSeeding.class);
+    private static final String SEEDED = "select case when exists (select 1 from categories) or exists (select 1 from products) or exists (select 1 from items) "
+        + "or exists (select 1 from inventories) or exists (select 1 from orders) or exists (select 1 from payments) then 1 else 0 end";
+
+    private final String mode;
+    private final ObjectProvider<DatasetGenerator> datasetGenerator;
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+    private ExecutorService executor;   //Created with the first deferred loader, one thread keeps the loaders in order
+    private Boolean seeded;             //Whether the database held data before the first loader ran, checked once
+
+    public DeferredSeeding(Environment environment, ObjectProvider<DatasetGenerator> datasetGenerator, ObjectProvider<JdbcTemplate> jdbcTemplate)
+    {
+        this.mode = environment.getProperty("dataset.seeding", "inline");
+        this.datasetGenerator = datasetGenerator;
+        this.jdbcTemplate = jdbcTemplate;
+
+        if (!mode.equals("inline") && !mode.equals("background") && !mode.equals("skip"))
+            throw new IllegalArgumentException("dataset.seeding must be inline, background or skip, got " + mode);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName)
+    {
+        if (mode.equals("inline") || !(bean instanceof CommandLineRunner loader) || !loader.getClass().getName().startsWith(DeferredSeeding.class.getPackageName() + "."))
+            return bean;
+
+        int order = OrderUtils.getOrder(loader.getClass(), Ordered.LOWEST_PRECEDENCE);
+        return mode.equals("skip") ? new DeferredLoader(order, args -> runUnlessSeeded(beanName, loader, args)) : new DeferredLoader(order, args -> submit(beanName, loader, args));
+    }
+
+    //Every runner has been handed over by the time the application is ready, so this runs after the last loader
+    //The catalog read model does not build itself on ready in background mode (see CatalogReadModel.rebuild), it is built here once
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event)
+    {
+        if (!mode.equals("background"))
+            return;
+
+        if (executor == null)
+        {
+            datasetGenerator.getObject().reload();
+            return;
+        }
+
+        long started = System.nanoTime();
+        executor.execute(() ->
+        {
+            datasetGenerator.getObject().reload();
+            logger.info("Background seeding finished in {} ms", (System.nanoTime() - started) / 1_000_000);
+        });
+        executor.shutdown();
+    }
+
+    @PreDestroy
+    public void shutdown()
+    {
+        if (executor != null)
+            executor.shutdownNow();
+    }
+
+    //The first loader decides for all of them: once it has written rows the database no longer looks empty to the next one
+    private void runUnlessSeeded(String beanName, CommandLineRunner loader, String... args) throws Exception
+    {
+        if (seeded == null)
+            seeded = jdbcTemplate.getObject().queryForObject(SEEDED, Integer.class) == 1;
+
+        if (seeded)
+            logger.debug("Skipping {}, the database is already seeded", beanName);
+
+        else
+            loader.run(args);
+    }
+
+    private synchronized void submit(String beanName, CommandLineRunner loader, String... args)
+    {
+        if (executor == null)
+            executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "seeding"));
+
+        executor.execute(() ->
+        {
+            try
+            {
+                loader.run(args);
+            }
+
+            catch (Exception ex)
+            {
+                logger.error("Seeding with {} failed", beanName, ex);
+            }
+        });
+    }
+
+    //Stands in for a loader in the runner list, keeping its place in the order
+    private record DeferredLoader(int order, CommandLineRunner runner) implements CommandLineRunner, Ordered
+    {
+        @Override
+        public void run(String... args) throws Exception
+        {
+            runner.run(args);
+        }
+
+        @Override
+        public int getOrder()
+        {
+            return order;
+        }
+    }
+}
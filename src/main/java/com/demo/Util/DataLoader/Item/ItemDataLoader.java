@@ -3,7 +3,7 @@ import com.demo.Entity.Item.Item;
 import com.demo.Repository.Item.ItemRepository;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
-import java.math.BigDecimal;
+import com.demo.Util.Money.Money;
 
 @Component  //Marks this class as a Spring component to be automatically detected and registered as a bean
 public class ItemDataLoader implements CommandLineRunner 
@@ -29,9 +29,9 @@ public class ItemDataLoader implements CommandLineRunner
     private void loadInitialData() 
     {
         //Create sample items with some initial data
-        Item item1 = Item.builder().itemName("Laptop").unitPrice(new BigDecimal("1200.00")).build();
-        Item item2 = Item.builder().itemName("Smartphone").unitPrice(new BigDecimal("800.00")).build();
-        Item item3 = Item.builder().itemName("Headphones").unitPrice(new BigDecimal("150.00")).build();
+        Item item1 = Item.builder().itemName("Laptop").unitPrice(Money.of("1200.00")).build();
+        Item item2 = Item.builder().itemName("Smartphone").unitPrice(Money.of("800.00")).build();
+        Item item3 = Item.builder().itemName("Headphones").unitPrice(Money.of("150.00")).build();
 
         //Save the items to the database using the repository
         itemRepository.save(item1);
@@ -73,7 +73,7 @@ public class OrderItemDataLoader implements CommandLineRunner
     public void createAndSaveOrderItemLink(Order order, Item item) 
     {
         //Create a new OrderItem instance that links the current Item and Order
-        OrderItem orderItem = OrderItem.builder().oid(item).iid(item).build();
+        OrderItem orderItem = OrderItem.builder().oid(order).iid(item).build();
 
         //Save the newly created OrderItem instance to the database
         orderItemRepository.save(orderItem);
@@ -3,7 +3,7 @@ import com.demo.Entity.Product.Product;
 import com.demo.Repository.Product.ProductRepository;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
-import java.math.BigDecimal;
+import com.demo.Util.Money.Money;
 
 @Component  //Marks this class as a Spring component to be automatically detected and registered as a bean
 public class ProductDataLoader implements CommandLineRunner 
@@ -28,9 +28,9 @@ public class ProductDataLoader implements CommandLineRunner
     private void loadInitialData() 
     {
         //Create sample products with some initial data
-        Product product1 = Product.builder().productName("Laptop").unitPrice(new BigDecimal("1200.00")).build();
-        Product product2 = Product.builder().productName("Smartphone").unitPrice(new BigDecimal("800.00")).build();
-        Product product3 = Product.builder().productName("Headphones").unitPrice(new BigDecimal("150.00")).build();
+        Product product1 = Product.builder().productName("Laptop").unitPrice(Money.of("1200.00")).build();
+        Product product2 = Product.builder().productName("Smartphone").unitPrice(Money.of("800.00")).build();
+        Product product3 = Product.builder().productName("Headphones").unitPrice(Money.of("150.00")).build();
 
         //Save the products to the database using the repository
         productRepository.save(product1);
@@ -0,0 +1,72 @@
+package com.demo.Util.Export;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+
+//Writes a stream of entities as newline-delimited JSON (one DTO per line) while keeping the heap flat
+@Component
+public class NdjsonWriter 
+{
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");   //Content type of every export endpoint
+    private static final int FLUSH_EVERY = 1000;    //Rows written between flushes, so the client sees progress and can resume after a dropped connection
+
+    private final ObjectWriter objectWriter;
+    private final EntityManager entityManager;
+
+    //Constructor injection of the application ObjectMapper (same date/enum format as the REST API) and the shared EntityManager
+    public NdjsonWriter(ObjectMapper objectMapper, EntityManager entityManager) 
+    {
+        this.objectWriter = objectMapper.writer();
+        this.entityManager = entityManager;
+    }
+
+    //Validates the resume point of an export request, where null means from the first row
+    public static long resumeFrom(Long after) 
+    {
+        if (after == null)
+            return 0L;
+
+        if (after < 0)
+            throw new IllegalArgumentException("Resume ID must not be negative");
+
+        return after;
+    }
+
+    //Lifts the async request timeout of an export response only, so a large extraction is not cut off part way through
+    //while every other async request keeps the container's default timeout
+    public static void disableTimeout(WebRequest request) 
+    {
+        AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+
+        if (asyncRequest != null)
+            asyncRequest.setTimeout(-1L);   //A negative timeout means none, as spring.mvc.async.request-timeout=-1 would for every request
+    }
+
+    //Writes every row as one JSON line, detaching each entity once written so the persistence context never grows; returns the number of rows written
+    public <T, D> long write(Stream<T> rows, Function<T, D> mapper, OutputStream out) throws IOException 
+    {
+        long written = 0;
+
+        for (T row : (Iterable<T>) rows::iterator) 
+        {
+            out.write(objectWriter.writeValueAsBytes(mapper.apply(row)));  //Serialise the DTO without letting Jackson close the response stream
+            out.write('\n');
+            entityManager.detach(row);                                      //Release the managed entity, it is never read again
+
+            if (++written % FLUSH_EVERY == 0)
+                out.flush();
+        }
+
+        out.flush();
+        return written;
+    }
+}
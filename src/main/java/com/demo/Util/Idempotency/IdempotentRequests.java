@@ -0,0 +1,272 @@
+package com.demo.Util.Idempotency;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.demo.Entity.IdempotencyRecord;
+import com.demo.Exception.IdempotencyConflictException;
+import com.demo.Exception.IdempotencyKeyReusedException;
+import com.demo.Repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+//Runs a create request at most once per Idempotency-Key: the first response is stored with the key and replayed to every retry until the key expires.
+//A bounded in-memory cache answers most retries; behind it the idempotency_keys table, written in the same transaction as the request's own rows,
+//so the key and the rows commit or roll back together. A duplicate arriving while the first request still runs waits for its response instead of
+//running again; on another instance the loser's insert of the key fails, its transaction rolls back and it replays the winner's response
+@Component
+public class IdempotentRequests
+{
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";   //true on a response replayed from an earlier request
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Duration WAIT = Duration.ofSeconds(30);           //How long a duplicate waits for the request it repeats
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotentRequests.class);
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Cache<String, Stored> stored;
+    private final Map<String, CompletableFuture<Stored>> inFlight = new ConcurrentHashMap<>();
+
+    //A stored response, kept in memory until its key expires
+    private record Stored(String requestHash, String responseBody, Instant expiresAt) {}
+
+    //The response of a request, and whether it was replayed from an earlier one
+    public record Outcome<T>(T body, boolean replayed) {}
+
+    @Autowired
+    public IdempotentRequests(IdempotencyRecordRepository idempotencyRecordRepository, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+    @Value("${idempotency.ttl:PT24H}") Duration ttl, @Value("${idempotency.cache.max-size:10000}") long maxSize)
+    {
+        this(idempotencyRecordRepository, objectMapper, transactionManager, ttl, maxSize, Clock.systemUTC());
+    }
+
+    //Constructor with an explicit clock so expiry can be tested without waiting
+    IdempotentRequests(IdempotencyRecordRepository idempotencyRecordRepository, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+    Duration ttl, long maxSize, Clock clock)
+    {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.clock = clock;
+        this.stored = Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new Expiry<String, Stored>()
+        {
+            //Each entry lives until its key expires, replacing an entry starts over from the new one
+            @Override
+            public long expireAfterCreate(String id, Stored response, long currentTime)
+            {
+                return Math.max(0, Duration.between(clock.instant(), response.expiresAt()).toNanos());
+            }
+
+            @Override
+            public long expireAfterUpdate(String id, Stored response, long currentTime, long currentDuration)
+            {
+                return expireAfterCreate(id, response, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String id, Stored response, long currentTime, long currentDuration)
+            {
+                return currentDuration;
+            }
+        }).build();
+    }
+
+    //Runs the action for the first request with this key in the scope and returns its response; later requests with the key get that response back.
+    //A key reused with a different request body is rejected
+    public <T> Outcome<T> execute(String scope, String key, Object request, Class<T> responseType, Supplier<T> action)
+    {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH)
+            throw new IllegalArgumentException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+
+        String id = scope + ":" + key;
+        String requestHash = hash(request);
+        Stored known = stored.getIfPresent(id);
+
+        if (known != null)
+            return replay(known, requestHash, key, responseType);
+
+        CompletableFuture<Stored> mine = new CompletableFuture<>();
+        CompletableFuture<Stored> running = inFlight.putIfAbsent(id, mine);
+
+        if (running != null)
+            return replay(await(running, key), requestHash, key, responseType);
+
+        try
+        {
+            known = load(id);
+
+            if (known != null)
+            {
+                mine.complete(known);
+                return replay(known, requestHash, key, responseType);
+            }
+
+            Instant now = clock.instant();
+            String[] responseBody = new String[1];
+
+            //The key is stored in the request's own transaction: both commit, or neither does
+            T response = transactionTemplate.execute(status ->
+            {
+                idempotencyRecordRepository.deleteExpired(id, now);
+                T created = action.get();
+                responseBody[0] = json(created);
+                idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder().id(id).requestHash(requestHash).responseBody(responseBody[0])
+                .expiresAt(now.plus(ttl)).build());
+                return created;
+            });
+
+            known = new Stored(requestHash, responseBody[0], now.plus(ttl));
+            stored.put(id, known);
+            mine.complete(known);
+            return new Outcome<>(response, false);
+        }
+
+        catch (DataIntegrityViolationException ex)
+        {
+            //Another instance stored the key first and our transaction rolled back, answer with its response
+            known = load(id);
+
+            if (known == null)
+            {
+                mine.completeExceptionally(ex);
+                throw ex;
+            }
+
+            mine.complete(known);
+            return replay(known, requestHash, key, responseType);
+        }
+
+        catch (RuntimeException ex)
+        {
+            //A failed request stores nothing, the client may retry it with the same key
+            mine.completeExceptionally(ex);
+            throw ex;
+        }
+
+        finally
+        {
+            inFlight.remove(id, mine);
+        }
+    }
+
+    //Removes the expired keys from the table, the cache drops its entries on its own
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:600000}")
+    public void purge()
+    {
+        int purged = idempotencyRecordRepository.deleteExpired(clock.instant());
+
+        if (purged > 0)
+            logger.debug("Purged {} expired idempotency keys", purged);
+    }
+
+    //The stored response of a key that has not expired, cached for the next retry
+    private Stored load(String id)
+    {
+        IdempotencyRecord record = idempotencyRecordRepository.findById(id).filter(found -> found.getExpiresAt().isAfter(clock.instant())).orElse(null);
+
+        if (record == null)
+            return null;
+
+        Stored known = new Stored(record.getRequestHash(), record.getResponseBody(), record.getExpiresAt());
+        stored.put(id, known);
+        return known;
+    }
+
+    private Stored await(CompletableFuture<Stored> running, String key)
+    {
+        try
+        {
+            return running.get(WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        catch (ExecutionException ex)
+        {
+            //The request this one repeats failed, so does the duplicate
+            if (ex.getCause() instanceof RuntimeException cause)
+                throw cause;
+
+            throw new IllegalStateException(ex.getCause());
+        }
+
+        catch (TimeoutException ex)
+        {
+            throw new IdempotencyConflictException(key);
+        }
+
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(key);
+        }
+    }
+
+    private <T> Outcome<T> replay(Stored known, String requestHash, String key, Class<T> responseType)
+    {
+        if (!known.requestHash().equals(requestHash))
+            throw new IdempotencyKeyReusedException(key);
+
+        try
+        {
+            return new Outcome<>(objectMapper.readValue(known.responseBody(), responseType), true);
+        }
+
+        catch (JsonProcessingException ex)
+        {
+            throw new IllegalStateException("Stored response of idempotency key " + key + " cannot be read", ex);
+        }
+    }
+
+    private String json(Object value)
+    {
+        try
+        {
+            return objectMapper.writeValueAsString(value);
+        }
+
+        catch (JsonProcessingException ex)
+        {
+            throw new IllegalStateException("Response cannot be written as JSON", ex);
+        }
+    }
+
+    private String hash(Object request)
+    {
+        try
+        {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json(request).getBytes(StandardCharsets.UTF_8)));
+        }
+
+        catch (NoSuchAlgorithmException ex)
+        {
+            throw new IllegalStateException(ex);   //Every JVM ships SHA-256
+        }
+    }
+}
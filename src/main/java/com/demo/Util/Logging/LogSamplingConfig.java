@@ -0,0 +1,22 @@
+package com.demo.Util.Logging;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+//Applies the request log sampling to every controller
+@Configuration
+public class LogSamplingConfig implements WebMvcConfigurer
+{
+    private final LogSamplingInterceptor logSamplingInterceptor;
+
+    public LogSamplingConfig(LogSamplingInterceptor logSamplingInterceptor)
+    {
+        this.logSamplingInterceptor = logSamplingInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry)
+    {
+        registry.addInterceptor(logSamplingInterceptor);
+    }
+}
@@ -0,0 +1,49 @@
+package com.demo.Util.Logging;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+//Changes the request log sampling rates at runtime:
+//GET /actuator/logsampling                                                          current default and per-endpoint rates
+//POST /actuator/logsampling {"rate":0.1}                                            default rate
+//POST /actuator/logsampling/OrderController.getOrder {"rate":0.01}                  rate of one endpoint
+//DELETE /actuator/logsampling/OrderController.getOrder                              endpoint back on the default rate
+@Component
+@Endpoint(id = "logsampling")
+public class LogSamplingEndpoint
+{
+    private final RequestLogSampler sampler;
+
+    public LogSamplingEndpoint(RequestLogSampler sampler)
+    {
+        this.sampler = sampler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> rates()
+    {
+        return Map.of("defaultRate", sampler.getDefaultRate(), "rates", sampler.getRates());
+    }
+
+    @WriteOperation
+    public void setDefaultRate(double rate)
+    {
+        sampler.setDefaultRate(rate);
+    }
+
+    @WriteOperation
+    public void setRate(@Selector String endpoint, double rate)
+    {
+        sampler.setRate(endpoint, rate);
+    }
+
+    @DeleteOperation
+    public void resetRate(@Selector String endpoint)
+    {
+        sampler.resetRate(endpoint);
+    }
+}
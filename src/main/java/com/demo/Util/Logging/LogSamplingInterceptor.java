@@ -0,0 +1,54 @@
+package com.demo.Util.Logging;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+//Names the endpoint of every controller request in the MDC and rolls the sampling decision for it once, before the handler runs,
+//so all the lines of one request are either written or dropped together
+@Component
+public class LogSamplingInterceptor implements AsyncHandlerInterceptor
+{
+    private final RequestLogSampler sampler;
+
+    public LogSamplingInterceptor(RequestLogSampler sampler)
+    {
+        this.sampler = sampler;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+    {
+        if (handler instanceof HandlerMethod method)
+        {
+            String endpoint = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+            MDC.put(SampledLogFilter.ENDPOINT, endpoint);
+
+            if (!sampler.sample(endpoint))
+                MDC.put(SampledLogFilter.SAMPLED, "false");
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex)
+    {
+        clear();
+    }
+
+    //A streamed response frees the request thread before afterCompletion, which then runs on the async dispatch
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler)
+    {
+        clear();
+    }
+
+    private static void clear()
+    {
+        MDC.remove(SampledLogFilter.ENDPOINT);
+        MDC.remove(SampledLogFilter.SAMPLED);
+    }
+}
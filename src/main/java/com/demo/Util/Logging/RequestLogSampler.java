@@ -0,0 +1,74 @@
+package com.demo.Util.Logging;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+//Share of requests per endpoint whose INFO and DEBUG lines are written, from 0.0 (none) to 1.0 (all)
+//Endpoints are named after their handler method, e.g. OrderController.getOrder, and start from logging.sampling.default-rate
+//or logging.sampling.rates[OrderController.getOrder]; both can be changed at runtime through /actuator/logsampling
+//WARN and ERROR lines are never sampled, see SampledLogFilter
+@Component
+public class RequestLogSampler
+{
+    private final Map<String, Double> rates = new ConcurrentHashMap<>();   //Rate per endpoint that differs from the default
+    private volatile double defaultRate;
+
+    public RequestLogSampler(Environment environment)
+    {
+        Binder binder = Binder.get(environment);
+        this.defaultRate = checked(binder.bind("logging.sampling.default-rate", Double.class).orElse(1.0));
+        binder.bind("logging.sampling.rates", Bindable.mapOf(String.class, Double.class)).orElse(Map.of()).forEach(this::setRate);
+    }
+
+    //Decides whether the request being handled by the endpoint gets its INFO and DEBUG lines
+    public boolean sample(String endpoint)
+    {
+        double rate = getRate(endpoint);
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    public double getRate(String endpoint)
+    {
+        return rates.getOrDefault(endpoint, defaultRate);
+    }
+
+    public void setRate(String endpoint, double rate)
+    {
+        rates.put(endpoint, checked(rate));
+    }
+
+    //Puts the endpoint back on the default rate
+    public void resetRate(String endpoint)
+    {
+        rates.remove(endpoint);
+    }
+
+    public double getDefaultRate()
+    {
+        return defaultRate;
+    }
+
+    public void setDefaultRate(double rate)
+    {
+        this.defaultRate = checked(rate);
+    }
+
+    //Endpoints with their own rate, sorted by name
+    public Map<String, Double> getRates()
+    {
+        return new TreeMap<>(rates);
+    }
+
+    private static double checked(double rate)
+    {
+        if (rate < 0.0 || rate > 1.0 || Double.isNaN(rate))
+            throw new IllegalArgumentException("Sampling rate must be between 0.0 and 1.0, got " + rate);
+
+        return rate;
+    }
+}
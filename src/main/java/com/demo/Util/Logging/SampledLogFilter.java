@@ -0,0 +1,25 @@
+package com.demo.Util.Logging;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+//Logback turbo filter (registered in logback-spring.xml) that drops INFO and lower lines of requests left out of the sample
+//Runs before the level check and before any message formatting, so a dropped line costs one MDC lookup and its arguments are never rendered
+//WARN and ERROR always pass, so errors are never sampled away
+public class SampledLogFilter extends TurboFilter
+{
+    public static final String ENDPOINT = "endpoint";  //MDC key of the handler method serving the request, also written as a JSON field
+    public static final String SAMPLED = "sampled";    //MDC key set to "false" while a request left out of the sample is handled
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t)
+    {
+        if (level == null || level.isGreaterOrEqual(Level.WARN))
+            return FilterReply.NEUTRAL;
+
+        return "false".equals(MDC.get(SAMPLED)) ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,39 @@
+package com.demo.Util.Metrics;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+//Time from JVM start until the first HTTP request has been answered, logged once and published as application.first.request.time
+//next to Spring Boot's application.started.time and application.ready.time, so startup changes can be compared on one number
+@Component
+public class FirstRequestTimer implements ApplicationListener<ServletRequestHandledEvent>
+{
+    private static final Logger logger = LoggerFactory.getLogger(FirstRequestTimer.class);
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean served = new AtomicBoolean();
+
+    public FirstRequestTimer(MeterRegistry meterRegistry)
+    {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onApplicationEvent(ServletRequestHandledEvent event)
+    {
+        if (served.get() || !served.compareAndSet(false, true))
+            return;
+
+        long millis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        TimeGauge.builder("application.first.request.time", () -> millis, TimeUnit.MILLISECONDS).description("Time from JVM start until the first request was answered")
+        .register(meterRegistry);
+        logger.info("First request ({}) answered {} ms after JVM start", event.getRequestUrl(), millis);
+    }
+}
@@ -0,0 +1,100 @@
+package com.demo.Util.Metrics;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import com.demo.Util.Pagination.CursorPage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+//Micrometer instrumentation of the service and repository layers, published through /actuator/prometheus
+//service.invocations: latency, call count and errors per exception type of every method of the com.demo.Interface services
+//service.rows / repository.rows: rows returned by calls that answer with a list or a page
+//Repository latency and errors come from Spring Boot's own spring.data.repository.invocations timer, so they are not timed twice here
+@Aspect
+@Component
+public class InvocationMetricsAspect
+{
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();   //Repository interface name per proxy class
+
+    public InvocationMetricsAspect(MeterRegistry meterRegistry)
+    {
+        this.meterRegistry = meterRegistry;
+    }
+
+    //Times every service call, tagging it with the exception type when it fails (e.g. exception=OrderNotFoundException)
+    @Around("execution(* com.demo.Interface..*+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable
+    {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+
+        try
+        {
+            Object result = joinPoint.proceed();
+            recordRows("service.rows", "service", service, method, result);
+            return result;
+        }
+        catch (Throwable ex)
+        {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        }
+        finally
+        {
+            sample.stop(Timer.builder("service.invocations").description("Latency of service method calls")
+            .tags("service", service, "method", method, "outcome", exception.equals("none") ? "SUCCESS" : "ERROR", "exception", exception)
+            .register(meterRegistry));
+        }
+    }
+
+    //Counts the rows each list or page query of the application's repositories returns
+    @AfterReturning(pointcut = "execution(* com.demo.Repository..*+.*(..))", returning = "result")
+    public void countRepositoryRows(JoinPoint joinPoint, Object result)
+    {
+        recordRows("repository.rows", "repository", repositoryName(joinPoint), joinPoint.getSignature().getName(), result);
+    }
+
+    private void recordRows(String name, String ownerTag, String owner, String method, Object result)
+    {
+        int rows = rows(result);
+
+        if (rows >= 0)
+            DistributionSummary.builder(name).description("Rows returned by list and page calls").baseUnit("rows").tags(ownerTag, owner, "method", method)
+            .register(meterRegistry).record(rows);
+    }
+
+    //Row count of a list or page result, -1 for anything else (single rows, streams, void)
+    private static int rows(Object result)
+    {
+        if (result instanceof Collection<?> collection)
+            return collection.size();
+
+        if (result instanceof CursorPage<?> page)
+            return page.getItems() == null ? 0 : page.getItems().size();
+
+        if (result instanceof Slice<?> slice)
+            return slice.getNumberOfElements();
+
+        return -1;
+    }
+
+    //Inherited methods such as findAll are declared on Spring Data's interfaces, so name the repository after the application interface its proxy implements
+    private String repositoryName(JoinPoint joinPoint)
+    {
+        return repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), proxyType -> Arrays.stream(proxyType.getInterfaces())
+        .filter(type -> type.getName().startsWith("com.demo.Repository.")).findFirst().map(Class::getSimpleName)
+        .orElse(joinPoint.getSignature().getDeclaringType().getSimpleName()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.demo.Util.Money;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+//An amount of money as a long of minor units (cents), the scale of every money column in the schema
+//Sums and comparisons are long arithmetic instead of BigDecimal objects, so adding up millions of prices allocates nothing per value
+//Arithmetic is overflow-checked and throws ArithmeticException rather than wrapping; an amount with more than 2 decimals is rejected, never rounded
+@JsonSerialize(using = MoneyJsonSerializer.class)       //Written as the same JSON number as the BigDecimal it replaces
+@JsonDeserialize(using = MoneyJsonDeserializer.class)
+public record Money(long cents) implements Comparable<Money>, Serializable     //Serializable: Hibernate snapshots and caches converted attribute values
+{
+    public static final int SCALE = 2;      //Minor units per major unit = 10^SCALE
+    public static final Money ZERO = new Money(0);
+
+    public static Money ofCents(long cents)
+    {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    //Throws ArithmeticException when the amount has more than SCALE decimals or does not fit in a long of cents
+    //Shifting the decimal point keeps a 2-decimal column value compact, so longValueExact reads it without going through a BigInteger
+    public static Money of(BigDecimal amount)
+    {
+        return ofCents(amount.scaleByPowerOfTen(SCALE).longValueExact());
+    }
+
+    public static Money of(String amount)
+    {
+        return of(new BigDecimal(amount));
+    }
+
+    //Sum of amounts given in cents, the allocation-free form for aggregation loops
+    public static long sumCents(long[] cents)
+    {
+        long total = 0;
+
+        for (long value : cents)
+            total = Math.addExact(total, value);
+
+        return total;
+    }
+
+    public Money plus(Money other)
+    {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other)
+    {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(long quantity)
+    {
+        return ofCents(Math.multiplyExact(cents, quantity));
+    }
+
+    public Money negate()
+    {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    public int signum()
+    {
+        return Long.signum(cents);
+    }
+
+    public boolean isPositive()
+    {
+        return cents > 0;
+    }
+
+    public BigDecimal toBigDecimal()
+    {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other)
+    {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString()
+    {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.demo.Util.Money;
+import java.math.BigDecimal;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+//Maps a Money attribute onto the existing DECIMAL money columns, so switching an attribute to Money needs no schema change
+//Not applied automatically: an attribute opts in with @Convert(converter = MoneyConverter.class), as Product and Item unit prices do
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal>
+{
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money)
+    {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    //Throws ArithmeticException for a stored value with more than 2 decimals instead of silently rounding it
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount)
+    {
+        return amount == null ? null : Money.of(amount);
+    }
+}
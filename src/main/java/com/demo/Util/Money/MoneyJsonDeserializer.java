@@ -0,0 +1,31 @@
+package com.demo.Util.Money;
+import java.io.IOException;
+import java.math.BigDecimal;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+//Reads Money from whatever a BigDecimal field accepts (a JSON number or a numeric string), rejecting amounts with more than 2 decimals
+public class MoneyJsonDeserializer extends StdDeserializer<Money>
+{
+    public MoneyJsonDeserializer()
+    {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException
+    {
+        BigDecimal amount = context.readValue(parser, BigDecimal.class);
+
+        try
+        {
+            return Money.of(amount);
+        }
+
+        catch (ArithmeticException ex)
+        {
+            return (Money) context.handleWeirdNumberValue(Money.class, amount, "amount must have at most %d decimals and fit in a long of cents", Money.SCALE);
+        }
+    }
+}
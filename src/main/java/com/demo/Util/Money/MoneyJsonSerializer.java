@@ -0,0 +1,32 @@
+package com.demo.Util.Money;
+import java.io.IOException;
+import java.math.BigDecimal;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+//Writes Money exactly as the mapper writes a BigDecimal with 2 decimals: a JSON number (e.g. 100.50), the shape the BigDecimal
+//money fields have in the API, or the decimal string on the protobuf mapper, which registers a string serializer for BigDecimal
+public class MoneyJsonSerializer extends StdSerializer<Money>
+{
+    public MoneyJsonSerializer()
+    {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException
+    {
+        provider.findValueSerializer(BigDecimal.class).serialize(money.toBigDecimal(), generator, provider);
+    }
+
+    //Describes the field as the BigDecimal it is written as, so generated schemas (protobuf) match the output
+    @Override
+    public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint) throws JsonMappingException
+    {
+        visitor.getProvider().findValueSerializer(BigDecimal.class).acceptJsonFormatVisitor(visitor, visitor.getProvider().constructType(BigDecimal.class));
+    }
+}
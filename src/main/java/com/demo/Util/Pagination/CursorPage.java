@@ -0,0 +1,33 @@
+package com.demo.Util.Pagination;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter             //Generates getters for all fields
+@NoArgsConstructor  //Generates a no-argument constructor (needed for JSON deserialization)
+@AllArgsConstructor //Generates a constructor with arguments for all fields
+public class CursorPage<T> 
+{
+    private List<T> items;      //Rows of the current page, in the requested order
+    private String nextCursor;  //Value to pass as ?after= to fetch the next page (null when this is the last page)
+
+    //Builds a page from rows read with limit + 1: the extra row only signals that there is a next page and is dropped
+    //The cursor is what the paginator needs to resume after the last row, usually its ID
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, ?> cursorOf) 
+    {
+        boolean hasMore = rows.size() > limit;
+        List<T> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? String.valueOf(cursorOf.apply(page.get(page.size() - 1))) : null;
+
+        return new CursorPage<>(page, nextCursor);
+    }
+
+    //Maps the rows of this page while keeping the cursor
+    public <R> CursorPage<R> map(Function<T, R> mapper) 
+    {
+        return new CursorPage<>(items.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+}
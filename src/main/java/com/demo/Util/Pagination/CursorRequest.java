@@ -0,0 +1,71 @@
+package com.demo.Util.Pagination;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter             //Generates getters for all fields
+@AllArgsConstructor //Generates a constructor with arguments for all fields
+public class CursorRequest 
+{
+    public static final int DEFAULT_LIMIT = 50;     //Page size used when the client does not ask for one
+    public static final int MAX_LIMIT = 500;        //Upper bound on the page size so one request cannot pull a whole table
+
+    private final Long after;           //ID of the last row of the previous page (null for the first page)
+    private final String afterValue;    //Sort key value of that row when the list is not in primary key order (null otherwise)
+    private final int limit;            //Maximum number of rows to return
+    private final String sortKey;       //Attribute to order by (null means order by the primary key)
+    private final boolean descending;   //True when the client asked for a descending order ("-key")
+
+    //Builds a request from the raw ?after=&limit=&sort= query parameters, rejecting out-of-range values
+    //The cursor is the nextCursor of the previous page: "id" in primary key order, "value:id" for any other sort key
+    public static CursorRequest of(String cursor, Integer limit, String sort) 
+    {
+        Long after = null;
+        String afterValue = null;
+
+        if (cursor != null)
+        {
+            //IDs never contain ':', so the last one separates the sort value (which may contain ':' itself, e.g. a timestamp) from the ID
+            int separator = cursor.lastIndexOf(':');
+            afterValue = (separator < 0) ? null : cursor.substring(0, separator);
+
+            try
+            {
+                after = Long.parseLong(cursor.substring(separator + 1));
+            }
+
+            catch (NumberFormatException ex)
+            {
+                throw new IllegalArgumentException("Cursor must end with a positive ID: " + cursor);
+            }
+
+            if (after <= 0)
+                throw new IllegalArgumentException("Cursor must be a positive ID");
+        }
+
+        int pageSize = (limit == null) ? DEFAULT_LIMIT : limit;
+
+        if (pageSize <= 0 || pageSize > MAX_LIMIT)
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+
+        //A leading '-' flips the sort direction, e.g. sort=-orderDateTime
+        boolean descending = sort != null && sort.startsWith("-");
+        String sortKey = (sort == null || sort.isBlank()) ? null : (descending ? sort.substring(1) : sort);
+
+        return new CursorRequest(after, afterValue, pageSize, sortKey, descending);
+    }
+
+    //Request for the first page in primary key order
+    public static CursorRequest firstPage() 
+    {
+        return of(null, null, null);
+    }
+
+    //The cursor of a list that is only ever read in primary key order, where a "value:id" cursor cannot come from
+    public Long afterId() 
+    {
+        if (afterValue != null)
+            throw new IllegalArgumentException("Cursor of a list in primary key order must be a plain ID");
+
+        return after;
+    }
+}
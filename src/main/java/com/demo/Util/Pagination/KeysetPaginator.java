@@ -0,0 +1,98 @@
+package com.demo.Util.Pagination;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import com.demo.Repository.KeysetRepository;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+//Keyset (cursor) pagination over a KeysetRepository
+//Each page is read with "WHERE (key, id) > (cursor) ORDER BY key, id LIMIT n+1", so the cost depends on the page size
+//and not on the table size, as long as the sort key is backed by an index that ends with the primary key
+//When the list is sorted on another key, the cursor carries that key's value ("value:id"), so the next page never depends on the
+//cursor row still existing
+public class KeysetPaginator<T> 
+{
+    //An extra sortable attribute: how to read its value from a row, and how to read it back from a cursor
+    public record SortKey<T>(Function<T, Comparable<?>> valueOf, Function<String, Comparable<?>> parse) 
+    {
+
+    }
+
+    private final KeysetRepository<T> repository;       //Repository the pages are read from
+    private final String idKey;                         //Name of the primary key attribute (always sortable, used as tie-breaker)
+    private final Function<T, Long> idOf;               //Reads the primary key of a row, used to build the next cursor
+    private final Map<String, SortKey<T>> sortKeys;     //Whitelist of extra sortable attributes
+
+    public KeysetPaginator(KeysetRepository<T> repository, String idKey, Function<T, Long> idOf, Map<String, SortKey<T>> sortKeys) 
+    {
+        this.repository = repository;
+        this.idKey = idKey;
+        this.idOf = idOf;
+        this.sortKeys = sortKeys;
+    }
+
+    //Reads one page of rows after the cursor and maps them with the given mapper
+    public <D> CursorPage<D> fetch(CursorRequest request, Function<T, D> mapper) 
+    {
+        String sortKey = (request.getSortKey() == null) ? idKey : request.getSortKey();
+
+        //Only whitelisted attributes can be sorted on, anything else would be an unindexed sort
+        if (!sortKey.equals(idKey) && !sortKeys.containsKey(sortKey))
+            throw new IllegalArgumentException("Unsupported sort key: " + sortKey);
+
+        Sort.Direction direction = request.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = sortKey.equals(idKey) ? Sort.by(direction, idKey) : Sort.by(direction, sortKey, idKey);
+        Specification<T> specification = (request.getAfter() == null) ? (root, query, cb) -> cb.conjunction() : after(request, sortKey);
+
+        //Read one extra row to find out whether there is a next page without issuing a count query
+        int limit = request.getLimit();
+        List<T> rows = repository.findBy(specification, query -> query.sortBy(sort).limit(limit + 1).all());
+        Function<T, ?> cursorOf = sortKey.equals(idKey) ? idOf : row -> sortKeys.get(sortKey).valueOf().apply(row) + ":" + idOf.apply(row);
+
+        return CursorPage.of(rows, limit, cursorOf).map(mapper);
+    }
+
+    //Builds the predicate selecting the rows that come after the cursor row in the requested order
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Specification<T> after(CursorRequest request, String sortKey) 
+    {
+        boolean descending = request.isDescending();
+
+        //Primary key order only needs the ID itself
+        if (sortKey.equals(idKey))
+        {
+            Long after = request.afterId();
+            return (root, query, cb) -> descending ? cb.lessThan(root.<Long>get(idKey), after) : cb.greaterThan(root.<Long>get(idKey), after);
+        }
+
+        //Any other key needs the cursor row's value for that key, which the previous page put in the cursor
+        Long after = request.getAfter();
+
+        if (request.getAfterValue() == null)
+            throw new IllegalArgumentException("Cursor for sort key " + sortKey + " must be the value:id returned as nextCursor");
+
+        Comparable value;
+
+        try
+        {
+            value = sortKeys.get(sortKey).parse().apply(request.getAfterValue());
+        }
+
+        catch (RuntimeException ex)
+        {
+            throw new IllegalArgumentException("Cursor value " + request.getAfterValue() + " is not a valid " + sortKey);
+        }
+
+        return (root, query, cb) -> 
+        {
+            Expression<Comparable> key = root.get(sortKey);
+            Expression<Long> id = root.get(idKey);
+            Predicate beyond = descending ? cb.lessThan(key, value) : cb.greaterThan(key, value);
+            Predicate tieBreak = cb.and(cb.equal(key, value), descending ? cb.lessThan(id, after) : cb.greaterThan(id, after));
+            return cb.or(beyond, tieBreak);
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.demo.Util.Pagination;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
+
+//Keyset (cursor) pagination over DTO projection queries, in primary key order only
+//Rows are selected straight into DTOs, so reading a page never loads managed entities into the persistence context
+public class ProjectionPaginator<D> 
+{
+    //One slice of rows strictly after (ascending) or before (descending) the given ID, at most limit rows
+    @FunctionalInterface
+    public interface SliceQuery<D> 
+    {
+        List<D> find(Long id, Limit limit);
+    }
+
+    private final String idKey;                 //Name of the primary key attribute, the only accepted sort key
+    private final Function<D, Long> idOf;       //Reads the primary key of a row, used to build the next cursor
+    private final SliceQuery<D> ascending;      //Rows with an ID greater than the cursor, in ascending ID order
+    private final SliceQuery<D> descending;     //Rows with an ID lower than the cursor, in descending ID order
+
+    public ProjectionPaginator(String idKey, Function<D, Long> idOf, SliceQuery<D> ascending, SliceQuery<D> descending) 
+    {
+        this.idKey = idKey;
+        this.idOf = idOf;
+        this.ascending = ascending;
+        this.descending = descending;
+    }
+
+    //Reads one page of rows after the cursor
+    public CursorPage<D> fetch(CursorRequest request) 
+    {
+        if (request.getSortKey() != null && !request.getSortKey().equals(idKey))
+            throw new IllegalArgumentException("Unsupported sort key: " + request.getSortKey());
+
+        //IDs are positive, so the first page starts after 0 (ascending) or before Long.MAX_VALUE (descending)
+        Long after = (request.afterId() != null) ? request.afterId() : (request.isDescending() ? Long.MAX_VALUE : 0L);
+
+        //Read one extra row to find out whether there is a next page without issuing a count query
+        int limit = request.getLimit();
+        List<D> rows = (request.isDescending() ? descending : ascending).find(after, Limit.of(limit + 1));
+
+        return CursorPage.of(rows, limit, idOf);
+    }
+}
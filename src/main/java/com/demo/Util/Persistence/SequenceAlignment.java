@@ -0,0 +1,62 @@
+package com.demo.Util.Persistence;
+import javax.sql.DataSource;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+//Moves every entity's ID sequence past the largest ID already in its table before the application takes any writes.
+//ddl-auto=update creates a missing <table>_seq starting at 1, so on a database whose rows were keyed by the former IDENTITY columns
+//the first pooled blocks would hand out IDs that are taken. A sequence that is behind restarts just past max(id), one already ahead is
+//left where it is. Checking a sequence takes one value from it, so each start with data skips one block of IDs per table
+@Component
+public class SequenceAlignment
+{
+    private static final Logger logger = LoggerFactory.getLogger(SequenceAlignment.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceAlignment(EntityManagerFactory entityManagerFactory, DataSource dataSource)
+    {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    //Runs once Hibernate has updated the schema, while the context is still starting: before the loaders insert and before the server opens
+    @PostConstruct
+    public void align()
+    {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(entity ->
+        {
+            if (entity.getGenerator() instanceof SequenceStyleGenerator generator && generator.getDatabaseStructure().isPhysicalSequence())
+                align(dialect, entity.getIdentifierTableDetails().getTableName(), entity.getIdentifierColumnNames()[0], generator.getDatabaseStructure());
+        });
+    }
+
+    private void align(Dialect dialect, String table, String idColumn, DatabaseStructure sequence)
+    {
+        Long maxId = jdbcTemplate.queryForObject("select max(" + idColumn + ") from " + table, Long.class);
+
+        if (maxId == null)  //Empty table, any value is free
+            return;
+
+        String name = sequence.getPhysicalName().render();
+        long next = jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(name), Long.class);
+
+        if (next <= maxId)
+        {
+            jdbcTemplate.execute("alter sequence " + name + " restart with " + (maxId + 1));
+            logger.info("Sequence {} moved from {} to {}, past the IDs already in {}", name, next, maxId + 1, table);
+        }
+    }
+}
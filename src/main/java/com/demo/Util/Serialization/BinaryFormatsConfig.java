@@ -0,0 +1,37 @@
+package com.demo.Util.Serialization;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+//Binary bodies for service-to-service clients: Accept or Content-Type application/cbor, application/x-jackson-smile or application/x-protobuf.
+//Spring adds CBOR and Smile converters of its own once the formats are on the classpath, but with a plain ObjectMapper; they are replaced by
+//ones built from Spring Boot's builder, so dates, enums and nulls come out as in the JSON API. All three go after the JSON converter:
+//a client sending Accept: */* keeps getting JSON
+@Configuration
+public class BinaryFormatsConfig implements WebMvcConfigurer
+{
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;    //Spring Boot's builder is a prototype, one per mapper
+    private final ProtobufSchemas protobufSchemas;
+
+    public BinaryFormatsConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders, ProtobufSchemas protobufSchemas)
+    {
+        this.builders = builders;
+        this.protobufSchemas = protobufSchemas;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters)
+    {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(builders.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(builders.getObject().factory(new SmileFactory()).build()));
+        converters.add(new JacksonProtobufHttpMessageConverter(protobufSchemas));
+    }
+}
@@ -0,0 +1,112 @@
+package com.demo.Util.Serialization;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+
+//Reads and writes application/x-protobuf bodies with Jackson and the schema generated for the declared body type,
+//so controllers answer protobuf from the same DTOs they answer JSON from. A type without a schema is declined,
+//which lets the other converters answer or the request end in 406 / 415
+public class JacksonProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object>
+{
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private final ProtobufSchemas protobufSchemas;
+
+    public JacksonProtobufHttpMessageConverter(ProtobufSchemas protobufSchemas)
+    {
+        super(PROTOBUF);
+        this.protobufSchemas = protobufSchemas;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz)
+    {
+        return true;    //Decided per type by the schema lookups below
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType)
+    {
+        return canRead(clazz, null, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType)
+    {
+        return canRead(mediaType) && schema(javaType(type, contextClass)) != null;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType)
+    {
+        return canWrite(clazz, clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType)
+    {
+        return canWrite(mediaType) && schema(javaType(type != null ? type : clazz, null)) != null;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException
+    {
+        return read(javaType(type, contextClass), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException
+    {
+        return read(javaType(clazz, null), inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException
+    {
+        //The declared type when there is one, so a CursorPage<PaymentDTO> is written with the schema of its items
+        JavaType javaType = javaType(type != null ? type : value.getClass(), null);
+        ProtobufSchema schema = schema(javaType);
+
+        if (schema == null)
+            throw new HttpMessageNotWritableException("No protobuf schema for " + javaType);
+
+        protobufSchemas.objectMapper().writerFor(javaType).with(schema).writeValue(outputMessage.getBody(), value);
+    }
+
+    private Object read(JavaType javaType, HttpInputMessage inputMessage) throws IOException
+    {
+        ProtobufSchema schema = schema(javaType);
+
+        if (schema == null)
+            throw new HttpMessageNotReadableException("No protobuf schema for " + javaType, inputMessage);
+
+        try
+        {
+            return protobufSchemas.objectMapper().readerFor(javaType).with(schema).readValue(inputMessage.getBody());
+        }
+
+        catch (JsonProcessingException ex)
+        {
+            throw new HttpMessageNotReadableException("Invalid protobuf body: " + ex.getOriginalMessage(), ex, inputMessage);
+        }
+    }
+
+    private JavaType javaType(Type type, Class<?> contextClass)
+    {
+        return protobufSchemas.javaType(GenericTypeResolver.resolveType(type, contextClass));
+    }
+
+    private ProtobufSchema schema(JavaType javaType)
+    {
+        return protobufSchemas.schemaFor(javaType).orElse(null);
+    }
+}
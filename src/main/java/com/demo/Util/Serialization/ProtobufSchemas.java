@@ -0,0 +1,95 @@
+package com.demo.Util.Serialization;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import com.demo.Util.Pagination.CursorPage;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schemagen.ProtobufSchemaGenerator;
+
+//Protobuf schemas generated by Jackson from the DTOs themselves, so the classes in com.demo.DTO stay the one contract for every format.
+//The mapper is Spring Boot's, with the same settings as the JSON one; BigDecimal goes over the wire as its decimal string
+//because protobuf would otherwise turn amounts into doubles. A schema is generated once per Java type (a DTO, or a CursorPage of one)
+//and kept; types protobuf cannot describe (maps, top-level lists) are remembered as unsupported
+@Component
+public class ProtobufSchemas
+{
+    private static final Logger logger = LoggerFactory.getLogger(ProtobufSchemas.class);
+    private static final String DTO_PACKAGE = "com.demo.DTO";
+
+    private final ObjectMapper objectMapper;
+    private final Map<JavaType, Optional<ProtobufSchema>> schemas = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> dtos = new TreeMap<>();    //DTO classes by simple name, for the schema endpoint
+
+    public ProtobufSchemas(Jackson2ObjectMapperBuilder builder)
+    {
+        this.objectMapper = builder.factory(new ProtobufFactory()).serializerByType(BigDecimal.class, ToStringSerializer.instance)
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();     //Dates as ISO strings: protobuf has no field for Jackson's timestamp arrays
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((reader, factory) -> true);
+        scanner.findCandidateComponents(DTO_PACKAGE).forEach(candidate ->
+        {
+            Class<?> dto = ClassUtils.resolveClassName(candidate.getBeanClassName(), getClass().getClassLoader());
+            dtos.put(dto.getSimpleName(), dto);
+        });
+    }
+
+    //The mapper that reads and writes protobuf, to be used with a schema from this class
+    public ObjectMapper objectMapper()
+    {
+        return objectMapper;
+    }
+
+    public JavaType javaType(Type type)
+    {
+        return objectMapper.constructType(type);
+    }
+
+    //Schema of the type, empty when protobuf cannot describe it
+    public Optional<ProtobufSchema> schemaFor(JavaType type)
+    {
+        return schemas.computeIfAbsent(type, this::generate);
+    }
+
+    //Schema of a DTO by its simple name, or of a page of them as the list endpoints return
+    public Optional<ProtobufSchema> schemaForDto(String name, boolean page)
+    {
+        Class<?> dto = dtos.get(name);
+
+        if (dto == null)
+            return Optional.empty();
+
+        return schemaFor(page ? objectMapper.getTypeFactory().constructParametricType(CursorPage.class, dto) : objectMapper.constructType(dto));
+    }
+
+    private Optional<ProtobufSchema> generate(JavaType type)
+    {
+        try
+        {
+            ProtobufSchemaGenerator generator = new ProtobufSchemaGenerator();
+            objectMapper.acceptJsonFormatVisitor(type, generator);
+            return Optional.of(generator.getGeneratedSchema());
+        }
+
+        catch (JsonMappingException | RuntimeException ex)
+        {
+            logger.debug("No protobuf schema for {}: {}", type, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+}
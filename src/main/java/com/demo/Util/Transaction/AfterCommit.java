@@ -0,0 +1,32 @@
+package com.demo.Util.Transaction;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//Defers changes to in-memory state (counters, indexes, read models, cache entries) until the database write they mirror has committed
+public final class AfterCommit
+{
+    private AfterCommit()
+    {
+
+    }
+
+    //Runs the change once the surrounding transaction commits, or at once when there is none
+    //A rolled back transaction never runs it, and a concurrent reader never sees it before the rows it describes
+    public static void run(Runnable change)
+    {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+            {
+                @Override
+                public void afterCommit()
+                {
+                    change.run();
+                }
+            });
+        }
+
+        else
+            change.run();
+    }
+}
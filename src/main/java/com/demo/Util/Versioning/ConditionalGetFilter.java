@@ -0,0 +1,150 @@
+package com.demo.Util.Versioning;
+import java.io.IOException;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+//Conditional GETs for the reference collections: every successful GET of a list or a row gets the ETag of its current version, and a request
+//whose If-None-Match holds that tag is answered 304 Not Modified before it reaches the controller, so nothing is read or serialized.
+//Serialized list pages are kept per URL and Accept header together with the tag they were written under, so a client without the tag
+//gets the bytes back as long as the collection has not changed. The tag is taken before the controller runs: a change committing
+//meanwhile bumps the version, so a page is never stored under a tag newer than its content.
+//The same version is served as JSON, CBOR, Smile or Protobuf depending on Accept, so every answer varies by Accept and its tag ends with
+//the media type it was written in. The type negotiated for an Accept header is learned from the first answer to it; until then
+//a request with that header always reaches the controller
+@Component
+public class ConditionalGetFilter extends OncePerRequestFilter
+{
+    private final ResourceVersions resourceVersions;
+    private final Cache<String, CachedPage> pages;
+    private final Cache<String, String> mediaTypes;    //Media type negotiated for each Accept header seen, alike for every versioned endpoint
+
+    //A serialized list page and the collection tag it was written under
+    private record CachedPage(String etag, String contentType, byte[] body) {}
+
+    //The collection a request reads, and the row when it reads one
+    private record Target(VersionedResource resource, Long id) {}
+
+    public ConditionalGetFilter(ResourceVersions resourceVersions, @Value("${conditional-get.cache.max-bytes:33554432}") long maxBytes)
+    {
+        this.resourceVersions = resourceVersions;
+        this.pages = Caffeine.newBuilder().maximumWeight(maxBytes).weigher((String url, CachedPage page) -> url.length() + page.body().length).build();
+        this.mediaTypes = Caffeine.newBuilder().maximumSize(1_000).build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request)
+    {
+        return !"GET".equals(request.getMethod()) || target(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException
+    {
+        Target target = target(request);
+        String version = target.id() == null ? resourceVersions.collectionTag(target.resource()) : resourceVersions.entityTag(target.resource(), target.id());
+        String accept = Objects.toString(request.getHeader(HttpHeaders.ACCEPT), "");
+        String mediaType = mediaTypes.getIfPresent(accept);
+        String etag = mediaType == null ? null : tag(version, mediaType);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        if (etag != null && matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag))
+        {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            response.setHeader(HttpHeaders.ETAG, etag);
+            return;
+        }
+
+        String url = null;
+
+        if (target.id() == null)
+        {
+            url = request.getRequestURI() + "?" + Objects.toString(request.getQueryString(), "") + " " + accept;
+            CachedPage page = pages.getIfPresent(url);
+
+            if (page != null && page.etag().equals(etag))
+            {
+                response.setStatus(HttpStatus.OK.value());
+                response.setHeader(HttpHeaders.ETAG, etag);
+                response.setContentType(page.contentType());
+                response.setContentLength(page.body().length);
+                response.getOutputStream().write(page.body());
+                return;
+            }
+        }
+
+        //Buffered so the tag can still be added once the controller has answered, and only to a successful answer
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, buffered);
+
+        if (buffered.getStatus() == HttpStatus.OK.value() && buffered.getContentType() != null)
+        {
+            MediaType negotiated = MediaType.parseMediaType(buffered.getContentType());
+            String type = negotiated.getType() + "/" + negotiated.getSubtype();
+            mediaTypes.put(accept, type);
+            String written = tag(version, type);
+            buffered.setHeader(HttpHeaders.ETAG, written);
+
+            if (url != null)
+                pages.put(url, new CachedPage(written, buffered.getContentType(), buffered.getContentAsByteArray()));
+        }
+
+        buffered.copyBodyToResponse();
+    }
+
+    //The version tag with the media type of the representation inside its quotes, e.g. "products-1-7;application/cbor"
+    private static String tag(String version, String mediaType)
+    {
+        return version.substring(0, version.length() - 1) + ";" + mediaType + "\"";
+    }
+
+    //The collection or row addressed by the path: /products is the collection, /products/42 one of its rows, anything else is not versioned
+    private static Target target(HttpServletRequest request)
+    {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        for (VersionedResource resource : VersionedResource.values())
+        {
+            if (!path.startsWith(resource.path()))
+                continue;
+
+            String rest = path.substring(resource.path().length());
+
+            if (rest.isEmpty() || rest.equals("/"))
+                return new Target(resource, null);
+
+            if (rest.length() > 1 && rest.length() < 19 && rest.charAt(0) == '/' && rest.substring(1).chars().allMatch(Character::isDigit))
+                return new Target(resource, Long.valueOf(rest.substring(1)));
+        }
+
+        return null;
+    }
+
+    //If-None-Match holds a list of tags, compared weakly as RFC 9110 asks for this header. * is left to the controller, it would also match a row that does not exist
+    private static boolean matches(String ifNoneMatch, String etag)
+    {
+        if (ifNoneMatch == null)
+            return false;
+
+        for (String candidate : ifNoneMatch.split(","))
+        {
+            String tag = candidate.trim();
+
+            if ((tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag))
+                return true;
+        }
+
+        return false;
+    }
+}
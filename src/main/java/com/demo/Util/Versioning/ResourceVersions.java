@@ -0,0 +1,98 @@
+package com.demo.Util.Versioning;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.demo.Util.Transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+//Version stamps of the reference collections and of each of their rows, bumped by the services after their writes commit,
+//so an ETag can be built for a list or a row without reading it. Every change of a collection takes the next value of its counter,
+//which becomes both the collection's version and the stamp of the changed row; rows not changed since startup have stamp 0.
+//The counters live in memory, so every tag also carries the generation of the counters: a restart or a reset starts a new one
+//and no tag handed out before it can match again.
+//Row stamps are kept for at most a configured number of rows per collection. Once a row's stamp has been evicted the row is tagged
+//with the collection's version instead, which is never below the row's own stamp, so a stale tag cannot match; such rows merely
+//get a new tag whenever anything in the collection changes
+@Component
+public class ResourceVersions
+{
+    private final Map<VersionedResource, Stamps> stamps = new EnumMap<>(VersionedResource.class);
+    private final String started = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong resets = new AtomicLong();
+    private volatile String generation = started + ".0";
+
+    public ResourceVersions(@Value("${conditional-get.row-stamps.max-size:100000}") long maxRowStamps)
+    {
+        for (VersionedResource resource : VersionedResource.values())
+            stamps.put(resource, new Stamps(maxRowStamps));
+    }
+
+    //Strong ETag of the whole collection, valid for every page and sort of its list endpoint
+    public String collectionTag(VersionedResource resource)
+    {
+        return "\"" + resource.name().toLowerCase() + "-" + generation + "-" + stamps.get(resource).version.get() + "\"";
+    }
+
+    //Strong ETag of one row of the collection
+    public String entityTag(VersionedResource resource, Long id)
+    {
+        return "\"" + resource.name().toLowerCase() + "-" + id + "-" + generation + "-" + stamps.get(resource).stampOf(id) + "\"";
+    }
+
+    //Called inside the transaction that created, updated or deleted the row
+    public void changed(VersionedResource resource, Long id)
+    {
+        AfterCommit.run(() ->
+        {
+            Stamps changed = stamps.get(resource);
+            long version = changed.version.incrementAndGet();
+
+            if (id != null)
+                changed.byId.put(id, version);
+        });
+    }
+
+    //After a bulk load behind the services' back: every tag handed out so far stops matching
+    public void reset()
+    {
+        AfterCommit.run(() ->
+        {
+            generation = started + "." + resets.incrementAndGet();
+            stamps.values().forEach(Stamps::clear);     //The counters keep going, so a stamp is never handed out twice
+        });
+    }
+
+    private static final class Stamps
+    {
+        private final AtomicLong version = new AtomicLong();
+        private final Cache<Long, Long> byId;
+        private volatile boolean evicted;   //Whether a row's stamp was dropped since the last reset, making 0 unsafe for unknown rows
+
+        private Stamps(long maxRowStamps)
+        {
+            //The eviction listener runs within the removal, before a reader can miss the row; maintenance runs on the writing thread
+            this.byId = Caffeine.newBuilder().maximumSize(maxRowStamps).executor(Runnable::run)
+            .<Long, Long>evictionListener((id, stamp, cause) -> evicted = true).build();
+        }
+
+        //Stamp of the row's last change, 0 when unchanged since the last reset, or the collection's version when that is not known any more
+        private long stampOf(Long id)
+        {
+            Long stamp = byId.getIfPresent(id);
+
+            if (stamp != null)
+                return stamp;
+
+            return evicted ? version.get() : 0L;
+        }
+
+        private void clear()
+        {
+            byId.invalidateAll();
+            evicted = false;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.demo.Util.Versioning;
+
+//The rarely changing reference collections served with ETags, by the path their controller is mapped to
+public enum VersionedResource
+{
+    PRODUCTS("/products"),
+    CATEGORIES("/categories"),
+    ITEMS("/items"),
+    INVENTORIES("/inventories");
+
+    private final String path;
+
+    VersionedResource(String path)
+    {
+        this.path = path;
+    }
+
+    public String path()
+    {
+        return path;
+    }
+}
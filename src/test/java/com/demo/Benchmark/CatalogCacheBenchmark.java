@@ -0,0 +1,93 @@
+package com.demo.Benchmark;
+import com.demo.Util.Money.Money;
+import java.net.URI;
+import java.util.concurrent.ThreadLocalRandom;
+import org.hibernate.Session;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import com.demo.Entity.Category.Category;
+import com.demo.Entity.Item.Item;
+import com.demo.Entity.Product.Product;
+import com.demo.Util.Cache.CatalogCacheConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+//Compares catalog lookups by ID on H2 with the second-level cache switched off against the Caffeine-backed cache the entities now use
+//Every lookup runs in its own session, like one GET /products/{pid} request, so the first-level cache never answers it
+//Opt-in: mvn test -Dtest=CatalogCacheBenchmark -Dbenchmark=true [-Dbenchmark.rows=1000] [-Dbenchmark.reads=300000]
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class CatalogCacheBenchmark 
+{
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000);       //Categories, items and products stored
+    private static final int READS = Integer.getInteger("benchmark.reads", 300_000);   //Lookups per run, a third on each entity
+
+    @Test
+    void compareUncachedWithSecondLevelCache() 
+    {
+        //Each run gets its own in-memory database so neither run warms up the other's tables
+        long uncachedMillis = run("uncached", false);
+        long cachedMillis = run("cached", true);
+
+        System.out.printf("%-28s %,d reads in %,d ms (%,.0f reads/s)%n", "No second-level cache:", READS, uncachedMillis, READS * 1000.0 / uncachedMillis);
+        System.out.printf("%-28s %,d reads in %,d ms (%,.0f reads/s)%n", "Caffeine second-level cache:", READS, cachedMillis, READS * 1000.0 / cachedMillis);
+        System.out.printf("Speed-up: %.2fx%n", (double) uncachedMillis / cachedMillis);
+    }
+
+    //Stores ROWS of each catalog entity, then times READS random lookups by ID
+    private long run(String database, boolean cached) 
+    {
+        try (SessionFactory sessionFactory = sessionFactory(database, cached)) 
+        {
+            sessionFactory.inTransaction(session -> 
+            {
+                for (int i = 1; i <= ROWS; i++) 
+                {
+                    session.persist(Category.builder().categoryName("Category " + i).description("Benchmark category").build());
+                    session.persist(Item.builder().itemName("Item " + i).unitPrice(Money.of("1.00")).build());
+                    session.persist(Product.builder().productName("Product " + i).unitPrice(Money.of("10.00")).build());
+                }
+            });
+
+            long start = System.nanoTime();
+
+            for (int i = 0; i < READS; i++) 
+            {
+                long id = ThreadLocalRandom.current().nextLong(1, ROWS + 1);
+
+                try (Session session = sessionFactory.openSession()) 
+                {
+                    Object found = switch (i % 3) 
+                    {
+                        case 0 -> session.find(Category.class, id);
+                        case 1 -> session.find(Item.class, id);
+                        default -> session.find(Product.class, id);
+                    };
+                    assertNotNull(found);
+                }
+            }
+
+            return (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+
+    //Same cache settings as application.properties and CatalogCacheConfig, minus SQL logging which would dominate the timing
+    private SessionFactory sessionFactory(String database, boolean cached) 
+    {
+        Configuration configuration = new Configuration().addAnnotatedClass(Category.class).addAnnotatedClass(Item.class).addAnnotatedClass(Product.class)
+        .setProperty("hibernate.connection.url", "jdbc:h2:mem:bench_" + database + ";DB_CLOSE_DELAY=-1")
+        .setProperty("hibernate.connection.username", "sa")
+        .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+        .setProperty("hibernate.cache.use_second_level_cache", String.valueOf(cached));
+
+        if (cached) 
+        {
+            configuration.setProperty("hibernate.cache.region.factory_class", "jcache")
+            .setProperty("hibernate.javax.cache.missing_cache_strategy", "fail")
+            .getProperties().put(ConfigSettings.CACHE_MANAGER, new CatalogCacheConfig().catalogCacheManager(URI.create("classpath:catalog-cache.conf")));
+        }
+
+        return configuration.buildSessionFactory();
+    }
+}
@@ -0,0 +1,126 @@
+package com.demo.Benchmark;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import com.demo.Enum.Order.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import static org.junit.jupiter.api.Assertions.*;
+
+//Compares bulk order inserts on H2 with IDENTITY keys (one round trip per row, no JDBC batching)
+//against pooled-lo sequence keys with JDBC batching, which is the mapping the entities now use
+//Opt-in because it inserts 1M rows per strategy: mvn test -Dtest=IdGenerationBenchmark -Dbenchmark=true [-Dbenchmark.rows=1000000]
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class IdGenerationBenchmark 
+{
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);   //Orders inserted per strategy
+    private static final int BATCH_SIZE = 50;                                          //Same value as hibernate.jdbc.batch_size in application.properties
+
+    @Entity(name = "IdentityOrder")
+    @Table(name = "bench_identity_orders")
+    public static class IdentityOrder 
+    {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long oid;
+
+        @Column(nullable = false) BigDecimal totalPrice;
+        @Enumerated(EnumType.STRING) @Column(nullable = false) OrderStatus orderStatus;
+        @Column(nullable = false) LocalDateTime orderDateTime;
+    }
+
+    @Entity(name = "SequenceOrder")
+    @Table(name = "bench_sequence_orders")
+    public static class SequenceOrder 
+    {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_sequence_orders_seq")
+        @SequenceGenerator(name = "bench_sequence_orders_seq", sequenceName = "bench_sequence_orders_seq", allocationSize = BATCH_SIZE)
+        Long oid;
+
+        @Column(nullable = false) BigDecimal totalPrice;
+        @Enumerated(EnumType.STRING) @Column(nullable = false) OrderStatus orderStatus;
+        @Column(nullable = false) LocalDateTime orderDateTime;
+    }
+
+    @Test
+    void compareIdentityWithPooledSequence() 
+    {
+        //Each strategy gets its own in-memory database so neither run warms up the other's tables
+        long identityMillis = run("identity", IdentityOrder.class, () -> fill(new IdentityOrder()));
+        long sequenceMillis = run("sequence", SequenceOrder.class, () -> fill(new SequenceOrder()));
+
+        System.out.printf("%-28s %,d rows in %,d ms (%,.0f rows/s)%n", "IDENTITY:", ROWS, identityMillis, ROWS * 1000.0 / identityMillis);
+        System.out.printf("%-28s %,d rows in %,d ms (%,.0f rows/s)%n", "SEQUENCE pooled-lo + batch:", ROWS, sequenceMillis, ROWS * 1000.0 / sequenceMillis);
+        System.out.printf("Speed-up: %.2fx%n", (double) identityMillis / sequenceMillis);
+    }
+
+    //Inserts ROWS orders in one transaction, flushing and clearing every batch so the persistence context stays small
+    private long run(String database, Class<?> entity, Supplier<Object> order) 
+    {
+        try (SessionFactory sessionFactory = sessionFactory(database, entity); Session session = sessionFactory.openSession()) 
+        {
+            long start = System.nanoTime();
+            session.beginTransaction();
+
+            for (int i = 1; i <= ROWS; i++) 
+            {
+                session.persist(order.get());
+
+                if (i % BATCH_SIZE == 0) 
+                {
+                    session.flush();
+                    session.clear();
+                }
+            }
+
+            session.getTransaction().commit();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            Long count = session.createQuery("SELECT count(o) FROM " + entity.getSimpleName() + " o", Long.class).getSingleResult();
+            assertEquals(ROWS, count);
+            return millis;
+        }
+    }
+
+    //Same settings as application.properties, minus SQL logging which would dominate the timing
+    private SessionFactory sessionFactory(String database, Class<?> entity) 
+    {
+        return new Configuration().addAnnotatedClass(entity)
+        .setProperty("hibernate.connection.url", "jdbc:h2:mem:bench_" + database + ";DB_CLOSE_DELAY=-1")
+        .setProperty("hibernate.connection.username", "sa")
+        .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+        .setProperty("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE))
+        .setProperty("hibernate.order_inserts", "true")
+        .setProperty("hibernate.id.optimizer.pooled.preferred", "pooled-lo")
+        .buildSessionFactory();
+    }
+
+    private static IdentityOrder fill(IdentityOrder order) 
+    {
+        order.totalPrice = BigDecimal.TEN;
+        order.orderStatus = OrderStatus.NEW;
+        order.orderDateTime = LocalDateTime.now();
+        return order;
+    }
+
+    private static SequenceOrder fill(SequenceOrder order) 
+    {
+        order.totalPrice = BigDecimal.TEN;
+        order.orderStatus = OrderStatus.NEW;
+        order.orderDateTime = LocalDateTime.now();
+        return order;
+    }
+}
@@ -0,0 +1,144 @@
+package com.demo.Benchmark.Load;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import org.HdrHistogram.ConcurrentHistogram;
+
+//Open-model HTTP load generator: every client sends on a fixed schedule, whether or not the previous response was slow,
+//and each latency is measured from when the request was due rather than when it was sent. A stalled server therefore
+//shows up as queueing delay in the percentiles instead of silently lowering the request rate (coordinated omission).
+public class LoadHarness
+{
+    //One entry of the request mix: picked with probability weight / total weight, building a fresh request each time
+    public record Endpoint(String name, int weight, Function<SplittableRandom, HttpRequest> request) {}
+
+    private final HttpClient client;
+    private final List<Endpoint> endpoints;
+    private final int[] cumulativeWeights;  //Running weight totals, so a random number in [0, total) maps to an endpoint
+    private final int totalWeight;
+
+    public LoadHarness(HttpClient client, List<Endpoint> endpoints)
+    {
+        if (endpoints.isEmpty())
+            throw new IllegalArgumentException("At least one endpoint is required");
+
+        this.client = client;
+        this.endpoints = List.copyOf(endpoints);
+        this.cumulativeWeights = new int[endpoints.size()];
+        int total = 0;
+
+        for (int i = 0; i < endpoints.size(); i++)
+        {
+            if (endpoints.get(i).weight() <= 0)
+                throw new IllegalArgumentException("Endpoint weight must be positive: " + endpoints.get(i).name());
+
+            total += endpoints.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+
+        this.totalWeight = total;
+    }
+
+    //Drives the mix at rate requests per second spread over clients threads, discarding everything sent during the warm-up
+    public LoadReport run(int clients, double rate, Duration warmup, Duration duration) throws InterruptedException
+    {
+        if (clients <= 0 || rate <= 0)
+            throw new IllegalArgumentException("Clients and rate must be positive");
+
+        List<ConcurrentHistogram> histograms = new ArrayList<>();
+        List<LongAdder> errors = new ArrayList<>();
+
+        for (int i = 0; i < endpoints.size(); i++)
+        {
+            histograms.add(new ConcurrentHistogram(3));    //Microseconds, auto-resizing so a very slow response is never dropped
+            errors.add(new LongAdder());
+        }
+
+        long intervalNanos = (long) (clients * 1_000_000_000L / rate);   //Gap between two requests of the same client
+        long start = System.nanoTime() + 100_000_000L;                      //Small head start so every thread is ready before the first request is due
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        List<Thread> threads = new ArrayList<>(clients);
+
+        //Platform threads, one per client: Java 17 has no virtual threads, so very high client counts cost a thread stack each
+        for (int c = 0; c < clients; c++)
+        {
+            long firstDue = start + intervalNanos * c / clients;    //Stagger the clients so requests are spread evenly over each interval
+            SplittableRandom random = new SplittableRandom(c);
+            Thread thread = new Thread(() -> drive(random, firstDue, intervalNanos, measureFrom, end, histograms, errors), "load-client-" + c);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+
+        List<LoadReport.EndpointResult> results = new ArrayList<>();
+
+        for (int i = 0; i < endpoints.size(); i++)
+            results.add(LoadReport.EndpointResult.of(endpoints.get(i).name(), histograms.get(i), errors.get(i).sum(), duration));
+
+        return new LoadReport(clients, rate, duration, results);
+    }
+
+    //Client loop: wait for the next due time, send one request from the mix and record how late its response was against that due time
+    private void drive(SplittableRandom random, long firstDue, long intervalNanos, long measureFrom, long end, List<ConcurrentHistogram> histograms, List<LongAdder> errors)
+    {
+        for (long due = firstDue; due < end; due += intervalNanos)
+        {
+            long wait = due - System.nanoTime();
+
+            if (wait > 0)
+                LockSupport.parkNanos(wait);
+
+            int index = pick(random);
+            boolean failed;
+
+            try
+            {
+                HttpResponse<Void> response = client.send(endpoints.get(index).request().apply(random), HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            }
+            catch (IOException ex)
+            {
+                failed = true;
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (due < measureFrom)
+                continue;
+
+            histograms.get(index).recordValue(Math.max(1, (System.nanoTime() - due) / 1_000));
+
+            if (failed)
+                errors.get(index).increment();
+        }
+    }
+
+    //Index of a weighted random endpoint
+    private int pick(SplittableRandom random)
+    {
+        int roll = random.nextInt(totalWeight);
+
+        for (int i = 0; i < cumulativeWeights.length; i++)
+        {
+            if (roll < cumulativeWeights[i])
+                return i;
+        }
+
+        return cumulativeWeights.length - 1;
+    }
+}
@@ -0,0 +1,66 @@
+package com.demo.Benchmark.Load;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.HdrHistogram.Histogram;
+
+//Latency percentiles and throughput per endpoint of one load run, with the threshold checks that fail a regression
+public record LoadReport(int clients, double rate, Duration duration, List<EndpointResult> endpoints)
+{
+    //Measured requests of one endpoint, latencies in milliseconds from the time each request was due
+    public record EndpointResult(String name, long requests, long errors, double throughput, double p50, double p99, double p999, double max)
+    {
+        static EndpointResult of(String name, Histogram micros, long errors, Duration duration)
+        {
+            long requests = micros.getTotalCount();
+            return new EndpointResult(name, requests, errors, requests * 1000.0 / duration.toMillis(), micros.getValueAtPercentile(50) / 1000.0,
+            micros.getValueAtPercentile(99) / 1000.0, micros.getValueAtPercentile(99.9) / 1000.0, micros.getMaxValue() / 1000.0);
+        }
+
+        double errorRate()
+        {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    //Table of every endpoint, ready to print or write to a file
+    public String format()
+    {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d clients, target %,.0f req/s, measured for %ds%n", clients, rate, duration.toSeconds()));
+        report.append(String.format("%-28s %9s %7s %10s %9s %9s %9s %9s%n", "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "Max ms"));
+
+        for (EndpointResult endpoint : endpoints)
+        {
+            report.append(String.format("%-28s %,9d %,7d %,10.1f %9.2f %9.2f %9.2f %9.2f%n", endpoint.name(), endpoint.requests(), endpoint.errors(),
+            endpoint.throughput(), endpoint.p50(), endpoint.p99(), endpoint.p999(), endpoint.max()));
+        }
+
+        report.append(String.format("%-28s %,9d %,7d %,10.1f%n", "Total", endpoints.stream().mapToLong(EndpointResult::requests).sum(),
+        endpoints.stream().mapToLong(EndpointResult::errors).sum(), endpoints.stream().mapToDouble(EndpointResult::throughput).sum()));
+        return report.toString();
+    }
+
+    //Every endpoint that breaks a limit, a null limit is not checked
+    public List<String> violations(Double maxP99Millis, Double maxP999Millis, Double maxErrorRate)
+    {
+        List<String> violations = new ArrayList<>();
+
+        for (EndpointResult endpoint : endpoints)
+        {
+            if (endpoint.requests() == 0)
+                violations.add(endpoint.name() + ": no requests measured");
+
+            if (maxP99Millis != null && endpoint.p99() > maxP99Millis)
+                violations.add(String.format("%s: p99 %.2f ms exceeds %.2f ms", endpoint.name(), endpoint.p99(), maxP99Millis));
+
+            if (maxP999Millis != null && endpoint.p999() > maxP999Millis)
+                violations.add(String.format("%s: p99.9 %.2f ms exceeds %.2f ms", endpoint.name(), endpoint.p999(), maxP999Millis));
+
+            if (maxErrorRate != null && endpoint.errorRate() > maxErrorRate)
+                violations.add(String.format("%s: error rate %.4f exceeds %.4f", endpoint.name(), endpoint.errorRate(), maxErrorRate));
+        }
+
+        return violations;
+    }
+}
@@ -0,0 +1,93 @@
+package com.demo.Benchmark.Load;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import com.demo.Util.DataLoader.DatasetGenerator;
+import static org.junit.jupiter.api.Assertions.*;
+
+//Boots the application on a random port, generates a dataset of load.scale-factor (DatasetGenerator) and drives a weighted mix of the REST endpoints,
+//printing p50/p99/p99.9 latency and throughput per endpoint and failing when an optional threshold is broken
+//Opt-in: mvn test -Dtest=RestLoadBenchmark -Dbenchmark=true [-Dload.scale-factor=0.01] [-Dload.clients=200] [-Dload.rate=2000]
+//[-Dload.warmup=PT10S] [-Dload.duration=PT30S] [-Dload.max-p99-ms=50] [-Dload.max-p999-ms=200] [-Dload.max-error-rate=0.001]
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = { "spring.jpa.show-sql=false", "logging.level.root=WARN" })
+public class RestLoadBenchmark
+{
+    private static final double SCALE_FACTOR = Double.parseDouble(System.getProperty("load.scale-factor", "0.01"));  //Dataset size, 0.01 is 10k orders and 1k products
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 200);    //Concurrent client threads
+    private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "2000"));    //Target requests per second across all clients
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private static final int PAGE = 20;                                             //Page size of the list requests
+
+    @LocalServerPort private int port;
+    @Autowired private DatasetGenerator datasetGenerator;
+
+    @Test
+    void runEndpointMix() throws InterruptedException, IOException
+    {
+        DatasetGenerator.Dataset dataset = datasetGenerator.generate(SCALE_FACTOR, SEED);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+        LoadHarness harness = new LoadHarness(client, endpoints(dataset));
+
+        LoadReport report = harness.run(CLIENTS, RATE, WARMUP, DURATION);
+        String table = report.format();
+        System.out.print(table);
+        Files.writeString(Path.of("target", "load-report.txt"), table);
+
+        List<String> violations = report.violations(limit("load.max-p99-ms"), limit("load.max-p999-ms"), limit("load.max-error-rate"));
+        assertTrue(violations.isEmpty(), () -> "Load thresholds broken:\n" + String.join("\n", violations));
+    }
+
+    //Weighted request mix, reads dominate like a storefront: single rows by ID, cursor pages and a few order writes
+    private List<LoadHarness.Endpoint> endpoints(DatasetGenerator.Dataset dataset)
+    {
+        List<LoadHarness.Endpoint> endpoints = new ArrayList<>();
+        endpoints.add(get("GET /products/{pid}", 15, random -> "/products/" + dataset.products().pick(random)));
+        endpoints.add(get("GET /products", 5, random -> "/products?limit=" + PAGE + "&after=" + dataset.products().pick(random)));
+        endpoints.add(get("GET /catalog", 10, random -> "/catalog?limit=" + PAGE + "&after=" + dataset.products().pick(random)));
+        endpoints.add(get("GET /categories/{id}", 5, random -> "/categories/" + dataset.categories().pick(random)));
+        endpoints.add(get("GET /items/{iid}", 5, random -> "/items/" + dataset.items().pick(random)));
+        endpoints.add(get("GET /inventories/{sid}", 5, random -> "/inventories/" + dataset.inventories().pick(random)));
+        endpoints.add(get("GET /item-inventory", 5, random -> "/item-inventory?limit=" + PAGE + "&after=" + dataset.itemInventories().pick(random)));
+        endpoints.add(get("GET /orders/{oid}", 15, random -> "/orders/" + dataset.orders().pick(random)));
+        endpoints.add(get("GET /orders", 8, random -> "/orders?limit=" + PAGE + "&after=" + dataset.orders().pick(random)));
+        endpoints.add(get("GET /orders/{oid}/full", 4, random -> "/orders/" + dataset.orders().pick(random) + "/full"));
+        endpoints.add(get("GET /payments/{pid}", 10, random -> "/payments/" + dataset.payments().pick(random)));
+        endpoints.add(get("GET /payments", 5, random -> "/payments?limit=" + PAGE + "&after=" + dataset.payments().pick(random)));
+        endpoints.add(get("GET /deleted-ids", 3, random -> "/deleted-ids?limit=" + PAGE));
+        endpoints.add(new LoadHarness.Endpoint("POST /orders", 5, random -> HttpRequest.newBuilder(uri("/orders")).header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString("{\"totalPrice\":" + (1 + random.nextInt(500)) + ".50,\"orderStatus\":\"NEW\"}")).build()));
+        return endpoints;
+    }
+
+    private LoadHarness.Endpoint get(String name, int weight, Function<SplittableRandom, String> path)
+    {
+        return new LoadHarness.Endpoint(name, weight, random -> HttpRequest.newBuilder(uri(path.apply(random))).header("Accept", "application/json").GET().build());
+    }
+
+    private URI uri(String path)
+    {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Double limit(String property)
+    {
+        String value = System.getProperty(property);
+        return value == null || value.isBlank() ? null : Double.valueOf(value);
+    }
+}
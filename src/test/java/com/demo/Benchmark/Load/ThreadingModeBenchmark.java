@@ -0,0 +1,131 @@
+package com.demo.Benchmark.Load;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.demo.DemoApplication;
+import com.demo.Entity.Order.Order;
+import com.demo.Entity.Payment.Payment;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Repository.Payment.PaymentRepository;
+import static org.junit.jupiter.api.Assertions.*;
+
+//Compares platform-thread request handling with the virtual-thread mode under a load that saturates the Tomcat thread pool:
+//every JDBC statement is slowed down by threading.query-delay-ms, like a remote database, so platform threads run out long before the connections do
+//The virtual-thread run needs Java 21+ and is skipped on older JVMs, where spring.threads.virtual.enabled has no effect
+//Opt-in: mvn test -Dtest=ThreadingModeBenchmark -Dbenchmark=true [-Dthreading.query-delay-ms=50] [-Dthreading.tomcat-threads=50]
+//[-Dthreading.pool-size=200] [-Dthreading.rate=1500] [-Dthreading.clients=400] [-Dload.warmup=PT10S] [-Dload.duration=PT30S]
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ThreadingModeBenchmark
+{
+    private static final long QUERY_DELAY_MS = Long.getLong("threading.query-delay-ms", 50);        //Added to every statement execution
+    private static final int TOMCAT_THREADS = Integer.getInteger("threading.tomcat-threads", 50);   //Platform worker threads, the cap the virtual mode removes
+    private static final int POOL_SIZE = Integer.getInteger("threading.pool-size", 200);            //Connections, sized above the worker threads so the pool is not the limit
+    private static final double RATE = Double.parseDouble(System.getProperty("threading.rate", "1500"));
+    private static final int CLIENTS = Integer.getInteger("threading.clients", 400);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+
+    @Test
+    void comparePlatformWithVirtualThreads() throws InterruptedException
+    {
+        LoadReport platform = run(false);
+        System.out.println("Platform threads (server.tomcat.threads.max=" + TOMCAT_THREADS + "):");
+        System.out.print(platform.format());
+
+        int java = Runtime.version().feature();
+
+        if (java < 21)
+        {
+            System.out.println("Virtual threads skipped: the Java " + java + " runtime has none, run the benchmark on a Java 21+ JVM to compare");
+            return;
+        }
+
+        LoadReport virtual = run(true);
+        System.out.println("Virtual threads:");
+        System.out.print(virtual.format());
+        assertTrue(virtual.violations(null, null, 0.0).isEmpty(), () -> "Virtual-thread run failed requests: " + virtual.violations(null, null, 0.0));
+    }
+
+    //Starts the application in one threading mode on its own database and drives read requests that each run one slowed statement
+    private LoadReport run(boolean virtualThreads) throws InterruptedException
+    {
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class, SlowDatabase.class).run("--server.port=0",
+        "--spring.threads.virtual.enabled=" + virtualThreads, "--server.tomcat.threads.max=" + TOMCAT_THREADS, "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+        "--spring.datasource.url=jdbc:h2:mem:threading-" + mode + ";DB_CLOSE_DELAY=-1", "--spring.jpa.show-sql=false", "--logging.level.root=WARN"))
+        {
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            List<Long> orders = context.getBean(OrderRepository.class).findAll().stream().map(Order::getOid).toList();
+            List<Long> payments = context.getBean(PaymentRepository.class).findAll().stream().map(Payment::getPid).toList();
+            context.getBean(SlowDatabase.class).delayMillis = QUERY_DELAY_MS;   //Only once the sample data is in, so startup is not slowed down
+
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+            LoadHarness harness = new LoadHarness(client, List.of(
+                new LoadHarness.Endpoint("GET /orders/{oid}", 4, random -> get(base + "/orders/" + pick(random, orders))),
+                new LoadHarness.Endpoint("GET /orders", 2, random -> get(base + "/orders?limit=20")),
+                new LoadHarness.Endpoint("GET /payments/{pid}", 4, random -> get(base + "/payments/" + pick(random, payments)))));
+            return harness.run(CLIENTS, RATE, WARMUP, DURATION);
+        }
+    }
+
+    private static HttpRequest get(String uri)
+    {
+        return HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json").GET().build();
+    }
+
+    private static Long pick(SplittableRandom random, List<Long> ids)
+    {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    //Wraps the DataSource so every statement execution first sleeps, holding its thread and connection like a slow network round trip
+    public static class SlowDatabase implements BeanPostProcessor
+    {
+        private volatile long delayMillis;
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName)
+        {
+            return bean instanceof DataSource ? delayed(DataSource.class, bean) : bean;
+        }
+
+        //Proxy that passes every call through, delaying statement executions and wrapping the connections and statements it hands out
+        private Object delayed(Class<?> type, Object target)
+        {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) ->
+            {
+                if (Statement.class.isAssignableFrom(type) && method.getName().startsWith("execute") && delayMillis > 0)
+                    Thread.sleep(delayMillis);
+
+                Object result;
+
+                try
+                {
+                    result = method.invoke(target, args);
+                }
+                catch (InvocationTargetException ex)
+                {
+                    throw ex.getCause();
+                }
+
+                Class<?> returned = method.getReturnType();
+                boolean wrap = returned.isInterface() && (Connection.class.isAssignableFrom(returned) || Statement.class.isAssignableFrom(returned));
+                return result != null && wrap && !method.getName().equals("unwrap") ? delayed(returned, result) : result;
+            });
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.demo.Benchmark;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import static org.junit.jupiter.api.Assertions.*;
+
+//Time to first request of a freshly launched JVM: default startup, the fast-start profile, and the fast-start profile on the AppCDS archive
+//Each run starts the application in its own process and polls GET /orders until it answers 200, timing from process launch
+//The archive variants need mvn -Pcds package -DskipTests first and are skipped without target/cds/application.jsa
+//Opt-in: mvn test -Dtest=StartupBenchmark -Dbenchmark=true [-Dstartup.runs=3]
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class StartupBenchmark
+{
+    private static final int RUNS = Integer.getInteger("startup.runs", 3);
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+    private static final Path CDS = Path.of("target", "cds");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void compareTimeToFirstRequest() throws IOException, InterruptedException
+    {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        List<String> fromClasspath = List.of(java, "-cp", classpath, "com.demo.DemoApplication");
+
+        StringBuilder report = new StringBuilder(String.format("%-28s %10s %10s%n", "Startup", "Median ms", "Min ms"));
+        report.append(measure("default", fromClasspath));
+        report.append(measure("fast-start", with(fromClasspath, "--spring.profiles.active=fast-start")));
+
+        Path archive = CDS.resolve("application.jsa");
+        Path jar = Files.exists(CDS) ? Files.list(CDS).filter(file -> file.toString().endsWith(".jar")).findFirst().orElse(null) : null;
+
+        if (Files.exists(archive) && jar != null)
+        {
+            report.append(measure("default + AppCDS", List.of(java, "-XX:SharedArchiveFile=" + archive, "-jar", jar.toString())));
+            report.append(measure("fast-start + AppCDS", List.of(java, "-XX:SharedArchiveFile=" + archive, "-jar", jar.toString(), "--spring.profiles.active=fast-start")));
+        }
+
+        else
+            report.append("AppCDS runs skipped: build the archive with mvn -Pcds package -DskipTests").append(System.lineSeparator());
+
+        System.out.print(report);
+        Files.writeString(Path.of("target", "startup-report.txt"), report);
+    }
+
+    //Median and best time to first request over RUNS launches
+    private String measure(String name, List<String> command) throws IOException, InterruptedException
+    {
+        long[] millis = new long[RUNS];
+
+        for (int run = 0; run < RUNS; run++)
+            millis[run] = timeToFirstRequest(name, command);
+
+        Arrays.sort(millis);
+        return String.format("%-28s %,10d %,10d%n", name, millis[RUNS / 2], millis[0]);
+    }
+
+    private long timeToFirstRequest(String name, List<String> command) throws IOException, InterruptedException
+    {
+        int port = freePort();
+        File log = Path.of("target", "startup-" + name.replaceAll("[^a-zA-Z0-9]+", "-") + ".log").toFile();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/orders?limit=1")).timeout(Duration.ofSeconds(5)).GET().build();
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(with(command, "--server.port=" + port)).redirectErrorStream(true).redirectOutput(log).start();
+
+        try
+        {
+            while (System.nanoTime() - launched < TIMEOUT.toNanos())
+            {
+                assertTrue(process.isAlive(), () -> name + " exited during startup, see " + log);
+
+                try
+                {
+                    if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200)
+                        return (System.nanoTime() - launched) / 1_000_000;
+                }
+
+                catch (IOException notListening)
+                {
+                    Thread.sleep(10);
+                }
+            }
+
+            return fail(name + " did not answer within " + TIMEOUT + ", see " + log);
+        }
+
+        finally
+        {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static List<String> with(List<String> command, String argument)
+    {
+        List<String> extended = new ArrayList<>(command);
+        extended.add(argument);
+        return extended;
+    }
+
+    private static int freePort() throws IOException
+    {
+        try (ServerSocket socket = new ServerSocket(0))
+        {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.demo.Controller.Analytics;
+import com.demo.DTO.Analytics.OrderAnalyticsDTO;
+import com.demo.DTO.Analytics.PaymentAnalyticsDTO;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Enum.Payment.PaymentMode;
+import com.demo.Interface.Analytics.AnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)                     //Enable Mockito support for unit tests
+class AnalyticsControllerTest 
+{
+    @Mock
+    private AnalyticsService analyticsService;          //Mock service dependency
+
+    @InjectMocks
+    private AnalyticsController analyticsController;    //Inject the mocks into the controller being tested
+
+    private final LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private final LocalDateTime to = LocalDateTime.of(2025, 3, 8, 0, 0);
+
+    @Test   //Test for reading the payment analytics - positive case
+    void testGetPaymentAnalyticsSuccess() 
+    {
+        List<PaymentAnalyticsDTO> rows = List.of(PaymentAnalyticsDTO.builder().bucketStart(from).paymentMode(PaymentMode.PAYNOW).count(2).total(new BigDecimal("30.00")).build());
+
+        //Mock the service method to return one bucket
+        when(analyticsService.getPaymentAnalytics(from, to, "day", List.of("mode"))).thenReturn(rows);
+
+        ResponseEntity<List<PaymentAnalyticsDTO>> response = analyticsController.getPaymentAnalytics(from, to, "day", List.of("mode"));
+
+        //Assert that the HTTP status is OK and the buckets are passed through
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(rows, response.getBody());
+    }
+
+    @Test   //Test for reading the order analytics - positive case
+    void testGetOrderAnalyticsSuccess() 
+    {
+        List<OrderAnalyticsDTO> rows = List.of(OrderAnalyticsDTO.builder().bucketStart(from).orderStatus(OrderStatus.NEW).count(1).total(new BigDecimal("9.99")).build());
+
+        //Mock the service method to return one bucket
+        when(analyticsService.getOrderAnalytics(null, null, "hour", null)).thenReturn(rows);
+
+        ResponseEntity<List<OrderAnalyticsDTO>> response = analyticsController.getOrderAnalytics(null, null, "hour", null);
+
+        //Assert that the HTTP status is OK and the buckets are passed through
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(rows, response.getBody());
+    }
+
+    @Test   //Test for an unknown bucket - negative case, left to the global handler which answers 400
+    void testGetPaymentAnalyticsInvalidBucket() 
+    {
+        when(analyticsService.getPaymentAnalytics(from, to, "week", null)).thenThrow(new IllegalArgumentException("Unknown bucket week, expected hour or day"));
+
+        assertThrows(IllegalArgumentException.class, () -> analyticsController.getPaymentAnalytics(from, to, "week", null));
+    }
+}
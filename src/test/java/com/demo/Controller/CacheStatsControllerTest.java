@@ -0,0 +1,38 @@
+package com.demo.Controller;
+import com.demo.DTO.CacheStatsDTO;
+import com.demo.Interface.CacheStatsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.util.List;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)                     //Enable Mockito support for unit tests
+class CacheStatsControllerTest 
+{
+    @Mock
+    private CacheStatsService cacheStatsService;        //Mock service dependency
+
+    @InjectMocks
+    private CacheStatsController cacheStatsController;  //Inject the mocks into the controller being tested
+
+    @Test   //Test for reading the cache statistics - positive case
+    void testGetCacheStatsSuccess() 
+    {
+        List<CacheStatsDTO> stats = List.of(CacheStatsDTO.builder().region("catalog-product").size(3).hitCount(9).missCount(1).hitRatio(0.9).build());
+
+        //Mock the service method to return the region counters
+        when(cacheStatsService.getCacheStats()).thenReturn(stats);
+
+        ResponseEntity<List<CacheStatsDTO>> response = cacheStatsController.getCacheStats();
+
+        //Assert that the HTTP status is OK and the counters are passed through
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(stats, response.getBody());
+    }
+}
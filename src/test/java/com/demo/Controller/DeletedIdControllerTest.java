@@ -9,6 +9,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -91,17 +93,17 @@ class DeletedIdControllerTest
     void testGetAllDeletedIdsSuccess() 
     {
         //Mock the list of deleted IDs
-        List<DeletedIdDTO> deletedIdDTOList = Arrays.asList(new DeletedIdDTO(1L, "User"), 
-        new DeletedIdDTO(2L, "Order"));
+        List<DeletedIdDTO> deletedIdDTOList = Arrays.asList(new DeletedIdDTO(1L, 10L, "User"), 
+        new DeletedIdDTO(2L, 20L, "Order"));
 
         //Mock the service method to return the list of IDs
-        when(deletedIdService.getDeletedIds()).thenReturn(deletedIdDTOList);
+        when(deletedIdService.getDeletedIds(any(CursorRequest.class))).thenReturn(new CursorPage<>(deletedIdDTOList, null));
 
-        ResponseEntity<List<DeletedIdDTO>> response = deletedIdController.getDeletedIds();
+        ResponseEntity<CursorPage<DeletedIdDTO>> response = deletedIdController.getDeletedIds(null, null, null);
 
         //Assert that the status is OK and the response body matches the list
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(deletedIdDTOList, response.getBody());
+        assertEquals(deletedIdDTOList, response.getBody().getItems());
     }
 
     @Test   //Test for updating a Deleted ID - positive case
@@ -160,4 +162,50 @@ class DeletedIdControllerTest
         //Assert that the status is NOT_FOUND (404) due to the exception
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test   //Test for checking one ID against the tombstones - positive case
+    void testIsDeleted() 
+    {
+        when(deletedIdService.isDeleted("Order", 7L)).thenReturn(true);
+
+        ResponseEntity<Boolean> response = deletedIdController.isDeleted("Order", 7L);
+
+        //Assert that the status is OK and the body says the ID is deleted
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Boolean.TRUE, response.getBody());
+    }
+
+    @Test   //Test for checking one ID against the tombstones - negative case (invalid ID)
+    void testIsDeletedInvalidId() 
+    {
+        when(deletedIdService.isDeleted("Order", -1L)).thenThrow(new IllegalArgumentException("ID must be a positive number."));
+
+        //Assert that the status is BAD_REQUEST (400) due to the exception
+        assertEquals(HttpStatus.BAD_REQUEST, deletedIdController.isDeleted("Order", -1L).getStatusCode());
+    }
+
+    @Test   //Test for checking a batch of IDs against the tombstones
+    void testFindDeleted() 
+    {
+        when(deletedIdService.findDeleted("Order", List.of(3L, 5L, 9L))).thenReturn(List.of(3L, 9L));
+
+        ResponseEntity<List<Long>> response = deletedIdController.findDeleted("Order", List.of(3L, 5L, 9L));
+
+        //Assert that only the deleted IDs are returned
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(3L, 9L), response.getBody());
+    }
+
+    @Test   //Test for listing the deleted IDs of one entity type
+    void testGetDeletedIdsOfType() 
+    {
+        when(deletedIdService.getDeletedIdsOfType(eq("Order"), any(CursorRequest.class))).thenReturn(new CursorPage<>(List.of(11L, 12L), "12"));
+
+        ResponseEntity<CursorPage<Long>> response = deletedIdController.getDeletedIdsOfType("Order", null, 2);
+
+        //Assert that the status is OK and the page is passed through
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(11L, 12L), response.getBody().getItems());
+        assertEquals("12", response.getBody().getNextCursor());
+    }
+}
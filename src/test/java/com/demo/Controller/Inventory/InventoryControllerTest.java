@@ -1,5 +1,9 @@
 package com.demo.Controller.Inventory;
+import com.demo.DTO.Inventory.InventoryAdjustmentDTO;
+import com.demo.DTO.Inventory.InventoryAdjustmentResultDTO;
 import com.demo.DTO.Inventory.InventoryDTO;
+import com.demo.DTO.Inventory.StockReservationDTO;
+import com.demo.Exception.GlobalExceptionHandler;
 import com.demo.Interface.Inventory.InventoryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,11 +12,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import java.util.Arrays;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class) //Enable Mockito support for JUnit tests
 public class InventoryControllerTest 
@@ -97,15 +108,15 @@ public class InventoryControllerTest
         List<InventoryDTO> inventories = Arrays.asList(inventoryDTO);
         
         //Mock the service method to return the list of inventories
-        when(inventoryService.getInventories()).thenReturn(inventories);
+        when(inventoryService.getInventories(any(CursorRequest.class))).thenReturn(new CursorPage<>(inventories, null));
         
         //Call the controller method to get all inventories
-        ResponseEntity<List<InventoryDTO>> response = inventoryController.getInventories();
+        ResponseEntity<CursorPage<InventoryDTO>> response = inventoryController.getInventories(null, null, null);
         
         //Assert that the response status is HTTP OK (200) indicating success
         assertEquals(HttpStatus.OK, response.getStatusCode());
         //Assert that the response body (list of inventories) is not empty
-        assertFalse(response.getBody().isEmpty());
+        assertFalse(response.getBody().getItems().isEmpty());
     }
 
     @Test   //Positive test case: Updating an existing inventory
@@ -163,4 +174,60 @@ public class InventoryControllerTest
         //Assert that the response status is HTTP NOT FOUND (404) indicating inventory does not exist
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test   //Positive test case: Applying a batch of stock adjustments
+    void testAdjustInventories_Success() 
+    {
+        List<InventoryAdjustmentDTO> adjustments = List.of(new InventoryAdjustmentDTO(1L, -2));
+        List<InventoryAdjustmentResultDTO> results = List.of(InventoryAdjustmentResultDTO.builder().sid(1L).delta(-2).applied(true).build());
+
+        //Mock the service to return one applied result
+        when(inventoryService.adjustInventories(adjustments)).thenReturn(results);
+
+        //Call the controller method to apply the adjustments
+        ResponseEntity<List<InventoryAdjustmentResultDTO>> response = inventoryController.adjustInventories(adjustments);
+
+        //Assert that the response status is HTTP OK (200) and the results are passed through
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(results, response.getBody());
+    }
+
+    @Test   //Negative test case: A delta beyond the bound is rejected before any UPDATE could overflow the stock quantity
+    void testAdjustInventories_DeltaOutOfRange() throws Exception 
+    {
+        //Standalone MockMvc runs the bean validation of the request body the way the dispatcher does
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(inventoryController).setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        mockMvc.perform(post("/inventories/adjustments").contentType(MediaType.APPLICATION_JSON).content("[{\"sid\": 1, \"delta\": 2147483000}]"))
+        .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/inventories/adjustments").contentType(MediaType.APPLICATION_JSON).content("[{\"sid\": 1, \"delta\": -1000001}]"))
+        .andExpect(status().isBadRequest());
+
+        //Assert that the service never saw the batch
+        verifyNoInteractions(inventoryService);
+    }
+
+    @Test   //Positive test case: Reserving stock returns the reservation token
+    void testReserveStock_Success() 
+    {
+        StockReservationDTO reservation = StockReservationDTO.builder().token("t1").sid(1L).quantity(2).build();
+
+        //Mock the service to hold the stock
+        when(inventoryService.reserveStock(1L, 2)).thenReturn(reservation);
+
+        //Call the controller method to reserve the stock
+        ResponseEntity<StockReservationDTO> response = inventoryController.reserveStock(1L, 2);
+
+        //Assert that the response status is HTTP CREATED (201) and carries the token
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals("t1", response.getBody().getToken());
+    }
+
+    @Test   //Positive test case: Confirming a reservation
+    void testConfirmReservation_Success() 
+    {
+        //Call the controller method and assert HTTP NO CONTENT (204)
+        assertEquals(HttpStatus.NO_CONTENT, inventoryController.confirmReservation("t1").getStatusCode());
+        verify(inventoryService).confirmReservation("t1");
+    }
+}
@@ -10,9 +10,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
-import java.math.BigDecimal;
+import com.demo.Util.Money.Money;
 import java.util.List;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,7 +31,7 @@ public class ItemControllerTest
     @BeforeEach
     public void setUp() 
     {
-        itemDTO = new ItemDTO(1L, "Laptop", new BigDecimal("1200.00"));
+        itemDTO = new ItemDTO(1L, "Laptop", Money.of("1200.00"));
     }
 
     @Test   //Positive Test Case for createItem
@@ -45,7 +47,7 @@ public class ItemControllerTest
         assertEquals(HttpStatus.CREATED, response.getStatusCode());                     //Verify the status is 201 Created
         assertNotNull(response.getBody());                                              //Verify the response body is not null
         assertEquals("Laptop", response.getBody().getItemName());               //Verify the item name
-        assertEquals(new BigDecimal("1200.00"), response.getBody().getUnitPrice()); //Verify the item price
+        assertEquals(Money.of("1200.00"), response.getBody().getUnitPrice()); //Verify the item price
     }
 
     @Test   //Negative Test Case for createItem (Bad Request)
@@ -96,21 +98,21 @@ public class ItemControllerTest
     {
         //Given
         List<ItemDTO> items = List.of(itemDTO);
-        when(itemService.getItems()).thenReturn(items);         //Mocking the getItems method
+        when(itemService.getItems(any(CursorRequest.class))).thenReturn(new CursorPage<>(items, null));         //Mocking the getItems method
 
         //When
-        ResponseEntity<List<ItemDTO>> response = itemController.getItems();
+        ResponseEntity<CursorPage<ItemDTO>> response = itemController.getItems(null, null, null);
 
         //Then
         assertEquals(HttpStatus.OK, response.getStatusCode());  //Verify the status is 200 OK
-        assertEquals(1, response.getBody().size());     //Verify the size of the item list
+        assertEquals(1, response.getBody().getItems().size());     //Verify the size of the item list
     }
 
     @Test   //Positive Test Case for partialUpdateItem
     public void testPartialUpdateItem() 
     {
         //Given
-        ItemDTO updatedItemDTO = new ItemDTO(1L, "Gaming Laptop", new BigDecimal("1500.00"));
+        ItemDTO updatedItemDTO = new ItemDTO(1L, "Gaming Laptop", Money.of("1500.00"));
         when(itemService.partialUpdateItem(1L, updatedItemDTO)).thenReturn(updatedItemDTO); //Mocking the partial update
 
         //When
@@ -120,14 +122,14 @@ public class ItemControllerTest
         assertEquals(HttpStatus.OK, response.getStatusCode());                          //Verify the status is 200 OK
         assertNotNull(response.getBody());                                              //Verify the response body is not null
         assertEquals("Gaming Laptop", response.getBody().getItemName());        //Verify the updated item name
-        assertEquals(new BigDecimal("1500.00"), response.getBody().getUnitPrice()); //Verify the updated item price
+        assertEquals(Money.of("1500.00"), response.getBody().getUnitPrice()); //Verify the updated item price
     }
 
     @Test   //Negative Test Case for partialUpdateItem (Item Not Found)
     public void testPartialUpdateItemNotFound() 
     {
         //Given
-        ItemDTO updatedItemDTO = new ItemDTO(1L, "Gaming Laptop", new BigDecimal("1500.00"));
+        ItemDTO updatedItemDTO = new ItemDTO(1L, "Gaming Laptop", Money.of("1500.00"));
         when(itemService.partialUpdateItem(1L, updatedItemDTO)).thenThrow(new ItemNotFoundException(1L));  //Pass Long parameter
 
         //When
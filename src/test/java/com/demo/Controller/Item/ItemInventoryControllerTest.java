@@ -10,6 +10,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import java.util.Arrays;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -92,14 +94,14 @@ public class ItemInventoryControllerTest
     {
         //Mocking the service call to return a list of item inventories
         List<ItemInventoryDTO> itemInventoryDTOList = Arrays.asList(itemInventoryDTO);
-        when(itemInventoryService.getItemInventories()).thenReturn(itemInventoryDTOList);
+        when(itemInventoryService.getItemInventories(any(CursorRequest.class))).thenReturn(new CursorPage<>(itemInventoryDTOList, null));
 
         //Invoking the controller's getAll method
-        ResponseEntity<List<ItemInventoryDTO>> response = itemInventoryController.getAllItemInventories();
+        ResponseEntity<CursorPage<ItemInventoryDTO>> response = itemInventoryController.getAllItemInventories(null, null, null);
 
         //Asserting the response status and the returned list
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(itemInventoryDTOList, response.getBody());
+        assertEquals(itemInventoryDTOList, response.getBody().getItems());
     }
 
     @Test   //Positive Test Case - Update ItemInventory
@@ -1,7 +1,10 @@
 package com.demo.Controller.Order;
+import com.demo.DTO.Order.OrderAggregateDTO;
 import com.demo.DTO.Order.OrderDTO;
+import com.demo.DTO.Order.OrderRepriceDTO;
 import com.demo.Enum.Order.OrderStatus;
 import com.demo.Exception.Order.OrderNotFoundException;
+import com.demo.Interface.Order.OrderAggregateService;
 import com.demo.Interface.Order.OrderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,9 +14,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Idempotency.IdempotentRequests;
+import com.demo.Util.Idempotency.IdempotentRequests.Outcome;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -24,6 +32,12 @@ public class OrderControllerTest
     @Mock
     private OrderService orderService;          //Mocking OrderService to isolate controller testing
 
+    @Mock
+    private OrderAggregateService orderAggregateService;    //Mocking OrderAggregateService used by the order detail endpoint
+
+    @Mock
+    private IdempotentRequests idempotentRequests;          //Mocking the idempotency store used by the create endpoint
+
     @InjectMocks
     private OrderController orderController;    //Inject the mocked OrderService into the controller
 
@@ -48,7 +62,7 @@ public class OrderControllerTest
         when(orderService.createOrder(any(OrderDTO.class))).thenReturn(sampleOrder);
 
         //Act: Simulate a POST request to create an order
-        ResponseEntity<OrderDTO> response = orderController.createOrder(sampleOrder);
+        ResponseEntity<OrderDTO> response = orderController.createOrder(sampleOrder, null);
 
         //Assert: Check that the response status is CREATED (201) and the order matches the sample order
         assertResponse(response, HttpStatus.CREATED, sampleOrder);
@@ -81,19 +95,48 @@ public class OrderControllerTest
         assertNull(response.getBody());
     }
 
+    @Test
+    void testGetOrderAggregate_Success() 
+    {
+        //Arrange: Mock the aggregate service to return the order with empty link lists
+        OrderAggregateDTO aggregate = OrderAggregateDTO.builder().order(sampleOrder).orderProducts(List.of()).orderItems(List.of()).orderPayments(List.of()).build();
+        when(orderAggregateService.getOrderAggregate(1L)).thenReturn(aggregate);
+
+        //Act: Simulate a GET request to fetch the full order
+        ResponseEntity<OrderAggregateDTO> response = orderController.getOrderAggregate(1L);
+
+        //Assert: Verify the response status is OK (200) and the aggregate is returned as is
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(aggregate, response.getBody());
+    }
+
+    @Test
+    void testGetOrderAggregate_NotFound() 
+    {
+        //Arrange: Mock the aggregate service to throw OrderNotFoundException for an unknown order
+        when(orderAggregateService.getOrderAggregate(2L)).thenThrow(new OrderNotFoundException(2L));
+
+        //Act: Simulate a GET request with an invalid order ID
+        ResponseEntity<OrderAggregateDTO> response = orderController.getOrderAggregate(2L);
+
+        //Assert: Verify the response status is NOT_FOUND (404)
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
     @Test
     void testGetOrders_Success() 
     {
         //Arrange: Mock the service call to return a list containing the sample order
         List<OrderDTO> orders = Arrays.asList(sampleOrder);
-        when(orderService.getOrders()).thenReturn(orders);
+        when(orderService.getOrders(any(CursorRequest.class))).thenReturn(new CursorPage<>(orders, null));
 
         //Act: Simulate a GET request to fetch all orders
-        ResponseEntity<List<OrderDTO>> response = orderController.getOrders();
+        ResponseEntity<CursorPage<OrderDTO>> response = orderController.getOrders(null, null, null);
 
         //Assert: Verify the response status is OK (200) and the list contains one order
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(1, response.getBody().size());
+        assertEquals(1, response.getBody().getItems().size());
     }
 
     @Test
@@ -164,4 +207,50 @@ public class OrderControllerTest
     {
         return OrderDTO.builder().oid(1L).totalPrice(new BigDecimal("150.75")).orderStatus(OrderStatus.SHIPPED).build(); 
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRepriceOrders_Success() 
+    {
+        //Arrange: Mock the service to report one repriced order out of two
+        OrderRepriceDTO result = OrderRepriceDTO.builder().requested(2).repriced(1).unchanged(1).build();
+        when(orderService.repriceOrders(List.of(1L, 2L))).thenReturn(result);
+
+        //Act: Simulate a POST request to reprice the orders
+        ResponseEntity<OrderRepriceDTO> response = orderController.repriceOrders(List.of(1L, 2L));
+
+        //Assert: Check that the response status is OK (200) and the counts are returned
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getRepriced());
+    }
+
+    @Test
+    void testGetOrderStatusCounts_Success() 
+    {
+        //Arrange: Mock the service to return the live counters
+        Map<OrderStatus, Long> counts = Map.of(OrderStatus.NEW, 3L, OrderStatus.SHIPPED, 1L);
+        when(orderService.getOrderStatusCounts()).thenReturn(counts);
+
+        //Act: Simulate a GET request for the status counts
+        ResponseEntity<Map<OrderStatus, Long>> response = orderController.getOrderStatusCounts();
+
+        //Assert: Check that the response status is OK (200) and the counts are passed through
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(counts, response.getBody());
+    }
+
+    @Test
+    void testCreateOrder_WithIdempotencyKey_ReportsReplay() 
+    {
+        //Arrange: Mock the idempotency store to replay an earlier response
+        when(idempotentRequests.execute(eq("orders"), eq("key-1"), eq(sampleOrder), eq(OrderDTO.class), any())).thenReturn(new Outcome<>(sampleOrder, true));
+
+        //Act: Simulate a retried POST request carrying the same Idempotency-Key
+        ResponseEntity<OrderDTO> response = orderController.createOrder(sampleOrder, "key-1");
+
+        //Assert: The first order is returned, marked as replayed, and the service is not called again
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(sampleOrder, response.getBody());
+        assertEquals("true", response.getHeaders().getFirst(IdempotentRequests.REPLAYED_HEADER));
+        verify(orderService, never()).createOrder(any());
+    }
+}
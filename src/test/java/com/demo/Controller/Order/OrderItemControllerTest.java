@@ -9,6 +9,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -105,30 +107,30 @@ class OrderItemControllerTest
     void testGetAllOrderItems_success() 
     {
         //Given: Simulate getting all order items from service
-        when(orderItemService.getOrderItems()).thenReturn(Arrays.asList(orderItemDTO));
+        when(orderItemService.getOrderItems(any(CursorRequest.class))).thenReturn(new CursorPage<>(Arrays.asList(orderItemDTO), null));
 
         //When: Call the controller method
-        ResponseEntity<List<OrderItemDTO>> response = orderItemController.getAllOrderItems();
+        ResponseEntity<CursorPage<OrderItemDTO>> response = orderItemController.getAllOrderItems(null, null, null);
 
         //Then: Assert that response is not null, status is OK, and list size is 1
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());  //Expect status code OK (200)
-        assertEquals(1, response.getBody().size());     //Size of the list should be 1
+        assertEquals(1, response.getBody().getItems().size());     //Size of the list should be 1
     }
 
     @Test   //Negative test case: No OrderItems available
     void testGetAllOrderItems_empty() 
     {
         //Given: Simulate no order items available by returning an empty list from service
-        when(orderItemService.getOrderItems()).thenReturn(Arrays.asList());  //Empty list
+        when(orderItemService.getOrderItems(any(CursorRequest.class))).thenReturn(new CursorPage<>(Arrays.asList(), null));  //Empty list
 
         //When: Call the controller method
-        ResponseEntity<List<OrderItemDTO>> response = orderItemController.getAllOrderItems();
+        ResponseEntity<CursorPage<OrderItemDTO>> response = orderItemController.getAllOrderItems(null, null, null);
 
         //Then: Assert that response is not null, status is OK, and list is empty
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());  //Expect status code OK (200)
-        assertTrue(response.getBody().isEmpty());               //The list should be empty
+        assertTrue(response.getBody().getItems().isEmpty());               //The list should be empty
     }
 
     @Test   //Positive test case: Successfully update an OrderItem
@@ -9,6 +9,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import java.util.Arrays;
@@ -89,25 +91,25 @@ public class OrderPaymentControllerTest
     {
         //Arrange: Mock service to return a list of order payment DTOs
         List<OrderPaymentDTO> orderPayments = Arrays.asList(orderPaymentDTO);
-        when(orderPaymentService.getOrderPayments()).thenReturn(orderPayments);
+        when(orderPaymentService.getOrderPayments(any(CursorRequest.class))).thenReturn(new CursorPage<>(orderPayments, null));
 
         //Act: Call the controller to get all order payments
-        ResponseEntity<List<OrderPaymentDTO>> response = orderPaymentController.getAllOrderPayments();
+        ResponseEntity<CursorPage<OrderPaymentDTO>> response = orderPaymentController.getAllOrderPayments(null, null, null);
 
         //Assert: Verify the response status and the size of the list
         assertEquals(HttpStatus.OK, response.getStatusCode());  //Expect HTTP OK status
         assertNotNull(response.getBody());                      //Ensure the response body is not null
-        assertEquals(1, response.getBody().size());     //Ensure the size is 1
+        assertEquals(1, response.getBody().getItems().size());     //Ensure the size is 1
     }
 
     @Test
     public void testGetAllOrderPayments_shouldThrowRuntimeException_whenServiceThrowsException() 
     {
         //Arrange: Mock service to throw an exception
-        when(orderPaymentService.getOrderPayments()).thenThrow(new RuntimeException("Service unavailable"));
+        when(orderPaymentService.getOrderPayments(any(CursorRequest.class))).thenThrow(new RuntimeException("Service unavailable"));
 
         //Act & Assert: Assert that the exception is thrown
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> orderPaymentController.getAllOrderPayments());
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> orderPaymentController.getAllOrderPayments(null, null, null));
         assertEquals("Service unavailable", exception.getMessage());    //Ensure correct exception message
     }
 
@@ -11,6 +11,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 import java.util.Arrays;
 import java.util.List;
@@ -79,22 +81,22 @@ class OrderProductControllerTest {
 
     @Test
     void testGetAllOrderProducts_success() {
-        when(orderProductService.getOrderProducts()).thenReturn(Arrays.asList(orderProductDTO));
+        when(orderProductService.getOrderProducts(any(CursorRequest.class))).thenReturn(new CursorPage<>(Arrays.asList(orderProductDTO), null));
 
-        ResponseEntity<List<OrderProductDTO>> response = orderProductController.getAllOrderProducts();
+        ResponseEntity<CursorPage<OrderProductDTO>> response = orderProductController.getAllOrderProducts(null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(1, response.getBody().size());
+        assertEquals(1, response.getBody().getItems().size());
     }
 
     @Test
     void testGetAllOrderProducts_empty() {
-        when(orderProductService.getOrderProducts()).thenReturn(List.of());
+        when(orderProductService.getOrderProducts(any(CursorRequest.class))).thenReturn(new CursorPage<>(List.of(), null));
 
-        ResponseEntity<List<OrderProductDTO>> response = orderProductController.getAllOrderProducts();
+        ResponseEntity<CursorPage<OrderProductDTO>> response = orderProductController.getAllOrderProducts(null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertTrue(response.getBody().isEmpty());
+        assertTrue(response.getBody().getItems().isEmpty());
     }
 
     @Test
@@ -13,6 +13,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Idempotency.IdempotentRequests;
+import com.demo.Util.Idempotency.IdempotentRequests.Outcome;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +29,9 @@ public class PaymentControllerTest
     @Mock
     private PaymentServiceImpl paymentService;      //Mocking the PaymentServiceImpl to isolate the controller for testing
 
+    @Mock
+    private IdempotentRequests idempotentRequests;  //Mocking the idempotency store used by the create endpoint
+
     @InjectMocks
     private PaymentController paymentController;    //Injecting the mocked service into the controller
 
@@ -45,13 +52,28 @@ public class PaymentControllerTest
         when(paymentService.createPayment(paymentDTO)).thenReturn(paymentDTO);
 
         //Act: Call the controller's createPayment method
-        ResponseEntity<PaymentDTO> response = paymentController.createPayment(paymentDTO);
+        ResponseEntity<PaymentDTO> response = paymentController.createPayment(paymentDTO, null);
 
         //Assert: Check that the response is OK and the body is the expected paymentDTO
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(paymentDTO, response.getBody());
     }
 
+    @Test   //Positive test case: The first request with an Idempotency-Key runs the service
+    void testCreatePayment_WithIdempotencyKey() 
+    {
+        //Arrange: Mock the idempotency store to run the request for the first time
+        when(idempotentRequests.execute(eq("payments"), eq("key-1"), eq(paymentDTO), eq(PaymentDTO.class), any())).thenReturn(new Outcome<>(paymentDTO, false));
+
+        //Act: Call the controller's createPayment method with the header
+        ResponseEntity<PaymentDTO> response = paymentController.createPayment(paymentDTO, "key-1");
+
+        //Assert: The payment is returned and not marked as replayed
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(paymentDTO, response.getBody());
+        assertEquals("false", response.getHeaders().getFirst(IdempotentRequests.REPLAYED_HEADER));
+    }
+
     @Test   //Negative test case: Creating a payment with invalid data (amount is null)
     void testCreatePayment_Failure_InvalidData() 
     {
@@ -65,7 +87,7 @@ public class PaymentControllerTest
         //Act & Assert: Expect a CustomValidationException when trying to create the payment
         CustomValidationException exception = assertThrows(CustomValidationException.class, () -> 
         {
-            paymentController.createPayment(invalidPaymentDTO);
+            paymentController.createPayment(invalidPaymentDTO, null);
         });
 
         //Assert: Verify the exception message
@@ -106,29 +128,29 @@ public class PaymentControllerTest
     void testGetPayments_Success() 
     {
         //Arrange: Mock the paymentService to return a list containing paymentDTO
-        when(paymentService.getPayments()).thenReturn(Collections.singletonList(paymentDTO));
+        when(paymentService.getPayments(any(CursorRequest.class))).thenReturn(new CursorPage<>(Collections.singletonList(paymentDTO), null));
 
         //Act: Call the controller's getPayments method
-        ResponseEntity<List<PaymentDTO>> response = paymentController.getPayments();
+        ResponseEntity<CursorPage<PaymentDTO>> response = paymentController.getPayments(null, null, null);
 
         //Assert: Check that the response is OK and contains exactly one paymentDTO
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(1, response.getBody().size());
-        assertEquals(paymentDTO, response.getBody().get(0));
+        assertEquals(1, response.getBody().getItems().size());
+        assertEquals(paymentDTO, response.getBody().getItems().get(0));
     }
 
     @Test   //Negative test case: No payments available (empty list)
     void testGetPayments_Failure_NoPayments() 
     {
         //Arrange: Mock the paymentService to return an empty list
-        when(paymentService.getPayments()).thenReturn(Collections.emptyList());
+        when(paymentService.getPayments(any(CursorRequest.class))).thenReturn(new CursorPage<>(Collections.emptyList(), null));
 
         //Act: Call the controller's getPayments method
-        ResponseEntity<List<PaymentDTO>> response = paymentController.getPayments();
+        ResponseEntity<CursorPage<PaymentDTO>> response = paymentController.getPayments(null, null, null);
 
         //Assert: Check that the response is OK and the body is an empty list
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertTrue(response.getBody().isEmpty());
+        assertTrue(response.getBody().getItems().isEmpty());
     }
 
     @Test   //Positive test case: Partially update payment successfully
@@ -0,0 +1,51 @@
+package com.demo.Controller.Product;
+
+import com.demo.DTO.Product.ProductViewDTO;
+import com.demo.Exception.Product.ProductNotFoundException;
+import com.demo.Interface.Product.CatalogService;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogControllerTest {
+
+    @Mock
+    private CatalogService catalogService;
+
+    @InjectMocks
+    private CatalogController catalogController;
+
+    @Test
+    public void testGetCatalogByCategory() {
+        ProductViewDTO view = ProductViewDTO.builder().pid(1L).productName("Laptop").categoryNames(List.of("Electronics")).totalStock(42).build();
+        when(catalogService.getCatalog(eq(10L), any(CursorRequest.class))).thenReturn(new CursorPage<>(List.of(view), null));
+
+        ResponseEntity<CursorPage<ProductViewDTO>> response = catalogController.getCatalog(10L, null, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(42, response.getBody().getItems().get(0).getTotalStock());
+    }
+
+    @Test
+    public void testGetCatalogProductNotFound() {
+        when(catalogService.getCatalogProduct(99L)).thenThrow(new ProductNotFoundException(99L));
+
+        ResponseEntity<ProductViewDTO> response = catalogController.getCatalogProduct(99L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
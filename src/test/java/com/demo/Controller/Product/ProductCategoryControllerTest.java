@@ -14,6 +14,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
 import java.util.Collections;
 import java.util.List;
@@ -97,19 +99,19 @@ public class ProductCategoryControllerTest {
 
     @Test
     void testGetProductCategories_Success() {
-        when(productCategoryService.getProductCategories()).thenReturn(List.of(sampleDTO));
+        when(productCategoryService.getProductCategories(any(CursorRequest.class))).thenReturn(new CursorPage<>(List.of(sampleDTO), null));
 
-        ResponseEntity<List<ProductCategoryDTO>> response = controller.getProductCategories();
+        ResponseEntity<CursorPage<ProductCategoryDTO>> response = controller.getProductCategories(null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(1, response.getBody().size());
+        assertEquals(1, response.getBody().getItems().size());
     }
 
     @Test
     void testGetProductCategories_EmptyList() {
-        when(productCategoryService.getProductCategories()).thenReturn(Collections.emptyList());
+        when(productCategoryService.getProductCategories(any(CursorRequest.class))).thenReturn(new CursorPage<>(Collections.emptyList(), null));
 
-        ResponseEntity<List<ProductCategoryDTO>> response = controller.getProductCategories();
+        ResponseEntity<CursorPage<ProductCategoryDTO>> response = controller.getProductCategories(null, null, null);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         assertNull(response.getBody());
@@ -11,8 +11,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 
-import java.math.BigDecimal;
+import com.demo.Util.Money.Money;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,7 +33,7 @@ public class ProductControllerTest {
 
     @BeforeEach
     public void setUp() {
-        productDTO = new ProductDTO(1L, "Laptop", new BigDecimal("1200.00"));
+        productDTO = new ProductDTO(1L, "Laptop", Money.of("1200.00"));
     }
 
     @Test
@@ -43,7 +45,7 @@ public class ProductControllerTest {
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("Laptop", response.getBody().getProductName());
-        assertEquals(new BigDecimal("1200.00"), response.getBody().getUnitPrice());
+        assertEquals(Money.of("1200.00"), response.getBody().getUnitPrice());
     }
 
     @Test
@@ -81,17 +83,17 @@ public class ProductControllerTest {
     @Test
     public void testGetProducts() {
         List<ProductDTO> products = List.of(productDTO);
-        when(productService.getProducts()).thenReturn(products);
+        when(productService.getProducts(any(CursorRequest.class))).thenReturn(new CursorPage<>(products, null));
 
-        ResponseEntity<List<ProductDTO>> response = productController.getProducts();
+        ResponseEntity<CursorPage<ProductDTO>> response = productController.getProducts(null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(1, response.getBody().size());
+        assertEquals(1, response.getBody().getItems().size());
     }
 
     @Test
     public void testPartialUpdateProduct() {
-        ProductDTO updatedProductDTO = new ProductDTO(1L, "Gaming Laptop", new BigDecimal("1500.00"));
+        ProductDTO updatedProductDTO = new ProductDTO(1L, "Gaming Laptop", Money.of("1500.00"));
         when(productService.partialUpdateProduct(1L, updatedProductDTO)).thenReturn(updatedProductDTO);
 
         ResponseEntity<ProductDTO> response = productController.partialUpdateProduct(1L, updatedProductDTO);
@@ -99,12 +101,12 @@ public class ProductControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("Gaming Laptop", response.getBody().getProductName());
-        assertEquals(new BigDecimal("1500.00"), response.getBody().getUnitPrice());
+        assertEquals(Money.of("1500.00"), response.getBody().getUnitPrice());
     }
 
     @Test
     public void testPartialUpdateProductNotFound() {
-        ProductDTO updatedProductDTO = new ProductDTO(1L, "Gaming Laptop", new BigDecimal("1500.00"));
+        ProductDTO updatedProductDTO = new ProductDTO(1L, "Gaming Laptop", Money.of("1500.00"));
         when(productService.partialUpdateProduct(1L, updatedProductDTO)).thenThrow(new ProductNotFoundException(1L));
 
         ResponseEntity<ProductDTO> response = productController.partialUpdateProduct(1L, updatedProductDTO);
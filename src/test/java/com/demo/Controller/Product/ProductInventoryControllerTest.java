@@ -11,6 +11,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
 import java.util.Arrays;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -93,14 +95,14 @@ public class ProductInventoryControllerTest
     {
         //Mocking the service call to return a list of product inventories
         List<ProductInventoryDTO> productInventoryDTOList = Arrays.asList(productInventoryDTO);
-        when(productInventoryService.getProductInventories()).thenReturn(productInventoryDTOList);
+        when(productInventoryService.getProductInventories(any(CursorRequest.class))).thenReturn(new CursorPage<>(productInventoryDTOList, null));
 
         //Invoking the controller's getAll method
-        ResponseEntity<List<ProductInventoryDTO>> response = productInventoryController.getAllProductInventories();
+        ResponseEntity<CursorPage<ProductInventoryDTO>> response = productInventoryController.getAllProductInventories(null, null, null);
 
         //Asserting the response status and the returned list
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(productInventoryDTOList, response.getBody());
+        assertEquals(productInventoryDTOList, response.getBody().getItems());
     }
 
     @Test   //Positive Test Case - Update ProductInventory
@@ -0,0 +1,34 @@
+package com.demo.Controller;
+import com.demo.Util.Serialization.ProtobufSchemas;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaControllerTest
+{
+    //Schemas generated from the real DTO classes, with the plain builder instead of Spring Boot's
+    private final SchemaController schemaController = new SchemaController(new ProtobufSchemas(Jackson2ObjectMapperBuilder.json()));
+
+    @Test   //Test for reading the schema of a page of payments - positive case
+    void testGetProtobufSchemaSuccess()
+    {
+        ResponseEntity<String> response = schemaController.getProtobufSchema("PaymentDTO", true);
+
+        //Assert that the page wraps the DTO and the amount is written as its decimal string
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("repeated PaymentDTO items = 1;"));
+        assertTrue(response.getBody().contains("optional string amount = 2;"));
+        assertTrue(response.getBody().contains("enum PaymentMode"));
+    }
+
+    @Test   //Test for reading the schema of a class that is not a DTO - negative case
+    void testGetProtobufSchemaUnknownDto()
+    {
+        ResponseEntity<String> response = schemaController.getProtobufSchema("Order", false);
+
+        //Assert that only classes of com.demo.DTO are served
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
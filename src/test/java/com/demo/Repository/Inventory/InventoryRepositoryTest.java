@@ -0,0 +1,36 @@
+package com.demo.Repository.Inventory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import com.demo.Entity.Inventory.Inventory;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest //Runs the conditional UPDATE against the application's own database
+@Transactional  //Rolled back after each test, other tests share the database
+public class InventoryRepositoryTest
+{
+    @Autowired private InventoryRepository inventoryRepository;
+
+    @Test   //Test Case: A delta that would overflow the stock is refused instead of wrapping or failing the statement (Negative Test Case)
+    void testApplyDelta_RefusesOverflow()
+    {
+        Long sid = inventoryRepository.save(Inventory.builder().stockQty(Integer.MAX_VALUE - 5).build()).getSid();
+
+        assertEquals(0, inventoryRepository.applyDelta(sid, 6));
+        assertEquals(Integer.MAX_VALUE - 5, inventoryRepository.findStockQtyBySid(sid).orElseThrow());
+
+        assertEquals(1, inventoryRepository.applyDelta(sid, 5));                  //Up to the maximum itself is fine
+        assertEquals(Integer.MAX_VALUE, inventoryRepository.findStockQtyBySid(sid).orElseThrow());
+    }
+
+    @Test   //Test Case: The zero floor still holds next to the new upper bound (Negative Test Case)
+    void testApplyDelta_RefusesNegativeStock()
+    {
+        Long sid = inventoryRepository.save(Inventory.builder().stockQty(3).build()).getSid();
+
+        assertEquals(0, inventoryRepository.applyDelta(sid, -4));
+        assertEquals(1, inventoryRepository.applyDelta(sid, -3));
+        assertEquals(0, inventoryRepository.findStockQtyBySid(sid).orElseThrow());
+    }
+}
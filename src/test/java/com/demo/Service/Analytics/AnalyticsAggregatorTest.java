@@ -0,0 +1,127 @@
+package com.demo.Service.Analytics;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.demo.DTO.Order.OrderDTO;
+import com.demo.DTO.Order.OrderPaymentDTO;
+import com.demo.DTO.Order.OrderProductDTO;
+import com.demo.DTO.Payment.PaymentDTO;
+import com.demo.Entity.Order.Order;
+import com.demo.Entity.Product.Product;
+import com.demo.Enum.Analytics.TimeBucket;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Enum.Payment.PaymentMode;
+import com.demo.Enum.Payment.PaymentStatus;
+import com.demo.Interface.Order.OrderPaymentService;
+import com.demo.Interface.Order.OrderProductService;
+import com.demo.Interface.Order.OrderService;
+import com.demo.Interface.Payment.PaymentService;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Repository.Product.ProductRepository;
+import com.demo.Service.Analytics.AnalyticsAggregator.HourlyTotal;
+import com.demo.Service.Analytics.AnalyticsAggregator.Source;
+import com.demo.Service.Order.OrderStatusCounters;
+import com.demo.Util.Money.Money;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest //Aggregates the application's own database, the GROUP BY queries are the ones that run in production
+public class AnalyticsAggregatorTest
+{
+    @Autowired private AnalyticsAggregator analyticsAggregator;
+    @Autowired private PaymentService paymentService;
+    @Autowired private OrderService orderService;
+    @Autowired private OrderProductService orderProductService;
+    @Autowired private OrderPaymentService orderPaymentService;
+    @Autowired private OrderStatusCounters orderStatusCounters;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test   //Test Case: A closed hour is read once, kept while rows change around the services and evicted by a write through them (Positive Test Case)
+    void testClosedHour_CachedUntilPaymentWritten()
+    {
+        LocalDateTime hour = LocalDateTime.of(2001, 1, 1, 10, 0);
+        PaymentDTO first = payment(hour.plusMinutes(15), "10.00", PaymentMode.PAYNOW);
+        payment(hour.plusMinutes(20), "2.50", PaymentMode.PAYNOW);
+        payment(hour.plusMinutes(59), "1.00", PaymentMode.GRABPAY);
+        payment(hour.plusHours(1), "99.00", PaymentMode.PAYNOW);
+
+        List<HourlyTotal> totals = analyticsAggregator.hourlyTotals(Source.PAYMENTS, hour, hour.plusHours(1));
+        assertEquals(List.of(new HourlyTotal(hour, List.of("GRABPAY", "PAID"), 1, Money.of("1.00")), new HourlyTotal(hour, List.of("PAYNOW", "PAID"), 2, Money.of("12.50"))),
+        totals.stream().sorted((a, b) -> a.groups().get(0).compareTo(b.groups().get(0))).toList());
+
+        jdbcTemplate.update("update payments set amount = 20 where pid = ?", first.getPid());
+        assertEquals(totals, analyticsAggregator.hourlyTotals(Source.PAYMENTS, hour, hour.plusHours(1)));
+
+        paymentService.partialUpdatePayment(first.getPid(), PaymentDTO.builder().paymentStatus(PaymentStatus.PENDING).build());
+        assertTrue(analyticsAggregator.hourlyTotals(Source.PAYMENTS, hour, hour.plusHours(1)).contains(new HourlyTotal(hour, List.of("PAYNOW", "PENDING"), 1, Money.of("20.00"))));
+    }
+
+    @Test   //Test Case: The current hour is queried every time, so new payments show up at once (Positive Test Case)
+    void testCurrentHour_NeverCached()
+    {
+        LocalDateTime hour = TimeBucket.HOUR.start(LocalDateTime.now());
+        long before = count(analyticsAggregator.hourlyTotals(Source.PAYMENTS, hour, hour.plusHours(1)));
+
+        payment(null, "3.00", PaymentMode.DEBIT_CARD);
+
+        //The hour may have rolled over since the first read, then the payment is the only one of the new hour
+        LocalDateTime now = TimeBucket.HOUR.start(LocalDateTime.now());
+        assertEquals(now.equals(hour) ? before + 1 : 1, count(analyticsAggregator.hourlyTotals(Source.PAYMENTS, now, now.plusHours(1))));
+    }
+
+    @Test   //Test Case: Orders are grouped by status and a status change through the service moves the order between groups (Positive Test Case)
+    void testOrderHours_GroupedByStatus()
+    {
+        LocalDateTime hour = LocalDateTime.of(2001, 2, 1, 8, 0);
+        Long oid = orderRepository.save(Order.builder().totalPrice(new BigDecimal("4.00")).orderStatus(OrderStatus.NEW).build()).getOid();
+        jdbcTemplate.update("update orders set order_date_time = ? where oid = ?", hour.plusMinutes(5), oid);
+
+        assertEquals(List.of(new HourlyTotal(hour, List.of("NEW"), 1, Money.of("4.00"))), analyticsAggregator.hourlyTotals(Source.ORDERS, hour, hour.plusHours(2)));
+        assertTrue(analyticsAggregator.cachedHours() >= 2);
+
+        orderService.partialUpdateOrder(oid, OrderDTO.builder().orderStatus(OrderStatus.PROCESSING).build());
+        assertEquals(List.of(new HourlyTotal(hour, List.of("PROCESSING"), 1, Money.of("4.00"))), analyticsAggregator.hourlyTotals(Source.ORDERS, hour, hour.plusHours(2)));
+    }
+
+    @Test   //Test Case: Removing the lines and payment links of an order leaves the order and payment counted, only the changed total moves (Positive Test Case)
+    void testRemovingLinks_KeepsOrderAndPaymentHours()
+    {
+        LocalDateTime hour = LocalDateTime.of(2001, 3, 1, 9, 0);
+        Long oid = orderRepository.save(Order.builder().totalPrice(new BigDecimal("4.00")).orderStatus(OrderStatus.NEW).build()).getOid();
+        jdbcTemplate.update("update orders set order_date_time = ? where oid = ?", hour.plusMinutes(5), oid);
+        PaymentDTO paid = payment(hour.plusMinutes(10), "4.00", PaymentMode.PAYNOW);
+        Long pen = productRepository.save(Product.builder().productName("Analytics test").unitPrice(Money.of("3.00")).build()).getPid();
+        Long ink = productRepository.save(Product.builder().productName("Analytics test").unitPrice(Money.of("1.00")).build()).getPid();
+
+        orderProductService.createOrderProduct(OrderProductDTO.builder().oid(oid).pid(pen).build());
+        OrderProductDTO inkLine = orderProductService.createOrderProduct(OrderProductDTO.builder().oid(oid).pid(ink).build());
+        OrderPaymentDTO link = orderPaymentService.createOrderPayment(new OrderPaymentDTO(null, oid, paid.getPid()));
+        List<HourlyTotal> payments = analyticsAggregator.hourlyTotals(Source.PAYMENTS, hour, hour.plusHours(1));
+        assertEquals(List.of(new HourlyTotal(hour, List.of("NEW"), 1, Money.of("4.00"))), analyticsAggregator.hourlyTotals(Source.ORDERS, hour, hour.plusHours(1)));
+        Map<OrderStatus, Long> counts = orderStatusCounters.counts();
+
+        orderPaymentService.deleteOrderPayment(link.getPoid());
+        orderProductService.deleteOrderProduct(inkLine.getOpid());
+
+        assertEquals(List.of(new HourlyTotal(hour, List.of("NEW"), 1, Money.of("3.00"))), analyticsAggregator.hourlyTotals(Source.ORDERS, hour, hour.plusHours(1)));
+        assertEquals(payments, analyticsAggregator.hourlyTotals(Source.PAYMENTS, hour, hour.plusHours(1)));
+        assertEquals(counts, orderStatusCounters.counts());
+        assertEquals(paid.getPid(), paymentService.getPayment(paid.getPid()).getPid());
+    }
+
+    private PaymentDTO payment(LocalDateTime at, String amount, PaymentMode mode)
+    {
+        return paymentService.createPayment(PaymentDTO.builder().amount(new BigDecimal(amount)).paymentMode(mode).paymentStatus(PaymentStatus.PAID).paymentDateTime(at).build());
+    }
+
+    private static long count(List<HourlyTotal> totals)
+    {
+        return totals.stream().mapToLong(HourlyTotal::count).sum();
+    }
+}
@@ -0,0 +1,104 @@
+package com.demo.Service.Analytics;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import com.demo.DTO.Analytics.OrderAnalyticsDTO;
+import com.demo.DTO.Analytics.PaymentAnalyticsDTO;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Enum.Payment.PaymentMode;
+import com.demo.Enum.Payment.PaymentStatus;
+import com.demo.Service.Analytics.AnalyticsAggregator.HourlyTotal;
+import com.demo.Service.Analytics.AnalyticsAggregator.Source;
+import com.demo.Util.Money.Money;
+
+@ExtendWith(MockitoExtension.class)                     //Using Mockito extension for mocking
+class AnalyticsServiceImplTest
+{
+    @Mock
+    private AnalyticsAggregator analyticsAggregator;    //Mocking the aggregator the hourly totals come from
+
+    @InjectMocks
+    private AnalyticsServiceImpl analyticsService;      //Injecting mocks into the service
+
+    private static final LocalDateTime MARCH_1 = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime MARCH_2 = MARCH_1.plusDays(1);
+
+    @Test
+    void testPaymentAnalytics_RollsHoursUpIntoDays()
+    {
+        //Range ends mid-day, so it is widened to the end of that day
+        when(analyticsAggregator.hourlyTotals(Source.PAYMENTS, MARCH_1, MARCH_1.plusDays(2))).thenReturn(List.of(
+            payment(MARCH_1.plusHours(3), "PAYNOW", "PAID", 2, "20.00"),
+            payment(MARCH_1.plusHours(9), "PAYNOW", "PENDING", 1, "5.50"),
+            payment(MARCH_1.plusHours(9), "GRABPAY", "PAID", 1, "1.00"),
+            payment(MARCH_2.plusHours(1), "PAYNOW", "PAID", 4, "40.00")));
+
+        List<PaymentAnalyticsDTO> days = analyticsService.getPaymentAnalytics(MARCH_1, MARCH_2.plusHours(5), "DAY", List.of("mode"));
+
+        assertEquals(3, days.size());
+        assertRow(days.get(0), MARCH_1, PaymentMode.GRABPAY, 1, "1.00");
+        assertRow(days.get(1), MARCH_1, PaymentMode.PAYNOW, 3, "25.50");
+        assertRow(days.get(2), MARCH_2, PaymentMode.PAYNOW, 4, "40.00");
+        assertNull(days.get(0).getPaymentStatus());
+    }
+
+    @Test
+    void testOrderAnalytics_BlankGroupByTotalsEachHour()
+    {
+        when(analyticsAggregator.hourlyTotals(Source.ORDERS, MARCH_1, MARCH_1.plusHours(2))).thenReturn(List.of(
+            new HourlyTotal(MARCH_1, List.of("NEW"), 2, Money.of("3.00")),
+            new HourlyTotal(MARCH_1, List.of("SHIPPED"), 1, Money.of("4.00")),
+            new HourlyTotal(MARCH_1.plusHours(1), List.of("NEW"), 1, Money.of("1.25"))));
+
+        List<OrderAnalyticsDTO> hours = analyticsService.getOrderAnalytics(MARCH_1, MARCH_1.plusHours(2), "hour", List.of(""));
+
+        assertEquals(2, hours.size());
+        assertEquals(3, hours.get(0).getCount());
+        assertEquals(0, new BigDecimal("7.00").compareTo(hours.get(0).getTotal()));
+        assertNull(hours.get(0).getOrderStatus());
+        assertEquals(MARCH_1.plusHours(1), hours.get(1).getBucketStart());
+    }
+
+    @Test
+    void testOrderAnalytics_GroupsByStatusByDefault()
+    {
+        when(analyticsAggregator.hourlyTotals(Source.ORDERS, MARCH_1, MARCH_2)).thenReturn(List.of(new HourlyTotal(MARCH_1.plusHours(5), List.of("NEW"), 1, Money.of("2.00"))));
+
+        List<OrderAnalyticsDTO> days = analyticsService.getOrderAnalytics(MARCH_1, MARCH_2, null, null);
+
+        assertEquals(1, days.size());
+        assertEquals(OrderStatus.NEW, days.get(0).getOrderStatus());
+        assertEquals(MARCH_1, days.get(0).getBucketStart());
+    }
+
+    @Test
+    void testInvalidRequests_AreRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getPaymentAnalytics(MARCH_1, MARCH_2, "week", null));
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getPaymentAnalytics(MARCH_1, MARCH_2, "day", List.of("amount")));
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getOrderAnalytics(MARCH_1, MARCH_2, "day", List.of("mode")));
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getOrderAnalytics(MARCH_2, MARCH_1, "day", null));
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getOrderAnalytics(MARCH_1.minusYears(3), MARCH_1, "day", null));
+        verifyNoInteractions(analyticsAggregator);
+    }
+
+    private static HourlyTotal payment(LocalDateTime hour, String mode, String status, long count, String total)
+    {
+        return new HourlyTotal(hour, List.of(mode, status), count, Money.of(total));
+    }
+
+    private static void assertRow(PaymentAnalyticsDTO row, LocalDateTime day, PaymentMode mode, long count, String total)
+    {
+        assertEquals(day, row.getBucketStart());
+        assertEquals(mode, row.getPaymentMode());
+        assertEquals(count, row.getCount());
+        assertEquals(0, new BigDecimal(total).compareTo(row.getTotal()));
+    }
+}
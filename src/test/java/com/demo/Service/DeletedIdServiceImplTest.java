@@ -10,6 +10,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import com.demo.Util.Pagination.CursorRequest;
 
 @ExtendWith(MockitoExtension.class)                     //Using Mockito extension for mocking
 class DeletedIdServiceImplTest 
@@ -17,6 +21,9 @@ class DeletedIdServiceImplTest
     @Mock
     private DeletedIdRepository deletedIdRepository;    //Mocking the repository
 
+    @Mock
+    private TombstoneIndex tombstoneIndex;              //Mocking the in-memory tombstone bitmaps
+
     @InjectMocks
     private DeletedIdServiceImpl deletedIdService;      //Injecting mocks into the service
 
@@ -24,8 +31,8 @@ class DeletedIdServiceImplTest
     void testCreateDeletedId_Positive() 
     {
         //Test the creation of a valid DeletedIdDTO
-        DeletedIdDTO dto = DeletedIdDTO.builder().entityType("TestEntity").build();
-        DeletedID saved = DeletedID.builder().id(1L).entityType("TestEntity").build();
+        DeletedIdDTO dto = DeletedIdDTO.builder().deletedId(1L).entityType("TestEntity").build();
+        DeletedID saved = DeletedID.builder().id(5L).deletedId(1L).entityType("TestEntity").build();
 
         //Mock repository save operation to return the saved entity
         when(deletedIdRepository.save(any(DeletedID.class))).thenReturn(saved);
@@ -33,7 +40,8 @@ class DeletedIdServiceImplTest
         //Call service method and check if the result matches the expected output
         DeletedIdDTO result = deletedIdService.createDeletedId(dto);
 
-        assertEquals(1L, result.getDeletedId());
+        assertEquals(5L, result.getId());           //The record's own ID, for GET, PUT and DELETE /deleted-ids/{id}
+        assertEquals(1L, result.getDeletedId());    //The tombstoned ID
         assertEquals("TestEntity", result.getEntityType());
     }
 
@@ -50,18 +58,29 @@ class DeletedIdServiceImplTest
     }
 
     @Test
-    void testCreateDeletedId_ExistingId_Negative() 
+    void testCreateDeletedId_SameIdOtherType_Positive() 
     {
-        //Test case when trying to create a Deleted ID that already exists
-        DeletedIdDTO dto = DeletedIdDTO.builder().deletedId(1L).entityType("Dup").build();
+        //Test case that an ID tombstoned for one type can still be tombstoned for another, whatever the row IDs are
+        DeletedIdDTO dto = DeletedIdDTO.builder().deletedId(1L).entityType("Order").build();
+        when(tombstoneIndex.isDeleted("Order", 1L)).thenReturn(false);
+        when(deletedIdRepository.save(any(DeletedID.class))).thenReturn(DeletedID.builder().id(2L).deletedId(1L).entityType("Order").build());
 
-        //Mock repository to return true for existence check
-        when(deletedIdRepository.existsById(1L)).thenReturn(true);
+        assertEquals(1L, deletedIdService.createDeletedId(dto).getDeletedId());
+        verify(deletedIdRepository, never()).existsById(any());
+    }
 
-        //Expecting IllegalArgumentException because the ID already exists
+    @Test
+    void testCreateDeletedId_ConcurrentDuplicate_Negative() 
+    {
+        //Test case when another request tombstoned the same ID and type first, the unique index rejects the insert
+        DeletedIdDTO dto = DeletedIdDTO.builder().deletedId(1L).entityType("Dup").build();
+        when(deletedIdRepository.save(any(DeletedID.class))).thenThrow(new DataIntegrityViolationException("idx_deleted_ids_entity_type_deleted_id"));
+
+        //Expecting IllegalArgumentException, and no tombstone added
         Exception ex = assertThrows(IllegalArgumentException.class, () -> deletedIdService.createDeletedId(dto));
 
-        assertEquals("Deleted ID with ID 1 already exists.", ex.getMessage());
+        assertEquals("Dup 1 is already deleted.", ex.getMessage());
+        verify(tombstoneIndex, never()).tombstoneSaved(any(), any());
     }
 
     @Test
@@ -75,7 +94,7 @@ class DeletedIdServiceImplTest
     void testGetDeletedId_Positive() 
     {
         //Test case to get a Deleted ID by its ID
-        DeletedID entity = DeletedID.builder().id(1L).entityType("Entity").build();
+        DeletedID entity = DeletedID.builder().id(1L).deletedId(42L).entityType("Entity").build();
 
         //Mock repository to return a valid entity for the given ID
         when(deletedIdRepository.findById(1L)).thenReturn(Optional.of(entity));
@@ -84,6 +103,8 @@ class DeletedIdServiceImplTest
         Optional<DeletedIdDTO> result = deletedIdService.getDeletedId(1L);
 
         assertTrue(result.isPresent());
+        assertEquals(1L, result.get().getId());
+        assertEquals(42L, result.get().getDeletedId());
         assertEquals("Entity", result.get().getEntityType());
     }
 
@@ -102,10 +123,10 @@ class DeletedIdServiceImplTest
         DeletedID.builder().id(2L).entityType("Two").build());
 
         //Mock repository to return the mock list
-        when(deletedIdRepository.findAll()).thenReturn(mockList);
+        when(deletedIdRepository.findBy(any(Specification.class), any())).thenReturn(mockList);
 
         //Call service method and check if the result size matches the mock list size
-        List<DeletedIdDTO> result = deletedIdService.getDeletedIds();
+        List<DeletedIdDTO> result = deletedIdService.getDeletedIds(CursorRequest.firstPage()).getItems();
 
         assertEquals(2, result.size());
     }
@@ -175,6 +196,109 @@ class DeletedIdServiceImplTest
         assertThrows(DeletedIdNotFoundException.class, () -> deletedIdService.deleteDeletedId(99L));
     }
 
+    @Test
+    void testCreateDeletedId_AlreadyTombstoned_Negative() 
+    {
+        //Test case when the ID of that entity type is already in the tombstone index
+        DeletedIdDTO dto = DeletedIdDTO.builder().deletedId(7L).entityType("Order").build();
+        when(tombstoneIndex.isDeleted("Order", 7L)).thenReturn(true);
+
+        //Expecting IllegalArgumentException without touching the database
+        Exception ex = assertThrows(IllegalArgumentException.class, () -> deletedIdService.createDeletedId(dto));
+
+        assertEquals("Order 7 is already deleted.", ex.getMessage());
+        verifyNoInteractions(deletedIdRepository);
+    }
+
+    @Test
+    void testCreateDeletedId_AddsTombstone_Positive() 
+    {
+        //Test case that a saved Deleted ID stores the tombstoned ID and is added to the index
+        DeletedIdDTO dto = DeletedIdDTO.builder().deletedId(7L).entityType("Order").build();
+        DeletedID saved = DeletedID.builder().id(1L).deletedId(7L).entityType("Order").build();
+        when(deletedIdRepository.save(argThat(entity -> entity.getId() == null && entity.getDeletedId() == 7L))).thenReturn(saved);
+
+        deletedIdService.createDeletedId(dto);
+
+        verify(tombstoneIndex).tombstoneSaved("Order", 7L);
+    }
+
+    @Test
+    void testUpdateDeletedId_MovesTombstone_Positive() 
+    {
+        //Test case that changing the entity type moves the tombstone to the new type
+        DeletedID existing = DeletedID.builder().id(1L).deletedId(7L).entityType("Order").build();
+        when(deletedIdRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(deletedIdRepository.save(existing)).thenReturn(existing);
+
+        deletedIdService.updateDeletedId(1L, DeletedIdDTO.builder().entityType("Payment").build());
+
+        verify(tombstoneIndex).tombstoneRemoved("Order", 7L);
+        verify(tombstoneIndex).tombstoneSaved("Payment", 7L);
+    }
+
+    @Test
+    void testDeleteDeletedId_RemovesTombstone_Positive() 
+    {
+        //Test case that deleting a Deleted ID removes its tombstone from the index
+        when(deletedIdRepository.existsById(1L)).thenReturn(true);
+        when(deletedIdRepository.findById(1L)).thenReturn(Optional.of(DeletedID.builder().id(1L).deletedId(7L).entityType("Order").build()));
+
+        deletedIdService.deleteDeletedId(1L);
+
+        verify(tombstoneIndex).tombstoneRemoved("Order", 7L);
+    }
+
+    @Test
+    void testIsDeleted_Positive() 
+    {
+        //Test case that the lookup is answered by the tombstone index
+        when(tombstoneIndex.isDeleted("Order", 7L)).thenReturn(true);
+
+        assertTrue(deletedIdService.isDeleted("Order", 7L));
+        assertFalse(deletedIdService.isDeleted("Order", 8L));
+        verifyNoInteractions(deletedIdRepository);
+    }
+
+    @Test
+    void testIsDeleted_InvalidInput_Negative() 
+    {
+        //Test case when the entity type is blank or the ID is not positive
+        assertThrows(IllegalArgumentException.class, () -> deletedIdService.isDeleted(" ", 1L));
+        assertThrows(IllegalArgumentException.class, () -> deletedIdService.isDeleted("Order", 0L));
+    }
+
+    @Test
+    void testFindDeleted_Positive() 
+    {
+        //Test case that only the tombstoned IDs among the candidates are returned
+        when(tombstoneIndex.deletedAmong("Order", List.of(3L, 5L, 9L))).thenReturn(new long[] {3L, 9L});
+
+        assertEquals(List.of(3L, 9L), deletedIdService.findDeleted("Order", List.of(3L, 5L, 9L)));
+    }
+
+    @Test
+    void testFindDeleted_NullId_Negative() 
+    {
+        //Test case that a null among the candidates is turned away as a bad request instead of failing in the index
+        assertThrows(IllegalArgumentException.class, () -> deletedIdService.findDeleted("Order", Arrays.asList(3L, null)));
+        verifyNoInteractions(tombstoneIndex);
+    }
+
+    @Test
+    void testGetDeletedIdsOfType_Positive() 
+    {
+        //Test case that one page of a type's deleted IDs is read after the cursor, with one extra row for the next cursor
+        List<DeletedID> rows = List.of(DeletedID.builder().id(4L).deletedId(11L).entityType("Order").build(),
+        DeletedID.builder().id(2L).deletedId(12L).entityType("Order").build(), DeletedID.builder().id(9L).deletedId(13L).entityType("Order").build());
+        when(deletedIdRepository.findByEntityTypeAndDeletedIdGreaterThanOrderByDeletedId("Order", 10L, Limit.of(3))).thenReturn(rows);
+
+        var page = deletedIdService.getDeletedIdsOfType("Order", CursorRequest.of("10", 2, null));
+
+        assertEquals(List.of(11L, 12L), page.getItems());
+        assertEquals("12", page.getNextCursor());
+    }
+
     @Test
     void testDeleteDeletedId_InvalidId_Negative() 
     {
@@ -1,16 +1,26 @@
 package com.demo.Service.Inventory;
+import com.demo.DTO.Inventory.InventoryAdjustmentDTO;
+import com.demo.DTO.Inventory.InventoryAdjustmentResultDTO;
 import com.demo.DTO.Inventory.InventoryDTO;
+import com.demo.DTO.Inventory.StockReservationDTO;
 import com.demo.Entity.Inventory.Inventory;
+import com.demo.Exception.Inventory.InventoryNotFoundException;
 import com.demo.Repository.Inventory.InventoryRepository;
+import com.demo.Service.Product.CatalogReadModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Versioning.ResourceVersions;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -20,6 +30,15 @@ public class InventoryServiceImplTest
     @Mock //Creates a mock instance of InventoryRepository
     private InventoryRepository inventoryRepository;
 
+    @Mock //Creates a mock instance of the stock reservation ledger
+    private StockReservationLedger reservationLedger;
+
+    @Mock //Creates a mock instance of the catalog read model
+    private CatalogReadModel catalogReadModel;
+
+    @Mock //Creates a mock instance of the version stamps
+    private ResourceVersions resourceVersions;
+
     @InjectMocks //Injects mocks into InventoryServiceImpl
     private InventoryServiceImpl inventoryService;
 
@@ -65,8 +84,8 @@ public class InventoryServiceImplTest
     void testGetInventories_Success() 
     {
         List<Inventory> inventoryList = Arrays.asList(inventory);       //Sample inventory list
-        when(inventoryRepository.findAll()).thenReturn(inventoryList);  //Mock findAll operation
-        List<InventoryDTO> result = inventoryService.getInventories();  //Call service method
+        when(inventoryRepository.findBy(any(Specification.class), any())).thenReturn(inventoryList);  //Mock keyset query
+        List<InventoryDTO> result = inventoryService.getInventories(CursorRequest.firstPage()).getItems();  //Call service method
         assertNotNull(result);                                          //Ensure result is not null
         assertEquals(1, result.size());                         //Validate list size
     }
@@ -108,4 +127,84 @@ public class InventoryServiceImplTest
         Exception exception = assertThrows(RuntimeException.class, () -> inventoryService.deleteInventory(2L)); //Expect exception
         assertEquals("Inventory not found", exception.getMessage());                                                    //Validate exception message
     }
-}
\ No newline at end of file
+
+    @Test   //Positive test case: Adjustments are applied in sid order and reported in request order
+    void testAdjustInventories_Applied() 
+    {
+        when(reservationLedger.adjust(anyLong(), anyInt(), any())).thenAnswer(invocation -> invocation.<BooleanSupplier>getArgument(2).getAsBoolean());
+        when(inventoryRepository.applyDelta(anyLong(), anyInt())).thenReturn(1);    //Every conditional update matches one row
+        List<InventoryAdjustmentResultDTO> results = inventoryService.adjustInventories(Arrays.asList(new InventoryAdjustmentDTO(2L, -3), new InventoryAdjustmentDTO(1L, 5)));
+        assertEquals(2, results.size());                                                //One result per adjustment
+        assertEquals(2L, results.get(0).getSid());                                      //Results keep the request order
+        assertTrue(results.get(0).isApplied() && results.get(1).isApplied());           //Both adjustments applied
+        var inOrder = inOrder(inventoryRepository);
+        inOrder.verify(inventoryRepository).applyDelta(1L, 5);                          //Lower sid updated first
+        inOrder.verify(inventoryRepository).applyDelta(2L, -3);
+        verify(inventoryRepository, never()).findStockQtyBySid(anyLong());              //No extra read when the update succeeds
+    }
+
+    @Test   //Negative test case: Adjustment that would take stock below zero
+    void testAdjustInventories_InsufficientStock() 
+    {
+        when(reservationLedger.adjust(eq(1L), eq(-20), any())).thenReturn(false);       //Ledger has too few units left
+        when(inventoryRepository.findStockQtyBySid(1L)).thenReturn(Optional.of(10));    //Row exists with 10 in stock
+        when(reservationLedger.available(1L)).thenReturn(6);                            //4 of them reserved or confirmed
+        InventoryAdjustmentResultDTO result = inventoryService.adjustInventories(List.of(new InventoryAdjustmentDTO(1L, -20))).get(0);
+        assertFalse(result.isApplied());                                                //Not applied
+        assertEquals(6, result.getStockQty());                                          //Available stock reported
+        assertEquals("Insufficient stock", result.getReason());
+    }
+
+    @Test   //Negative test case: Adjustment that would take stock past the column's maximum
+    void testAdjustInventories_StockLimitExceeded() 
+    {
+        when(reservationLedger.adjust(eq(1L), eq(20), any())).thenReturn(false);        //Table refused the increase
+        when(inventoryRepository.findStockQtyBySid(1L)).thenReturn(Optional.of(Integer.MAX_VALUE - 10));
+        when(reservationLedger.available(1L)).thenReturn(Integer.MAX_VALUE - 10);
+        InventoryAdjustmentResultDTO result = inventoryService.adjustInventories(List.of(new InventoryAdjustmentDTO(1L, 20))).get(0);
+        assertFalse(result.isApplied());                                                //Not applied
+        assertEquals(Integer.MAX_VALUE - 10, result.getStockQty());                     //Available stock reported
+        assertEquals("Stock limit exceeded", result.getReason());
+    }
+
+    @Test   //Negative test case: Adjustment for a non-existing inventory
+    void testAdjustInventories_NotFound() 
+    {
+        when(reservationLedger.adjust(eq(99L), eq(1), any())).thenThrow(new InventoryNotFoundException(99L));  //Row does not exist
+        InventoryAdjustmentResultDTO result = inventoryService.adjustInventories(List.of(new InventoryAdjustmentDTO(99L, 1))).get(0);
+        assertFalse(result.isApplied());                                                //Not applied
+        assertEquals("Inventory not found", result.getReason());
+    }
+
+    @Test   //Negative test case: Adjustment with missing fields is rejected without touching the database
+    void testAdjustInventories_MissingFields() 
+    {
+        InventoryAdjustmentResultDTO result = inventoryService.adjustInventories(List.of(new InventoryAdjustmentDTO(null, 1))).get(0);
+        assertFalse(result.isApplied());                                                //Not applied
+        verifyNoInteractions(inventoryRepository);                                      //No update attempted
+    }
+
+    @Test   //Negative test case: Empty batch
+    void testAdjustInventories_EmptyBatch() 
+    {
+        assertThrows(IllegalArgumentException.class, () -> inventoryService.adjustInventories(Collections.emptyList()));
+    }
+
+    @Test   //Positive test case: Reservations are taken from the ledger, not the table
+    void testReserveStock_Success() 
+    {
+        StockReservationDTO reservation = StockReservationDTO.builder().token("t1").sid(1L).quantity(2).build();
+        when(reservationLedger.reserve(1L, 2)).thenReturn(reservation);                 //Mock the ledger hold
+        assertSame(reservation, inventoryService.reserveStock(1L, 2));                  //Reservation handed back unchanged
+        verifyNoInteractions(inventoryRepository);                                      //No database round trip
+    }
+
+    @Test   //Positive test case: Updating an inventory resets its reservation counters
+    void testUpdateInventory_ResetsLedger() 
+    {
+        when(inventoryRepository.findById(1L)).thenReturn(Optional.of(inventory));     //Mock findById operation
+        when(inventoryRepository.save(any(Inventory.class))).thenReturn(new Inventory(1L, 25));
+        inventoryService.updateInventory(1L, new InventoryDTO(1L, 25));                 //Call service method
+        verify(reservationLedger).reset(1L, 25);                                        //Ledger follows the new quantity
+    }
+}
@@ -0,0 +1,227 @@
+package com.demo.Service.Inventory;
+import com.demo.DTO.Inventory.StockReservationDTO;
+import com.demo.Exception.Inventory.ReservationNotFoundException;
+import com.demo.Repository.Inventory.InventoryRepository;
+import com.demo.Service.Product.CatalogReadModel;
+import com.demo.Util.Versioning.ResourceVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class) //Enables Mockito support for JUnit 5 tests
+public class StockReservationLedgerTest 
+{
+    @Mock //Creates a mock instance of InventoryRepository
+    private InventoryRepository inventoryRepository;
+
+    @Mock //Creates a mock instance of the catalog read model
+    private CatalogReadModel catalogReadModel;
+
+    @Mock //Creates a mock instance of the version stamps
+    private ResourceVersions resourceVersions;
+
+    @Mock //Creates a mock transaction manager for the write-behind flush
+    private PlatformTransactionManager transactionManager;
+
+    private MutableClock clock;
+    private StockReservationLedger ledger;
+
+    @BeforeEach //Runs before each test case with a ledger whose reservations last one minute
+    void setUp() 
+    {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        ledger = new StockReservationLedger(inventoryRepository, catalogReadModel, resourceVersions, transactionManager, Duration.ofMinutes(1), clock);
+        when(inventoryRepository.findStockQtyBySid(1L)).thenReturn(Optional.of(10));  //Inventory 1 holds 10 units
+    }
+
+    @Test   //Positive test case: Reserving takes units from available stock without writing to the table
+    void testReserve_Success() 
+    {
+        StockReservationDTO reservation = ledger.reserve(1L, 4);
+        assertNotNull(reservation.getToken());                                     //Token handed out
+        assertEquals(6, ledger.available(1L));                                     //Units held
+        verify(inventoryRepository, never()).applyDelta(anyLong(), anyInt());      //Nothing written yet
+    }
+
+    @Test   //Negative test case: Reserving more than is available
+    void testReserve_InsufficientStock() 
+    {
+        assertThrows(IllegalArgumentException.class, () -> ledger.reserve(1L, 11));
+        assertEquals(10, ledger.available(1L));                                    //Stock untouched
+    }
+
+    @Test   //Positive test case: Confirmed reservations are flushed as one net delta
+    void testConfirm_FlushesNetDelta() 
+    {
+        when(inventoryRepository.applyDelta(1L, -5)).thenReturn(1);                //Table accepts the delta
+        ledger.confirm(ledger.reserve(1L, 2).getToken());
+        ledger.confirm(ledger.reserve(1L, 3).getToken());
+        ledger.flush();
+        ledger.flush();                                                            //Second flush has nothing left to write
+        verify(inventoryRepository, times(1)).applyDelta(1L, -5);                  //One write for both reservations
+        assertEquals(5, ledger.available(1L));
+    }
+
+    @Test   //Positive test case: Releasing gives the units back
+    void testRelease_RestoresStock() 
+    {
+        ledger.release(ledger.reserve(1L, 4).getToken());
+        assertEquals(10, ledger.available(1L));                                    //Stock restored
+        assertThrows(ReservationNotFoundException.class, () -> ledger.release("unknown"));
+    }
+
+    @Test   //Negative test case: Lapsed reservations return to stock and can no longer be confirmed
+    void testExpiredReservation() 
+    {
+        String token = ledger.reserve(1L, 4).getToken();
+        clock.advance(Duration.ofMinutes(2));                                      //Past the one minute hold
+        ledger.flush();
+        assertEquals(10, ledger.available(1L));                                    //Stock restored
+        assertThrows(ReservationNotFoundException.class, () -> ledger.confirm(token));
+    }
+
+    @Test   //Negative test case: A failed flush keeps the delta for the next one
+    void testFlush_FailureRetries() 
+    {
+        when(inventoryRepository.applyDelta(1L, -2)).thenThrow(new RuntimeException("Database unavailable")).thenReturn(1);
+        ledger.confirm(ledger.reserve(1L, 2).getToken());
+        ledger.flush();                                                            //Fails and re-queues
+        ledger.flush();                                                            //Succeeds
+        verify(inventoryRepository, times(2)).applyDelta(1L, -2);
+    }
+
+    @Test   //Negative test case: Stock writes that roll back leave the counters alone
+    void testResetAndAdjust_RolledBack() 
+    {
+        assertEquals(10, ledger.available(1L));                                    //Counter loaded before the writes
+        TransactionSynchronizationManager.initSynchronization();
+
+        try
+        {
+            assertTrue(ledger.adjust(1L, 5, () -> true));
+            assertTrue(ledger.adjust(1L, -2, () -> true));
+            assertEquals(8, ledger.available(1L));                                 //A decrease takes its units at once
+            ledger.reset(1L, 3);
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        finally
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(10, ledger.available(1L));                                    //Nothing applied after the rollback either
+    }
+
+    @Test   //Negative test case: An adjustment cannot take units that are reserved or confirmed but not yet flushed
+    void testAdjust_ChecksAvailableStock() 
+    {
+        ledger.confirm(ledger.reserve(1L, 4).getToken());                          //The table still says 10, only 6 are left
+        ledger.reserve(1L, 2);                                                     //Another 2 held
+        assertFalse(ledger.adjust(1L, -5, () -> fail("Table written")));           //Rejected before the table is touched
+        assertFalse(ledger.adjust(1L, -4, () -> false));                           //Table refused the write
+        assertEquals(4, ledger.available(1L));                                     //Units handed back
+        assertTrue(ledger.adjust(1L, -4, () -> true));
+        assertEquals(0, ledger.available(1L));
+        when(inventoryRepository.applyDelta(1L, -4)).thenReturn(1);
+        ledger.flush();                                                            //The confirmed decrement still lands
+        verify(inventoryRepository).applyDelta(1L, -4);
+    }
+
+    @Test   //Negative test case: A confirmed delta the table rejects stays pending instead of being dropped
+    void testFlush_RejectedDeltaKept() 
+    {
+        when(inventoryRepository.applyDelta(1L, -2)).thenReturn(0).thenReturn(1);  //Rejected once, accepted after the row is repaired
+        ledger.confirm(ledger.reserve(1L, 2).getToken());
+        ledger.flush();
+        assertEquals(8, ledger.available(1L));                                     //Counters not reset from the table
+        ledger.flush();
+        verify(inventoryRepository, times(2)).applyDelta(1L, -2);                  //Retried with the same delta
+        verify(catalogReadModel).stockShifted(1L, -2);                             //Catalog follows once it lands
+    }
+
+    @Test   //Positive test case: A flush waits for an absolute stock write to commit, so its delta never lands on top of the new value
+    void testReset_HoldsOffFlushUntilCommit() throws Exception 
+    {
+        ledger.confirm(ledger.reserve(1L, 2).getToken());                          //A delta of -2 waiting to be flushed
+        TransactionSynchronizationManager.initSynchronization();
+
+        try
+        {
+            ledger.reset(1L, 20);
+            CompletableFuture<Void> flush = CompletableFuture.runAsync(ledger::flush);
+            assertThrows(TimeoutException.class, () -> flush.get(200, TimeUnit.MILLISECONDS));  //Blocked while the write is open
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+            flush.get(5, TimeUnit.SECONDS);
+        }
+
+        finally
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(inventoryRepository, never()).applyDelta(anyLong(), anyInt());      //The written value superseded the unflushed delta
+        assertEquals(20, ledger.available(1L));
+    }
+
+    //Ends the transaction the test opened, running the callbacks the ledger registered the way the transaction manager would
+    private static void complete(int status) 
+    {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        if (status == TransactionSynchronization.STATUS_COMMITTED)
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    //Clock that only moves when the test advances it
+    private static final class MutableClock extends Clock 
+    {
+        private Instant now;
+
+        private MutableClock(Instant now) 
+        {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) 
+        {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() 
+        {
+            return now;
+        }
+
+        @Override
+        public java.time.ZoneId getZone() 
+        {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) 
+        {
+            return this;
+        }
+    }
+}
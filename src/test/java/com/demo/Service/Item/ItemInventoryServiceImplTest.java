@@ -13,6 +13,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Versioning.ResourceVersions;
+import com.demo.Util.Versioning.VersionedResource;
 import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +37,9 @@ public class ItemInventoryServiceImplTest
     @Mock
     private InventoryRepository inventoryRepository;            //Mocks the Inventory repository
 
+    @Mock
+    private ResourceVersions resourceVersions;                  //Mocks the version stamps
+
     private Item item;                                          //Test object for Item
     private Inventory inventory;                                //Test object for Inventory
     private ItemInventory itemInventory;                        //Test object for ItemInventory
@@ -101,8 +108,8 @@ public class ItemInventoryServiceImplTest
     @Test
     void testGetItemInventory() 
     {
-        //Mocking repository to return an ItemInventory
-        when(itemInventoryRepository.findById(100L)).thenReturn(Optional.of(itemInventory));
+        //Mocking repository to return the ItemInventory projection
+        when(itemInventoryRepository.findDTOById(100L)).thenReturn(Optional.of(new ItemInventoryDTO(100L, item.getIid(), inventory.getSid())));
 
         //Calling the service method to retrieve ItemInventory
         ItemInventoryDTO found = itemInventoryService.getItemInventory(100L);
@@ -113,31 +120,32 @@ public class ItemInventoryServiceImplTest
         assertEquals(item.getIid(), found.getIid());        //Check Item ID
         assertEquals(inventory.getSid(), found.getSid());   //Check Inventory ID
 
-        //Verifying that the repository's findById method was called
-        verify(itemInventoryRepository).findById(100L);
+        //Verifying that the repository's projection query was called and no entity was loaded
+        verify(itemInventoryRepository).findDTOById(100L);
+        verify(itemInventoryRepository, never()).findById(anyLong());
     }
 
     @Test
     void testGetItemInventory_ItemInventoryNotFound() 
     {
         //Mocking repository to return empty for non-existent ItemInventory
-        when(itemInventoryRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(itemInventoryRepository.findDTOById(anyLong())).thenReturn(Optional.empty());
 
         //Asserting that the method throws ItemInventoryNotFoundException when itemInventory is not found
         assertThrows(ItemInventoryNotFoundException.class, () -> itemInventoryService.getItemInventory(999L));
 
-        //Verifying that the repository's findById method was called
-        verify(itemInventoryRepository).findById(anyLong());
+        //Verifying that the repository's projection query was called
+        verify(itemInventoryRepository).findDTOById(anyLong());
     }
 
     @Test
     void testGetItemInventories() 
     {
         //Mocking repository to return a list containing the itemInventory
-        when(itemInventoryRepository.findAll()).thenReturn(List.of(itemInventory));
+        when(itemInventoryRepository.findDTOsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(new ItemInventoryDTO(100L, item.getIid(), inventory.getSid())));
 
         //Calling the service method to retrieve all ItemInventories
-        List<ItemInventoryDTO> list = itemInventoryService.getItemInventories();
+        List<ItemInventoryDTO> list = itemInventoryService.getItemInventories(CursorRequest.firstPage()).getItems();
 
         //Verifying the result is not empty and contains the expected itemInventory
         assertNotNull(list);
@@ -145,8 +153,8 @@ public class ItemInventoryServiceImplTest
         assertEquals(1, list.size());                   //Only one itemInventory should be in the list
         assertEquals(100L, list.get(0).getSiid());  //Check siid
 
-        //Verifying that the repository's findAll method was called
-        verify(itemInventoryRepository).findAll();
+        //Verifying that the repository's projection query was called
+        verify(itemInventoryRepository).findDTOsAfter(0L, Limit.of(CursorRequest.DEFAULT_LIMIT + 1));
     }
 
     @Test
@@ -200,6 +208,10 @@ public class ItemInventoryServiceImplTest
 
         //Verifying that the repository's delete method was called
         verify(itemInventoryRepository).delete(any(ItemInventory.class));
+
+        //The removal cascades to the item and the inventory, so both get a new version stamp
+        verify(resourceVersions).changed(VersionedResource.ITEMS, 1L);
+        verify(resourceVersions).changed(VersionedResource.INVENTORIES, 1L);
     }
 
     @Test
@@ -11,8 +11,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
-import java.math.BigDecimal;
+import com.demo.Util.Money.Money;
 import java.util.Optional;
+import com.demo.Service.Order.OrderPricingEngine;
+import com.demo.Util.Versioning.ResourceVersions;
 
 @ExtendWith(MockitoExtension.class)
 public class ItemServiceImplTest 
@@ -20,6 +22,12 @@ public class ItemServiceImplTest
     @Mock
     private ItemRepository itemRepository; //Mocked ItemRepository
 
+    @Mock
+    private OrderPricingEngine orderPricingEngine; //Mocked order pricing engine
+
+    @Mock
+    private ResourceVersions resourceVersions; //Mocked version stamps
+
     @InjectMocks
     private ItemServiceImpl itemService; //The service we are testing
 
@@ -29,14 +37,14 @@ public class ItemServiceImplTest
     public void setUp() 
     {
         //Initialize a sample item DTO for testing
-        itemDTO = new ItemDTO(1L, "Laptop", new BigDecimal("1200.00"));
+        itemDTO = new ItemDTO(1L, "Laptop", Money.of("1200.00"));
     }
 
     @Test   //Positive Test Case for createItem
     public void testCreateItem() 
     {
         //Given
-        Item item = new Item(1L, "Laptop", new BigDecimal("1200.00"));
+        Item item = new Item(1L, "Laptop", Money.of("1200.00"));
         when(itemRepository.save(any(Item.class))).thenReturn(item);                    //Mocking the save operation
 
         //When
@@ -45,7 +53,7 @@ public class ItemServiceImplTest
         //Then
         assertNotNull(createdItem);
         assertEquals("Laptop", createdItem.getItemName());
-        assertEquals(new BigDecimal("1200.00"), createdItem.getUnitPrice());
+        assertEquals(Money.of("1200.00"), createdItem.getUnitPrice());
         verify(itemRepository, times(1)).save(any(Item.class)); //Verifying that save was called once
     }
 
@@ -68,7 +76,7 @@ public class ItemServiceImplTest
     public void testGetItem() 
     {
         //Given
-        Item item = new Item(1L, "Laptop", new BigDecimal("1200.00"));
+        Item item = new Item(1L, "Laptop", Money.of("1200.00"));
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item));    //Mocking findById
 
         //When
@@ -77,15 +85,15 @@ public class ItemServiceImplTest
         //Then
         assertNotNull(foundItem);
         assertEquals("Laptop", foundItem.getItemName());
-        assertEquals(new BigDecimal("1200.00"), foundItem.getUnitPrice());
+        assertEquals(Money.of("1200.00"), foundItem.getUnitPrice());
     }
 
     @Test   //Positive Test Case for partialUpdateItem
     public void testPartialUpdateItem() 
     {
         //Given
-        Item existingItem = new Item(1L, "Laptop", new BigDecimal("1200.00"));
-        ItemDTO updatedItemDTO = new ItemDTO(1L, "Gaming Laptop", new BigDecimal("1500.00"));
+        Item existingItem = new Item(1L, "Laptop", Money.of("1200.00"));
+        ItemDTO updatedItemDTO = new ItemDTO(1L, "Gaming Laptop", Money.of("1500.00"));
         when(itemRepository.findById(1L)).thenReturn(Optional.of(existingItem));
         when(itemRepository.save(any(Item.class))).thenReturn(existingItem);
 
@@ -95,7 +103,7 @@ public class ItemServiceImplTest
         //Then
         assertNotNull(updatedItem);
         assertEquals("Gaming Laptop", updatedItem.getItemName());           //Item name should be updated
-        assertEquals(new BigDecimal("1500.00"), updatedItem.getUnitPrice());    //Unit price should be updated
+        assertEquals(Money.of("1500.00"), updatedItem.getUnitPrice());    //Unit price should be updated
     }
 
     @Test   //Negative Test Case for partialUpdateItem (Item Not Found)
@@ -117,7 +125,7 @@ public class ItemServiceImplTest
     public void testDeleteItem() 
     {
         //Given
-        Item item = new Item(1L, "Laptop", new BigDecimal("1200.00"));
+        Item item = new Item(1L, "Laptop", Money.of("1200.00"));
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
 
         //When
@@ -0,0 +1,97 @@
+package com.demo.Service.Order;
+import com.demo.DTO.Order.OrderAggregateDTO;
+import com.demo.Entity.Item.Item;
+import com.demo.Entity.Order.Order;
+import com.demo.Entity.Order.OrderItem;
+import com.demo.Entity.Order.OrderPayment;
+import com.demo.Entity.Order.OrderProduct;
+import com.demo.Entity.Payment.Payment;
+import com.demo.Entity.Product.Product;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Enum.Payment.PaymentMode;
+import com.demo.Enum.Payment.PaymentStatus;
+import com.demo.Exception.Order.OrderNotFoundException;
+import com.demo.Repository.Order.OrderItemRepository;
+import com.demo.Repository.Order.OrderPaymentRepository;
+import com.demo.Repository.Order.OrderProductRepository;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Util.Money.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class) //Extension to enable Mockito in JUnit tests
+public class OrderAggregateServiceImplTest 
+{
+    @Mock
+    private OrderRepository orderRepository;                    //Mocking the OrderRepository dependency
+
+    @Mock
+    private OrderProductRepository orderProductRepository;      //Mocking the OrderProductRepository dependency
+
+    @Mock
+    private OrderItemRepository orderItemRepository;            //Mocking the OrderItemRepository dependency
+
+    @Mock
+    private OrderPaymentRepository orderPaymentRepository;      //Mocking the OrderPaymentRepository dependency
+
+    private OrderAggregateServiceImpl orderAggregateService;    //Service under test
+
+    private Order order;                                        //Order entity to be used in tests
+
+    @BeforeEach
+    void setUp() 
+    {
+        orderAggregateService = new OrderAggregateServiceImpl(orderRepository, orderProductRepository, orderItemRepository, orderPaymentRepository, 2);   //Two branch threads
+        order = new Order(1L, BigDecimal.valueOf(100.00), OrderStatus.PENDING, LocalDateTime.now());
+    }
+
+    @AfterEach
+    void tearDown() 
+    {
+        orderAggregateService.shutdown();   //Stops the branch threads of the service under test
+    }
+
+    @Test   //Test Case: Get Order Aggregate (Positive Test Case)
+    void testGetOrderAggregate_Success() 
+    {
+        Product product = Product.builder().pid(7L).productName("Laptop").unitPrice(Money.of("10.00")).build();
+        Item item = new Item(3L, "Mouse", Money.of("1.00"));
+        Payment payment = Payment.builder().pid(5L).amount(BigDecimal.TEN).paymentMode(PaymentMode.PAYNOW).paymentStatus(PaymentStatus.PAID).paymentDateTime(LocalDateTime.now()).build();
+
+        order.setVersion(3L);                                                   //Updated three times since it was created
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderProductRepository.findWithProductsByOrderId(1L)).thenReturn(List.of(new OrderProduct(10L, order, product), new OrderProduct(11L, order, product)));
+        when(orderItemRepository.findWithItemsByOrderId(1L)).thenReturn(List.of(new OrderItem(20L, order, item)));
+        when(orderPaymentRepository.findWithPaymentsByOrderId(1L)).thenReturn(List.of(new OrderPayment(30L, payment, order)));
+
+        OrderAggregateDTO aggregate = orderAggregateService.getOrderAggregate(1L);  //Calling the method to test
+
+        assertEquals(1L, aggregate.getOrder().getOid());                        //Ensuring the order is returned
+        assertEquals(3L, aggregate.getOrder().getVersion());                    //Ensuring the version a PATCH needs is returned
+        assertEquals(2, aggregate.getOrderProducts().size());                   //Ensuring every link is returned
+        assertEquals(1, aggregate.getProducts().size());                        //Ensuring a product linked twice is returned once
+        assertEquals(3L, aggregate.getItems().get(0).getIid());                 //Ensuring the referenced item is returned
+        assertEquals(1L, aggregate.getOrderItems().get(0).getOid());            //Ensuring the item link points at the order
+        assertEquals(5L, aggregate.getPayments().get(0).getPid());              //Ensuring the referenced payment is returned
+        assertEquals(30L, aggregate.getOrderPayments().get(0).getPoid());       //Ensuring the payment link is returned
+    }
+
+    @Test   //Test Case: Get Order Aggregate with an unknown order (Negative Test Case)
+    void testGetOrderAggregate_NotFound() 
+    {
+        when(orderRepository.findById(2L)).thenReturn(Optional.empty());
+
+        //Ensuring the branch's OrderNotFoundException is rethrown as is, not wrapped in a CompletionException
+        assertThrows(OrderNotFoundException.class, () -> orderAggregateService.getOrderAggregate(2L));
+    }
+}
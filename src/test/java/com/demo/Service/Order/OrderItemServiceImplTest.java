@@ -1,10 +1,12 @@
 package com.demo.Service.Order;
 import com.demo.DTO.Order.OrderItemDTO;
 import com.demo.Entity.Item.Item;
+import com.demo.Entity.Order.Order;
 import com.demo.Entity.Order.OrderItem;
 import com.demo.Exception.Order.OrderItemNotFoundException;
 import com.demo.Repository.Item.ItemRepository;
 import com.demo.Repository.Order.OrderItemRepository;
+import com.demo.Repository.Order.OrderRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -14,6 +16,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import com.demo.Util.Pagination.CursorRequest;
 
 @ExtendWith(MockitoExtension.class) //Extends the Mockito framework for unit tests
 class OrderItemServiceImplTest 
@@ -24,6 +28,12 @@ class OrderItemServiceImplTest
     @Mock           //Mock the ItemRepository to simulate the database interaction
     private ItemRepository itemRepository;
 
+    @Mock           //Mock the pricing engine that keeps the order totals in step with the lines
+    private OrderPricingEngine orderPricingEngine;
+
+    @Mock           //Mock the OrderRepository to simulate the database interaction
+    private OrderRepository orderRepository;
+
     @InjectMocks    //Inject the mocks into the OrderItemServiceImpl instance
     private OrderItemServiceImpl orderItemService;
 
@@ -32,7 +42,7 @@ class OrderItemServiceImplTest
     private final Long oid = 2L;
     private final Long iid = 3L;
 
-    private final Item order = Item.builder().iid(oid).build();                                             //Example Item for order
+    private final Order order = Order.builder().oid(oid).build();                                           //Example Order
     private final Item item = Item.builder().iid(iid).build();                                              //Example Item for order item
     private final OrderItem orderItem = OrderItem.builder().oiid(oiid).oid(order).iid(item).build();        //Example OrderItem
     private final OrderItemDTO orderItemDTO = OrderItemDTO.builder().oiid(oiid).oid(oid).iid(iid).build();  //Example DTO
@@ -42,7 +52,7 @@ class OrderItemServiceImplTest
     void testCreateOrderItem_Success() 
     {
         //Mock behavior for repository interactions
-        when(itemRepository.findById(oid)).thenReturn(Optional.of(order));
+        when(orderRepository.findById(oid)).thenReturn(Optional.of(order));
         when(itemRepository.findById(iid)).thenReturn(Optional.of(item));
         when(orderItemRepository.save(any(OrderItem.class))).thenReturn(orderItem);
 
@@ -51,14 +61,16 @@ class OrderItemServiceImplTest
 
         //Assert the results
         assertEquals(oiid, result.getOiid());   //Ensure the correct OrderItemDTO is returned
+        assertEquals(oid, result.getOid());     //Ensure the link points at the order, not at an item with the same ID
+        verify(itemRepository, never()).findById(oid);
         verify(orderItemRepository, times(1)).save(any(OrderItem.class));   //Verify save method was called once
     }
 
     @Test
     void testGetOrderItem_Success() 
     {
-        //Mock behavior for repository interaction
-        when(orderItemRepository.findById(oiid)).thenReturn(Optional.of(orderItem));
+        //Mock behavior for repository interaction: the link is read straight into a DTO
+        when(orderItemRepository.findDTOById(oiid)).thenReturn(Optional.of(orderItemDTO));
 
         //Call the method under test
         OrderItemDTO result = orderItemService.getOrderItem(oiid);
@@ -73,10 +85,10 @@ class OrderItemServiceImplTest
     void testGetOrderItems_Success() 
     {
         //Mock behavior for repository interaction
-        when(orderItemRepository.findAll()).thenReturn(Arrays.asList(orderItem));
+        when(orderItemRepository.findDTOsAfter(eq(0L), any(Limit.class))).thenReturn(Arrays.asList(orderItemDTO));
 
         //Call the method under test
-        List<OrderItemDTO> result = orderItemService.getOrderItems();
+        List<OrderItemDTO> result = orderItemService.getOrderItems(CursorRequest.firstPage()).getItems();
 
         //Assert the results
         assertEquals(1, result.size());             //List should contain one element
@@ -88,7 +100,7 @@ class OrderItemServiceImplTest
     {
         //Mock behavior for repository interactions
         when(orderItemRepository.findById(oiid)).thenReturn(Optional.of(orderItem));
-        when(itemRepository.findById(oid)).thenReturn(Optional.of(order));
+        when(orderRepository.findById(oid)).thenReturn(Optional.of(order));
         when(itemRepository.findById(iid)).thenReturn(Optional.of(item));
         when(orderItemRepository.save(any(OrderItem.class))).thenReturn(orderItem);
 
@@ -113,10 +125,10 @@ class OrderItemServiceImplTest
 
     //Negative test cases
     @Test
-    void testCreateOrderItem_ItemNotFound() 
+    void testCreateOrderItem_OrderNotFound() 
     {
-        //Mock behavior: Item with given ID not found
-        when(itemRepository.findById(oid)).thenReturn(Optional.empty());
+        //Mock behavior: Order with given ID not found
+        when(orderRepository.findById(oid)).thenReturn(Optional.empty());
 
         //Assert that the exception is thrown when trying to create an order item
         assertThrows(OrderItemNotFoundException.class, () -> orderItemService.createOrderItem(orderItemDTO));
@@ -126,7 +138,7 @@ class OrderItemServiceImplTest
     void testGetOrderItem_NotFound() 
     {
         //Mock behavior: OrderItem with given ID not found
-        when(orderItemRepository.findById(oiid)).thenReturn(Optional.empty());
+        when(orderItemRepository.findDTOById(oiid)).thenReturn(Optional.empty());
 
         //Assert that the exception is thrown when trying to get an order item
         assertThrows(OrderItemNotFoundException.class, () -> orderItemService.getOrderItem(oiid));
@@ -82,14 +82,8 @@ class OrderPaymentServiceImplTest
     @Test   //Test case to verify successful retrieval of an OrderPayment by POID
     void testGetOrderPayment_success() 
     {
-        //Arrange: Create a valid OrderPayment and mock repository behavior
-        OrderPayment orderPayment = new OrderPayment();
-        orderPayment.setPoid(1L);
-        orderPayment.setOid(order);
-        orderPayment.setPid(payment);
-
-        when(orderPaymentRepository.findById(1L)).thenReturn(Optional.of(orderPayment));    //Mock repository to return the OrderPayment
-        when(paymentRepository.findById(payment.getPid())).thenReturn(Optional.of(payment));    //Mock the payment retrieval
+        //Arrange: Mock the repository to return the OrderPayment projection
+        when(orderPaymentRepository.findDTOById(1L)).thenReturn(Optional.of(new OrderPaymentDTO(1L, order.getOid(), payment.getPid())));
 
         //Act: Call the method to test
         OrderPaymentDTO result = orderPaymentService.getOrderPayment(1L);
@@ -99,14 +93,15 @@ class OrderPaymentServiceImplTest
         assertEquals(1L, result.getPoid());
         assertEquals(1L, result.getOid());
         assertEquals(1L, result.getPid());
-        verify(orderPaymentRepository, times(1)).findById(1L);  //Verify that the repository was queried once
+        verify(orderPaymentRepository, times(1)).findDTOById(1L);   //Verify that the repository was queried once
+        verifyNoInteractions(paymentRepository);                    //Verify that the Payment is not re-fetched
     }
 
     @Test   //Test case to handle OrderPaymentNotFoundException when the OrderPayment is not found
     void testGetOrderPayment_orderPaymentNotFound() 
     {
         //Arrange: Mock the behavior to return an empty OrderPayment from the repository
-        when(orderPaymentRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderPaymentRepository.findDTOById(1L)).thenReturn(Optional.empty());
 
         //Act & Assert: Verify that the exception is thrown when the OrderPayment is not found
         OrderPaymentNotFoundException thrown = assertThrows(OrderPaymentNotFoundException.class, () -> 
@@ -0,0 +1,211 @@
+package com.demo.Service.Order;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.demo.DTO.Order.OrderItemDTO;
+import com.demo.DTO.Order.OrderProductDTO;
+import com.demo.DTO.Order.OrderRepriceDTO;
+import com.demo.DTO.Product.ProductDTO;
+import com.demo.Entity.Item.Item;
+import com.demo.Entity.Order.Order;
+import com.demo.Entity.Product.Product;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Interface.Order.OrderItemService;
+import com.demo.Interface.Order.OrderProductService;
+import com.demo.Interface.Product.ProductService;
+import com.demo.Repository.Item.ItemRepository;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Repository.Product.ProductRepository;
+import com.demo.Util.Money.Money;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest //Prices against the application's own database, the queries and updates are the ones that run in production
+public class OrderPricingEngineTest
+{
+    @Autowired private OrderPricingEngine orderPricingEngine;
+    @Autowired private OrderProductService orderProductService;
+    @Autowired private OrderItemService orderItemService;
+    @Autowired private ProductService productService;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ItemRepository itemRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test   //Test Case: The first line replaces the provisional total, later lines add to it and moving a line moves its price (Positive Test Case)
+    void testLinkingProducts_UpdatesTotals()
+    {
+        Long first = order("999.00");
+        Long second = order("999.00");
+        Long pen = product("10.00");
+        Long ink = product("2.50");
+
+        orderProductService.createOrderProduct(OrderProductDTO.builder().oid(first).pid(pen).build());
+        assertTotal("10.00", first);
+
+        OrderProductDTO line = orderProductService.createOrderProduct(OrderProductDTO.builder().oid(first).pid(ink).build());
+        assertTotal("12.50", first);
+
+        orderProductService.updateOrderProduct(line.getOpid(), OrderProductDTO.builder().oid(second).pid(ink).build());
+        assertTotal("10.00", first);
+        assertTotal("2.50", second);
+        assertTrue(orderPricingEngine.hasLines(second));
+    }
+
+    @Test   //Test Case: Removing a line after a price change prices the remaining lines, never taking off a price the line was not added at (Positive Test Case)
+    void testRemovingLine_AfterPriceChange_PricesRemainingLines()
+    {
+        Long oid = order("999.00");
+        Long pen = product("10.00");
+        Long ink = product("2.50");
+
+        OrderProductDTO penLine = orderProductService.createOrderProduct(OrderProductDTO.builder().oid(oid).pid(pen).build());
+        orderProductService.createOrderProduct(OrderProductDTO.builder().oid(oid).pid(ink).build());
+        assertTotal("12.50", oid);
+
+        productService.partialUpdateProduct(pen, ProductDTO.builder().unitPrice(Money.of("20.00")).build());
+        orderProductService.deleteOrderProduct(penLine.getOpid());
+        assertTotal("2.50", oid);
+    }
+
+    @Test   //Test Case: Lines linked to one order from two threads at once both end up in its total (Positive Test Case)
+    void testConcurrentLines_BothPriced() throws Exception
+    {
+        Long oid = order("999.00");
+        Long pen = product("10.00");
+        Long ink = product("2.50");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try
+        {
+            for (int round = 0; round < 5; round++)
+            {
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?> first = executor.submit(() -> link(start, oid, pen));
+                Future<?> second = executor.submit(() -> link(start, oid, ink));
+                start.countDown();
+                first.get(10, TimeUnit.SECONDS);
+                second.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertTotal("62.50", oid);
+    }
+
+    @Test   //Test Case: A reprice sets every total to the sum of its lines and leaves orders without lines alone (Positive Test Case)
+    void testReprice_SetsTotalsFromLines()
+    {
+        Long priced = order("1.00");
+        Long correct = order("1.00");
+        Long empty = order("7.00");
+        Long pen = product("4.00");
+
+        orderProductService.createOrderProduct(OrderProductDTO.builder().oid(priced).pid(pen).build());
+        orderProductService.createOrderProduct(OrderProductDTO.builder().oid(priced).pid(pen).build());
+        orderProductService.createOrderProduct(OrderProductDTO.builder().oid(correct).pid(pen).build());
+        jdbcTemplate.update("update orders set total_price = 1 where oid = ?", priced);
+
+        OrderRepriceDTO result = orderPricingEngine.reprice(List.of(priced, correct, empty, priced));
+
+        assertEquals(3, result.getRequested());
+        assertEquals(1, result.getRepriced());
+        assertEquals(1, result.getUnchanged());
+        assertEquals(1, result.getSkipped());
+        assertTotal("8.00", priced);
+        assertTotal("4.00", correct);
+        assertTotal("7.00", empty);
+    }
+
+    @Test   //Test Case: A reprice with more chunks than its threads and queue hold runs the rest on the caller and prices them all (Positive Test Case)
+    void testLargeReprice_OverflowsToCaller()
+    {
+        Long priced = order("1.00");
+        orderProductService.createOrderProduct(OrderProductDTO.builder().oid(priced).pid(product("2.00")).build());
+        jdbcTemplate.update("update orders set total_price = 1 where oid = ?", priced);
+
+        //Twenty chunks of 500 IDs, the priced order in the last one; the others do not exist
+        List<Long> oids = new ArrayList<>(LongStream.rangeClosed(1, 9_999).map(id -> -id).boxed().toList());
+        oids.add(priced);
+        OrderRepriceDTO result = orderPricingEngine.reprice(oids);
+
+        assertEquals(10_000, result.getRequested());
+        assertEquals(1, result.getRepriced());
+        assertEquals(9_999, result.getSkipped());
+        assertTotal("2.00", priced);
+    }
+
+    @Test   //Test Case: Cached prices are reused until the product is updated through the service (Positive Test Case)
+    void testPriceCache_EvictedOnProductUpdate()
+    {
+        Long pen = product("3.00");
+        assertEquals(Money.of("3.00"), orderPricingEngine.productPrices(List.of(pen)).get(pen));
+
+        jdbcTemplate.update("update products set unit_price = 5 where pid = ?", pen);
+        assertEquals(Money.of("3.00"), orderPricingEngine.productPrices(List.of(pen)).get(pen));
+
+        productService.partialUpdateProduct(pen, ProductDTO.builder().unitPrice(Money.of("6.00")).build());
+        assertEquals(Money.of("6.00"), orderPricingEngine.productPrices(List.of(pen)).get(pen));
+    }
+
+    @Test   //Test Case: Item lines are priced onto their order, and removing a line leaves the order, product and item in place (Positive Test Case)
+    void testLinkingItems_KeepsReferencedRows()
+    {
+        Long oid = order("999.00");
+        Long pen = product("10.00");
+        Long box = item("4.00");
+
+        OrderProductDTO productLine = orderProductService.createOrderProduct(OrderProductDTO.builder().oid(oid).pid(pen).build());
+        OrderItemDTO itemLine = orderItemService.createOrderItem(OrderItemDTO.builder().oid(oid).iid(box).build());
+        assertTotal("14.00", oid);
+        assertEquals(oid, orderItemService.getOrderItem(itemLine.getOiid()).getOid());
+
+        orderItemService.deleteOrderItem(itemLine.getOiid());
+        orderProductService.deleteOrderProduct(productLine.getOpid());
+
+        assertTrue(orderRepository.existsById(oid));
+        assertTrue(productRepository.existsById(pen));
+        assertTrue(itemRepository.existsById(box));
+    }
+
+    private Void link(CountDownLatch start, Long oid, Long pid) throws InterruptedException
+    {
+        start.await();
+        orderProductService.createOrderProduct(OrderProductDTO.builder().oid(oid).pid(pid).build());
+        return null;
+    }
+
+    private Long order(String totalPrice)
+    {
+        return orderRepository.save(Order.builder().totalPrice(new BigDecimal(totalPrice)).orderStatus(OrderStatus.NEW).orderDateTime(LocalDateTime.now()).build()).getOid();
+    }
+
+    private Long product(String unitPrice)
+    {
+        return productRepository.save(Product.builder().productName("Pricing test").unitPrice(Money.of(unitPrice)).build()).getPid();
+    }
+
+    private Long item(String unitPrice)
+    {
+        return itemRepository.save(Item.builder().itemName("Pricing test").unitPrice(Money.of(unitPrice)).build()).getIid();
+    }
+
+    private void assertTotal(String expected, Long oid)
+    {
+        assertEquals(0, new BigDecimal(expected).compareTo(orderRepository.findById(oid).orElseThrow().getTotalPrice()), "total of order " + oid);
+    }
+}
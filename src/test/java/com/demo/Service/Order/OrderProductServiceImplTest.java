@@ -21,6 +21,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Versioning.ResourceVersions;
 
 @ExtendWith(MockitoExtension.class)
 class OrderProductServiceImplTest {
@@ -34,6 +37,12 @@ class OrderProductServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderPricingEngine orderPricingEngine;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @InjectMocks
     private OrderProductServiceImpl orderProductService;
 
@@ -70,7 +79,7 @@ class OrderProductServiceImplTest {
 
     @Test
     void testGetOrderProduct_Success() {
-        when(orderProductRepository.findById(opid)).thenReturn(Optional.of(orderProduct));
+        when(orderProductRepository.findDTOById(opid)).thenReturn(Optional.of(orderProductDTO));
 
         OrderProductDTO result = orderProductService.getOrderProduct(opid);
 
@@ -81,9 +90,9 @@ class OrderProductServiceImplTest {
 
     @Test
     void testGetOrderProducts_Success() {
-        when(orderProductRepository.findAll()).thenReturn(Arrays.asList(orderProduct));
+        when(orderProductRepository.findDTOsAfter(eq(0L), any(Limit.class))).thenReturn(Arrays.asList(orderProductDTO));
 
-        List<OrderProductDTO> result = orderProductService.getOrderProducts();
+        List<OrderProductDTO> result = orderProductService.getOrderProducts(CursorRequest.firstPage()).getItems();
 
         assertEquals(1, result.size());
         assertEquals(opid, result.get(0).getOpid());
@@ -129,7 +138,7 @@ class OrderProductServiceImplTest {
 
     @Test
     void testGetOrderProduct_NotFound() {
-        when(orderProductRepository.findById(opid)).thenReturn(Optional.empty());
+        when(orderProductRepository.findDTOById(opid)).thenReturn(Optional.empty());
 
         assertThrows(OrderProductNotFoundException.class, () -> orderProductService.getOrderProduct(opid));
     }
@@ -1,19 +1,29 @@
 package com.demo.Service.Order;
 import com.demo.DTO.Order.OrderDTO;
+import com.demo.DTO.Order.OrderRepriceDTO;
 import com.demo.Entity.Order.Order;
 import com.demo.Enum.Order.OrderStatus;
+import com.demo.Exception.Order.InvalidOrderStatusTransitionException;
 import com.demo.Exception.Order.OrderNotFoundException;
+import com.demo.Exception.Order.OrderUpdateConflictException;
 import com.demo.Repository.Order.OrderRepository;
+import com.demo.Service.Analytics.AnalyticsAggregator;
+import com.demo.Util.Export.NdjsonWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import com.demo.Util.Pagination.CursorRequest;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -23,6 +33,18 @@ public class OrderServiceImplTest
     @Mock
     private OrderRepository orderRepository; //Mocking the OrderRepository dependency
 
+    @Mock
+    private NdjsonWriter ndjsonWriter;       //Mocking the NDJSON writer used by the export
+
+    @Mock
+    private OrderPricingEngine orderPricingEngine; //Mocked order pricing engine
+
+    @Mock
+    private AnalyticsAggregator analyticsAggregator; //Mocked aggregator, evicted on every write
+
+    @Mock
+    private OrderStatusCounters orderStatusCounters; //Mocked live status counters
+
     @InjectMocks
     private OrderServiceImpl orderService;  //Injecting the mocks into the OrderServiceImpl
 
@@ -60,22 +82,93 @@ public class OrderServiceImplTest
     @Test   //Test Case: Get All Orders (Positive Test Case)
     void testGetOrders_Success() 
     {
-        //Mocking orderRepository.findAll() to return a list with one order
-        when(orderRepository.findAll()).thenReturn(List.of(order));
-        List<OrderDTO> orders = orderService.getOrders();   //Calling the method to test
+        //Mocking the keyset query on orderRepository to return a list with one order
+        when(orderRepository.findBy(any(Specification.class), any())).thenReturn(List.of(order));
+        List<OrderDTO> orders = orderService.getOrders(CursorRequest.firstPage()).getItems();   //Calling the method to test
         assertFalse(orders.isEmpty());                      //Ensuring the list of orders is not empty
         assertEquals(1, orders.size());             //Ensuring the size of the list is correct
     }
 
+    @Test   //Test Case: Export Orders (Positive Test Case)
+    @SuppressWarnings("unchecked")
+    void testExportOrders_StreamsAndClosesCursor() throws Exception 
+    {
+        //Mocking the streaming query and recording whether the stream (JDBC cursor) gets closed
+        boolean[] closed = {false};
+        Stream<Order> rows = Stream.of(order).onClose(() -> closed[0] = true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(orderRepository.streamAfter(5L)).thenReturn(rows);
+        when(ndjsonWriter.write(eq(rows), any(Function.class), eq(out))).thenReturn(1L);
+
+        assertEquals(1L, orderService.exportOrders(5L, out));  //Calling the method to test, resuming after order 5
+        assertTrue(closed[0]);                                  //Ensuring the cursor is released once the export is done
+    }
+
     @Test   //Test Case: Partial Update Order (Positive Test Case)
     void testPartialUpdateOrder_Success() 
     {
-        //Mocking the behavior when an order is found and saved with new details
+        //Mocking the behavior when an order is found and the compare-and-set on its version applies
         when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderRepository.compareAndSet(eq(1L), eq(0L), eq(OrderStatus.PENDING.predecessors()), eq(OrderStatus.PENDING), eq(BigDecimal.valueOf(100.00)))).thenReturn(1);
         OrderDTO updatedOrder = orderService.partialUpdateOrder(1L, orderDTO);  //Calling the method to test
         assertNotNull(updatedOrder);                                                //Ensuring the updatedOrder is not null
         assertEquals(OrderStatus.PENDING, updatedOrder.getOrderStatus());           //Ensuring the status is updated correctly
+        assertEquals(1L, updatedOrder.getVersion());                                //Ensuring the new version is returned
+    }
+
+    @Test   //Test Case: Status counters follow creates, status changes and deletes (Positive Test Case)
+    void testStatusCounters_FollowWrites() 
+    {
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        orderService.createOrder(orderDTO);
+        verify(orderStatusCounters).orderCreated(OrderStatus.PENDING);
+
+        //The status is read before the update is applied
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.compareAndSet(eq(1L), eq(0L), any(), eq(OrderStatus.PROCESSING), isNull())).thenReturn(1);
+        orderService.partialUpdateOrder(1L, OrderDTO.builder().orderStatus(OrderStatus.PROCESSING).build());
+        verify(orderStatusCounters).statusChanged(OrderStatus.PENDING, OrderStatus.PROCESSING);
+
+        order.setOrderStatus(OrderStatus.PROCESSING);   //As the database now holds it
+        orderService.deleteOrder(1L);
+        verify(orderStatusCounters).orderDeleted(OrderStatus.PROCESSING);
+    }
+
+    @Test   //Test Case: A status the order cannot move to is rejected before any update (Negative Test Case)
+    void testPartialUpdateOrder_InvalidTransition() 
+    {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        assertThrows(InvalidOrderStatusTransitionException.class, () -> orderService.partialUpdateOrder(1L, OrderDTO.builder().orderStatus(OrderStatus.REFUNDED).build()));
+        verify(orderRepository, never()).compareAndSet(any(), anyLong(), any(), any(), any());
+    }
+
+    @Test   //Test Case: A lost compare-and-set is tried again from a fresh read, up to the attempt limit (Positive and Negative Test Case)
+    void testPartialUpdateOrder_RetriesThenConflicts() 
+    {
+        Order moved = new Order(1L, BigDecimal.valueOf(100.00), OrderStatus.PROCESSING, LocalDateTime.now(), 4L);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order), Optional.of(moved));
+        when(orderRepository.compareAndSet(eq(1L), eq(0L), any(), any(), any())).thenReturn(0);
+        when(orderRepository.compareAndSet(eq(1L), eq(4L), any(), any(), any())).thenReturn(0, 1);
+
+        //Another writer moved the order to PROCESSING, version 4, between the first read and the update; staying there is allowed, so it is tried again
+        OrderDTO updated = orderService.partialUpdateOrder(1L, OrderDTO.builder().orderStatus(OrderStatus.PROCESSING).build());
+        assertEquals(5L, updated.getVersion());
+
+        //Every attempt lost: the client gets a conflict
+        when(orderRepository.compareAndSet(eq(1L), eq(4L), any(), any(), any())).thenReturn(0);
+        assertThrows(OrderUpdateConflictException.class, () -> orderService.partialUpdateOrder(1L, OrderDTO.builder().orderStatus(OrderStatus.PACKING).build()));
+        verify(orderRepository, times(6)).findById(1L);
+    }
+
+    @Test   //Test Case: A client sending a stale version gets a conflict at once (Negative Test Case)
+    void testPartialUpdateOrder_StaleClientVersion() 
+    {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.compareAndSet(eq(1L), eq(7L), any(), any(), any())).thenReturn(0);
+
+        assertThrows(OrderUpdateConflictException.class, () -> orderService.partialUpdateOrder(1L, OrderDTO.builder().orderStatus(OrderStatus.PROCESSING).version(7L).build()));
+        verify(orderRepository, times(1)).findById(1L);
     }
 
     @Test   //Test Case: Delete Order (Positive Test Case)
@@ -118,4 +211,32 @@ public class OrderServiceImplTest
         //Asserting that OrderNotFoundException is thrown
         assertThrows(OrderNotFoundException.class, () -> orderService.deleteOrder(2L));
     }
-}
\ No newline at end of file
+
+    @Test   //Test Case: Partial Update Order keeps the computed total of an order with lines (Positive Test Case)
+    void testPartialUpdateOrder_WithLines_KeepsComputedTotal() 
+    {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.compareAndSet(eq(1L), eq(0L), any(), isNull(), isNull())).thenReturn(1);
+        when(orderPricingEngine.hasLines(1L)).thenReturn(true);
+
+        orderService.partialUpdateOrder(1L, OrderDTO.builder().totalPrice(new BigDecimal("1.00")).build());
+
+        assertEquals(BigDecimal.valueOf(100.00), order.getTotalPrice());    //The client's total was ignored
+    }
+
+    @Test   //Test Case: Reprice Orders delegates to the pricing engine (Positive Test Case)
+    void testRepriceOrders_Success() 
+    {
+        OrderRepriceDTO result = OrderRepriceDTO.builder().requested(2).repriced(1).unchanged(1).build();
+        when(orderPricingEngine.reprice(List.of(1L, 2L))).thenReturn(result);
+
+        assertSame(result, orderService.repriceOrders(List.of(1L, 2L)));
+    }
+
+    @Test   //Test Case: Reprice Orders rejects a missing list (Negative Test Case)
+    void testRepriceOrders_NullList() 
+    {
+        assertThrows(IllegalArgumentException.class, () -> orderService.repriceOrders(null));
+        verifyNoInteractions(orderPricingEngine);
+    }
+}
@@ -0,0 +1,132 @@
+package com.demo.Service.Order;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Repository.Order.OrderRepository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)                     //Using Mockito extension for mocking
+class OrderStatusCountersTest
+{
+    @Mock
+    private OrderRepository orderRepository;            //Mocking the repository the counts are reconciled against
+
+    @InjectMocks
+    private OrderStatusCounters orderStatusCounters;    //Injecting mocks into the counters
+
+    @Test
+    void testCounts_ListEveryStatus()
+    {
+        //Statuses without orders are reported as zero
+        assertEquals(OrderStatus.values().length, orderStatusCounters.counts().size());
+        assertEquals(0L, orderStatusCounters.counts().get(OrderStatus.REFUNDED));
+    }
+
+    @Test
+    void testWrites_MoveOrdersBetweenCounters()
+    {
+        //Without a transaction the changes apply at once
+        orderStatusCounters.orderCreated(OrderStatus.NEW);
+        orderStatusCounters.orderCreated(OrderStatus.NEW);
+        orderStatusCounters.statusChanged(OrderStatus.NEW, OrderStatus.PACKED);
+        orderStatusCounters.statusChanged(OrderStatus.PACKED, OrderStatus.PACKED);
+        orderStatusCounters.orderDeleted(OrderStatus.NEW);
+
+        assertEquals(0L, orderStatusCounters.counts().get(OrderStatus.NEW));
+        assertEquals(1L, orderStatusCounters.counts().get(OrderStatus.PACKED));
+    }
+
+    @Test
+    void testReconcile_CorrectsDrift()
+    {
+        //The counters are moved to the database's counts, statuses missing from the GROUP BY drop to zero
+        orderStatusCounters.orderCreated(OrderStatus.NEW);
+        orderStatusCounters.orderCreated(OrderStatus.CANCELLED);
+        when(orderRepository.countByOrderStatus()).thenReturn(List.of(new Object[] {OrderStatus.NEW, 5L}, new Object[] {OrderStatus.DELIVERED, 2L}));
+
+        orderStatusCounters.seed();
+
+        assertEquals(5L, orderStatusCounters.counts().get(OrderStatus.NEW));
+        assertEquals(2L, orderStatusCounters.counts().get(OrderStatus.DELIVERED));
+        assertEquals(0L, orderStatusCounters.counts().get(OrderStatus.CANCELLED));
+    }
+
+    @Test
+    void testReconcile_SkippedWhenOrdersMoveMeanwhile()
+    {
+        //An order created while the table is counted leaves the counters for the next round
+        when(orderRepository.countByOrderStatus()).thenAnswer(invocation ->
+        {
+            orderStatusCounters.orderCreated(OrderStatus.NEW);
+            return List.<Object[]>of(new Object[] {OrderStatus.NEW, 7L});
+        });
+
+        orderStatusCounters.reconcile();
+
+        assertEquals(1L, orderStatusCounters.counts().get(OrderStatus.NEW));
+    }
+
+    @Test
+    void testReconcile_SkippedWhileCommitCallbackPending()
+    {
+        //The GROUP BY already sees a committed status change whose callback has not run, so the round must not count it as drift
+        orderStatusCounters.orderCreated(OrderStatus.NEW);
+        when(orderRepository.countByOrderStatus()).thenReturn(List.<Object[]>of(new Object[] {OrderStatus.PACKED, 1L}));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try
+        {
+            orderStatusCounters.statusChanged(OrderStatus.NEW, OrderStatus.PACKED);
+            orderStatusCounters.reconcile();
+
+            assertEquals(1L, orderStatusCounters.counts().get(OrderStatus.NEW));
+            assertEquals(0L, orderStatusCounters.counts().get(OrderStatus.PACKED));
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations())
+            {
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        }
+
+        finally
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        orderStatusCounters.reconcile();     //Nothing in flight any more, and nothing left to correct
+
+        assertEquals(0L, orderStatusCounters.counts().get(OrderStatus.NEW));
+        assertEquals(1L, orderStatusCounters.counts().get(OrderStatus.PACKED));
+    }
+
+    @Test
+    void testReconcile_RunsAgainAfterRollback()
+    {
+        //A rolled back change is no longer in flight, the next round reconciles again
+        when(orderRepository.countByOrderStatus()).thenReturn(List.<Object[]>of(new Object[] {OrderStatus.NEW, 3L}));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try
+        {
+            orderStatusCounters.orderCreated(OrderStatus.NEW);
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        }
+
+        finally
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        orderStatusCounters.reconcile();
+
+        assertEquals(3L, orderStatusCounters.counts().get(OrderStatus.NEW));
+    }
+}
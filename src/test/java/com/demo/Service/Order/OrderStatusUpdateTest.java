@@ -0,0 +1,87 @@
+package com.demo.Service.Order;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import com.demo.DTO.Order.OrderDTO;
+import com.demo.Entity.Order.Order;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Exception.Order.InvalidOrderStatusTransitionException;
+import com.demo.Exception.Order.OrderUpdateConflictException;
+import com.demo.Interface.Order.OrderService;
+import com.demo.Repository.Order.OrderRepository;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest //Runs the compare-and-set against the application's own database
+@AutoConfigureMockMvc   //PATCH requests go through the MVC stack, with the EntityManager kept open for the whole request
+public class OrderStatusUpdateTest
+{
+    @Autowired private OrderService orderService;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private MockMvc mockMvc;
+    @MockitoSpyBean private OrderPricingEngine orderPricingEngine;   //Lets another writer slip in between the read and the compare-and-set
+
+    @Test   //Test Case: Every update moves the version on, and an update of a version that moved on is a conflict (Positive and Negative Test Case)
+    void testPartialUpdate_ComparesAndSetsTheVersion()
+    {
+        OrderDTO created = orderService.createOrder(OrderDTO.builder().totalPrice(new BigDecimal("5.00")).orderStatus(OrderStatus.NEW).build());
+        assertEquals(0L, created.getVersion());
+
+        OrderDTO processing = orderService.partialUpdateOrder(created.getOid(), OrderDTO.builder().orderStatus(OrderStatus.PROCESSING).version(0L).build());
+        assertEquals(1L, processing.getVersion());
+
+        assertThrows(OrderUpdateConflictException.class, () -> orderService.partialUpdateOrder(created.getOid(), OrderDTO.builder().totalPrice(new BigDecimal("6.00")).version(0L).build()));
+
+        OrderDTO repriced = orderService.partialUpdateOrder(created.getOid(), OrderDTO.builder().totalPrice(new BigDecimal("6.00")).build());
+        assertEquals(2L, repriced.getVersion());
+        assertEquals(OrderStatus.PROCESSING, repriced.getOrderStatus());
+
+        Order stored = orderRepository.findById(created.getOid()).orElseThrow();
+        assertEquals(2L, stored.getVersion());
+        assertEquals(OrderStatus.PROCESSING, stored.getOrderStatus());
+        assertEquals(0, new BigDecimal("6.00").compareTo(stored.getTotalPrice()));
+    }
+
+    @Test   //Test Case: A status outside the transition table is rejected and leaves the order alone (Negative Test Case)
+    void testPartialUpdate_RejectsInvalidTransition()
+    {
+        OrderDTO created = orderService.createOrder(OrderDTO.builder().totalPrice(new BigDecimal("5.00")).orderStatus(OrderStatus.NEW).build());
+
+        assertThrows(InvalidOrderStatusTransitionException.class, () -> orderService.partialUpdateOrder(created.getOid(), OrderDTO.builder().orderStatus(OrderStatus.REFUNDED).build()));
+        assertEquals(0L, orderRepository.findById(created.getOid()).orElseThrow().getVersion());
+    }
+
+    @Test   //Test Case: A PATCH that loses its compare-and-set to another writer reads the order again and applies to the new version (Positive Test Case)
+    void testPartialUpdate_RetriesOnFreshRead() throws Exception
+    {
+        Long oid = orderService.createOrder(OrderDTO.builder().totalPrice(new BigDecimal("5.00")).orderStatus(OrderStatus.NEW).build()).getOid();
+        AtomicBoolean raced = new AtomicBoolean();
+
+        //The first attempt checks for lines after reading the order: the other writer moves the version on right then, once
+        doAnswer(invocation ->
+        {
+            if (raced.compareAndSet(false, true))
+                jdbcTemplate.update("update orders set version = version + 1 where oid = ?", oid);
+
+            return invocation.callRealMethod();
+        }).when(orderPricingEngine).hasLines(oid);
+
+        mockMvc.perform(patch("/orders/" + oid).contentType(MediaType.APPLICATION_JSON).content("{\"totalPrice\": 6.00}"))
+        .andExpect(status().isOk()).andExpect(jsonPath("$.version").value(2));
+
+        Order stored = orderRepository.findById(oid).orElseThrow();
+        assertEquals(2L, stored.getVersion());
+        assertEquals(0, new BigDecimal("6.00").compareTo(stored.getTotalPrice()));
+    }
+}
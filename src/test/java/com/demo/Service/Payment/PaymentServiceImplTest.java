@@ -6,6 +6,7 @@ import com.demo.Enum.Payment.PaymentStatus;
 import com.demo.Exception.CustomValidationException;
 import com.demo.Exception.Payment.PaymentNotFoundException;
 import com.demo.Repository.Payment.PaymentRepository;
+import com.demo.Service.Analytics.AnalyticsAggregator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +25,9 @@ public class PaymentServiceImplTest
     @Mock
     private PaymentRepository paymentRepository;    //Mock the PaymentRepository for test isolation
 
+    @Mock
+    private AnalyticsAggregator analyticsAggregator; //Mocked aggregator, evicted on every write
+
     @InjectMocks
     private PaymentServiceImpl paymentService;      //Inject the mocked repository into the service
 
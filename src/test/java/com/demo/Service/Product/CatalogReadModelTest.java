@@ -0,0 +1,89 @@
+package com.demo.Service.Product;
+
+import com.demo.DTO.Product.ProductCategoryDTO;
+import com.demo.DTO.Product.ProductInventoryDTO;
+import com.demo.DTO.Product.ProductViewDTO;
+import com.demo.Util.Money.Money;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Changes outside a transaction are applied straight away, so the model can be driven without a database
+public class CatalogReadModelTest {
+
+    private CatalogReadModel catalogReadModel;
+
+    @BeforeEach
+    public void setUp() {
+        catalogReadModel = new CatalogReadModel(null, null, null, null, null, null);
+        catalogReadModel.productSaved(1L, "Laptop", Money.of("1200.00"));
+        catalogReadModel.productSaved(2L, "Smartphone", Money.of("800.00"));
+        catalogReadModel.categorySaved(10L, "Electronics");
+        catalogReadModel.categorySaved(11L, "Computers");
+        catalogReadModel.productCategorySaved(new ProductCategoryDTO(100L, 1L, 10L));
+        catalogReadModel.productCategorySaved(new ProductCategoryDTO(101L, 1L, 11L));
+        catalogReadModel.productCategorySaved(new ProductCategoryDTO(102L, 2L, 10L));
+        catalogReadModel.stockSaved(5L, 30);
+        catalogReadModel.stockSaved(6L, 12);
+        catalogReadModel.productInventorySaved(new ProductInventoryDTO(200L, 1L, 5L));
+        catalogReadModel.productInventorySaved(new ProductInventoryDTO(201L, 1L, 6L));
+    }
+
+    @Test
+    public void testViewJoinsCategoriesAndStock() {
+        ProductViewDTO laptop = catalogReadModel.find(1L).orElseThrow();
+
+        assertEquals("Laptop", laptop.getProductName());
+        assertEquals(List.of("Electronics", "Computers"), laptop.getCategoryNames());
+        assertEquals(42, laptop.getTotalStock());
+        assertEquals(0, catalogReadModel.find(2L).orElseThrow().getTotalStock());
+    }
+
+    @Test
+    public void testIncrementalUpdates() {
+        catalogReadModel.categorySaved(10L, "Gadgets");
+        catalogReadModel.stockShifted(5L, -10);
+        catalogReadModel.productInventoryDeleted(201L);
+
+        ProductViewDTO laptop = catalogReadModel.find(1L).orElseThrow();
+        assertEquals(List.of("Gadgets", "Computers"), laptop.getCategoryNames());
+        assertEquals(20, laptop.getTotalStock());
+        assertEquals("Gadgets", catalogReadModel.find(2L).orElseThrow().getCategoryNames().get(0));
+    }
+
+    @Test
+    public void testFilterByCategory() {
+        assertEquals(List.of(1L, 2L), pids(catalogReadModel.slice(10L, 0L, 10, false)));
+        assertEquals(List.of(1L), pids(catalogReadModel.slice(11L, 0L, 10, false)));
+
+        catalogReadModel.productCategoryDeleted(101L);
+        catalogReadModel.productDeleted(2L);
+
+        assertTrue(catalogReadModel.slice(11L, 0L, 10, false).isEmpty());
+        assertEquals(List.of(1L), pids(catalogReadModel.slice(10L, 0L, 10, false)));
+        assertTrue(catalogReadModel.find(2L).isEmpty());
+    }
+
+    @Test
+    public void testCatalogPages() {
+        CatalogServiceImpl catalogService = new CatalogServiceImpl(catalogReadModel);
+
+        CursorPage<ProductViewDTO> first = catalogService.getCatalog(null, CursorRequest.of(null, 1, null));
+        CursorPage<ProductViewDTO> second = catalogService.getCatalog(null, CursorRequest.of(first.getNextCursor(), 1, null));
+        CursorPage<ProductViewDTO> descending = catalogService.getCatalog(10L, CursorRequest.of(null, 5, "-pid"));
+
+        assertEquals(List.of(1L), pids(first.getItems()));
+        assertEquals(List.of(2L), pids(second.getItems()));
+        assertNull(second.getNextCursor());
+        assertEquals(List.of(2L, 1L), pids(descending.getItems()));
+    }
+
+    private static List<Long> pids(List<ProductViewDTO> views) {
+        return views.stream().map(ProductViewDTO::getPid).toList();
+    }
+}
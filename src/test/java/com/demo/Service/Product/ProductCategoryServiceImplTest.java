@@ -16,6 +16,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import com.demo.Util.Pagination.CursorRequest;
 
 import java.util.Optional;
 import java.util.Collections;
@@ -36,6 +38,9 @@ public class ProductCategoryServiceImplTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CatalogReadModel catalogReadModel;
+
     @InjectMocks
     private ProductCategoryServiceImpl productCategoryService;
 
@@ -87,8 +92,7 @@ public class ProductCategoryServiceImplTest {
 
     @Test
     public void testGetProductCategoryPositive() {
-        ProductCategory category = new ProductCategory(1L, 2L, 3L);
-        when(productCategoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(productCategoryRepository.findDTOById(1L)).thenReturn(Optional.of(new ProductCategoryDTO(1L, 2L, 3L)));
 
         ProductCategoryDTO result = productCategoryService.getProductCategory(1L);
 
@@ -100,7 +104,7 @@ public class ProductCategoryServiceImplTest {
 
     @Test
     public void testGetProductCategoryNegative() {
-        when(productCategoryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(productCategoryRepository.findDTOById(1L)).thenReturn(Optional.empty());
 
         ProductCategoryNotFoundException exception = assertThrows(ProductCategoryNotFoundException.class, () -> {
             productCategoryService.getProductCategory(1L);
@@ -173,9 +177,9 @@ public class ProductCategoryServiceImplTest {
 
     @Test
     public void testGetProductCategories_EmptyList() {
-        when(productCategoryRepository.findAll()).thenReturn(Collections.emptyList());
+        when(productCategoryRepository.findDTOsAfter(eq(0L), any(Limit.class))).thenReturn(Collections.emptyList());
 
-        List<ProductCategoryDTO> result = productCategoryService.getProductCategories();
+        List<ProductCategoryDTO> result = productCategoryService.getProductCategories(CursorRequest.firstPage()).getItems();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
@@ -183,12 +187,12 @@ public class ProductCategoryServiceImplTest {
 
     @Test
     public void testGetProductCategories_NonEmptyList() {
-        ProductCategory category1 = new ProductCategory(1L, 2L, 3L);
-        ProductCategory category2 = new ProductCategory(2L, 4L, 5L);
+        ProductCategoryDTO category1 = new ProductCategoryDTO(1L, 2L, 3L);
+        ProductCategoryDTO category2 = new ProductCategoryDTO(2L, 4L, 5L);
 
-        when(productCategoryRepository.findAll()).thenReturn(List.of(category1, category2));
+        when(productCategoryRepository.findDTOsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(category1, category2));
 
-        List<ProductCategoryDTO> result = productCategoryService.getProductCategories();
+        List<ProductCategoryDTO> result = productCategoryService.getProductCategories(CursorRequest.firstPage()).getItems();
 
         assertEquals(2, result.size());
     }
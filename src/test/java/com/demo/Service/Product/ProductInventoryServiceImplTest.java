@@ -13,6 +13,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import com.demo.Util.Pagination.CursorRequest;
+import com.demo.Util.Versioning.ResourceVersions;
+import com.demo.Util.Versioning.VersionedResource;
 import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +37,12 @@ public class ProductInventoryServiceImplTest
     @Mock
     private InventoryRepository inventoryRepository;            //Mocks the Inventory repository
 
+    @Mock
+    private CatalogReadModel catalogReadModel;                  //Mocks the catalog read model
+
+    @Mock
+    private ResourceVersions resourceVersions;                  //Mocks the version stamps
+
     private Product product;                                          //Test object for Product
     private Inventory inventory;                                //Test object for Inventory
     private ProductInventory productInventory;                        //Test object for ProductInventory
@@ -101,8 +111,8 @@ public class ProductInventoryServiceImplTest
     @Test
     void testGetProductInventory() 
     {
-        //Mocking repository to return a ProductInventory
-        when(productInventoryRepository.findById(100L)).thenReturn(Optional.of(productInventory));
+        //Mocking repository to return the ProductInventory projection
+        when(productInventoryRepository.findDTOById(100L)).thenReturn(Optional.of(new ProductInventoryDTO(100L, product.getPid(), inventory.getSid())));
 
         //Calling the service method to retrieve ProductInventory
         ProductInventoryDTO found = productInventoryService.getProductInventory(100L);
@@ -113,31 +123,32 @@ public class ProductInventoryServiceImplTest
         assertEquals(product.getPid(), found.getPid());        //Check Product ID
         assertEquals(inventory.getSid(), found.getSid());   //Check Inventory ID
 
-        //Verifying that the repository's findById method was called
-        verify(productInventoryRepository).findById(100L);
+        //Verifying that the repository's projection query was called and no entity was loaded
+        verify(productInventoryRepository).findDTOById(100L);
+        verify(productInventoryRepository, never()).findById(anyLong());
     }
 
     @Test
     void testGetProductInventory_ProductInventoryNotFound() 
     {
         //Mocking repository to return empty for non-existent ProductInventory
-        when(productInventoryRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(productInventoryRepository.findDTOById(anyLong())).thenReturn(Optional.empty());
 
         //Asserting that the method throws ProductInventoryNotFoundException when productInventory is not found
         assertThrows(ProductInventoryNotFoundException.class, () -> productInventoryService.getProductInventory(999L));
 
-        //Verifying that the repository's findById method was called
-        verify(productInventoryRepository).findById(anyLong());
+        //Verifying that the repository's projection query was called
+        verify(productInventoryRepository).findDTOById(anyLong());
     }
 
     @Test
     void testGetProductInventories() 
     {
         //Mocking repository to return a list containing the productInventory
-        when(productInventoryRepository.findAll()).thenReturn(List.of(productInventory));
+        when(productInventoryRepository.findDTOsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(new ProductInventoryDTO(100L, product.getPid(), inventory.getSid())));
 
         //Calling the service method to retrieve all ProductInventories
-        List<ProductInventoryDTO> list = productInventoryService.getProductInventories();
+        List<ProductInventoryDTO> list = productInventoryService.getProductInventories(CursorRequest.firstPage()).getItems();
 
         //Verifying the result is not empty and contains the expected productInventory
         assertNotNull(list);
@@ -145,8 +156,8 @@ public class ProductInventoryServiceImplTest
         assertEquals(1, list.size());                   //Only one productInventory should be in the list
         assertEquals(100L, list.get(0).getPsid());  //Check siid
 
-        //Verifying that the repository's findAll method was called
-        verify(productInventoryRepository).findAll();
+        //Verifying that the repository's projection query was called
+        verify(productInventoryRepository).findDTOsAfter(0L, Limit.of(CursorRequest.DEFAULT_LIMIT + 1));
     }
 
     @Test
@@ -200,6 +211,10 @@ public class ProductInventoryServiceImplTest
 
         //Verifying that the repository's delete method was called
         verify(productInventoryRepository).delete(any(ProductInventory.class));
+
+        //The removal cascades to the product and the inventory, so both get a new version stamp
+        verify(resourceVersions).changed(VersionedResource.PRODUCTS, 1L);
+        verify(resourceVersions).changed(VersionedResource.INVENTORIES, 1L);
     }
 
     @Test
@@ -12,8 +12,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
-import java.math.BigDecimal;
+import com.demo.Util.Money.Money;
 import java.util.Optional;
+import com.demo.Service.Order.OrderPricingEngine;
+import com.demo.Util.Versioning.ResourceVersions;
 
 @ExtendWith(MockitoExtension.class)
 public class ProductServiceImplTest 
@@ -21,6 +23,15 @@ public class ProductServiceImplTest
     @Mock
     private ProductRepository productRepository; //Mocked ProductRepository
 
+    @Mock
+    private CatalogReadModel catalogReadModel; //Mocked catalog read model
+
+    @Mock
+    private OrderPricingEngine orderPricingEngine; //Mocked order pricing engine
+
+    @Mock
+    private ResourceVersions resourceVersions; //Mocked version stamps
+
     @InjectMocks
     private ProductServiceImpl productService; //The service we are testing
 
@@ -30,14 +41,14 @@ public class ProductServiceImplTest
     public void setUp() 
     {
         //Initialize a sample product DTO for testing
-        productDTO = new ProductDTO(1L, "Laptop", new BigDecimal("1200.00"));
+        productDTO = new ProductDTO(1L, "Laptop", Money.of("1200.00"));
     }
 
     @Test   //Positive Test Case for createProduct
     public void testCreateProduct() 
     {
         //Given
-        Product product = new Product(1L, "Laptop", new BigDecimal("1200.00"));
+        Product product = new Product(1L, "Laptop", Money.of("1200.00"));
         when(productRepository.save(any(Product.class))).thenReturn(product);                    //Mocking the save operation
 
         //When
@@ -46,7 +57,7 @@ public class ProductServiceImplTest
         //Then
         assertNotNull(createdProduct);
         assertEquals("Laptop", createdProduct.getProductName());
-        assertEquals(new BigDecimal("1200.00"), createdProduct.getUnitPrice());
+        assertEquals(Money.of("1200.00"), createdProduct.getUnitPrice());
         verify(productRepository, times(1)).save(any(Product.class)); //Verifying that save was called once
     }
 
@@ -69,7 +80,7 @@ public class ProductServiceImplTest
     public void testGetProduct() 
     {
         //Given
-        Product product = new Product(1L, "Laptop", new BigDecimal("1200.00"));
+        Product product = new Product(1L, "Laptop", Money.of("1200.00"));
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));    //Mocking findById
 
         //When
@@ -78,15 +89,15 @@ public class ProductServiceImplTest
         //Then
         assertNotNull(foundProduct);
         assertEquals("Laptop", foundProduct.getProductName());
-        assertEquals(new BigDecimal("1200.00"), foundProduct.getUnitPrice());
+        assertEquals(Money.of("1200.00"), foundProduct.getUnitPrice());
     }
 
     @Test   //Positive Test Case for partialUpdateProduct
     public void testPartialUpdateProduct() 
     {
         //Given
-        Product existingProduct = new Product(1L, "Laptop", new BigDecimal("1200.00"));
-        ProductDTO updatedProductDTO = new ProductDTO(1L, "Gaming Laptop", new BigDecimal("1500.00"));
+        Product existingProduct = new Product(1L, "Laptop", Money.of("1200.00"));
+        ProductDTO updatedProductDTO = new ProductDTO(1L, "Gaming Laptop", Money.of("1500.00"));
         when(productRepository.findById(1L)).thenReturn(Optional.of(existingProduct));
         when(productRepository.save(any(Product.class))).thenReturn(existingProduct);
 
@@ -96,7 +107,7 @@ public class ProductServiceImplTest
         //Then
         assertNotNull(updatedProduct);
         assertEquals("Gaming Laptop", updatedProduct.getProductName());           //Product name should be updated
-        assertEquals(new BigDecimal("1500.00"), updatedProduct.getUnitPrice());    //Unit price should be updated
+        assertEquals(Money.of("1500.00"), updatedProduct.getUnitPrice());    //Unit price should be updated
     }
 
     @Test   //Negative Test Case for partialUpdateProduct (Product Not Found)
@@ -118,7 +129,7 @@ public class ProductServiceImplTest
     public void testDeleteProduct() 
     {
         //Given
-        Product product = new Product(1L, "Laptop", new BigDecimal("1200.00"));
+        Product product = new Product(1L, "Laptop", Money.of("1200.00"));
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
 
         //When
@@ -0,0 +1,78 @@
+package com.demo.Service;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import com.demo.Entity.DeletedID;
+import com.demo.Repository.DeletedIdRepository;
+
+@ExtendWith(MockitoExtension.class)                     //Using Mockito extension for mocking
+class TombstoneIndexTest
+{
+    @Mock
+    private DeletedIdRepository deletedIdRepository;    //Mocking the repository the index is loaded from
+
+    @InjectMocks
+    private TombstoneIndex tombstoneIndex;              //Injecting mocks into the index
+
+    @Test
+    void testRebuild_LoadsEveryBatch()
+    {
+        //A full first batch makes the index read on after its last primary key
+        List<DeletedID> first = LongStream.rangeClosed(1, 10_000).mapToObj(id -> DeletedID.builder().id(id).deletedId(id * 2).entityType("Order").build()).toList();
+        List<DeletedID> second = List.of(DeletedID.builder().id(10_001L).deletedId(5L).entityType("Payment").build());
+        when(deletedIdRepository.findByIdGreaterThanOrderById(0L, Limit.of(10_000))).thenReturn(first);
+        when(deletedIdRepository.findByIdGreaterThanOrderById(10_000L, Limit.of(10_000))).thenReturn(second);
+
+        tombstoneIndex.rebuild();
+
+        assertEquals(Map.of("Order", 10_000L, "Payment", 1L), tombstoneIndex.counts());
+        assertTrue(tombstoneIndex.isDeleted("Order", 20_000L));
+        assertFalse(tombstoneIndex.isDeleted("Order", 5L));
+        assertTrue(tombstoneIndex.isDeleted("Payment", 5L));
+    }
+
+    @Test
+    void testRebuild_ReplacesPreviousState()
+    {
+        //Tombstones added before a rebuild are dropped when the table no longer has them
+        tombstoneIndex.tombstoneSaved("Order", 1L);
+        when(deletedIdRepository.findByIdGreaterThanOrderById(0L, Limit.of(10_000))).thenReturn(List.of());
+
+        tombstoneIndex.rebuild();
+
+        assertFalse(tombstoneIndex.isDeleted("Order", 1L));
+        assertTrue(tombstoneIndex.counts().isEmpty());
+    }
+
+    @Test
+    void testSavedAndRemoved_OutsideTransaction()
+    {
+        //Without a transaction the changes apply at once
+        tombstoneIndex.tombstoneSaved("Item", 42L);
+        assertTrue(tombstoneIndex.isDeleted("Item", 42L));
+        assertFalse(tombstoneIndex.isDeleted("Order", 42L));
+
+        tombstoneIndex.tombstoneRemoved("Item", 42L);
+        assertFalse(tombstoneIndex.isDeleted("Item", 42L));
+    }
+
+    @Test
+    void testDeletedAmong_IntersectsWithTheType()
+    {
+        //Only the candidates with a tombstone of that type are returned, in ascending order
+        tombstoneIndex.tombstoneSaved("Order", 9L);
+        tombstoneIndex.tombstoneSaved("Order", 3L);
+        tombstoneIndex.tombstoneSaved("Payment", 5L);
+
+        assertArrayEquals(new long[] {3L, 9L}, tombstoneIndex.deletedAmong("Order", List.of(9L, 5L, 3L, 4L)));
+        assertArrayEquals(new long[0], tombstoneIndex.deletedAmong("Item", List.of(3L)));
+    }
+}
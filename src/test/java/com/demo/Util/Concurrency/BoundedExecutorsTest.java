@@ -0,0 +1,54 @@
+package com.demo.Util.Concurrency;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedExecutorsTest 
+{
+    @Test   //Test Case: A full pool runs the next task on the submitting thread instead of queueing it (Positive Test Case)
+    void testFullPool_CallerRuns() throws Exception 
+    {
+        ThreadPoolTaskExecutor executor = BoundedExecutors.create("test", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try 
+        {
+            executor.execute(() -> await(release));    //Takes the only thread
+            executor.execute(() -> await(release));    //Fills the queue
+            CompletableFuture<Thread> overflow = CompletableFuture.supplyAsync(Thread::currentThread, executor);
+            assertSame(Thread.currentThread(), overflow.get(5, TimeUnit.SECONDS));  //Ran on the caller, not queued
+        } 
+        
+        finally 
+        {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test   //Test Case: A shut down pool rejects a task instead of dropping it (Negative Test Case)
+    void testShutDown_Rejects() 
+    {
+        ThreadPoolTaskExecutor executor = BoundedExecutors.create("test", 1, 1);
+        executor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> CompletableFuture.supplyAsync(() -> 1, executor));
+    }
+
+    //Blocks a pool thread until the test lets it go
+    private static void await(CountDownLatch latch) 
+    {
+        try 
+        {
+            latch.await(5, TimeUnit.SECONDS);
+        } 
+        
+        catch (InterruptedException ex) 
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.demo.Util.DataLoader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.demo.Entity.Order.Order;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Service.Product.CatalogReadModel;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest //Writes into the application's own database, like the sample data loaders
+public class DatasetGeneratorTest
+{
+    @Autowired private DatasetGenerator datasetGenerator;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private CatalogReadModel catalogReadModel;
+
+    @Test   //Test Case: The scale factor sets the table volumes (Positive Test Case)
+    void testVolumes_ScaleFactor()
+    {
+        DatasetGenerator.Volumes volumes = DatasetGenerator.Volumes.of(1);
+
+        assertEquals(1_000, volumes.categories());
+        assertEquals(100_000, volumes.products());
+        assertEquals(150_000, volumes.inventories());
+        assertEquals(1_000_000, volumes.orders());
+        assertEquals(2_000_000, volumes.payments());
+        assertThrows(IllegalArgumentException.class, () -> DatasetGenerator.Volumes.of(0));
+    }
+
+    @Test   //Test Case: Every table gets its rows, links point at generated parents and Hibernate keeps handing out free IDs (Positive Test Case)
+    void testGenerate_WritesLinkedTables()
+    {
+        long ordersBefore = count("orders");
+        DatasetGenerator.Dataset dataset = datasetGenerator.generate(new DatasetGenerator.Volumes(5, 50, 20, 200), 7, 2);
+
+        assertEquals(ordersBefore + 200, count("orders"));
+        assertEquals(400, dataset.payments().count());
+        assertEquals(70, dataset.inventories().count());
+        assertEquals(400, dataset.orderPayments().count());
+        assertTrue(dataset.orderProducts().count() >= 200);
+        assertTrue(dataset.productCategories().count() >= 50);
+        assertEquals(dataset.orderProducts().count(), jdbcTemplate.queryForObject("select count(*) from order_product where oid between ? and ? and pid between ? and ?",
+        Long.class, dataset.orders().first(), dataset.orders().last(), dataset.products().first(), dataset.products().last()));
+
+        //An order's total is the price of its product and item lines
+        assertEquals(dataset.orderItems().count(), jdbcTemplate.queryForObject("select count(*) from order_item where oid between ? and ?",
+        Long.class, dataset.orders().first(), dataset.orders().last()));
+
+        for (long index = 0; index < 20; index++)
+        {
+            long oid = dataset.orders().get(index);
+            BigDecimal products = jdbcTemplate.queryForObject("select sum(p.unit_price) from order_product op join products p on p.pid = op.pid where op.oid = ?", BigDecimal.class, oid);
+            BigDecimal items = jdbcTemplate.queryForObject("select coalesce(sum(i.unit_price), 0) from order_item oi join items i on i.iid = oi.iid where oi.oid = ?", BigDecimal.class, oid);
+            BigDecimal total = jdbcTemplate.queryForObject("select total_price from orders where oid = ?", BigDecimal.class, oid);
+            assertEquals(0, total.compareTo(products.add(items)), "total of order " + oid);
+        }
+
+        assertTrue(catalogReadModel.find(dataset.products().last()).isPresent());
+
+        Order saved = orderRepository.saveAndFlush(Order.builder().totalPrice(BigDecimal.TEN).orderStatus(OrderStatus.NEW).orderDateTime(LocalDateTime.now()).build());
+        assertTrue(saved.getOid() < dataset.orders().first() || saved.getOid() > dataset.orders().last());
+    }
+
+    @Test   //Test Case: The same seed gives the same rows (Positive Test Case)
+    void testGenerate_Deterministic()
+    {
+        DatasetGenerator.Volumes volumes = new DatasetGenerator.Volumes(2, 10, 5, 20);
+        DatasetGenerator.Dataset first = datasetGenerator.generate(volumes, 11, 1);
+        DatasetGenerator.Dataset second = datasetGenerator.generate(volumes, 11, 3);
+
+        assertEquals(first.orderProducts().count(), second.orderProducts().count());
+        assertEquals(totals(first), totals(second));
+    }
+
+    private long count(String table)
+    {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    private BigDecimal totals(DatasetGenerator.Dataset dataset)
+    {
+        return jdbcTemplate.queryForObject("select sum(total_price) from orders where oid between ? and ?", BigDecimal.class, dataset.orders().first(), dataset.orders().last());
+    }
+}
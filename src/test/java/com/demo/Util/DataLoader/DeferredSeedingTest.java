@@ -0,0 +1,113 @@
+package com.demo.Util.DataLoader;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class) //Extension to enable Mockito in JUnit tests
+public class DeferredSeedingTest
+{
+    @Mock private ObjectProvider<DatasetGenerator> datasetGeneratorProvider;
+    @Mock private DatasetGenerator datasetGenerator;
+    @Mock private ObjectProvider<JdbcTemplate> jdbcTemplateProvider;
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    private final List<String> seeded = new CopyOnWriteArrayList<>();
+
+    @Test   //Test Case: Inline seeding leaves the loaders as they are (Positive Test Case)
+    void testInline_KeepsLoaders()
+    {
+        CommandLineRunner loader = new RecordingLoader("categories");
+
+        assertSame(loader, seeding("inline").postProcessAfterInitialization(loader, "categoryDataLoader"));
+    }
+
+    @Test   //Test Case: Background seeding runs the loaders in order off the main thread, then reloads the in-memory views (Positive Test Case)
+    void testBackground_RunsLoadersInOrderThenRebuilds() throws Exception
+    {
+        when(datasetGeneratorProvider.getObject()).thenReturn(datasetGenerator);
+        DeferredSeeding seeding = seeding("background");
+
+        ((CommandLineRunner) seeding.postProcessAfterInitialization(new RecordingLoader("categories"), "categoryDataLoader")).run();
+        ((CommandLineRunner) seeding.postProcessAfterInitialization(new RecordingLoader("products"), "productDataLoader")).run();
+        seeding.onApplicationEvent(mock(ApplicationReadyEvent.class));
+
+        verify(datasetGenerator, timeout(5_000)).reload();
+        assertEquals(List.of("categories on seeding", "products on seeding"), seeded);
+    }
+
+    @Test   //Test Case: Background seeding with no loaders still reloads the views, building the catalog read model it kept from building on ready (Positive Test Case)
+    void testBackground_NothingDeferred_BuildsCatalog()
+    {
+        when(datasetGeneratorProvider.getObject()).thenReturn(datasetGenerator);
+
+        seeding("background").onApplicationEvent(mock(ApplicationReadyEvent.class));
+
+        verify(datasetGenerator).reload();
+    }
+
+    @Test   //Test Case: Skipped seeding checks the database once and runs no loader when it already holds data (Negative Test Case)
+    void testSkip_SeededDatabase_RunsNothing() throws Exception
+    {
+        when(jdbcTemplateProvider.getObject()).thenReturn(jdbcTemplate);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(1);
+        DeferredSeeding seeding = seeding("skip");
+        Object other = new Object();
+
+        ((CommandLineRunner) seeding.postProcessAfterInitialization(new RecordingLoader("categories"), "categoryDataLoader")).run();
+        ((CommandLineRunner) seeding.postProcessAfterInitialization(new RecordingLoader("products"), "productDataLoader")).run();
+        seeding.onApplicationEvent(mock(ApplicationReadyEvent.class));
+
+        assertTrue(seeded.isEmpty());
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Integer.class));
+        verifyNoInteractions(datasetGeneratorProvider);
+        assertSame(other, seeding.postProcessAfterInitialization(other, "other"));
+        assertThrows(IllegalArgumentException.class, () -> seeding("later"));
+    }
+
+    @Test   //Test Case: Skipped seeding on an empty database runs every loader inline, even after the first one has written rows (Positive Test Case)
+    void testSkip_EmptyDatabase_RunsLoadersInline() throws Exception
+    {
+        when(jdbcTemplateProvider.getObject()).thenReturn(jdbcTemplate);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(0);
+        DeferredSeeding seeding = seeding("skip");
+        String main = Thread.currentThread().getName();
+
+        ((CommandLineRunner) seeding.postProcessAfterInitialization(new RecordingLoader("categories"), "categoryDataLoader")).run();
+        ((CommandLineRunner) seeding.postProcessAfterInitialization(new RecordingLoader("products"), "productDataLoader")).run();
+
+        assertEquals(List.of("categories on " + main, "products on " + main), seeded);
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Integer.class));
+    }
+
+    private DeferredSeeding seeding(String mode)
+    {
+        return new DeferredSeeding(new MockEnvironment().withProperty("dataset.seeding", mode), datasetGeneratorProvider, jdbcTemplateProvider);
+    }
+
+    //Data loader of this package that records which thread ran it
+    private class RecordingLoader implements CommandLineRunner
+    {
+        private final String table;
+
+        RecordingLoader(String table)
+        {
+            this.table = table;
+        }
+
+        @Override
+        public void run(String... args)
+        {
+            seeded.add(table + " on " + Thread.currentThread().getName());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.demo.Util.Export;
+import com.demo.DTO.Order.OrderDTO;
+import com.demo.Entity.Order.Order;
+import com.demo.Enum.Order.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class) //Extension to enable Mockito in JUnit tests
+public class NdjsonWriterTest 
+{
+    @Mock
+    private EntityManager entityManager;    //Mocking the EntityManager the written entities are detached from
+
+    private NdjsonWriter ndjsonWriter;      //Writer under test
+
+    @BeforeEach
+    void setUp() 
+    {
+        //Same date format as the ObjectMapper Spring Boot configures for the REST API
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ndjsonWriter = new NdjsonWriter(objectMapper, entityManager);
+    }
+
+    @Test   //Test Case: Every row becomes one JSON line and is detached (Positive Test Case)
+    void testWrite_OneLinePerRow() throws Exception 
+    {
+        Order first = new Order(1L, BigDecimal.TEN, OrderStatus.PENDING, LocalDateTime.of(2025, 1, 1, 10, 0));
+        Order second = new Order(2L, BigDecimal.ONE, OrderStatus.PENDING, LocalDateTime.of(2025, 1, 2, 10, 0));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = ndjsonWriter.write(Stream.of(first, second), o -> new OrderDTO(o.getOid(), o.getTotalPrice(), o.getOrderStatus(), o.getOrderDateTime()), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, written);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"oid\":1,"));
+        assertTrue(lines[1].contains("\"orderDateTime\":\"2025-01-02T10:00:00\""));
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test   //Test Case: Empty export writes nothing (Positive Test Case)
+    void testWrite_EmptyStream() throws Exception 
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, ndjsonWriter.write(Stream.empty(), o -> o, out));
+        assertEquals(0, out.size());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test   //Test Case: Resume point validation (Negative Test Case)
+    void testResumeFrom() 
+    {
+        assertEquals(0L, NdjsonWriter.resumeFrom(null));    //No resume point starts from the first row
+        assertEquals(42L, NdjsonWriter.resumeFrom(42L));
+        assertThrows(IllegalArgumentException.class, () -> NdjsonWriter.resumeFrom(-1L));
+    }
+
+    @Test   //Test Case: Only the export request loses its async timeout (Positive Test Case)
+    void testDisableTimeout() 
+    {
+        //The handler adapter sets up the async request with the default timeout before the export endpoint runs
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setAsyncSupported(true);
+        StandardServletAsyncWebRequest asyncRequest = new StandardServletAsyncWebRequest(servletRequest, new MockHttpServletResponse());
+        asyncRequest.setTimeout(30_000L);
+        WebAsyncUtils.getAsyncManager(servletRequest).setAsyncWebRequest(asyncRequest);
+
+        NdjsonWriter.disableTimeout(asyncRequest);
+        asyncRequest.startAsync();
+
+        assertEquals(-1L, servletRequest.getAsyncContext().getTimeout());
+    }
+}
@@ -0,0 +1,136 @@
+package com.demo.Util.Idempotency;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import com.demo.DTO.Order.OrderDTO;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Exception.CustomValidationException;
+import com.demo.Exception.IdempotencyKeyReusedException;
+import com.demo.Interface.Order.OrderService;
+import com.demo.Repository.IdempotencyRecordRepository;
+import com.demo.Util.Idempotency.IdempotentRequests.Outcome;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest //Stores the keys in the application's own database, in the transaction of the order they protect
+public class IdempotentRequestsTest
+{
+    @Autowired private IdempotentRequests idempotentRequests;
+    @Autowired private IdempotencyRecordRepository idempotencyRecordRepository;
+    @Autowired private OrderService orderService;
+
+    private final OrderDTO request = OrderDTO.builder().totalPrice(new BigDecimal("12.00")).orderStatus(OrderStatus.NEW).build();
+
+    @Test   //Test Case: A retry with the same key replays the first order instead of creating another (Positive Test Case)
+    void testRetry_ReplaysFirstResponse()
+    {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger created = new AtomicInteger();
+
+        Outcome<OrderDTO> first = idempotentRequests.execute("orders", key, request, OrderDTO.class, counting(created));
+        Outcome<OrderDTO> retry = idempotentRequests.execute("orders", key, request, OrderDTO.class, counting(created));
+
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertEquals(first.body().getOid(), retry.body().getOid());
+        assertEquals(1, created.get());
+        assertTrue(idempotencyRecordRepository.existsById("orders:" + key));
+    }
+
+    @Test   //Test Case: Concurrent duplicates wait for the request in flight and share its response (Positive Test Case)
+    void testConcurrentDuplicates_RunOnce() throws Exception
+    {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Outcome<OrderDTO>>> duplicates = new ArrayList<>();
+
+        try
+        {
+            for (int i = 0; i < 8; i++)
+            {
+                duplicates.add(executor.submit(() ->
+                {
+                    start.await();
+                    return idempotentRequests.execute("orders", key, request, OrderDTO.class, () ->
+                    {
+                        sleep(200);   //Keeps the first request in flight while the others arrive
+                        return counting(created).get();
+                    });
+                }));
+            }
+
+            start.countDown();
+            Set<Long> oids = new HashSet<>();
+
+            for (Future<Outcome<OrderDTO>> duplicate : duplicates)
+                oids.add(duplicate.get().body().getOid());
+
+            assertEquals(1, created.get());
+            assertEquals(1, oids.size());
+        }
+
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test   //Test Case: The same key with another request body is rejected (Negative Test Case)
+    void testKeyReusedWithOtherRequest_Rejected()
+    {
+        String key = UUID.randomUUID().toString();
+        idempotentRequests.execute("orders", key, request, OrderDTO.class, () -> orderService.createOrder(request));
+
+        OrderDTO other = OrderDTO.builder().totalPrice(new BigDecimal("13.00")).orderStatus(OrderStatus.NEW).build();
+        assertThrows(IdempotencyKeyReusedException.class, () -> idempotentRequests.execute("orders", key, other, OrderDTO.class, () -> orderService.createOrder(other)));
+    }
+
+    @Test   //Test Case: A failed request stores nothing, so its retry runs again (Negative Test Case)
+    void testFailedRequest_NotStored()
+    {
+        String key = UUID.randomUUID().toString();
+
+        assertThrows(CustomValidationException.class, () -> idempotentRequests.execute("orders", key, request, OrderDTO.class, () ->
+        {
+            throw new CustomValidationException("Total price is mandatory");
+        }));
+        assertFalse(idempotencyRecordRepository.existsById("orders:" + key));
+
+        assertFalse(idempotentRequests.execute("orders", key, request, OrderDTO.class, () -> orderService.createOrder(request)).replayed());
+    }
+
+    private Supplier<OrderDTO> counting(AtomicInteger created)
+    {
+        return () ->
+        {
+            created.incrementAndGet();
+            return orderService.createOrder(request);
+        };
+    }
+
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.demo.Util.Logging;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestLogSamplerTest
+{
+    @Test   //Test Case: Rates come from the default and per-endpoint properties (Positive Test Case)
+    void testRates_BoundFromProperties()
+    {
+        RequestLogSampler sampler = new RequestLogSampler(new MockEnvironment().withProperty("logging.sampling.default-rate", "0.5")
+        .withProperty("logging.sampling.rates[OrderController.getOrder]", "0.0"));
+
+        assertEquals(0.5, sampler.getDefaultRate());
+        assertEquals(0.0, sampler.getRate("OrderController.getOrder"));
+        assertEquals(0.5, sampler.getRate("OrderController.getOrders"));
+        assertEquals(Map.of("OrderController.getOrder", 0.0), sampler.getRates());
+    }
+
+    @Test   //Test Case: A rate of 1.0 keeps every request and 0.0 drops every request, changes apply at once (Positive Test Case)
+    void testSample_FollowsRuntimeChanges()
+    {
+        RequestLogSampler sampler = new RequestLogSampler(new MockEnvironment());
+
+        assertTrue(sampler.sample("OrderController.getOrder"));
+
+        sampler.setRate("OrderController.getOrder", 0.0);
+        assertFalse(sampler.sample("OrderController.getOrder"));
+        assertTrue(sampler.sample("OrderController.getOrders"));
+
+        sampler.setDefaultRate(0.0);
+        sampler.resetRate("OrderController.getOrder");
+        sampler.setRate("OrderController.getOrders", 1.0);
+        assertFalse(sampler.sample("OrderController.getOrder"));
+        assertTrue(sampler.sample("OrderController.getOrders"));
+    }
+
+    @Test   //Test Case: Rates outside 0.0 to 1.0 are rejected (Negative Test Case)
+    void testSetRate_OutOfRange()
+    {
+        RequestLogSampler sampler = new RequestLogSampler(new MockEnvironment());
+
+        assertThrows(IllegalArgumentException.class, () -> sampler.setRate("OrderController.getOrder", 1.5));
+        assertThrows(IllegalArgumentException.class, () -> sampler.setDefaultRate(-0.1));
+        assertEquals(1.0, sampler.getRate("OrderController.getOrder"));
+    }
+}
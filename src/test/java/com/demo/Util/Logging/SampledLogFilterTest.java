@@ -0,0 +1,45 @@
+package com.demo.Util.Logging;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.core.spi.FilterReply;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SampledLogFilterTest
+{
+    private final SampledLogFilter filter = new SampledLogFilter();
+
+    @AfterEach
+    void clearMdc()
+    {
+        MDC.clear();
+    }
+
+    @Test   //Test Case: INFO and DEBUG lines of a request left out of the sample are dropped (Positive Test Case)
+    void testDecide_DropsUnsampledInfo()
+    {
+        MDC.put(SampledLogFilter.SAMPLED, "false");
+
+        assertEquals(FilterReply.DENY, filter.decide(null, null, Level.INFO, "Retrieving order", null, null));
+        assertEquals(FilterReply.DENY, filter.decide(null, null, Level.DEBUG, "select ...", null, null));
+    }
+
+    @Test   //Test Case: WARN and ERROR lines are written even for a request left out of the sample (Positive Test Case)
+    void testDecide_NeverDropsErrors()
+    {
+        MDC.put(SampledLogFilter.SAMPLED, "false");
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, null, Level.WARN, "Slow request", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, null, Level.ERROR, "Order not found", null, null));
+    }
+
+    @Test   //Test Case: Lines outside an unsampled request are left to the logger levels (Negative Test Case)
+    void testDecide_SampledOrNoRequest()
+    {
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, null, Level.INFO, "Startup", null, null));
+
+        MDC.put(SampledLogFilter.ENDPOINT, "OrderController.getOrder");
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, null, Level.INFO, "Retrieving order", null, null));
+    }
+}
@@ -0,0 +1,58 @@
+package com.demo.Util.Metrics;
+import com.demo.DTO.Order.OrderDTO;
+import com.demo.Exception.Order.OrderNotFoundException;
+import com.demo.Interface.Order.OrderService;
+import com.demo.Util.Pagination.CursorPage;
+import com.demo.Util.Pagination.CursorRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class) //Extension to enable Mockito in JUnit tests
+public class InvocationMetricsAspectTest
+{
+    @Mock
+    private OrderService orderService;          //Mocking the service the aspect wraps
+
+    private SimpleMeterRegistry meterRegistry;  //In-memory registry the aspect records into
+    private OrderService instrumented;          //Proxy of the mocked service with the aspect applied
+
+    @BeforeEach
+    void setUp()
+    {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(orderService);
+        factory.addAspect(new InvocationMetricsAspect(meterRegistry));
+        instrumented = factory.getProxy();
+    }
+
+    @Test   //Test Case: A page returned by a service is timed as a success and its rows are counted (Positive Test Case)
+    void testServiceCall_RecordsLatencyAndRows()
+    {
+        CursorRequest request = CursorRequest.of(null, 2, null);
+        when(orderService.getOrders(request)).thenReturn(new CursorPage<>(List.of(new OrderDTO(), new OrderDTO()), "2"));
+
+        instrumented.getOrders(request);
+
+        assertEquals(1, meterRegistry.get("service.invocations").tag("method", "getOrders").tag("outcome", "SUCCESS").tag("exception", "none").timer().count());
+        assertEquals(2.0, meterRegistry.get("service.rows").tag("method", "getOrders").summary().totalAmount());
+    }
+
+    @Test   //Test Case: A failing service call is counted under its exception type and the exception still reaches the caller (Negative Test Case)
+    void testServiceCall_RecordsExceptionType()
+    {
+        when(orderService.getOrder(9L)).thenThrow(new OrderNotFoundException(9L));
+
+        assertThrows(OrderNotFoundException.class, () -> instrumented.getOrder(9L));
+
+        assertEquals(1, meterRegistry.get("service.invocations").tag("method", "getOrder").tag("outcome", "ERROR").tag("exception", "OrderNotFoundException").timer().count());
+        assertNull(meterRegistry.find("service.rows").summary());
+    }
+}
@@ -0,0 +1,85 @@
+package com.demo.Util.Money;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTest 
+{
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test   //Test Case: Amounts with up to 2 decimals map to cents and back without loss (Positive Test Case)
+    void testOf_RoundTripsThroughCents() 
+    {
+        assertEquals(10050, Money.of(new BigDecimal("100.50")).cents());
+        assertEquals(700, Money.of("7").cents());
+        assertEquals(new BigDecimal("100.50"), Money.ofCents(10050).toBigDecimal());
+        assertEquals("-0.05", Money.ofCents(-5).toString());
+        assertSame(Money.ZERO, Money.of("0.00"));
+    }
+
+    @Test   //Test Case: A third decimal or an amount past a long of cents is rejected, never rounded (Negative Test Case)
+    void testOf_RejectsPrecisionLossAndOverflow() 
+    {
+        assertThrows(ArithmeticException.class, () -> Money.of("1.005"));
+        assertThrows(ArithmeticException.class, () -> Money.of("92233720368547758.08"));
+    }
+
+    @Test   //Test Case: Arithmetic and ordering work on cents (Positive Test Case)
+    void testArithmetic() 
+    {
+        Money price = Money.of("2.50");
+
+        assertEquals(Money.of("7.50"), price.times(3));
+        assertEquals(Money.of("1.25"), price.minus(Money.of("1.25")));
+        assertEquals(Money.of("-2.50"), price.negate());
+        assertTrue(price.compareTo(Money.of("2.49")) > 0);
+        assertTrue(price.isPositive());
+        assertEquals(-1, price.negate().signum());
+        assertEquals(600, Money.sumCents(new long[] { 100, 200, 300 }));
+    }
+
+    @Test   //Test Case: Arithmetic that leaves the range of a long throws instead of wrapping (Negative Test Case)
+    void testArithmetic_Overflow() 
+    {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MIN_VALUE).minus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> max.times(2));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MIN_VALUE).negate());
+        assertThrows(ArithmeticException.class, () -> Money.sumCents(new long[] { Long.MAX_VALUE, 1 }));
+    }
+
+    @Test   //Test Case: The converter stores the DECIMAL value of the column and reads it back (Positive Test Case)
+    void testConverter() 
+    {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertEquals(new BigDecimal("19.99"), converter.convertToDatabaseColumn(Money.of("19.99")));
+        assertEquals(Money.ofCents(1999), converter.convertToEntityAttribute(new BigDecimal("19.990")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test   //Test Case: JSON is the same number a BigDecimal field writes, and both numbers and numeric strings are read (Positive Test Case)
+    void testJson_KeepsTheBigDecimalShape() throws Exception 
+    {
+        assertEquals(objectMapper.writeValueAsString(Map.of("totalPrice", new BigDecimal("100.50"))), objectMapper.writeValueAsString(Map.of("totalPrice", Money.of("100.50"))));
+
+        Map<String, Money> read = objectMapper.readValue("{\"a\": 100.5, \"b\": \"3.25\", \"c\": 7}", new TypeReference<Map<String, Money>>() {});
+
+        assertEquals(Money.of("100.50"), read.get("a"));
+        assertEquals(Money.of("3.25"), read.get("b"));
+        assertEquals(Money.of("7.00"), read.get("c"));
+    }
+
+    @Test   //Test Case: JSON amounts with more than 2 decimals are a bad request, not rounded (Negative Test Case)
+    void testJson_RejectsThirdDecimal() 
+    {
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("1.005", Money.class));
+    }
+}
@@ -0,0 +1,108 @@
+package com.demo.Util.Pagination;
+import com.demo.Entity.Order.Order;
+import com.demo.Enum.Order.OrderStatus;
+import com.demo.Repository.Order.OrderRepository;
+import com.demo.Util.Pagination.KeysetPaginator.SortKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class) //Extension to enable Mockito in JUnit tests
+public class KeysetPaginatorTest 
+{
+    @Mock
+    private OrderRepository orderRepository;    //Mocking the repository the pages are read from
+
+    private KeysetPaginator<Order> paginator;   //Paginator under test
+
+    @BeforeEach
+    void setUp() 
+    {
+        paginator = new KeysetPaginator<>(orderRepository, "oid", Order::getOid, Map.of("orderDateTime", new SortKey<>(Order::getOrderDateTime, LocalDateTime::parse)));
+    }
+
+    //Helper method to create an order with the given ID
+    private Order order(long oid) 
+    {
+        return new Order(oid, BigDecimal.TEN, OrderStatus.NEW, LocalDateTime.of(2025, 3, (int) oid, 12, 30));
+    }
+
+    @Test   //Test Case: More rows than the limit (Positive Test Case)
+    void testFetch_ReturnsNextCursorWhenMoreRowsExist() 
+    {
+        //The repository returns limit + 1 rows, which signals that there is a next page
+        when(orderRepository.findBy(any(Specification.class), any())).thenReturn(List.of(order(1L), order(2L), order(3L)));
+
+        CursorPage<Long> page = paginator.fetch(CursorRequest.of(null, 2, null), Order::getOid);
+
+        assertEquals(List.of(1L, 2L), page.getItems()); //The extra row is not part of the page
+        assertEquals("2", page.getNextCursor());        //The cursor points at the last row of the page
+    }
+
+    @Test   //Test Case: Last page (Positive Test Case)
+    void testFetch_LastPageHasNoNextCursor() 
+    {
+        when(orderRepository.findBy(any(Specification.class), any())).thenReturn(List.of(order(3L)));
+
+        CursorPage<Long> page = paginator.fetch(CursorRequest.of("2", 2, null), Order::getOid);
+
+        assertEquals(List.of(3L), page.getItems());
+        assertNull(page.getNextCursor());
+        verify(orderRepository, never()).findById(any());   //Primary key order needs no cursor row lookup
+    }
+
+    @Test   //Test Case: Sorting by a whitelisted key puts the key's value in the cursor (Positive Test Case)
+    void testFetch_SecondaryKeyCursorCarriesValue() 
+    {
+        when(orderRepository.findBy(any(Specification.class), any())).thenReturn(List.of(order(1L), order(2L), order(3L)));
+
+        CursorPage<Long> page = paginator.fetch(CursorRequest.of(null, 2, "orderDateTime"), Order::getOid);
+
+        assertEquals("2025-03-02T12:30:2", page.getNextCursor());
+    }
+
+    @Test   //Test Case: The next page of a secondary key sort is read from the cursor alone, even if the cursor row was deleted since (Positive Test Case)
+    void testFetch_SecondaryKeyNeedsNoCursorRow() 
+    {
+        when(orderRepository.findBy(any(Specification.class), any())).thenReturn(List.of());
+
+        CursorPage<Long> page = paginator.fetch(CursorRequest.of("2025-03-02T12:30:2", 10, "-orderDateTime"), Order::getOid);
+
+        assertTrue(page.getItems().isEmpty());
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test   //Test Case: A bare ID or an unreadable value as the cursor of a secondary key sort (Negative Test Case)
+    void testFetch_SecondaryKeyRejectsInvalidCursor() 
+    {
+        assertThrows(IllegalArgumentException.class, () -> paginator.fetch(CursorRequest.of("99", 10, "orderDateTime"), Order::getOid));
+        assertThrows(IllegalArgumentException.class, () -> paginator.fetch(CursorRequest.of("yesterday:99", 10, "orderDateTime"), Order::getOid));
+        assertThrows(IllegalArgumentException.class, () -> paginator.fetch(CursorRequest.of("2025-03-02T12:30:2", 10, null), Order::getOid));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test   //Test Case: Sort key outside the whitelist (Negative Test Case)
+    void testFetch_UnsupportedSortKey() 
+    {
+        assertThrows(IllegalArgumentException.class, () -> paginator.fetch(CursorRequest.of(null, 10, "totalPrice"), Order::getOid));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test   //Test Case: Out-of-range limit and cursor (Negative Test Case)
+    void testCursorRequest_RejectsInvalidValues() 
+    {
+        assertThrows(IllegalArgumentException.class, () -> CursorRequest.of(null, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> CursorRequest.of(null, CursorRequest.MAX_LIMIT + 1, null));
+        assertThrows(IllegalArgumentException.class, () -> CursorRequest.of("-1", null, null));
+        assertThrows(IllegalArgumentException.class, () -> CursorRequest.of("abc", null, null));
+    }
+}
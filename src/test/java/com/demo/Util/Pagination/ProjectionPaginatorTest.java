@@ -0,0 +1,66 @@
+package com.demo.Util.Pagination;
+import com.demo.DTO.Order.OrderPaymentDTO;
+import com.demo.Repository.Order.OrderPaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class) //Extension to enable Mockito in JUnit tests
+public class ProjectionPaginatorTest 
+{
+    @Mock
+    private OrderPaymentRepository orderPaymentRepository;  //Mocking the repository the projections are read from
+
+    private ProjectionPaginator<OrderPaymentDTO> paginator;  //Paginator under test
+
+    @BeforeEach
+    void setUp() 
+    {
+        paginator = new ProjectionPaginator<>("poid", OrderPaymentDTO::getPoid, orderPaymentRepository::findDTOsAfter, orderPaymentRepository::findDTOsBefore);
+    }
+
+    @Test   //Test Case: First ascending page with a next page (Positive Test Case)
+    void testFetch_AscendingFirstPage() 
+    {
+        //The repository returns limit + 1 rows, which signals that there is a next page
+        when(orderPaymentRepository.findDTOsAfter(0L, Limit.of(3))).thenReturn(List.of(new OrderPaymentDTO(1L, 1L, 1L), new OrderPaymentDTO(2L, 1L, 2L), new OrderPaymentDTO(3L, 2L, 3L)));
+
+        CursorPage<OrderPaymentDTO> page = paginator.fetch(CursorRequest.of(null, 2, null));
+
+        assertEquals(2, page.getItems().size());    //The extra row is not part of the page
+        assertEquals("2", page.getNextCursor());     //The cursor points at the last row of the page
+    }
+
+    @Test   //Test Case: Descending page after a cursor (Positive Test Case)
+    void testFetch_DescendingAfterCursor() 
+    {
+        when(orderPaymentRepository.findDTOsBefore(5L, Limit.of(11))).thenReturn(List.of(new OrderPaymentDTO(4L, 1L, 1L)));
+
+        CursorPage<OrderPaymentDTO> page = paginator.fetch(CursorRequest.of("5", 10, "-poid"));
+
+        assertEquals(4L, page.getItems().get(0).getPoid());
+        assertNull(page.getNextCursor());                   //Last page
+        verify(orderPaymentRepository, never()).findDTOsAfter(any(), any());
+    }
+
+    @Test   //Test Case: Descending first page starts from the highest ID (Positive Test Case)
+    void testFetch_DescendingFirstPage() 
+    {
+        when(orderPaymentRepository.findDTOsBefore(Long.MAX_VALUE, Limit.of(CursorRequest.DEFAULT_LIMIT + 1))).thenReturn(List.of());
+
+        assertTrue(paginator.fetch(CursorRequest.of(null, null, "-poid")).getItems().isEmpty());
+    }
+
+    @Test   //Test Case: Sort key other than the primary key (Negative Test Case)
+    void testFetch_UnsupportedSortKey() 
+    {
+        assertThrows(IllegalArgumentException.class, () -> paginator.fetch(CursorRequest.of(null, 10, "oid")));
+        verifyNoInteractions(orderPaymentRepository);
+    }
+}
@@ -0,0 +1,54 @@
+package com.demo.Util.Persistence;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest //Aligns the sequences of the application's own database, created by ddl-auto=update like a production schema
+public class SequenceAlignmentTest
+{
+    @Autowired private SequenceAlignment sequenceAlignment;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test   //Test Case: Rows keyed outside the sequence, as IDENTITY columns did, are never handed out again (Positive Test Case)
+    void testAlign_MovesSequencePastExistingIds()
+    {
+        long taken = maxOid() + 10_000;
+        jdbcTemplate.update("insert into orders (oid, total_price, order_status, order_date_time, version) values (?, 1.00, 'NEW', current_timestamp, 0)", taken);
+        jdbcTemplate.execute("alter sequence orders_seq restart with 1");     //A sequence just created next to the old rows
+
+        try
+        {
+            sequenceAlignment.align();
+            assertEquals(taken + 1, nextOid());                               //The next block starts right after the last row
+        }
+
+        finally
+        {
+            jdbcTemplate.update("delete from orders where oid = ?", taken);  //Other tests share the database
+        }
+    }
+
+    @Test   //Test Case: A sequence already past every ID is not moved back (Positive Test Case)
+    void testAlign_LeavesSequenceAhead()
+    {
+        long ahead = maxOid() + 1_000_000;
+        jdbcTemplate.execute("alter sequence orders_seq restart with " + ahead);
+
+        sequenceAlignment.align();
+
+        assertTrue(nextOid() > ahead);                                        //Still ahead, past the value the check took
+    }
+
+    private long maxOid()
+    {
+        return jdbcTemplate.queryForObject("select coalesce(max(oid), 0) from orders", Long.class);
+    }
+
+    //Start of the next block of order IDs the pooled-lo optimizer would reserve
+    private long nextOid()
+    {
+        return jdbcTemplate.queryForObject("select next value for orders_seq", Long.class);
+    }
+}
@@ -0,0 +1,135 @@
+package com.demo.Util.Serialization;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import com.demo.DTO.Payment.PaymentDTO;
+import com.demo.DTO.Product.ProductDTO;
+import com.demo.Enum.Payment.PaymentMode;
+import com.demo.Enum.Payment.PaymentStatus;
+import com.demo.Util.Money.Money;
+import com.demo.Util.Pagination.CursorPage;
+import com.fasterxml.jackson.dataformat.protobuf.schema.FieldType;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest //Uses the converters the MVC handler adapter was configured with, as the controllers do
+public class BinaryFormatsTest
+{
+    private static final Type PAYMENT_PAGE = new ParameterizedTypeReference<CursorPage<PaymentDTO>>() {}.getType();
+
+    @Autowired private RequestMappingHandlerAdapter handlerAdapter;
+    @Autowired private ProtobufSchemas protobufSchemas;
+
+    private final PaymentDTO payment = PaymentDTO.builder().pid(7L).amount(new BigDecimal("1234567.89")).paymentMode(PaymentMode.PAYNOW)
+    .paymentStatus(PaymentStatus.PAID).paymentDateTime(LocalDateTime.of(2025, 3, 1, 12, 30)).build();
+
+    @Test   //Test Case: JSON stays ahead of the binary converters, so Accept: */* keeps getting JSON (Positive Test Case)
+    void testConverterOrder_JsonFirst()
+    {
+        List<HttpMessageConverter<?>> converters = handlerAdapter.getMessageConverters();
+        int json = indexOf(converters, MappingJackson2HttpMessageConverter.class);
+
+        assertTrue(json >= 0);
+        assertTrue(json < indexOf(converters, MappingJackson2CborHttpMessageConverter.class));
+        assertTrue(json < indexOf(converters, MappingJackson2SmileHttpMessageConverter.class));
+        assertTrue(json < indexOf(converters, JacksonProtobufHttpMessageConverter.class));
+        assertEquals(1, converters.stream().filter(MappingJackson2CborHttpMessageConverter.class::isInstance).count());
+    }
+
+    @Test   //Test Case: CBOR and Smile round-trip a page of payments with the API's date format (Positive Test Case)
+    void testCborAndSmile_RoundTrip() throws Exception
+    {
+        for (MediaType mediaType : List.of(MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile")))
+        {
+            CursorPage<PaymentDTO> read = roundTrip(mediaType, new CursorPage<>(List.of(payment), "7"));
+            assertPayment(read);
+        }
+    }
+
+    @Test   //Test Case: Protobuf round-trips a page of payments, amounts keep every digit (Positive Test Case)
+    void testProtobuf_RoundTrip() throws Exception
+    {
+        CursorPage<PaymentDTO> read = roundTrip(JacksonProtobufHttpMessageConverter.PROTOBUF, new CursorPage<>(List.of(payment), "7"));
+        assertPayment(read);
+    }
+
+    @Test   //Test Case: Money prices go over protobuf as decimal strings like BigDecimal amounts, in the schema and on the wire (Positive Test Case)
+    void testProtobuf_MoneyAsDecimalString() throws Exception
+    {
+        JacksonProtobufHttpMessageConverter protobuf = converter(JacksonProtobufHttpMessageConverter.class);
+        ProductDTO product = ProductDTO.builder().pid(7L).productName("Laptop").unitPrice(Money.of("1234567.89")).build();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        assertEquals(FieldType.STRING, protobufSchemas.schemaForDto("ProductDTO", false).orElseThrow().getRootType().field("unitPrice").type);
+        protobuf.write(product, ProductDTO.class, JacksonProtobufHttpMessageConverter.PROTOBUF, output);
+        assertTrue(output.getBodyAsString(StandardCharsets.ISO_8859_1).contains("1234567.89"));
+
+        ProductDTO read = (ProductDTO) protobuf.read(ProductDTO.class, null, new MockHttpInputMessage(output.getBodyAsBytes()));
+        assertEquals(Money.of("1234567.89"), read.getUnitPrice());
+    }
+
+    @Test   //Test Case: Types protobuf cannot describe are declined, so the request ends in 406 instead of a broken body (Negative Test Case)
+    void testProtobuf_DeclinesMaps()
+    {
+        JacksonProtobufHttpMessageConverter protobuf = converter(JacksonProtobufHttpMessageConverter.class);
+
+        assertFalse(protobuf.canWrite(new ParameterizedTypeReference<Map<String, Long>>() {}.getType(), Map.class, JacksonProtobufHttpMessageConverter.PROTOBUF));
+        assertTrue(protobuf.canWrite(PAYMENT_PAGE, CursorPage.class, JacksonProtobufHttpMessageConverter.PROTOBUF));
+        assertFalse(protobuf.canWrite(PAYMENT_PAGE, CursorPage.class, MediaType.APPLICATION_JSON));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CursorPage<PaymentDTO> roundTrip(MediaType mediaType, CursorPage<PaymentDTO> page) throws Exception
+    {
+        GenericHttpMessageConverter<Object> converter = handlerAdapter.getMessageConverters().stream()
+        .filter(candidate -> candidate instanceof GenericHttpMessageConverter<?> generic && generic.canWrite(PAYMENT_PAGE, CursorPage.class, mediaType))
+        .map(candidate -> (GenericHttpMessageConverter<Object>) candidate).findFirst().orElseThrow();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(page, PAYMENT_PAGE, mediaType, output);
+        assertFalse(output.getBodyAsString(StandardCharsets.ISO_8859_1).startsWith("{"), mediaType + " body must not be JSON");
+        return (CursorPage<PaymentDTO>) converter.read(PAYMENT_PAGE, null, new MockHttpInputMessage(output.getBodyAsBytes()));
+    }
+
+    private void assertPayment(CursorPage<PaymentDTO> read)
+    {
+        PaymentDTO item = read.getItems().get(0);
+        assertEquals("7", read.getNextCursor());
+        assertEquals(7L, item.getPid());
+        assertEquals(new BigDecimal("1234567.89"), item.getAmount());
+        assertEquals(PaymentMode.PAYNOW, item.getPaymentMode());
+        assertEquals(PaymentStatus.PAID, item.getPaymentStatus());
+        assertEquals(payment.getPaymentDateTime(), item.getPaymentDateTime());
+    }
+
+    private <C> C converter(Class<C> type)
+    {
+        return handlerAdapter.getMessageConverters().stream().filter(type::isInstance).map(type::cast).findFirst().orElseThrow();
+    }
+
+    private static int indexOf(List<HttpMessageConverter<?>> converters, Class<?> type)
+    {
+        for (int i = 0; i < converters.size(); i++)
+        {
+            if (converters.get(i).getClass() == type)
+                return i;
+        }
+
+        return -1;
+    }
+}
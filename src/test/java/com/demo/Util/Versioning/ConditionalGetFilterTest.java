@@ -0,0 +1,178 @@
+package com.demo.Util.Versioning;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ConditionalGetFilterTest
+{
+    private final ResourceVersions resourceVersions = new ResourceVersions(100_000);
+    private final ConditionalGetFilter filter = new ConditionalGetFilter(resourceVersions, 1_000_000);
+    private final AtomicInteger handled = new AtomicInteger();   //Requests that reached the controller
+
+    //Stands in for the controller: answers with a small body in the type asked for by Accept (JSON by default), or 404 for row 404
+    private final FilterChain controller = (request, response) ->
+    {
+        handled.incrementAndGet();
+
+        if (((HttpServletRequest) request).getRequestURI().endsWith("/404"))
+        {
+            ((HttpServletResponse) response).setStatus(404);
+            return;
+        }
+
+        String accept = ((HttpServletRequest) request).getHeader(HttpHeaders.ACCEPT);
+        response.setContentType(accept == null ? "application/json" : accept);
+        response.getOutputStream().write(("{\"served\":" + handled.get() + "}").getBytes(StandardCharsets.UTF_8));
+    };
+
+    @Test
+    void testMatchingTag_AnsweredWithoutController() throws Exception
+    {
+        //The first answer carries the tag, sending it back gets 304 and an empty body without reaching the controller
+        MockHttpServletResponse first = get("/products", null);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertEquals(200, first.getStatus());
+        assertNotNull(etag);
+
+        MockHttpServletResponse second = get("/products", etag);
+        assertEquals(304, second.getStatus());
+        assertEquals(etag, second.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, second.getContentAsByteArray().length);
+        assertEquals(1, handled.get());
+    }
+
+    @Test
+    void testChange_NewTagAndFreshPage() throws Exception
+    {
+        //Without a tag the stored page is written back as is, a change gives a new tag and reads the page again
+        MockHttpServletResponse first = get("/categories", null);
+        MockHttpServletResponse cached = get("/categories", null);
+        assertEquals(first.getContentAsString(), cached.getContentAsString());
+        assertEquals(first.getHeader(HttpHeaders.ETAG), cached.getHeader(HttpHeaders.ETAG));
+        assertEquals(1, handled.get());
+
+        resourceVersions.changed(VersionedResource.CATEGORIES, 7L);
+
+        MockHttpServletResponse changed = get("/categories", first.getHeader(HttpHeaders.ETAG));
+        assertEquals(200, changed.getStatus());
+        assertNotEquals(first.getHeader(HttpHeaders.ETAG), changed.getHeader(HttpHeaders.ETAG));
+        assertEquals("{\"served\":2}", changed.getContentAsString());
+    }
+
+    @Test
+    void testEntityTag_FollowsOnlyItsRow() throws Exception
+    {
+        //A change to another row of the collection leaves the row's tag alone, a change to the row replaces it
+        String etag = get("/items/1", null).getHeader(HttpHeaders.ETAG);
+
+        resourceVersions.changed(VersionedResource.ITEMS, 2L);
+        assertEquals(304, get("/items/1", "W/" + etag).getStatus());
+
+        resourceVersions.changed(VersionedResource.ITEMS, 1L);
+        assertEquals(200, get("/items/1", etag).getStatus());
+    }
+
+    @Test
+    void testRowStampsBounded_EvictedRowsUseCollectionVersion()
+    {
+        //Only 2 row stamps are kept; the other changed rows, and every unchanged row, are tagged with the collection's version (10)
+        ResourceVersions bounded = new ResourceVersions(2);
+        String unchanged = bounded.entityTag(VersionedResource.INVENTORIES, 99L);
+        String beforeChange = bounded.entityTag(VersionedResource.INVENTORIES, 1L);
+        int fallbacks = 0;
+
+        for (long sid = 1; sid <= 10; sid++)
+            bounded.changed(VersionedResource.INVENTORIES, sid);     //Row sid gets stamp sid
+
+        for (long sid = 1; sid <= 9; sid++)
+        {
+            String tag = bounded.entityTag(VersionedResource.INVENTORIES, sid);
+            assertTrue(tag.endsWith("-" + sid + "\"") || tag.endsWith("-10\""), tag);
+            fallbacks += tag.endsWith("-10\"") ? 1 : 0;
+        }
+
+        assertTrue(fallbacks >= 7, fallbacks + " rows fell back to the collection version");
+        assertNotEquals(beforeChange, bounded.entityTag(VersionedResource.INVENTORIES, 1L));
+        assertTrue(bounded.entityTag(VersionedResource.INVENTORIES, 99L).endsWith("-10\""));
+        assertNotEquals(unchanged, bounded.entityTag(VersionedResource.INVENTORIES, 99L));
+    }
+
+    @Test
+    void testReset_InvalidatesEveryTag() throws Exception
+    {
+        //After a bulk load no tag handed out before can match, even for rows that never changed
+        String etag = get("/inventories/3", null).getHeader(HttpHeaders.ETAG);
+
+        resourceVersions.reset();
+
+        assertEquals(200, get("/inventories/3", etag).getStatus());
+    }
+
+    @Test
+    void testUnsuccessfulAndUnversioned_NoTag() throws Exception
+    {
+        //Errors and other paths pass through untouched
+        MockHttpServletResponse missing = get("/products/404", null);
+        assertEquals(404, missing.getStatus());
+        assertNull(missing.getHeader(HttpHeaders.ETAG));
+
+        assertNull(get("/orders", null).getHeader(HttpHeaders.ETAG));
+        assertNull(get("/products/catalog", null).getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testMediaType_PartOfTag() throws Exception
+    {
+        //JSON and CBOR answers of one version carry different tags, and a tag only matches the representation it was given with
+        MockHttpServletResponse json = get("/products/5", null, "application/json");
+        MockHttpServletResponse cbor = get("/products/5", null, "application/cbor");
+        assertEquals(HttpHeaders.ACCEPT, json.getHeader(HttpHeaders.VARY));
+        assertNotEquals(json.getHeader(HttpHeaders.ETAG), cbor.getHeader(HttpHeaders.ETAG));
+        assertTrue(cbor.getHeader(HttpHeaders.ETAG).endsWith(";application/cbor\""));
+
+        assertEquals(200, get("/products/5", json.getHeader(HttpHeaders.ETAG), "application/cbor").getStatus());
+        MockHttpServletResponse notModified = get("/products/5", cbor.getHeader(HttpHeaders.ETAG), "application/cbor");
+        assertEquals(304, notModified.getStatus());
+        assertEquals(HttpHeaders.ACCEPT, notModified.getHeader(HttpHeaders.VARY));
+        assertEquals(3, handled.get());
+    }
+
+    @Test
+    void testUnseenAccept_ReachesController() throws Exception
+    {
+        //A tag sent with an Accept header this instance has not answered yet is not trusted, the controller answers it
+        String etag = get("/categories", null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse smile = get("/categories", etag, "application/x-jackson-smile");
+        assertEquals(200, smile.getStatus());
+        assertEquals("application/x-jackson-smile", smile.getContentType());
+        assertEquals(2, handled.get());
+    }
+
+    private MockHttpServletResponse get(String uri, String ifNoneMatch) throws Exception
+    {
+        return get(uri, ifNoneMatch, null);
+    }
+
+    private MockHttpServletResponse get(String uri, String ifNoneMatch, String accept) throws Exception
+    {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        if (ifNoneMatch != null)
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+
+        if (accept != null)
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+}